@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# Side-by-side load test of the two item browse endpoints against a running instance:
+#
+#   list     GET /api/v1/items          whole JSON array built in memory on a Tomcat thread
+#   stream   GET /api/v1/items/stream   NDJSON, keyset pages written from the streaming executor
+#
+# For each endpoint CONCURRENCY clients each issue REQUESTS requests. While they run, the JVM's
+# live thread count (/proc/<pid>/status) and the number of MySQL connections it holds (ESTABLISHED
+# sockets to DB_PORT) are sampled every 100 ms; the peaks are reported next to latency and errors.
+# Clients pass SLOW_KBPS through curl --limit-rate to imitate slow mobile readers.
+#
+#   TOKEN=<jwt> PID=<app pid> scripts/browse-bench.sh
+set -euo pipefail
+
+: "${TOKEN:?set TOKEN to a valid access token}"
+: "${PID:?set PID to the application process id}"
+BASE=${BASE:-http://localhost:8080/api/v1/items}
+CONCURRENCY=${CONCURRENCY:-200}
+REQUESTS=${REQUESTS:-5}
+DB_PORT=${DB_PORT:-3306}
+SLOW_KBPS=${SLOW_KBPS:-0}
+OUT=$(mktemp -d)
+trap 'rm -rf "$OUT"' EXIT
+
+rate_args=()
+[[ "$SLOW_KBPS" != 0 ]] && rate_args=(--limit-rate "${SLOW_KBPS}k")
+
+sample() {
+    local max_threads=0 max_conns=0 threads conns
+    while [[ ! -f "$OUT/done" ]]; do
+        threads=$(awk '/^Threads:/ {print $2}' "/proc/$PID/status")
+        conns=$(ss -tnp state established "( dport = :$DB_PORT )" 2>/dev/null | grep -c "pid=$PID," || true)
+        (( threads > max_threads )) && max_threads=$threads
+        (( conns > max_conns )) && max_conns=$conns
+        sleep 0.1
+    done
+    echo "$max_threads $max_conns" > "$OUT/peaks"
+}
+
+client() {
+    for _ in $(seq 1 "$REQUESTS"); do
+        curl -s -o /dev/null "${rate_args[@]}" -H "Authorization: Bearer $TOKEN" \
+             -w '%{http_code} %{time_total}\n' "$1"
+    done
+}
+
+printf "%-8s %8s %8s %10s %10s %12s %10s\n" endpoint requests errors p50_ms p99_ms peak_threads peak_db
+for endpoint in list stream; do
+    url=$BASE
+    [[ $endpoint == stream ]] && url=$BASE/stream
+    rm -f "$OUT/done" "$OUT/peaks" "$OUT"/client-*
+    sample &
+    sampler=$!
+    for c in $(seq 1 "$CONCURRENCY"); do
+        client "$url" > "$OUT/client-$c" &
+    done
+    wait $(jobs -p | grep -v "^$sampler$")
+    touch "$OUT/done"
+    wait "$sampler"
+    read -r peak_threads peak_conns < "$OUT/peaks"
+    cat "$OUT"/client-* | awk -v name="$endpoint" -v t="$peak_threads" -v c="$peak_conns" '
+        { n++; if ($1 != 200) errors++; ms[n] = $2 * 1000 }
+        END {
+            asort(ms)
+            printf "%-8s %8d %8d %10.0f %10.0f %12d %10d\n", name, n, errors, ms[int(n * 0.5) + 1], ms[int(n * 0.99) + 1], t, c
+        }'
+done
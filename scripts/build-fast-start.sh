@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Builds the AOT-processed application and records an AppCDS archive for it.
+#
+#   scripts/build-fast-start.sh            -> target/fast-start/{application/, app.jsa}
+#   scripts/build-fast-start.sh --native   -> also target/lost_and_found_app (needs GraalVM 21+ as JAVA_HOME)
+#
+# The training run starts the application context once and exits after refresh, so the database in
+# application.properties (or SPRING_DATASOURCE_URL etc.) has to be reachable while it runs.
+#
+# Start with:
+#   java -XX:SharedArchiveFile=target/fast-start/app.jsa -Dspring.aot.enabled=true \
+#        -jar target/fast-start/application/lost_and_found_app-0.0.1-SNAPSHOT.jar
+#
+# AOT fixes the bean graph at build time: @ConditionalOnProperty choices such as
+# invalidation.backend and the set of tenancy.shards.* must be the same at build and run time.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=lost_and_found_app-0.0.1-SNAPSHOT.jar
+OUT=target/fast-start
+
+sh mvnw -B -q -Pfast-start -DskipTests package
+
+# CDS only works from an exploded layout where the classpath is identical at training and run time
+rm -rf "$OUT"
+java -Djarmode=tools -jar "target/$JAR" extract --destination "$OUT/application"
+
+echo "Training run for the CDS archive..."
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" \
+     -Dspring.aot.enabled=true \
+     -Dspring.context.exit=onRefresh \
+     -jar "$OUT/application/$JAR"
+
+if [[ "${1:-}" == "--native" ]]; then
+    sh mvnw -B -q -Pnative -DskipTests native:compile
+fi
+
+echo "Done: $OUT/application/$JAR with $OUT/app.jsa"
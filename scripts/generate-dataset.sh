@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Fills a campus with a synthetic dataset (see DataGenerationRunner) and exits. The same SEED
+# always gives the same rows, so benchmark runs on different builds start from identical data:
+# generate once into an empty schema, dump it, and restore the dump before each run.
+#
+#   DB_URL=jdbc:mysql://localhost:3306/lost_and_found_db ITEMS=10000000 USERS=200000 scripts/generate-dataset.sh
+#
+# Needs target/lost_and_found_app-0.0.1-SNAPSHOT.jar (mvn package). Extra arguments are passed to
+# the application, e.g. --datagen.end-date=2026-06-01 or --datagen.tenant=north.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/lost_and_found_app-0.0.1-SNAPSHOT.jar
+DB_URL=${DB_URL:-jdbc:mysql://localhost:3306/lost_and_found_db}
+SEP='?'
+[[ $DB_URL == *\?* ]] && SEP='&'
+
+exec java -jar "$JAR" \
+    --spring.datasource.url="${DB_URL}${SEP}rewriteBatchedStatements=true" \
+    --server.port="${PORT:-0}" \
+    --datagen.enabled=true \
+    --datagen.exit-when-done=true \
+    --datagen.seed="${SEED:-42}" \
+    --datagen.users="${USERS:-50000}" \
+    --datagen.items="${ITEMS:-1000000}" \
+    --datagen.claims-per-item="${CLAIMS_PER_ITEM:-0.8}" \
+    --datagen.threads="${THREADS:-8}" \
+    --datagen.batch-size="${BATCH_SIZE:-2000}" \
+    "$@"
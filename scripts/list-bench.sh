@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Before/after numbers for the item hot/cold split, against a migrated database.
+#
+# MySQL side: runs the listing query as Hibernate issued it before the split (every items column,
+# including the description LOB, still present as description_legacy) and as it is issued now
+# (snippet only), RUNS times each in one session, and reports average time and the bytes MySQL
+# sent per run (Bytes_sent session counter).
+#
+# HTTP side (when TOKEN is set): time and response size of GET /api/v1/items.
+#
+#   MYSQL="mysql -h127.0.0.1 -uroot -psecret lost_and_found_db" TOKEN=<jwt> scripts/list-bench.sh
+set -euo pipefail
+
+MYSQL=${MYSQL:-mysql lost_and_found_db}
+RUNS=${RUNS:-20}
+BASE=${BASE:-http://localhost:8080/api/v1/items}
+
+COLUMNS="i.id, i.name, i.category, i.location_found, i.date_reported, i.latitude, i.longitude, i.geohash, i.status,
+         i.reported_by_id, i.held_by_id, i.claimed_by_id, i.claimed_at, i.created_at, i.updated_at"
+BEFORE="select $COLUMNS, i.description_legacy from items i"
+AFTER="select $COLUMNS, i.description_snippet from items i"
+
+measure() {
+    local label=$1 query=$2
+    local script="select variable_value into @b0 from performance_schema.session_status where variable_name = 'Bytes_sent';
+                  set @t0 = now(6);"
+    for _ in $(seq 1 "$RUNS"); do
+        script+="$query;"
+    done
+    script+="select timestampdiff(microsecond, @t0, now(6)) / $RUNS / 1000,
+                    (variable_value - @b0) / $RUNS
+             from performance_schema.session_status where variable_name = 'Bytes_sent';"
+    # Result rows go to /dev/null; only the last line (the measurement) is kept
+    read -r ms bytes < <($MYSQL -N -B -e "$script" | tail -1)
+    printf "%-14s %12.2f %16.0f\n" "$label" "$ms" "$bytes"
+}
+
+printf "%-14s %12s %16s\n" query avg_ms bytes_per_run
+measure "before-split" "$BEFORE"
+measure "after-split" "$AFTER"
+
+if [[ -n "${TOKEN:-}" ]]; then
+    echo
+    printf "%-14s %12s %16s\n" endpoint avg_ms response_bytes
+    total_ms=0
+    for _ in $(seq 1 "$RUNS"); do
+        read -r seconds size < <(curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" -w '%{time_total} %{size_download}\n' "$BASE")
+        total_ms=$(awk -v a="$total_ms" -v b="$seconds" 'BEGIN {print a + b * 1000}')
+    done
+    printf "%-14s %12.2f %16d\n" "GET /items" "$(awk -v t="$total_ms" -v n="$RUNS" 'BEGIN {print t / n}')" "$size"
+fi
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Throughput of GET /api/v1/items/{id} for IDs that do not exist, i.e. what an ID-enumerating
+# scraper costs. Run it against a build before and after a change (e.g. two instances on different
+# ports) and compare the rows:
+#
+#   BASES="http://localhost:8080 http://localhost:8081" TOKEN=<jwt> scripts/notfound-bench.sh
+#
+# For each base URL, CONCURRENCY clients each request REQUESTS unknown IDs (starting at ID_START,
+# far above any real ID). Reported: requests per second, p50/p99 latency, responses other than
+# 404, and, when LOG_FILES lists each instance's log file in the same order, how many log lines
+# the instance wrote during the run.
+set -euo pipefail
+
+: "${TOKEN:?set TOKEN to a valid access token}"
+read -r -a bases <<< "${BASES:-http://localhost:8080}"
+read -r -a logs <<< "${LOG_FILES:-}"
+CONCURRENCY=${CONCURRENCY:-50}
+REQUESTS=${REQUESTS:-400}
+ID_START=${ID_START:-900000000}
+OUT=$(mktemp -d)
+trap 'rm -rf "$OUT"' EXIT
+
+client() {
+    local base=$1 first=$2
+    for id in $(seq "$first" $((first + REQUESTS - 1))); do
+        curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" -w '%{http_code} %{time_total}\n' "$base/api/v1/items/$id"
+    done
+}
+
+printf "%-28s %8s %10s %8s %8s %10s %10s\n" base requests req_per_s p50_ms p99_ms non_404 log_lines
+for i in "${!bases[@]}"; do
+    base=${bases[$i]}
+    log=${logs[$i]:-}
+    lines_before=0
+    [[ -n "$log" ]] && lines_before=$(wc -l < "$log")
+    rm -f "$OUT"/client-*
+    start=$(date +%s.%N)
+    for c in $(seq 1 "$CONCURRENCY"); do
+        client "$base" $((ID_START + c * REQUESTS)) > "$OUT/client-$c" &
+    done
+    wait
+    elapsed=$(echo "$(date +%s.%N) - $start" | bc)
+    log_lines=-
+    [[ -n "$log" ]] && log_lines=$(( $(wc -l < "$log") - lines_before ))
+    cat "$OUT"/client-* | awk -v name="$base" -v secs="$elapsed" -v logged="$log_lines" '
+        { n++; if ($1 != 404) other++; ms[n] = $2 * 1000 }
+        END {
+            asort(ms)
+            printf "%-28s %8d %10.0f %8.1f %8.1f %10d %10s\n", name, n, n / secs, ms[int(n * 0.5) + 1], ms[int(n * 0.99) + 1], other, logged
+        }'
+done
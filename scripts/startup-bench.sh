@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request and resident memory for each startup mode:
+#
+#   jvm       plain executable jar (target/lost_and_found_app-0.0.1-SNAPSHOT.jar, from mvn package)
+#   aot-cds   AOT + AppCDS build from scripts/build-fast-start.sh
+#   native    GraalVM native image from scripts/build-fast-start.sh --native
+#
+# Each mode is started RUNS times against the configured database. Time-to-first-request is from
+# process launch until GET /api/v1/items answers (401 without a token still means the whole
+# filter chain and MVC stack are up); RSS is VmRSS right after that first response.
+#
+#   scripts/startup-bench.sh [mode...]    e.g. scripts/startup-bench.sh jvm aot-cds
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=lost_and_found_app-0.0.1-SNAPSHOT.jar
+PORT=${PORT:-18080}
+RUNS=${RUNS:-5}
+MODES=("$@")
+[[ ${#MODES[@]} -eq 0 ]] && MODES=(jvm aot-cds native)
+
+launch() {
+    case "$1" in
+        jvm)     java -jar "target/$JAR" --server.port="$PORT" ;;
+        aot-cds) java -XX:SharedArchiveFile=target/fast-start/app.jsa -Dspring.aot.enabled=true \
+                      -jar "target/fast-start/application/$JAR" --server.port="$PORT" ;;
+        native)  target/lost_and_found_app --server.port="$PORT" ;;
+    esac
+}
+
+printf "%-8s %6s %12s %10s\n" mode run first_req_ms rss_mb
+for mode in "${MODES[@]}"; do
+    for run in $(seq 1 "$RUNS"); do
+        start=$(date +%s%N)
+        launch "$mode" > "target/startup-$mode-$run.log" 2>&1 &
+        pid=$!
+        until curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/api/v1/items" | grep -qE '^[234]'; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$mode run $run exited early, see target/startup-$mode-$run.log" >&2
+                continue 2
+            fi
+            sleep 0.02
+        done
+        elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+        rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+        printf "%-8s %6d %12d %10d\n" "$mode" "$run" "$elapsed" $(( rss_kb / 1024 ))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+    done
+done
@@ -0,0 +1,134 @@
+package com.crs.lost_and_found_app.analytics;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch with logarithmic buckets (the DDSketch scheme).
+ * <p>
+ * A positive value v goes to bucket ceil(log(v) / log(gamma)), so every bucket spans a fixed
+ * ratio and any quantile is reported within {@link #RELATIVE_ACCURACY} of the true value.
+ * Two sketches merge by adding bucket counts, which is what lets daily rollups be combined into
+ * weekly or arbitrary-range percentiles without touching raw rows.
+ */
+public class LogHistogram {
+
+    public static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final byte FORMAT_VERSION = 1;
+
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount; // Values <= 0 (e.g. a claim resolved within the same instant)
+    private long count;
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, long times) {
+        if (times <= 0) {
+            return;
+        }
+        if (value <= 0) {
+            zeroCount += times;
+        } else {
+            buckets.merge((int) Math.ceil(Math.log(value) / LOG_GAMMA), times, Long::sum);
+        }
+        count += times;
+    }
+
+    public void merge(LogHistogram other) {
+        if (other == null) {
+            return;
+        }
+        other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Double quantile(double q) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return 0.0;
+        }
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                // Midpoint of the bucket in relative terms: 2 * gamma^i / (gamma + 1)
+                return 2 * Math.pow(GAMMA, bucket.getKey()) / (GAMMA + 1);
+            }
+        }
+        return 2 * Math.pow(GAMMA, buckets.lastKey()) / (GAMMA + 1);
+    }
+
+    // Compact encoding: version, zero count, then (zig-zag index delta, count) varint pairs.
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + buckets.size() * 3);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, zeroCount);
+        writeVarLong(out, buckets.size());
+        int previous = 0;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            int delta = bucket.getKey() - previous;
+            writeVarLong(out, (delta << 1) ^ (delta >> 31));
+            writeVarLong(out, bucket.getValue());
+            previous = bucket.getKey();
+        }
+        return out.toByteArray();
+    }
+
+    public static LogHistogram fromBytes(byte[] bytes) {
+        LogHistogram histogram = new LogHistogram();
+        if (bytes == null || bytes.length == 0) {
+            return histogram;
+        }
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported histogram format version: " + version);
+        }
+        histogram.zeroCount = readVarLong(in);
+        histogram.count = histogram.zeroCount;
+        long size = readVarLong(in);
+        int index = 0;
+        for (long i = 0; i < size; i++) {
+            int zigzag = (int) readVarLong(in);
+            index += (zigzag >>> 1) ^ -(zigzag & 1);
+            long bucketCount = readVarLong(in);
+            histogram.buckets.put(index, bucketCount);
+            histogram.count += bucketCount;
+        }
+        return histogram;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+}
@@ -0,0 +1,9 @@
+package com.crs.lost_and_found_app.audit;
+
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+
+// One change to record, e.g. ITEM 42 STATUS FOUND -> CLAIMED by "alice" in campus "main".
+// fromValue is null for a creation, toValue for a deletion.
+public record AuditEntry(String tenant, AuditEntityType entityType, long entityId, String action,
+                         String fromValue, String toValue, String actor) {
+}
@@ -0,0 +1,482 @@
+package com.crs.lost_and_found_app.audit;
+
+import com.crs.lost_and_found_app.dto.AuditStatusDto;
+import com.crs.lost_and_found_app.dto.AuditVerifyDto;
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Append-only, tamper-evident log of {@link AuditEntry}s in memory-mapped {@link AuditSegment}
+ * files, one directory per node.
+ * <p>
+ * {@link #append} only queues the entry. A single writer thread takes whatever has queued up
+ * (up to {@code maxBatch}), writes it to the mapped segment and then, depending on the
+ * {@link FsyncPolicy}, flushes once for the whole batch before completing the callers' futures:
+ * group commit, so the cost of an fsync is shared by everyone who arrived while the previous one
+ * ran. Nobody waits for the writer unless they join the future.
+ * <p>
+ * An entry that cannot be queued (full queue past the caller's wait, or the log closing) is not
+ * lost without trace: the writer puts a {@code LOG 0 GAP} record into the chain, with the number
+ * of entries missing there as its to-value, at the point where it notices.
+ * <p>
+ * Every record carries a SHA-256 over its content and the previous record's hash, so editing or
+ * removing a record breaks the chain from that point on ({@link #verify}). The chain only proves
+ * anything against a known head: record {@link AuditStatusDto#getHeadHash()} somewhere else from
+ * time to time.
+ * <p>
+ * A segment is rolled when it is full or older than {@code rollIntervalMillis}. Sealed segments
+ * are shrunk to their records; {@link #compact} drops the oldest ones past the retention window
+ * and merges runs of small neighbours into one file.
+ */
+public final class AuditLog implements AutoCloseable {
+
+    public enum FsyncPolicy {
+        ALWAYS, // Flush every batch before completing its futures
+        INTERVAL, // Flush at most every fsyncIntervalMillis; a crash can lose that much
+        NEVER // Leave it to the OS
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+    private static final String SUFFIX = ".audit";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final long IDLE_POLL_MILLIS = 200;
+    public static final String GAP_ACTION = "GAP";
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final int blockBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalMillis;
+    private final long rollIntervalMillis;
+    private final int maxBatch;
+    private final BlockingQueue<Pending> queue;
+    private final Object structureLock = new Object(); // Held to replace the segment list (roll, compaction)
+    private volatile List<AuditSegment> segments = List.of(); // Immutable; readers work on the list they read
+    private final Thread writer;
+    private final MessageDigest digest = AuditSegment.sha256(); // Writer thread only
+    private volatile boolean running = true;
+    private volatile long lastForceMillis = System.currentTimeMillis();
+    private long nextSeq;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder forces = new LongAdder();
+    private final AtomicLong unrecorded = new AtomicLong(); // Refused since the last GAP record
+
+    public AuditLog(Path dir, int segmentBytes, int blockBytes, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis,
+                    long rollIntervalMillis, int maxBatch, int queueCapacity) throws IOException {
+        if (segmentBytes < 64 * 1024 || blockBytes <= 0) {
+            throw new IllegalArgumentException("segmentBytes must be at least 64 KiB and blockBytes positive");
+        }
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.blockBytes = blockBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalMillis = fsyncIntervalMillis;
+        this.rollIntervalMillis = rollIntervalMillis;
+        this.maxBatch = maxBatch;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Files.createDirectories(dir);
+        recover();
+        AuditSegment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        this.nextSeq = last == null ? 1 : last.lastSeq() + 1;
+        this.writer = new Thread(this::writeLoop, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Completes with the record's sequence number once it is written (and flushed, for ALWAYS).
+    // When the queue stays full for waitMillis the entry is refused, the future fails and a GAP
+    // record takes its place; a negative waitMillis waits for room as long as the log is open.
+    public CompletableFuture<Long> append(AuditEntry entry, long waitMillis) {
+        Pending pending = new Pending(entry, System.currentTimeMillis(), new CompletableFuture<>());
+        try {
+            if (waitMillis < 0) {
+                while (running) {
+                    if (queue.offer(pending, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return pending.result;
+                    }
+                }
+            } else if (running && queue.offer(pending, waitMillis, TimeUnit.MILLISECONDS)) {
+                return pending.result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        unrecorded.incrementAndGet();
+        pending.result.completeExceptionally(new IllegalStateException("Audit queue full or log closed"));
+        return pending.result;
+    }
+
+    // Most recent records of one entity first, at most limit
+    public List<AuditRecord> find(String tenant, AuditEntityType type, long entityId, int limit) {
+        long key = AuditSegment.entityKey(tenant, type, entityId);
+        List<AuditRecord> found = new ArrayList<>();
+        List<AuditSegment> snapshot = segments;
+        for (int i = snapshot.size() - 1; i >= 0 && found.size() < limit; i--) {
+            List<AuditRecord> records = new ArrayList<>(snapshot.get(i).find(key));
+            Collections.reverse(records);
+            for (AuditRecord record : records) {
+                AuditEntry entry = record.entry();
+                if (entry.entityId() == entityId && entry.entityType() == type && Objects.equals(tenant, entry.tenant())) {
+                    found.add(record);
+                    if (found.size() == limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // Re-reads every record and checks sequence numbers, segment links and the hash chain
+    public AuditVerifyDto verify() {
+        MessageDigest verifyDigest = AuditSegment.sha256();
+        List<AuditSegment> snapshot = segments;
+        ChainCheck check = new ChainCheck(
+                snapshot.isEmpty() ? 1 : snapshot.get(0).firstSeq(),
+                snapshot.isEmpty() ? AuditSegment.GENESIS_HASH : snapshot.get(0).prevHash());
+        for (AuditSegment segment : snapshot) {
+            if (segment.firstSeq() != check.nextSeq || !Arrays.equals(segment.prevHash(), check.hash)) {
+                check.fail(segment.firstSeq(), "Segment " + segment.path().getFileName() + " does not continue the previous one");
+                break;
+            }
+            segment.forEachFrame((record, source, offset) -> {
+                if (record.seq() != check.nextSeq
+                        || !Arrays.equals(record.hash(), AuditSegment.chainHash(verifyDigest, check.hash, source, offset))) {
+                    check.fail(record.seq(), "Record " + record.seq() + " does not match the hash chain");
+                    return false;
+                }
+                check.nextSeq++;
+                check.hash = record.hash();
+                check.checked++;
+                return true;
+            });
+            if (check.problem == null && check.nextSeq != segment.lastSeq() + 1) {
+                check.fail(check.nextSeq, "Segment " + segment.path().getFileName() + " ends before its last record");
+            }
+            if (check.problem != null) {
+                break;
+            }
+        }
+        return AuditVerifyDto.builder()
+                .valid(check.problem == null)
+                .recordsChecked(check.checked)
+                .brokenAtSeq(check.brokenAtSeq)
+                .problem(check.problem)
+                .headSeq(check.nextSeq - 1)
+                .headHash(HexFormat.of().formatHex(check.hash))
+                .build();
+    }
+
+    // Deletes the oldest sealed segments whose newest record is older than retainAfterMillis (0 keeps
+    // everything), then merges runs of adjacent sealed segments that fit into one segment together.
+    // Returns the number of files removed.
+    public int compact(long retainAfterMillis) throws IOException {
+        int removed = 0;
+        synchronized (structureLock) {
+            List<AuditSegment> current = new ArrayList<>(segments);
+            List<AuditSegment> expired = new ArrayList<>();
+            while (retainAfterMillis > 0 && current.size() > 1 && current.get(0).isSealed()
+                    && current.get(0).lastTimestamp() < retainAfterMillis) {
+                expired.add(current.remove(0));
+            }
+            segments = List.copyOf(current);
+            for (AuditSegment segment : expired) {
+                Files.deleteIfExists(segment.path());
+                removed++;
+                logger.info("Audit segment {} expired ({} records).", segment.path().getFileName(), segment.recordCount());
+            }
+            for (int start = 0; start < current.size(); start++) {
+                int endExclusive = start;
+                long bytes = AuditSegment.HEADER_BYTES;
+                while (endExclusive < current.size() && current.get(endExclusive).isSealed()
+                        && bytes + current.get(endExclusive).sizeBytes() - AuditSegment.HEADER_BYTES < segmentBytes) {
+                    bytes += current.get(endExclusive).sizeBytes() - AuditSegment.HEADER_BYTES;
+                    endExclusive++;
+                }
+                if (endExclusive - start < 2) {
+                    continue;
+                }
+                List<AuditSegment> run = new ArrayList<>(current.subList(start, endExclusive));
+                AuditSegment merged = merge(run);
+                current.subList(start, endExclusive).clear();
+                current.add(start, merged);
+                segments = List.copyOf(current);
+                for (AuditSegment old : run.subList(1, run.size())) {
+                    Files.deleteIfExists(old.path());
+                }
+                removed += run.size() - 1;
+            }
+        }
+        return removed;
+    }
+
+    private AuditSegment merge(List<AuditSegment> run) throws IOException {
+        AuditSegment first = run.get(0);
+        Path tmp = first.path().resolveSibling(first.path().getFileName() + COMPACTING_SUFFIX);
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(out, AuditSegment.header(first.firstSeq(), first.prevHash()));
+            for (AuditSegment segment : run) {
+                writeFully(out, segment.frames());
+            }
+            out.force(true);
+        }
+        Files.move(tmp, first.path(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        AuditSegment merged = AuditSegment.open(first.path(), segmentBytes, blockBytes);
+        logger.info("Merged {} audit segments into {} ({} records).", run.size(), first.path().getFileName(), merged.recordCount());
+        return merged;
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    public AuditStatusDto stats() {
+        List<AuditSegment> snapshot = segments;
+        AuditSegment last = snapshot.isEmpty() ? null : snapshot.get(snapshot.size() - 1);
+        return AuditStatusDto.builder()
+                .segments(snapshot.size())
+                .bytes(snapshot.stream().mapToLong(AuditSegment::sizeBytes).sum())
+                .records(snapshot.stream().mapToLong(AuditSegment::recordCount).sum())
+                .firstSeq(snapshot.isEmpty() ? 0 : snapshot.get(0).firstSeq())
+                .headSeq(last == null ? 0 : last.lastSeq())
+                .headHash(last == null ? HexFormat.of().formatHex(AuditSegment.GENESIS_HASH) : HexFormat.of().formatHex(last.lastHash()))
+                .queued(queue.size())
+                .appended(appended.sum())
+                .rejected(rejected.sum())
+                .batches(batches.sum())
+                .fsyncs(forces.sum())
+                .fsyncPolicy(fsyncPolicy.name())
+                .lastFsyncAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(lastForceMillis), ZoneId.systemDefault()))
+                .build();
+    }
+
+    // Writes out what is queued, flushes and stops the writer
+    @Override
+    public void close() {
+        running = false; // The writer notices within IDLE_POLL_MILLIS; interrupting it could close a channel mid-roll
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+        boolean dirty = false;
+        while (running || !queue.isEmpty() || unrecorded.get() > 0) {
+            try {
+                long wait = fsyncPolicy == FsyncPolicy.INTERVAL && dirty ? Math.min(fsyncIntervalMillis, IDLE_POLL_MILLIS) : IDLE_POLL_MILLIS;
+                Pending first = queue.poll(wait, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatch - 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                if (!batch.isEmpty() || unrecorded.get() > 0) {
+                    write(batch);
+                    dirty = true;
+                }
+                long now = System.currentTimeMillis();
+                if (dirty && (fsyncPolicy == FsyncPolicy.ALWAYS || !running
+                        || (fsyncPolicy == FsyncPolicy.INTERVAL && now - lastForceMillis >= fsyncIntervalMillis))) {
+                    AuditSegment head = active();
+                    if (head != null) {
+                        head.force();
+                    }
+                    forces.increment();
+                    lastForceMillis = now;
+                    dirty = false;
+                }
+                batch.forEach(Pending::complete);
+            } catch (Exception e) {
+                logger.error("Audit write failed for {} record(s): {}", batch.size(), e.getMessage(), e);
+                batch.forEach(pending -> pending.result.completeExceptionally(e));
+                if (!running && queue.isEmpty()) {
+                    return; // Closing; do not keep retrying a GAP record that cannot be written
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) throws IOException {
+        AuditSegment segment = active();
+        if (segment != null && segment.recordCount() > 0 && rollIntervalMillis > 0
+                && System.currentTimeMillis() - segment.firstTimestamp() >= rollIntervalMillis) {
+            segment = roll();
+        }
+        long missing = unrecorded.getAndSet(0);
+        if (missing > 0) {
+            segment = writeFrame(segment, System.currentTimeMillis(),
+                    new AuditEntry(null, AuditEntityType.LOG, 0, GAP_ACTION, null, Long.toString(missing), null), missing);
+            appended.increment();
+        }
+        for (Pending pending : batch) {
+            segment = writeFrame(segment, pending.timestampMillis, pending.entry, 0);
+            pending.seq = nextSeq - 1;
+        }
+        appended.add(batch.size());
+        batches.increment();
+    }
+
+    // Appends one record, rolling to a new segment when needed; returns the segment now active.
+    // unrecordedOnFailure is put back for a GAP record that could not be written.
+    private AuditSegment writeFrame(AuditSegment segment, long timestampMillis, AuditEntry entry, long unrecordedOnFailure)
+            throws IOException {
+        try {
+            if (segment == null) {
+                segment = roll();
+            }
+            byte[] frame = segment.encode(nextSeq, timestampMillis, entry, digest);
+            if (!segment.hasRoom(frame.length)) {
+                // A new segment starts from the same chain hash, so the frame stays valid
+                segment = roll();
+                if (!segment.hasRoom(frame.length)) {
+                    throw new IOException("Audit record of " + frame.length + " bytes does not fit in a segment");
+                }
+            }
+            segment.append(frame);
+            nextSeq++;
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            unrecorded.addAndGet(unrecordedOnFailure);
+            throw e;
+        }
+    }
+
+    // Seals the last segment and starts the next one, chained to where it ended
+    private AuditSegment roll() throws IOException {
+        synchronized (structureLock) {
+            List<AuditSegment> updated = new ArrayList<>(segments);
+            byte[] prevHash = AuditSegment.GENESIS_HASH;
+            if (!updated.isEmpty()) {
+                AuditSegment last = updated.get(updated.size() - 1);
+                last.seal();
+                prevHash = last.lastHash();
+            }
+            AuditSegment next = AuditSegment.create(dir.resolve(fileName(nextSeq)), nextSeq, prevHash, segmentBytes, blockBytes);
+            updated.add(next);
+            segments = List.copyOf(updated);
+            return next;
+        }
+    }
+
+    // The segment being appended to, or null when the next append has to start a new one
+    private AuditSegment active() {
+        AuditSegment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        return last == null || last.isSealed() ? null : last;
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.sorted().toList();
+        }
+        List<AuditSegment> found = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(COMPACTING_SUFFIX)) {
+                Files.delete(file); // Merge interrupted before the rename; the originals are intact
+                continue;
+            }
+            if (!name.endsWith(SUFFIX)) {
+                continue;
+            }
+            AuditSegment segment = AuditSegment.open(file, segmentBytes, blockBytes);
+            if (segment == null) {
+                logger.warn("Ignoring {}: not an audit segment.", file);
+                continue;
+            }
+            AuditSegment previous = found.isEmpty() ? null : found.get(found.size() - 1);
+            if (previous != null && segment.firstSeq() <= previous.lastSeq()) {
+                // Already contained in a merged segment whose old parts were not all deleted yet
+                Files.delete(file);
+                continue;
+            }
+            if (previous != null && !previous.isSealed()) {
+                previous.seal();
+            }
+            found.add(segment);
+        }
+        segments = List.copyOf(found);
+        if (!found.isEmpty()) {
+            logger.info("Audit log at {}: {} segment(s), head at record {}.", dir, found.size(), found.get(found.size() - 1).lastSeq());
+        }
+    }
+
+    private static String fileName(long firstSeq) {
+        return String.format("%020d", firstSeq) + SUFFIX;
+    }
+
+    private static final class ChainCheck {
+        private long nextSeq;
+        private byte[] hash;
+        private long checked;
+        private long brokenAtSeq = -1;
+        private String problem;
+
+        private ChainCheck(long nextSeq, byte[] hash) {
+            this.nextSeq = nextSeq;
+            this.hash = hash;
+        }
+
+        private void fail(long seq, String message) {
+            brokenAtSeq = seq;
+            problem = message;
+        }
+    }
+
+    private static final class Pending {
+        private final AuditEntry entry;
+        private final long timestampMillis;
+        private final CompletableFuture<Long> result;
+        private long seq;
+
+        private Pending(AuditEntry entry, long timestampMillis, CompletableFuture<Long> result) {
+            this.entry = entry;
+            this.timestampMillis = timestampMillis;
+            this.result = result;
+        }
+
+        private void complete() {
+            result.complete(seq);
+        }
+    }
+}
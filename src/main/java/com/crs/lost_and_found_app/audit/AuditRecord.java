@@ -0,0 +1,12 @@
+package com.crs.lost_and_found_app.audit;
+
+import java.util.HexFormat;
+
+// An AuditEntry as stored: its position in the log, when it was appended, and the chain hash
+// over every record up to and including this one.
+public record AuditRecord(long seq, long timestampMillis, AuditEntry entry, byte[] hash) {
+
+    public String hashHex() {
+        return HexFormat.of().formatHex(hash);
+    }
+}
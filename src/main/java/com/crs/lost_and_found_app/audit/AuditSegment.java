@@ -0,0 +1,423 @@
+package com.crs.lost_and_found_app.audit;
+
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * One file of the audit log, memory-mapped. A 64-byte header (magic, version, first sequence
+ * number, chain hash before the first record) is followed by frames:
+ * <pre>
+ *   int length | int crc32c(body) | body
+ *   body = long seq | long timestamp | byte entity type | long entity id
+ *          | tenant | action | from | to | actor   (u16 length + UTF-8, 0xFFFF = null)
+ *          | 32-byte SHA-256 of (previous hash, body up to here)
+ * </pre>
+ * The file is preallocated, so a zero length marks the end. Opening a segment re-reads every
+ * frame and stops at the first one with a bad checksum, an unexpected sequence number or a
+ * broken hash chain: that is where a crash cut the tail off.
+ * <p>
+ * Only the log's writer thread appends. Readers see records up to {@link #end}, which is
+ * published after the bytes and the index entries of a record are in place.
+ * <p>
+ * The sparse index maps each entity to the blocks ({@code blockBytes} stretches of the file) that
+ * hold its records, so an entity's history is found by reading those blocks only.
+ */
+final class AuditSegment {
+
+    static final int HEADER_BYTES = 64;
+    static final int HASH_BYTES = 32;
+    static final byte[] GENESIS_HASH = new byte[HASH_BYTES];
+    private static final int MAGIC = 0x41554431; // "AUD1"
+    private static final int VERSION = 1;
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int MAX_STRING_BYTES = 1024;
+    private static final int NULL_STRING = 0xFFFF;
+
+    private final Path path;
+    private final long firstSeq;
+    private final byte[] prevHash;
+    private final int blockBytes;
+    private final Object indexLock = new Object();
+    private final Map<Long, int[]> blocksByEntity = new HashMap<>(); // {count, block, block, ...}
+    private int[] blockFirstRecord = new int[16]; // Offset of the first record starting in each block, 0 = none
+    private MappedByteBuffer buffer;
+    private volatile int end = HEADER_BYTES;
+    private volatile boolean sealed;
+    private volatile long lastSeq;
+    private volatile long firstTimestamp;
+    private volatile long lastTimestamp;
+    private volatile byte[] lastHash;
+
+    private AuditSegment(Path path, long firstSeq, byte[] prevHash, int blockBytes, MappedByteBuffer buffer, boolean sealed) {
+        this.path = path;
+        this.firstSeq = firstSeq;
+        this.prevHash = prevHash;
+        this.blockBytes = blockBytes;
+        this.buffer = buffer;
+        this.sealed = sealed;
+        this.lastSeq = firstSeq - 1;
+        this.lastHash = prevHash;
+    }
+
+    static AuditSegment create(Path path, long firstSeq, byte[] prevHash, int capacity, int blockBytes) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        }
+        buffer.put(0, header(firstSeq, prevHash), 0, HEADER_BYTES);
+        buffer.force();
+        return new AuditSegment(path, firstSeq, prevHash.clone(), blockBytes, buffer, false);
+    }
+
+    // Header of a segment starting at firstSeq; also used for the merged file compaction writes
+    static ByteBuffer header(long firstSeq, byte[] prevHash) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putLong(firstSeq).put(prevHash);
+        return header.clear();
+    }
+
+    // A file of exactly `capacity` bytes is taken to be the unsealed last segment and opened for
+    // appending; anything else is opened read-only. Returns null if the header is not ours.
+    static AuditSegment open(Path path, int capacity, int blockBytes) throws IOException {
+        MappedByteBuffer buffer;
+        boolean writable;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                return null;
+            }
+            writable = size == capacity;
+            buffer = channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            return null;
+        }
+        byte[] prevHash = new byte[HASH_BYTES];
+        buffer.get(16, prevHash);
+        AuditSegment segment = new AuditSegment(path, buffer.getLong(8), prevHash, blockBytes, buffer, !writable);
+        segment.recover();
+        return segment;
+    }
+
+    private void recover() {
+        MessageDigest digest = sha256();
+        int offset = HEADER_BYTES;
+        int limit = buffer.capacity();
+        while (true) {
+            AuditRecord record = decode(buffer, offset, limit);
+            if (record == null || record.seq() != lastSeq + 1 || !Arrays.equals(record.hash(), chainHash(digest, lastHash, buffer, offset))) {
+                break;
+            }
+            int next = offset + FRAME_HEADER_BYTES + buffer.getInt(offset);
+            track(record, offset);
+            offset = next;
+        }
+        end = offset;
+        if (!sealed) {
+            zeroTail(offset); // Leftovers of a torn write must not be read as records later
+        }
+    }
+
+    private void zeroTail(int from) {
+        int last = buffer.capacity();
+        while (last > from && buffer.get(last - 1) == 0) {
+            last--;
+        }
+        byte[] zeros = new byte[Math.min(64 * 1024, Math.max(0, last - from))];
+        for (int offset = from; offset < last; offset += zeros.length) {
+            buffer.put(offset, zeros, 0, Math.min(zeros.length, last - offset));
+        }
+    }
+
+    // Frame for the next record, chained to the last one in this segment.
+    byte[] encode(long seq, long timestampMillis, AuditEntry entry, MessageDigest digest) {
+        byte[][] strings = {utf8(entry.tenant()), utf8(entry.action()), utf8(entry.fromValue()), utf8(entry.toValue()), utf8(entry.actor())};
+        int bodyBytes = 8 + 8 + 1 + 8 + HASH_BYTES;
+        for (byte[] s : strings) {
+            bodyBytes += 2 + (s == null ? 0 : s.length);
+        }
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + bodyBytes);
+        frame.putInt(bodyBytes).putInt(0);
+        frame.putLong(seq).putLong(timestampMillis).put((byte) entry.entityType().ordinal()).putLong(entry.entityId());
+        for (byte[] s : strings) {
+            if (s == null) {
+                frame.putShort((short) NULL_STRING);
+            } else {
+                frame.putShort((short) s.length).put(s);
+            }
+        }
+        digest.reset();
+        digest.update(lastHash);
+        digest.update(frame.array(), FRAME_HEADER_BYTES, bodyBytes - HASH_BYTES);
+        frame.put(digest.digest());
+        CRC32C crc = new CRC32C();
+        crc.update(frame.array(), FRAME_HEADER_BYTES, bodyBytes);
+        frame.putInt(4, (int) crc.getValue());
+        return frame.array();
+    }
+
+    boolean hasRoom(int frameBytes) {
+        return !sealed && (long) end + frameBytes <= buffer.capacity();
+    }
+
+    // Writer thread only; the record becomes visible to readers when this returns
+    AuditRecord append(byte[] frame) {
+        int offset = end;
+        buffer.put(offset, frame);
+        AuditRecord record = decode(buffer, offset, offset + frame.length);
+        track(record, offset);
+        end = offset + frame.length;
+        return record;
+    }
+
+    void force() {
+        if (!sealed) {
+            buffer.force();
+        }
+    }
+
+    // Flushes, then shrinks the file to its records and maps it read-only. Where the file cannot
+    // be truncated while mapped (Windows), it keeps its preallocated size; readers stop at the end marker.
+    void seal() throws IOException {
+        if (sealed) {
+            return;
+        }
+        buffer.force();
+        sealed = true;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            try {
+                channel.truncate(end);
+            } catch (IOException e) {
+                return;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        }
+    }
+
+    // Records of one entity in this segment, oldest first; entries with a colliding key are filtered out by the caller
+    List<AuditRecord> find(long entityKey) {
+        int limit = end;
+        int[] blocks;
+        int[] firstRecords;
+        synchronized (indexLock) {
+            int[] entry = blocksByEntity.get(entityKey);
+            if (entry == null) {
+                return List.of();
+            }
+            blocks = Arrays.copyOfRange(entry, 1, entry[0] + 1);
+            firstRecords = blockFirstRecord.clone();
+        }
+        ByteBuffer view = buffer.duplicate();
+        List<AuditRecord> records = new ArrayList<>();
+        for (int block : blocks) {
+            int blockEnd = HEADER_BYTES + (block + 1) * blockBytes;
+            int offset = firstRecords[block];
+            while (offset < limit && offset < blockEnd) {
+                AuditRecord record = decode(view, offset, limit);
+                if (record == null) {
+                    break;
+                }
+                if (entityKey(record.entry()) == entityKey) {
+                    records.add(record);
+                }
+                offset += FRAME_HEADER_BYTES + view.getInt(offset);
+            }
+        }
+        return records;
+    }
+
+    // Hands every record, with the buffer and offset it was read from, to the visitor until it returns false
+    void forEachFrame(FrameVisitor visitor) {
+        int limit = end;
+        ByteBuffer view = buffer.duplicate();
+        for (int offset = HEADER_BYTES; offset < limit; offset += FRAME_HEADER_BYTES + view.getInt(offset)) {
+            AuditRecord record = decode(view, offset, limit);
+            if (record == null || !visitor.visit(record, view, offset)) {
+                return;
+            }
+        }
+    }
+
+    // The raw frames, for compaction
+    ByteBuffer frames() {
+        return buffer.duplicate().position(HEADER_BYTES).limit(end).slice();
+    }
+
+    private void track(AuditRecord record, int offset) {
+        int block = (offset - HEADER_BYTES) / blockBytes;
+        synchronized (indexLock) {
+            if (block >= blockFirstRecord.length) {
+                blockFirstRecord = Arrays.copyOf(blockFirstRecord, Math.max(block + 1, blockFirstRecord.length * 2));
+            }
+            if (blockFirstRecord[block] == 0) {
+                blockFirstRecord[block] = offset;
+            }
+            long key = entityKey(record.entry());
+            int[] entry = blocksByEntity.get(key);
+            if (entry == null) {
+                blocksByEntity.put(key, new int[] {1, block});
+            } else if (entry[entry[0]] != block) {
+                if (entry[0] + 1 == entry.length) {
+                    entry = Arrays.copyOf(entry, entry.length * 2);
+                    blocksByEntity.put(key, entry);
+                }
+                entry[++entry[0]] = block;
+            }
+        }
+        if (lastSeq < firstSeq) {
+            firstTimestamp = record.timestampMillis();
+        }
+        lastSeq = record.seq();
+        lastTimestamp = record.timestampMillis();
+        lastHash = record.hash();
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long firstSeq() {
+        return firstSeq;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    long firstTimestamp() {
+        return firstTimestamp;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    byte[] prevHash() {
+        return prevHash.clone();
+    }
+
+    byte[] lastHash() {
+        return lastHash.clone();
+    }
+
+    long recordCount() {
+        return lastSeq - firstSeq + 1;
+    }
+
+    int sizeBytes() {
+        return end;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    interface FrameVisitor {
+        boolean visit(AuditRecord record, ByteBuffer source, int offset);
+    }
+
+    static long entityKey(AuditEntry entry) {
+        return entityKey(entry.tenant(), entry.entityType(), entry.entityId());
+    }
+
+    // Different tenants may reuse an entity ID, so the tenant is part of the key
+    static long entityKey(String tenant, AuditEntityType type, long entityId) {
+        long h = entityId * 0x9E3779B97F4A7C15L + (type.ordinal() + 1) * 0xC2B2AE3D27D4EB4FL + (tenant == null ? 0 : tenant.hashCode());
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        return h ^ (h >>> 33);
+    }
+
+    // The hash a frame at this offset should carry given the previous one
+    static byte[] chainHash(MessageDigest digest, byte[] previous, ByteBuffer source, int offset) {
+        int bodyBytes = source.getInt(offset);
+        byte[] body = new byte[bodyBytes - HASH_BYTES];
+        source.get(offset + FRAME_HEADER_BYTES, body);
+        digest.reset();
+        digest.update(previous);
+        return digest.digest(body);
+    }
+
+    // Null when the bytes at offset are not a complete frame with a valid checksum
+    static AuditRecord decode(ByteBuffer source, int offset, int limit) {
+        if (offset + FRAME_HEADER_BYTES > limit) {
+            return null;
+        }
+        int bodyBytes = source.getInt(offset);
+        if (bodyBytes < 8 + 8 + 1 + 8 + 10 + HASH_BYTES || (long) offset + FRAME_HEADER_BYTES + bodyBytes > limit) {
+            return null;
+        }
+        byte[] body = new byte[bodyBytes];
+        source.get(offset + FRAME_HEADER_BYTES, body);
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        if ((int) crc.getValue() != source.getInt(offset + 4)) {
+            return null;
+        }
+        ByteBuffer in = ByteBuffer.wrap(body);
+        long seq = in.getLong();
+        long timestamp = in.getLong();
+        int type = in.get();
+        if (type < 0 || type >= AuditEntityType.values().length) {
+            return null;
+        }
+        long entityId = in.getLong();
+        String tenant = readString(in);
+        String action = readString(in);
+        String from = readString(in);
+        String to = readString(in);
+        String actor = readString(in);
+        byte[] hash = new byte[HASH_BYTES];
+        in.get(hash);
+        return new AuditRecord(seq, timestamp, new AuditEntry(tenant, AuditEntityType.values()[type], entityId, action, from, to, actor), hash);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getShort() & 0xFFFF;
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_STRING_BYTES) {
+            return bytes;
+        }
+        // Cut at a character boundary so the stored value still decodes
+        int length = MAX_STRING_BYTES;
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        return Arrays.copyOf(bytes, length);
+    }
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
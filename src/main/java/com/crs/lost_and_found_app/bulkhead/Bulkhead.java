@@ -0,0 +1,104 @@
+package com.crs.lost_and_found_app.bulkhead;
+
+import com.crs.lost_and_found_app.dto.BulkheadStatsDto;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A fixed pool plus a bounded queue that one class of endpoints runs on, so a burst of slow calls
+ * in that class uses up its own threads and not Tomcat's.
+ * <p>
+ * {@link #submit} never blocks the caller: when the pool and queue are full the returned future
+ * fails at once with {@link BulkheadFullException}, and a call still running after the timeout
+ * fails with {@link TimeoutException} and is interrupted. The submitting thread's campus and
+ * security context are carried over to the worker.
+ */
+public final class Bulkhead {
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long timeoutMs;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+
+    public Bulkhead(String name, int threads, int queueCapacity, long timeoutMs) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMs = timeoutMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("bulkhead-" + name + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable task = new DelegatingSecurityContextRunnable(TenantContext.wrap(() -> {
+            if (result.isDone()) {
+                return; // Timed out while still queued
+            }
+            try {
+                result.complete(call.get());
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }));
+        Future<?> running;
+        try {
+            running = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            result.completeExceptionally(new BulkheadFullException(name));
+            return result;
+        }
+        accepted.increment();
+        return result.orTimeout(timeoutMs, TimeUnit.MILLISECONDS).whenComplete((value, error) -> {
+            if (error == null) {
+                succeeded.increment();
+            } else if (error instanceof TimeoutException) {
+                timedOut.increment();
+                running.cancel(true);
+            } else {
+                failed.increment();
+            }
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BulkheadStatsDto stats() {
+        return BulkheadStatsDto.builder()
+                .name(name)
+                .threads(executor.getMaximumPoolSize())
+                .active(executor.getActiveCount())
+                .queued(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .timeoutMs(timeoutMs)
+                .accepted(accepted.sum())
+                .rejected(rejected.sum())
+                .timedOut(timedOut.sum())
+                .failed(failed.sum())
+                .succeeded(succeeded.sum())
+                .build();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
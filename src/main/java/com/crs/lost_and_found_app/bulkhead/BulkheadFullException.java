@@ -0,0 +1,9 @@
+package com.crs.lost_and_found_app.bulkhead;
+
+// Rejections come in bursts exactly when the node is busiest, so no stack trace is captured
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(String bulkhead) {
+        super("Too many " + bulkhead + " requests in progress, try again shortly.", null, false, false);
+    }
+}
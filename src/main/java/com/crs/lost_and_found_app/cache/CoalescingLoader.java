@@ -0,0 +1,105 @@
+package com.crs.lost_and_found_app.cache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Merges single-key lookups into batched loads, DataLoader style.
+ * <p>
+ * The first {@link #load} opens a window of {@code windowNanos}; every key requested before it closes
+ * (or until {@code maxBatchSize} keys are waiting) goes into one call of the batch function.
+ * Callers asking for a key that is already waiting or being loaded get the same future, so a hot key
+ * is fetched once however many callers want it at that moment. Nothing is kept after the load
+ * completes: this is request coalescing, not a cache, so a later caller always triggers a fresh load.
+ * <p>
+ * A caller may join a load that started an instant before its own request; for point reads this is
+ * indistinguishable from having run slightly earlier.
+ */
+public final class CoalescingLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final ScheduledExecutorService executor;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private List<K> pending = new ArrayList<>();
+    private boolean flushScheduled;
+
+    public CoalescingLoader(Function<Set<K>, Map<K, V>> batchFunction, ScheduledExecutorService executor,
+                            long windowNanos, int maxBatchSize) {
+        this.batchFunction = batchFunction;
+        this.executor = executor;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // Completes with null if the batch function returned nothing for the key.
+    public CompletableFuture<V> load(K key) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        boolean flushNow = false;
+        boolean schedule = false;
+        synchronized (lock) {
+            pending.add(key);
+            if (pending.size() >= maxBatchSize) {
+                flushNow = true;
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                schedule = true;
+            }
+        }
+        if (flushNow) {
+            executor.execute(this::flush);
+        } else if (schedule) {
+            executor.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+        }
+        return created;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void flush() {
+        List<K> batch;
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+        Map<K, V> results;
+        try {
+            results = batchFunction.apply(new LinkedHashSet<>(batch));
+        } catch (Throwable t) {
+            for (K key : batch) {
+                CompletableFuture<V> future = inFlight.remove(key);
+                if (future != null) {
+                    future.completeExceptionally(t);
+                }
+            }
+            return;
+        }
+        for (K key : batch) {
+            // Removed before completing, so callers arriving from now on start a fresh load
+            CompletableFuture<V> future = inFlight.remove(key);
+            if (future != null) {
+                future.complete(results.get(key));
+            }
+        }
+    }
+}
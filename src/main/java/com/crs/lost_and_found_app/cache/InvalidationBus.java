@@ -0,0 +1,68 @@
+package com.crs.lost_and_found_app.cache;
+
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tells every node that a cached entity changed. Caches subscribe by entity type and receive the
+ * key; publishers call {@link #publish} after their transaction commits. Listeners on the
+ * publishing node are called synchronously, other nodes hear about it through the backend.
+ */
+public abstract class InvalidationBus {
+
+    public static final String USER = "user";
+    public static final String ITEM = "item";
+    public static final String REQUEST = "request";
+    public static final String SAVED_SEARCH = "saved_search";
+    public static final String TOKEN = "token";
+
+    private static final Logger logger = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+    private final TenantRegistry tenantRegistry;
+
+    protected InvalidationBus(TenantRegistry tenantRegistry) {
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    public void subscribe(String entityType, InvalidationListener listener) {
+        listeners.computeIfAbsent(entityType, type -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void publish(String entityType, Object key) {
+        String tenant = TenantContext.getTenant();
+        String value = String.valueOf(key);
+        deliver(tenant, entityType, value);
+        send(tenant, entityType, value);
+    }
+
+    // Forwards a locally published invalidation to the other nodes.
+    protected abstract void send(String tenant, String entityType, String key);
+
+    protected void deliver(String tenant, String entityType, String key) {
+        List<InvalidationListener> subscribed = listeners.get(entityType);
+        if (subscribed == null) {
+            return;
+        }
+        TenantContext.runAs(tenant, () -> {
+            for (InvalidationListener listener : subscribed) {
+                try {
+                    listener.invalidate(key);
+                } catch (Exception e) {
+                    logger.error("Invalidation listener failed for {} {} in campus {}: {}", entityType, key, tenant, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    protected void deliverAll() {
+        tenantRegistry.forEachTenant(tenant -> listeners.values().forEach(subscribed -> subscribed.forEach(InvalidationListener::invalidateAll)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.crs.lost_and_found_app.cache;
+
+// Receives invalidations for one entity type. Called with TenantContext set to the tenant of the change.
+public interface InvalidationListener {
+
+    void invalidate(String key);
+
+    // The bus could not guarantee delivery (e.g. the log was unreachable for longer than the
+    // staleness bound); drop or rebuild everything cached for the current tenant.
+    void invalidateAll();
+}
@@ -0,0 +1,154 @@
+package com.crs.lost_and_found_app.cache;
+
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Invalidation bus backed by the {@code invalidation_log} table of the default shard, which every
+ * node can reach. Publishing appends a row; each node polls for rows past its cursor every
+ * {@code invalidation.poll-ms}, in batches of {@code invalidation.batch-size}, skipping its own.
+ * <p>
+ * Staleness is bounded: a change is seen elsewhere within roughly one poll interval, and if polling
+ * keeps failing for longer than {@code invalidation.max-staleness-ms} every subscriber is told to
+ * drop everything, so caches fall back to the database instead of serving old data indefinitely.
+ * Rows older than {@code invalidation.retention-hours} are purged.
+ */
+public class JdbcInvalidationBus extends InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcInvalidationBus.class);
+    private static final int MAX_BATCHES_PER_POLL = 20;
+
+    private record Invalidation(long seq, String tenant, String entityType, String key, String originNode) {
+    }
+
+    private final JdbcTemplate jdbc;
+    private final String nodeId;
+    private final int batchSize;
+    private final long maxStalenessMillis;
+    private final long gapTimeoutMillis;
+    private final long retentionHours;
+    private SequenceGapTracker tracker;
+    private volatile long lastSuccessfulPoll = System.currentTimeMillis();
+
+    public JdbcInvalidationBus(TenantRegistry tenantRegistry, String nodeId, int batchSize, long maxStalenessMillis,
+                               long gapTimeoutMillis, long retentionHours) {
+        super(tenantRegistry);
+        this.jdbc = tenantRegistry.controlJdbc();
+        this.nodeId = nodeId;
+        this.batchSize = batchSize;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionHours = retentionHours;
+        try {
+            jdbc.execute("create table if not exists invalidation_log (" +
+                    "seq bigint auto_increment primary key, " +
+                    "tenant_id varchar(32) not null, " +
+                    "entity_type varchar(32) not null, " +
+                    "entity_key varchar(191) not null, " +
+                    "origin_node varchar(64) not null, " +
+                    "created_at datetime(6) not null default current_timestamp(6), " +
+                    "index idx_invalidation_log_created_at (created_at))");
+            // Caches start empty, so there is nothing to catch up on from before this node started
+            this.tracker = startAtHead();
+        } catch (Exception e) {
+            logger.warn("Invalidation log unavailable at startup, will retry when polling: {}", e.getMessage());
+        }
+        logger.info("Cache invalidation bus started for node {}.", nodeId);
+    }
+
+    @Override
+    protected void send(String tenant, String entityType, String key) {
+        try {
+            jdbc.update("insert into invalidation_log (tenant_id, entity_type, entity_key, origin_node) values (?, ?, ?, ?)",
+                    tenant, entityType, key, nodeId);
+        } catch (Exception e) {
+            // Other nodes will hold the stale entry until its TTL or the next change to the same key
+            logger.error("Could not publish invalidation of {} {} in campus {}: {}", entityType, key, tenant, e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${invalidation.poll-ms:500}", fixedDelayString = "${invalidation.poll-ms:500}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        try {
+            if (tracker == null) {
+                tracker = startAtHead();
+                deliverAll(); // Anything cached before the log was reachable was never covered
+            }
+            int delivered = 0;
+            for (int batch = 0; batch < MAX_BATCHES_PER_POLL; batch++) {
+                List<Invalidation> rows = jdbc.query(
+                        "select seq, tenant_id, entity_type, entity_key, origin_node from invalidation_log where seq > ? order by seq limit ?",
+                        this::mapRow, tracker.cursor(), batchSize);
+                delivered += apply(rows, now);
+                if (rows.size() < batchSize) {
+                    break;
+                }
+            }
+            if (tracker.hasGaps()) {
+                String placeholders = tracker.gaps().stream().map(seq -> "?").collect(Collectors.joining(", "));
+                List<Invalidation> late = jdbc.query(
+                        "select seq, tenant_id, entity_type, entity_key, origin_node from invalidation_log where seq in (" + placeholders + ")",
+                        this::mapRow, tracker.gaps().toArray());
+                delivered += apply(late, now);
+                tracker.expireGaps(now);
+            }
+            lastSuccessfulPoll = now;
+            if (delivered > 0) {
+                logger.debug("Applied {} invalidations from other nodes; cursor at {}.", delivered, tracker.cursor());
+            }
+        } catch (Exception e) {
+            logger.warn("Polling the invalidation log failed: {}", e.getMessage());
+            if (now - lastSuccessfulPoll > maxStalenessMillis) {
+                logger.error("No invalidations received for {} ms; flushing all caches.", now - lastSuccessfulPoll);
+                deliverAll();
+            }
+        }
+    }
+
+    @Scheduled(cron = "${invalidation.purge-cron:0 15 * * * *}")
+    public void purge() {
+        try {
+            int removed;
+            int total = 0;
+            do {
+                removed = jdbc.update("delete from invalidation_log where created_at < now() - interval ? hour limit 10000", retentionHours);
+                total += removed;
+            } while (removed == 10000);
+            if (total > 0) {
+                logger.info("Purged {} old invalidation log rows.", total);
+            }
+        } catch (Exception e) {
+            logger.warn("Purging the invalidation log failed: {}", e.getMessage());
+        }
+    }
+
+    private SequenceGapTracker startAtHead() {
+        Long max = jdbc.queryForObject("select coalesce(max(seq), 0) from invalidation_log", Long.class);
+        return new SequenceGapTracker(max != null ? max : 0, gapTimeoutMillis, batchSize * 10);
+    }
+
+    private int apply(List<Invalidation> rows, long now) {
+        int delivered = 0;
+        for (Invalidation row : rows) {
+            if (!tracker.accept(row.seq(), now) || nodeId.equals(row.originNode())) {
+                continue; // Already seen, or published here and delivered locally at the time
+            }
+            deliver(row.tenant(), row.entityType(), row.key());
+            delivered++;
+        }
+        return delivered;
+    }
+
+    private Invalidation mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Invalidation(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5));
+    }
+}
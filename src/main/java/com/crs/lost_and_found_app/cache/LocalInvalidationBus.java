@@ -0,0 +1,16 @@
+package com.crs.lost_and_found_app.cache;
+
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+
+// Single-node deployments: invalidations only ever reach this JVM.
+public class LocalInvalidationBus extends InvalidationBus {
+
+    public LocalInvalidationBus(TenantRegistry tenantRegistry) {
+        super(tenantRegistry);
+    }
+
+    @Override
+    protected void send(String tenant, String entityType, String key) {
+        // Nothing else to tell
+    }
+}
@@ -0,0 +1,65 @@
+package com.crs.lost_and_found_app.cache;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Remembers which sequence numbers of an append-only log have been consumed.
+ * <p>
+ * AUTO_INCREMENT values are handed out at insert time but become visible at commit time, so a
+ * reader can see 12 before 11. Skipped numbers are kept as gaps and re-checked until they show
+ * up or {@code gapTimeoutMillis} passes (rolled-back inserts leave permanent holes).
+ * Not thread-safe; owned by the polling thread.
+ */
+public final class SequenceGapTracker {
+
+    private final long gapTimeoutMillis;
+    private final int maxGaps;
+    private final LinkedHashMap<Long, Long> gaps = new LinkedHashMap<>(); // seq -> first noticed, oldest first
+    private long cursor;
+
+    public SequenceGapTracker(long cursor, long gapTimeoutMillis, int maxGaps) {
+        this.cursor = cursor;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.maxGaps = maxGaps;
+    }
+
+    // Returns true the first time a sequence number is seen, false for anything already consumed.
+    public boolean accept(long seq, long nowMillis) {
+        if (seq > cursor) {
+            for (long missing = Math.max(cursor + 1, seq - maxGaps); missing < seq; missing++) {
+                gaps.put(missing, nowMillis);
+            }
+            while (gaps.size() > maxGaps) {
+                Iterator<Long> oldest = gaps.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+            cursor = seq;
+            return true;
+        }
+        return gaps.remove(seq) != null;
+    }
+
+    public void expireGaps(long nowMillis) {
+        gaps.entrySet().removeIf(gap -> nowMillis - gap.getValue() > gapTimeoutMillis);
+    }
+
+    public long cursor() {
+        return cursor;
+    }
+
+    public List<Long> gaps() {
+        return new ArrayList<>(gaps.keySet());
+    }
+
+    public boolean hasGaps() {
+        return !gaps.isEmpty();
+    }
+
+    int gapCount() {
+        return gaps.size();
+    }
+}
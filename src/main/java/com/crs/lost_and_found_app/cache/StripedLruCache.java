@@ -0,0 +1,102 @@
+package com.crs.lost_and_found_app.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory cache with LRU eviction and a fixed time-to-live.
+ * <p>
+ * Keys are spread over independently locked stripes (each an access-ordered
+ * {@link LinkedHashMap}), so concurrent requests for different keys rarely contend on the
+ * same lock. Capacity is split evenly across stripes, which makes eviction approximately
+ * rather than exactly LRU across the whole cache.
+ */
+public final class StripedLruCache<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+    private final long ttlNanos;
+
+    @SuppressWarnings("unchecked")
+    public StripedLruCache(int maxEntries, int stripeCount, long ttl, TimeUnit unit) {
+        if (maxEntries <= 0 || stripeCount <= 0) {
+            throw new IllegalArgumentException("maxEntries and stripeCount must be positive");
+        }
+        int stripeCapacity = Math.max(1, maxEntries / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(stripeCapacity);
+        }
+        this.ttlNanos = unit.toNanos(ttl);
+    }
+
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.writtenAt() > ttlNanos) {
+                stripe.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+    }
+
+    public void put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    public void remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16); // Spread high bits, as HashMap does
+        return stripes[Math.floorMod(h, stripes.length)];
+    }
+
+    private record Entry<V>(V value, long writtenAt) {
+    }
+
+    private static final class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.crs.lost_and_found_app.cache;
+
+import com.crs.lost_and_found_app.dto.CacheStatsDto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Read-through cache bounded by entry count and total weight, with W-TinyLFU eviction.
+ * <p>
+ * New entries go into a small LRU window (1% of the entry and weight budgets). Entries leaving
+ * the window compete with the least recently used entry of the main area's probation segment, and
+ * only the one accessed more often recently (per a {@link FrequencySketch}) stays; entries hit again while
+ * on probation move to the protected segment (80% of the main area). A one-off scan over many
+ * items therefore cannot push out the items that are actually popular.
+ * <p>
+ * Lookups read a {@link ConcurrentHashMap} without locking. Hits record their access only when
+ * the policy lock is free, so under heavy contention a few reorderings are skipped; this makes
+ * eviction slightly less precise, never incorrect.
+ * <p>
+ * Entries expire {@code ttlNanos} after they were loaded. A hit on an entry older than
+ * {@code refreshAfterNanos} returns it and reloads it in the background, so hot entries are
+ * replaced before they expire instead of making one caller wait. A load that overlaps an
+ * {@link #invalidate} is not cached, so an invalidation can never be undone by a slow load.
+ */
+public final class TinyLfuCache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final Function<K, CompletableFuture<V>> loader;
+    private final ToIntFunction<V> weigher;
+    private final long maxEntries;
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long windowMaxEntries;
+    private final long protectedMaxWeight;
+    private final long protectedMaxEntries;
+    private final long ttlNanos;
+    private final long refreshAfterNanos;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final Segment<K, V>[] segments;
+    // Bumped by every invalidation; a load only caches its result if nothing was invalidated meanwhile
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder evictedWeight = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public TinyLfuCache(Function<K, CompletableFuture<V>> loader, ToIntFunction<V> weigher,
+                        long maxEntries, long maxWeight, long ttlNanos, long refreshAfterNanos) {
+        if (maxEntries <= 0 || maxWeight <= 0 || ttlNanos <= 0) {
+            throw new IllegalArgumentException("maxEntries, maxWeight and ttl must be positive");
+        }
+        this.loader = loader;
+        this.weigher = weigher;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.windowMaxWeight = Math.max(1, maxWeight / 100);
+        this.windowMaxEntries = Math.max(1, maxEntries / 100);
+        this.protectedMaxWeight = (maxWeight - windowMaxWeight) * 8 / 10;
+        this.protectedMaxEntries = (maxEntries - windowMaxEntries) * 8 / 10;
+        this.ttlNanos = ttlNanos;
+        this.refreshAfterNanos = refreshAfterNanos > 0 && refreshAfterNanos < ttlNanos ? refreshAfterNanos : Long.MAX_VALUE;
+        this.sketch = new FrequencySketch(maxEntries);
+        this.segments = new Segment[] {new Segment<>(), new Segment<>(), new Segment<>()};
+    }
+
+    // Completes with null (and caches nothing) when the loader finds nothing for the key.
+    public CompletableFuture<V> get(K key) {
+        long now = System.nanoTime();
+        Node<K, V> node = data.get(key);
+        if (node != null && now - node.loadedAt <= ttlNanos) {
+            hits.increment();
+            if (policyLock.tryLock()) {
+                try {
+                    onAccess(node);
+                } finally {
+                    policyLock.unlock();
+                }
+            }
+            if (now - node.loadedAt > refreshAfterNanos && node.refreshing.compareAndSet(false, true)) {
+                refreshes.increment();
+                load(key);
+            }
+            return CompletableFuture.completedFuture(node.value);
+        }
+        misses.increment();
+        policyLock.lock();
+        try {
+            sketch.increment(key);
+        } finally {
+            policyLock.unlock();
+        }
+        return load(key);
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        policyLock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                removeNode(node);
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        policyLock.lock();
+        try {
+            data.values().forEach(node -> node.segment = -1);
+            data.clear();
+            for (Segment<K, V> segment : segments) {
+                segment.clear();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    public long size() {
+        return data.size();
+    }
+
+    public CacheStatsDto stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long loadCount = loads.sum();
+        long weight;
+        policyLock.lock();
+        try {
+            weight = segments[WINDOW].weight + segments[PROBATION].weight + segments[PROTECTED].weight;
+        } finally {
+            policyLock.unlock();
+        }
+        return CacheStatsDto.builder()
+                .entries(data.size())
+                .maxEntries(maxEntries)
+                .weight(weight)
+                .maxWeight(maxWeight)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRatio(hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount))
+                .loads(loadCount)
+                .loadFailures(loadFailures.sum())
+                .averageLoadMillis(loadCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCount)
+                .refreshes(refreshes.sum())
+                .evictions(evictions.sum())
+                .evictedWeight(evictedWeight.sum())
+                .build();
+    }
+
+    private CompletableFuture<V> load(K key) {
+        long invalidationsBefore = invalidations.get();
+        long start = System.nanoTime();
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.apply(key);
+        } catch (RuntimeException e) {
+            loading = CompletableFuture.failedFuture(e);
+        }
+        return loading.whenComplete((value, error) -> {
+            loadNanos.add(System.nanoTime() - start);
+            if (error != null) {
+                loadFailures.increment();
+                Node<K, V> stale = data.get(key);
+                if (stale != null) {
+                    stale.refreshing.set(false); // Let a later hit try again
+                }
+                return;
+            }
+            loads.increment();
+            policyLock.lock();
+            try {
+                if (invalidations.get() != invalidationsBefore) {
+                    return;
+                }
+                Node<K, V> existing = data.get(key);
+                if (existing != null) {
+                    removeNode(existing);
+                }
+                if (value != null) {
+                    insert(new Node<>(key, value, Math.max(1, weigher.applyAsInt(value)), System.nanoTime()));
+                }
+            } finally {
+                policyLock.unlock();
+            }
+        });
+    }
+
+    // Everything below runs under policyLock
+
+    private void onAccess(Node<K, V> node) {
+        if (node.segment < 0) {
+            return; // Removed concurrently
+        }
+        sketch.increment(node.key);
+        if (node.segment == PROBATION) {
+            segments[PROBATION].unlink(node);
+            node.segment = PROTECTED;
+            segments[PROTECTED].append(node);
+            while (overflows(segments[PROTECTED], protectedMaxWeight, protectedMaxEntries) && segments[PROTECTED].head != segments[PROTECTED].tail) {
+                Node<K, V> demoted = segments[PROTECTED].head;
+                segments[PROTECTED].unlink(demoted);
+                demoted.segment = PROBATION;
+                segments[PROBATION].append(demoted);
+            }
+        } else {
+            segments[node.segment].moveToTail(node);
+        }
+    }
+
+    private void insert(Node<K, V> node) {
+        data.put(node.key, node);
+        node.segment = WINDOW;
+        segments[WINDOW].append(node);
+
+        // Window overflow moves to the tail of probation; those nodes are the admission candidates
+        Node<K, V> candidate = null;
+        while (overflows(segments[WINDOW], windowMaxWeight, windowMaxEntries) && segments[WINDOW].head != null) {
+            Node<K, V> moved = segments[WINDOW].head;
+            segments[WINDOW].unlink(moved);
+            moved.segment = PROBATION;
+            segments[PROBATION].append(moved);
+            if (candidate == null) {
+                candidate = moved;
+            }
+        }
+
+        while (data.size() > maxEntries || totalWeight() > maxWeight) {
+            Node<K, V> victim = segments[PROBATION].head;
+            if (victim == null) {
+                victim = segments[PROTECTED].head != null ? segments[PROTECTED].head : segments[WINDOW].head;
+            }
+            if (candidate == null || candidate.segment != PROBATION || candidate == victim) {
+                evict(victim);
+                continue;
+            }
+            if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                Node<K, V> next = candidate.next;
+                evict(candidate);
+                candidate = next;
+            }
+        }
+    }
+
+    private static boolean overflows(Segment<?, ?> segment, long maxWeight, long maxEntries) {
+        return segment.weight > maxWeight || segment.count > maxEntries;
+    }
+
+    private long totalWeight() {
+        return segments[WINDOW].weight + segments[PROBATION].weight + segments[PROTECTED].weight;
+    }
+
+    private void evict(Node<K, V> node) {
+        evictions.increment();
+        evictedWeight.add(node.weight);
+        removeNode(node);
+    }
+
+    private void removeNode(Node<K, V> node) {
+        if (node.segment < 0) {
+            return;
+        }
+        segments[node.segment].unlink(node);
+        node.segment = -1;
+        data.remove(node.key, node);
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int weight;
+        final long loadedAt;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+        int segment = -1;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value, int weight, long loadedAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    // Doubly linked LRU list: head is least recently used
+    private static final class Segment<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+        long weight;
+        int count;
+
+        void append(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail != null) {
+                tail.next = node;
+            } else {
+                head = node;
+            }
+            tail = node;
+            weight += node.weight;
+            count++;
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.prev != null) {
+                node.prev.next = node.next;
+            } else {
+                head = node.next;
+            }
+            if (node.next != null) {
+                node.next.prev = node.prev;
+            } else {
+                tail = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            weight -= node.weight;
+            count--;
+        }
+
+        void moveToTail(Node<K, V> node) {
+            if (tail != node) {
+                unlink(node);
+                append(node);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            weight = 0;
+            count = 0;
+        }
+    }
+}
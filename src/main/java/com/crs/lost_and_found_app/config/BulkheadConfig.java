@@ -0,0 +1,33 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.bulkhead.Bulkhead;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// One bulkhead per class of heavy admin/reporting endpoint. Public item browsing stays on
+// Tomcat's pool and never queues behind these.
+@Configuration
+public class BulkheadConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead usersBulkhead(@Value("${bulkhead.users.threads:2}") int threads,
+                                  @Value("${bulkhead.users.queue-capacity:10}") int queueCapacity,
+                                  @Value("${bulkhead.users.timeout-ms:30000}") long timeoutMs) {
+        return new Bulkhead("users", threads, queueCapacity, timeoutMs);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead requestsBulkhead(@Value("${bulkhead.requests.threads:4}") int threads,
+                                     @Value("${bulkhead.requests.queue-capacity:20}") int queueCapacity,
+                                     @Value("${bulkhead.requests.timeout-ms:30000}") long timeoutMs) {
+        return new Bulkhead("requests", threads, queueCapacity, timeoutMs);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead analyticsBulkhead(@Value("${bulkhead.analytics.threads:2}") int threads,
+                                      @Value("${bulkhead.analytics.queue-capacity:10}") int queueCapacity,
+                                      @Value("${bulkhead.analytics.timeout-ms:60000}") long timeoutMs) {
+        return new Bulkhead("analytics", threads, queueCapacity, timeoutMs);
+    }
+}
@@ -0,0 +1,72 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.tenant.TenancyProperties;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Thumbnails are best effort: when the queue is full the task is dropped and picked up again
+    // by the startup sweep or the next thumbnail request (see ThumbnailService).
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${photos.thumbnail.threads:2}") int threads,
+                                                    @Value("${photos.thumbnail.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setTaskDecorator(TenantContext::wrap);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    // Cross-campus admin queries run one task per tenant; callers wait, so rejecting is better than queueing forever.
+    @Bean
+    public ThreadPoolTaskExecutor tenantFanOutExecutor(TenancyProperties tenancyProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(tenancyProperties.getFanOutThreads());
+        executor.setMaxPoolSize(tenancyProperties.getFanOutThreads());
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("tenant-fanout-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // Tenant moves copy whole schemas; one at a time.
+    @Bean
+    public ThreadPoolTaskExecutor tenantMoveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("tenant-move-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Runs NDJSON browse streams once the servlet thread has been handed back. Bounded on purpose:
+    // past threads + queue-capacity open streams the request is rejected rather than queued.
+    @Bean
+    public ThreadPoolTaskExecutor streamingExecutor(@Value("${items.stream.threads:16}") int threads,
+                                                    @Value("${items.stream.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("item-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(TenantContext::wrap);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,260 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.service.IdempotencyService;
+import com.crs.lost_and_found_app.service.IdempotencyService.StoredResponse;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Honors the Idempotency-Key header on item and claim creation. Runs after JwtAuthenticationFilter
+// so keys are scoped per user; the first response is stored and replayed verbatim on retries.
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Set<String> IDEMPOTENT_PATHS = Set.of("/api/v1/items", "/api/v1/requests");
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+
+    @Value("${idempotency.max-body-bytes:1048576}")
+    private int maxBodyBytes;
+
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return !IDEMPOTENT_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String key = request.getHeader(HEADER).trim();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response); // Let security reject it as usual
+            return;
+        }
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large for an idempotent request.");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writeError(response, HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "Request body too large for an idempotent request.");
+            return;
+        }
+        String scopeKey = sha256Hex((TenantContext.getTenant() + "\n" + authentication.getName() + "\n" + request.getMethod() + "\n"
+                + request.getRequestURI() + "\n" + key).getBytes(StandardCharsets.UTF_8));
+        String requestHash = sha256Hex(body);
+
+        StoredResponse stored = idempotencyService.findCompleted(scopeKey);
+        if (stored != null) {
+            replay(stored, requestHash, response);
+            return;
+        }
+
+        CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> running = idempotencyService.joinInFlight(scopeKey, mine);
+        if (running != null) {
+            waitAndReplay(running, requestHash, response);
+            return;
+        }
+
+        boolean reserved;
+        try {
+            reserved = idempotencyService.reserve(scopeKey, requestHash);
+        } catch (RuntimeException e) {
+            idempotencyService.leaveInFlight(scopeKey, mine);
+            throw e;
+        }
+        if (!reserved) {
+            idempotencyService.leaveInFlight(scopeKey, mine);
+            stored = idempotencyService.findCompleted(scopeKey);
+            if (stored != null) {
+                replay(stored, requestHash, response);
+            } else {
+                response.setHeader("Retry-After", "1");
+                writeError(response, HttpServletResponse.SC_CONFLICT, "A request with this " + HEADER + " is still being processed.");
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status < 500) {
+                idempotencyService.complete(scopeKey, mine,
+                        new StoredResponse(requestHash, status, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyService.abandon(scopeKey, mine);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void waitAndReplay(CompletableFuture<StoredResponse> running, String requestHash, HttpServletResponse response) throws IOException {
+        StoredResponse stored;
+        try {
+            stored = running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stored = null;
+        } catch (TimeoutException | ExecutionException e) {
+            stored = null;
+        }
+        if (stored == null) {
+            // The first execution failed or is taking too long; the client may retry
+            response.setHeader("Retry-After", "1");
+            writeError(response, HttpServletResponse.SC_CONFLICT, "A request with this " + HEADER + " is still being processed or failed; retry.");
+            return;
+        }
+        replay(stored, requestHash, response);
+    }
+
+    private void replay(StoredResponse stored, String requestHash, HttpServletResponse response) throws IOException {
+        if (!stored.requestHash().equals(requestHash)) {
+            writeError(response, 422, HEADER + " was already used with a different request body.");
+            return;
+        }
+        response.setStatus(stored.statusCode());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = stored.body() != null ? stored.body() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Request whose body has already been read by the filter and is served from memory
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // Everything is already in memory, so the data is available (and then all read) right away
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.JdbcInvalidationBus;
+import com.crs.lost_and_found_app.cache.LocalInvalidationBus;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+// invalidation.backend=jdbc (default) shares invalidations through the database; "local" is for a single node.
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "invalidation.backend", havingValue = "jdbc", matchIfMissing = true)
+    public InvalidationBus jdbcInvalidationBus(TenantRegistry tenantRegistry,
+                                               @Value("${invalidation.node-id:}") String nodeId,
+                                               @Value("${invalidation.batch-size:500}") int batchSize,
+                                               @Value("${invalidation.max-staleness-ms:30000}") long maxStalenessMs,
+                                               @Value("${invalidation.gap-timeout-ms:10000}") long gapTimeoutMs,
+                                               @Value("${invalidation.retention-hours:24}") long retentionHours) {
+        return new JdbcInvalidationBus(tenantRegistry, nodeId.isBlank() ? defaultNodeId() : nodeId,
+                batchSize, maxStalenessMs, gapTimeoutMs, retentionHours);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "invalidation.backend", havingValue = "local")
+    public InvalidationBus localInvalidationBus(TenantRegistry tenantRegistry) {
+        return new LocalInvalidationBus(tenantRegistry);
+    }
+
+    // Unique per JVM, so several instances on one machine (different server.port) don't skip each other's rows
+    private static String defaultNodeId() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,94 @@
+package com.crs.lost_and_found_app.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection hints for the AOT / native-image build ({@code -Pfast-start}, {@code -Pnative}).
+ * On the JVM these are never consulted.
+ * <p>
+ * Spring already covers beans, controllers and Spring Data repositories. What it cannot see is
+ * JJWT, which loads its implementation classes by name from jjwt-api and its JSON support through
+ * {@link java.util.ServiceLoader}, and our own DTOs, entities and event records, which Jackson and
+ * Hibernate reach reflectively (including the nested Lombok {@code *Builder} classes).
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "com.crs.lost_and_found_app";
+
+        private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+                "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+                "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String className : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            // Runs at build time, so scanning here costs nothing at startup
+            for (String subPackage : List.of("dto", "entity", "event", "enums")) {
+                for (BeanDefinition candidate : scanner().findCandidateComponents(BASE_PACKAGE + "." + subPackage)) {
+                    Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                    registerWithNestedTypes(hints, type);
+                }
+            }
+        }
+
+        private void registerWithNestedTypes(RuntimeHints hints, Class<?> type) {
+            hints.reflection().registerType(type,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+            for (Class<?> nested : type.getDeclaredClasses()) {
+                registerWithNestedTypes(hints, nested); // Lombok builders, nested records
+            }
+        }
+
+        // Every top-level class in a package, not just Spring components
+        private ClassPathScanningCandidateComponentProvider scanner() {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            return scanner;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.tenant.ShardDataSources;
+import com.crs.lost_and_found_app.tenant.TenancyProperties;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantRoutingDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+// Replaces the auto-configured DataSource with a tenant-routing one. With no tenancy.shards.* and
+// no rows in the tenants table, every request uses spring.datasource exactly as before.
+@Configuration
+@EnableConfigurationProperties(TenancyProperties.class)
+public class TenancyConfig {
+
+    @Bean
+    public ShardDataSources shardDataSources(DataSourceProperties dataSourceProperties, TenancyProperties tenancyProperties) {
+        return new ShardDataSources(dataSourceProperties, tenancyProperties);
+    }
+
+    @Bean
+    public TenantRegistry tenantRegistry(ShardDataSources shardDataSources) {
+        return new TenantRegistry(shardDataSources);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources, TenantRegistry tenantRegistry) {
+        return new TenantRoutingDataSource(shardDataSources, tenantRegistry);
+    }
+}
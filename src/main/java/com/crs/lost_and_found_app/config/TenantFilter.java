@@ -0,0 +1,76 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.enums.TenantStatus;
+import com.crs.lost_and_found_app.service.JwtService;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantInfo;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Resolves the campus for the request before anything touches the database: from the "campus"
+// claim of the bearer token, else from the X-Campus header (sign-up / sign-in), else the default.
+@Component
+@RequiredArgsConstructor
+public class TenantFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Campus";
+
+    private final JwtService jwtService;
+    private final TenantRegistry tenantRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String tenant = resolveTenant(request);
+        if (!tenantRegistry.exists(tenant)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.getWriter().write("Unknown campus: " + tenant);
+            return;
+        }
+        TenantInfo info = tenantRegistry.resolve(tenant);
+        if (info.status() == TenantStatus.MOVING && !isReadOnly(request)) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "30");
+            response.getWriter().write("Campus " + tenant + " is being moved; writes are paused.");
+            return;
+        }
+        TenantContext.setTenant(tenant);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private String resolveTenant(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            try {
+                // Cached on the request for JwtAuthenticationFilter
+                String campus = jwtService.extractAllClaims(request, authHeader.substring(7)).get("campus", String.class);
+                return campus != null ? campus : TenantContext.DEFAULT_TENANT; // Tokens issued before tenancy
+            } catch (Exception e) {
+                return TenantContext.DEFAULT_TENANT; // Invalid token; JwtAuthenticationFilter rejects it
+            }
+        }
+        String header = request.getHeader(HEADER);
+        return header != null && !header.isBlank() ? header.trim() : TenantContext.DEFAULT_TENANT;
+    }
+
+    private boolean isReadOnly(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
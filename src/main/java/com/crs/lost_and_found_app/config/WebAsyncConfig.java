@@ -0,0 +1,28 @@
+package com.crs.lost_and_found_app.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Streaming responses (StreamingResponseBody) run on the streaming executor instead of a Tomcat thread
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor streamingExecutor;
+    private final long timeoutMs;
+
+    public WebAsyncConfig(@Qualifier("streamingExecutor") ThreadPoolTaskExecutor streamingExecutor,
+                          @Value("${items.stream.timeout-ms:120000}") long timeoutMs) {
+        this.streamingExecutor = streamingExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
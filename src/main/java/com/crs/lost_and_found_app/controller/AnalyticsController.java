@@ -0,0 +1,41 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.bulkhead.Bulkhead;
+import com.crs.lost_and_found_app.service.AnalyticsService;
+import com.crs.lost_and_found_app.service.RollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final RollupService rollupService;
+    private final Bulkhead analyticsBulkhead;
+
+    @GetMapping("/claims")
+    public CompletableFuture<ResponseEntity<?>> getClaimAnalytics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") AnalyticsService.Granularity granularity) {
+        return analyticsBulkhead.submit(() -> analyticsService.getClaimAnalytics(from, to, granularity))
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok);
+    }
+
+    // Runs the incremental rollup now instead of waiting for the schedule
+    @PostMapping("/rollups/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<String> runRollup() {
+        int slices = rollupService.runRollup();
+        return ResponseEntity.ok("Rollup processed " + slices + " slice(s).");
+    }
+}
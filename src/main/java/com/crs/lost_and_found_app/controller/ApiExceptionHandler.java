@@ -0,0 +1,118 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.bulkhead.BulkheadFullException;
+import com.crs.lost_and_found_app.exception.ConflictException;
+import com.crs.lost_and_found_app.exception.DuplicateItemException;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.exception.LogThrottle;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Turns exceptions from any controller (including failed bulkhead futures) into RFC 7807
+ * {@code application/problem+json} responses, so controllers only handle the success path.
+ * <p>
+ * Expected failures are {@link com.crs.lost_and_found_app.exception.DomainException}s and carry
+ * no stack trace; the JDK and JPA exceptions they replaced are still mapped the same way for code
+ * that throws them. Client errors are logged at WARN and server errors at ERROR, each at most
+ * {@code errors.log.max-per-interval} times per interval for a given status and exception type,
+ * so a client enumerating unknown IDs cannot flood the log.
+ * Spring MVC's own exceptions (missing parameters, type mismatches, ...) are handled by the base
+ * class.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final LogThrottle logThrottle;
+
+    public ApiExceptionHandler(@Value("${errors.log.max-per-interval:5}") int maxPerInterval,
+                               @Value("${errors.log.interval-ms:10000}") long intervalMs) {
+        this.logThrottle = new LogThrottle(maxPerInterval, TimeUnit.MILLISECONDS.toNanos(intervalMs));
+    }
+
+    @ExceptionHandler({NotFoundException.class, EntityNotFoundException.class})
+    public ResponseEntity<ProblemDetail> handleNotFound(RuntimeException e, HttpServletRequest request) {
+        return problem(HttpStatus.NOT_FOUND, e.getMessage(), e, request);
+    }
+
+    @ExceptionHandler({ForbiddenException.class, SecurityException.class})
+    public ResponseEntity<ProblemDetail> handleForbidden(RuntimeException e, HttpServletRequest request) {
+        return problem(HttpStatus.FORBIDDEN, e.getMessage(), e, request);
+    }
+
+    @ExceptionHandler(DuplicateItemException.class)
+    public ResponseEntity<ProblemDetail> handleDuplicate(DuplicateItemException e, HttpServletRequest request) {
+        // The client shows the matches and may resubmit with ?allowDuplicate=true
+        ResponseEntity<ProblemDetail> response = problem(HttpStatus.CONFLICT, e.getMessage(), e, request);
+        response.getBody().setProperty("duplicates", e.getDuplicates());
+        return response;
+    }
+
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ProblemDetail> handleConflict(ConflictException e, HttpServletRequest request) {
+        return problem(HttpStatus.CONFLICT, e.getMessage(), e, request);
+    }
+
+    @ExceptionHandler({InvalidRequestException.class, IllegalArgumentException.class})
+    public ResponseEntity<ProblemDetail> handleInvalid(RuntimeException e, HttpServletRequest request) {
+        return problem(HttpStatus.BAD_REQUEST, e.getMessage(), e, request);
+    }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ProblemDetail> handleBulkheadFull(BulkheadFullException e, HttpServletRequest request) {
+        ResponseEntity<ProblemDetail> response = problem(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response.getBody());
+    }
+
+    // A bulkhead call that ran past its timeout
+    @ExceptionHandler(TimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleTimeout(TimeoutException e, HttpServletRequest request) {
+        return problem(HttpStatus.SERVICE_UNAVAILABLE, "The request took too long, try again later.", e, request);
+    }
+
+    // Failed @PreAuthorize checks go back to Spring Security, which answers 401 or 403
+    @ExceptionHandler({AccessDeniedException.class, AuthenticationException.class})
+    public void rethrowSecurityException(RuntimeException e) {
+        throw e;
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleUnexpected(Exception e, HttpServletRequest request) {
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred.", e, request);
+    }
+
+    private ResponseEntity<ProblemDetail> problem(HttpStatus status, String detail, Exception e, HttpServletRequest request) {
+        long dropped = logThrottle.tryAcquire(status.value() + " " + e.getClass().getName());
+        if (dropped >= 0) {
+            String suppressed = dropped > 0 ? " (" + dropped + " similar suppressed)" : "";
+            if (status == HttpStatus.INTERNAL_SERVER_ERROR) {
+                logger.error("{} {} failed with {}: {}{}", request.getMethod(), request.getRequestURI(), status.value(), e.getMessage(), suppressed, e);
+            } else {
+                logger.warn("{} {} failed with {}: {}{}", request.getMethod(), request.getRequestURI(), status.value(), e.getMessage(), suppressed);
+            }
+        }
+        return ResponseEntity.status(status).body(ProblemDetail.forStatusAndDetail(status, detail));
+    }
+}
@@ -0,0 +1,30 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.ArchiveStatusDto;
+import com.crs.lost_and_found_app.service.ArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/archive")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    @GetMapping("/status")
+    public ResponseEntity<ArchiveStatusDto> getStatus() {
+        return ResponseEntity.ok(archiveService.getStatus());
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<ArchiveStatusDto> runArchive() {
+        return ResponseEntity.ok(archiveService.runArchive());
+    }
+}
@@ -0,0 +1,53 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.AuditRecordDto;
+import com.crs.lost_and_found_app.dto.AuditStatusDto;
+import com.crs.lost_and_found_app.dto.AuditVerifyDto;
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+import com.crs.lost_and_found_app.service.AuditService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/audit")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AuditController {
+
+    private final AuditService auditService;
+
+    // History of one item, request or user of the current campus, newest first. Each node keeps
+    // its own log, so this only covers changes committed on the node that answers.
+    @GetMapping
+    public ResponseEntity<List<AuditRecordDto>> getHistory(@RequestParam AuditEntityType entityType,
+                                                           @RequestParam long entityId,
+                                                           @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(auditService.getHistory(entityType, entityId, limit));
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<AuditStatusDto> getStatus() {
+        return ResponseEntity.ok(auditService.getStatus());
+    }
+
+    // Re-reads the whole log; compare headHash with a copy kept elsewhere
+    @GetMapping("/verify")
+    public ResponseEntity<AuditVerifyDto> verify() {
+        return ResponseEntity.ok(auditService.verify());
+    }
+
+    @PostMapping("/compact")
+    public ResponseEntity<AuditStatusDto> compact() throws IOException {
+        auditService.compact();
+        return ResponseEntity.ok(auditService.getStatus());
+    }
+}
@@ -0,0 +1,47 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.RequestResponseDto;
+import com.crs.lost_and_found_app.enums.QueueOrder;
+import com.crs.lost_and_found_app.service.ClaimQueueService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// Work queue for reviewers: lease a batch of pending claims, renew while working, release if skipped.
+// Approving or rejecting through PUT /api/v1/requests/{id}/status ends the lease.
+@RestController
+@RequestMapping("/api/v1/requests/queue")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+public class ClaimQueueController {
+
+    private final ClaimQueueService claimQueueService;
+
+    @PostMapping("/lease")
+    public ResponseEntity<List<RequestResponseDto>> leaseNext(@RequestParam(defaultValue = "10") int count,
+                                                              @RequestParam(defaultValue = "OLDEST_FIRST") QueueOrder order) {
+        return ResponseEntity.ok(claimQueueService.leaseNext(count, order));
+    }
+
+    @GetMapping("/mine")
+    public ResponseEntity<List<RequestResponseDto>> getMyLeases() {
+        return ResponseEntity.ok(claimQueueService.getMyLeases());
+    }
+
+    @PostMapping("/{requestId}/renew")
+    public ResponseEntity<Map<String, Object>> renewLease(@PathVariable Long requestId) {
+        LocalDateTime expiresAt = claimQueueService.renewLease(requestId);
+        return ResponseEntity.ok(Map.of("requestId", requestId, "leaseExpiresAt", expiresAt));
+    }
+
+    @DeleteMapping("/{requestId}/lease")
+    public ResponseEntity<Void> releaseLease(@PathVariable Long requestId) {
+        claimQueueService.releaseLease(requestId);
+        return ResponseEntity.noContent().build();
+    }
+}
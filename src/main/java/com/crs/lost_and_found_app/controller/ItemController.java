@@ -2,18 +2,24 @@ package com.crs.lost_and_found_app.controller;
 
 import com.crs.lost_and_found_app.dto.ItemRequestDto;
 import com.crs.lost_and_found_app.dto.ItemResponseDto;
+import com.crs.lost_and_found_app.dto.NearbyItemDto;
+import com.crs.lost_and_found_app.dto.SuggestionDto;
 import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.projection.Projections;
 import com.crs.lost_and_found_app.service.ItemService;
-import jakarta.persistence.EntityNotFoundException;
+import com.crs.lost_and_found_app.service.ItemStreamService;
+import com.crs.lost_and_found_app.service.ItemSuggestService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,90 +30,103 @@ import java.util.stream.Collectors;
 public class ItemController {
 
     private static final Logger logger = LoggerFactory.getLogger(ItemController.class);
+    static final String NDJSON = "application/x-ndjson";
     private final ItemService itemService;
+    private final ItemStreamService itemStreamService;
+    private final ItemSuggestService itemSuggestService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('USER', 'STAFF', 'ADMIN')")
-    public ResponseEntity<?> createItem(@RequestBody ItemRequestDto itemRequestDto) {
+    public ResponseEntity<ItemResponseDto> createItem(@RequestBody ItemRequestDto itemRequestDto,
+                                                      @RequestParam(defaultValue = "false") boolean allowDuplicate) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null) {
             logger.info("User: {} attempting to create item. Authorities: {}", authentication.getName(), authentication.getAuthorities().stream().map(Object::toString).collect(Collectors.joining(", ")));
         } else {
             logger.warn("No authentication found in security context for createItem.");
         }
-        try {
-            ItemResponseDto createdItem = itemService.createItem(itemRequestDto);
-            return new ResponseEntity<>(createdItem, HttpStatus.CREATED);
-        } catch (SecurityException e) {
-            logger.warn("Unauthorized item creation attempt (SecurityException from service): {}", e.getMessage());
-            // If @PreAuthorize fails, this point might not be reached for a 403.
-            // However, if the service layer throws a SecurityException, it could be caught here.
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error creating item: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred while creating the item.");
-        }
+        // A blocked duplicate is answered with 409 and the matches; see ApiExceptionHandler
+        ItemResponseDto createdItem = itemService.createItem(itemRequestDto, allowDuplicate);
+        return new ResponseEntity<>(createdItem, HttpStatus.CREATED);
     }
 
+    // ?fields=id,name,status returns only those fields, selected straight from the database
     @GetMapping("/{id}")
-    public ResponseEntity<?> getItemById(@PathVariable Long id) {
-        try {
-            ItemResponseDto item = itemService.getItemById(id);
-            return ResponseEntity.ok(item);
-        } catch (EntityNotFoundException e) {
-            logger.warn("Get item by ID failed: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error retrieving item with ID {}: {}", id, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred.");
+    public ResponseEntity<?> getItemById(@PathVariable Long id, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.getItemById(id, Projections.ITEM.parse(fields)));
+        }
+        ItemResponseDto item = itemService.getItemByIdCoalesced(id);
+        return ResponseEntity.ok(item);
+    }
+
+    // Multi-get for list views: GET /api/v1/items?ids=3,7,12 in one query instead of one call per row
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getItemsByIds(@RequestParam List<Long> ids, @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.getItemsByIds(ids, Projections.ITEM.parse(fields)));
         }
+        return ResponseEntity.ok(itemService.getItemsByIds(ids));
     }
 
     @GetMapping
-    public ResponseEntity<List<ItemResponseDto>> getAllItems() {
-        List<ItemResponseDto> items = itemService.getAllItems();
+    public ResponseEntity<?> getAllItems(@RequestParam(defaultValue = "false") boolean includeArchived,
+                                         @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.getAllItems(includeArchived, Projections.ITEM.parse(fields)));
+        }
+        List<ItemResponseDto> items = itemService.getAllItems(includeArchived);
         return ResponseEntity.ok(items);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<ItemResponseDto>> getItemsByStatus(@PathVariable ItemStatus status) {
-        List<ItemResponseDto> items = itemService.getItemsByStatus(status);
+    public ResponseEntity<?> getItemsByStatus(@PathVariable ItemStatus status,
+                                              @RequestParam(defaultValue = "false") boolean includeArchived,
+                                              @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.getItemsByStatus(status, includeArchived, Projections.ITEM.parse(fields)));
+        }
+        List<ItemResponseDto> items = itemService.getItemsByStatus(status, includeArchived);
         return ResponseEntity.ok(items);
     }
 
+    // NDJSON, one item per line, written page by page off the servlet thread; for clients that
+    // render as rows arrive or need the whole catalogue without holding it in memory
+    @GetMapping(value = "/stream", produces = ItemController.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamItems(@RequestParam(required = false) ItemStatus status,
+                                                             @RequestParam(defaultValue = "false") boolean includeArchived) {
+        StreamingResponseBody body = out -> itemStreamService.writeItems(status, includeArchived, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    // e.g. /suggest?field=location&prefix=libr for "Library", "Main Library", ... by how often they are used
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(@RequestParam String field,
+                                                       @RequestParam(defaultValue = "") String prefix,
+                                                       @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(itemSuggestService.suggest(field, prefix, limit));
+    }
+
+    // e.g. /nearby?lat=..&lon=..&radius=300&status=FOUND to find found items close to a lost report
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyItemDto>> getItemsNearby(@RequestParam double lat,
+                                                              @RequestParam double lon,
+                                                              @RequestParam(defaultValue = "500") double radius,
+                                                              @RequestParam(required = false) ItemStatus status,
+                                                              @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(itemService.getItemsNearby(lat, lon, radius, status, limit));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'STAFF', 'ADMIN')") // Further refined in service layer
-    public ResponseEntity<?> updateItem(@PathVariable Long id, @RequestBody ItemRequestDto itemRequestDto) {
-        try {
-            ItemResponseDto updatedItem = itemService.updateItem(id, itemRequestDto);
-            return ResponseEntity.ok(updatedItem);
-        } catch (EntityNotFoundException e) {
-            logger.warn("Update item failed: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (SecurityException e) {
-            logger.warn("Unauthorized item update attempt: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error updating item with ID {}: {}", id, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred while updating the item.");
-        }
+    public ResponseEntity<ItemResponseDto> updateItem(@PathVariable Long id, @RequestBody ItemRequestDto itemRequestDto) {
+        return ResponseEntity.ok(itemService.updateItem(id, itemRequestDto));
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')") // Further refined in service layer
-    public ResponseEntity<?> deleteItem(@PathVariable Long id) {
-        try {
-            itemService.deleteItem(id);
-            return ResponseEntity.ok("Item with ID " + id + " deleted successfully.");
-        } catch (EntityNotFoundException e) {
-            logger.warn("Delete item failed: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (SecurityException e) {
-            logger.warn("Unauthorized item deletion attempt: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error deleting item with ID {}: {}", id, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred while deleting the item.");
-        }
+    public ResponseEntity<String> deleteItem(@PathVariable Long id) {
+        itemService.deleteItem(id);
+        return ResponseEntity.ok("Item with ID " + id + " deleted successfully.");
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.ItemPhotoDto;
+import com.crs.lost_and_found_app.service.ItemPhotoService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/items/{itemId}/photos")
+@RequiredArgsConstructor
+public class ItemPhotoController {
+
+    // Tomcat's sendfile request attributes; the connector sends the file itself once the servlet returns
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ItemPhotoService itemPhotoService;
+
+    @Value("${photos.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('USER', 'STAFF', 'ADMIN')") // Further refined in service layer
+    public ResponseEntity<ItemPhotoDto> uploadPhoto(@PathVariable Long itemId, @RequestParam("file") MultipartFile file) throws IOException {
+        ItemPhotoDto photo = itemPhotoService.uploadPhoto(itemId, file);
+        return new ResponseEntity<>(photo, HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ItemPhotoDto>> getPhotos(@PathVariable Long itemId) {
+        return ResponseEntity.ok(itemPhotoService.getPhotos(itemId));
+    }
+
+    @GetMapping("/{photoId}")
+    public void downloadPhoto(@PathVariable Long itemId, @PathVariable Long photoId,
+                              HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serveFile(itemPhotoService.getPhotoFile(itemId, photoId), request, response);
+    }
+
+    @GetMapping("/{photoId}/thumbnail")
+    public void downloadThumbnail(@PathVariable Long itemId, @PathVariable Long photoId,
+                                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serveFile(itemPhotoService.getThumbnailFile(itemId, photoId), request, response);
+    }
+
+    @DeleteMapping("/{photoId}")
+    @PreAuthorize("hasAnyRole('USER', 'STAFF', 'ADMIN')") // Further refined in service layer
+    public ResponseEntity<String> deletePhoto(@PathVariable Long itemId, @PathVariable Long photoId) {
+        itemPhotoService.deletePhoto(itemId, photoId);
+        return ResponseEntity.ok("Photo with ID " + photoId + " deleted successfully.");
+    }
+
+    // Serves the file (or a single requested byte range) with sendfile when the connector supports it,
+    // otherwise with a buffered copy. Stored photos are immutable and addressed by hash, so the hash
+    // doubles as a strong ETag.
+    private void serveFile(ItemPhotoService.PhotoFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + file.contentHash() + "\"";
+        long length = file.sizeBytes();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400, immutable");
+        response.setContentType(file.contentType());
+
+        if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equalsIgnoreCase(request.getMethod())) {
+            return;
+        }
+        if (count >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toFile().getCanonicalPath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count); // Exclusive
+            return;
+        }
+        itemPhotoService.transfer(file, start, count, response.getOutputStream());
+    }
+
+    // Returns {start, end} for a satisfiable single range, an empty array when the header should be
+    // ignored (multiple ranges, other units) and null when the range cannot be satisfied.
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.contains(",")) {
+            return new long[0];
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.ReadModelStatusDto;
+import com.crs.lost_and_found_app.service.ReadModelProjector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/read-model")
+@RequiredArgsConstructor
+public class ReadModelController {
+
+    private final ReadModelProjector readModelProjector;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+    public ResponseEntity<ReadModelStatusDto> getStatus() {
+        return ResponseEntity.ok(readModelProjector.getStatus());
+    }
+
+    // Rebuilds item_view and request_view for the current campus from scratch, in the background
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ReadModelStatusDto> rebuild() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(readModelProjector.requestRebuild());
+    }
+}
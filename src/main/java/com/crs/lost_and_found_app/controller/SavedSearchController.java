@@ -0,0 +1,52 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.PagedResponseDto;
+import com.crs.lost_and_found_app.dto.SavedSearchMatchDto;
+import com.crs.lost_and_found_app.dto.SavedSearchRequestDto;
+import com.crs.lost_and_found_app.dto.SavedSearchResponseDto;
+import com.crs.lost_and_found_app.service.SavedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/saved-searches")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('USER', 'STAFF', 'ADMIN')")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    @PostMapping
+    public ResponseEntity<SavedSearchResponseDto> createSavedSearch(@RequestBody SavedSearchRequestDto requestDto) {
+        SavedSearchResponseDto created = savedSearchService.createSavedSearch(requestDto);
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponseDto>> getMySavedSearches() {
+        return ResponseEntity.ok(savedSearchService.getMySavedSearches());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<String> deleteSavedSearch(@PathVariable Long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.ok("Saved search with ID " + id + " deleted successfully.");
+    }
+
+    @GetMapping("/inbox")
+    public ResponseEntity<PagedResponseDto<SavedSearchMatchDto>> getInbox(@RequestParam(defaultValue = "0") int page,
+                                                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(savedSearchService.getInbox(page, size));
+    }
+
+    @PutMapping("/inbox/{matchId}/seen")
+    public ResponseEntity<Void> markSeen(@PathVariable Long matchId) {
+        savedSearchService.markSeen(matchId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.bulkhead.Bulkhead;
+import com.crs.lost_and_found_app.dto.BulkheadStatsDto;
+import com.crs.lost_and_found_app.dto.CacheStatsDto;
+import com.crs.lost_and_found_app.dto.FacetCountsDto;
+import com.crs.lost_and_found_app.service.FacetCounterService;
+import com.crs.lost_and_found_app.service.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN', 'STAFF')")
+public class StatsController {
+
+    private final FacetCounterService facetCounterService;
+    private final ItemService itemService;
+    private final List<Bulkhead> bulkheads;
+
+    // Served from in-memory counters, never touches the database
+    @GetMapping("/facets")
+    public ResponseEntity<FacetCountsDto> getFacets(@RequestParam(defaultValue = "50") int top) {
+        return ResponseEntity.ok(facetCounterService.getFacetCounts(top));
+    }
+
+    // Hit ratio, evictions and load times of the current campus's item cache
+    @GetMapping("/item-cache")
+    public ResponseEntity<CacheStatsDto> getItemCacheStats() {
+        return ResponseEntity.ok(itemService.getItemCacheStats());
+    }
+
+    // Saturation of the admin/reporting bulkheads: pool use, queue depth, rejections and timeouts
+    @GetMapping("/bulkheads")
+    public ResponseEntity<List<BulkheadStatsDto>> getBulkheads() {
+        return ResponseEntity.ok(bulkheads.stream().map(Bulkhead::stats).toList());
+    }
+}
@@ -0,0 +1,52 @@
+package com.crs.lost_and_found_app.controller;
+
+import com.crs.lost_and_found_app.dto.CampusItemDto;
+import com.crs.lost_and_found_app.dto.CrossCampusDto;
+import com.crs.lost_and_found_app.dto.FacetCountsDto;
+import com.crs.lost_and_found_app.dto.TenantCreateDto;
+import com.crs.lost_and_found_app.dto.TenantDto;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.service.TenantAdminService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/campuses")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')") // Further restricted to the default campus in the service
+public class TenantAdminController {
+
+    private final TenantAdminService tenantAdminService;
+
+    @GetMapping
+    public ResponseEntity<List<TenantDto>> listTenants() {
+        return ResponseEntity.ok(tenantAdminService.listTenants());
+    }
+
+    @PostMapping
+    public ResponseEntity<TenantDto> createTenant(@RequestBody TenantCreateDto tenantCreateDto) {
+        TenantDto tenant = tenantAdminService.createTenant(tenantCreateDto.getTenantId(), tenantCreateDto.getShard());
+        return new ResponseEntity<>(tenant, HttpStatus.CREATED);
+    }
+
+    // Asynchronous: returns 202 with status MOVING; poll GET /api/v1/admin/campuses until ACTIVE on the new shard
+    @PostMapping("/{tenantId}/move")
+    public ResponseEntity<TenantDto> moveTenant(@PathVariable String tenantId, @RequestParam String shard) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(tenantAdminService.moveTenant(tenantId, shard));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<CrossCampusDto<FacetCountsDto>> getFacetCounts(@RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(tenantAdminService.getFacetCountsAcrossCampuses(top));
+    }
+
+    @GetMapping("/items")
+    public ResponseEntity<CrossCampusDto<List<CampusItemDto>>> getItems(@RequestParam ItemStatus status, @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(tenantAdminService.getItemsAcrossCampuses(status, limit));
+    }
+}
@@ -1,18 +1,18 @@
 package com.crs.lost_and_found_app.controller;
 
+import com.crs.lost_and_found_app.bulkhead.Bulkhead;
+import com.crs.lost_and_found_app.dto.UserDeletionStatusDto;
 import com.crs.lost_and_found_app.dto.UserResponseDto;
 import com.crs.lost_and_found_app.dto.UserUpdateRequestDto;
+import com.crs.lost_and_found_app.service.TokenRevocationService;
 import com.crs.lost_and_found_app.service.UserService;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -20,58 +20,42 @@ import java.util.List;
 @PreAuthorize("hasRole('ADMIN')") // Secure all methods in this controller for ADMIN only
 public class UserController {
 
-    private static final Logger logger = LoggerFactory.getLogger(UserController.class);
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
+    private final Bulkhead usersBulkhead;
 
+    // Runs on the users bulkhead so a large export cannot tie up Tomcat threads
     @GetMapping
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.getAllUsers();
-        return ResponseEntity.ok(users);
+    public CompletableFuture<ResponseEntity<?>> getAllUsers() {
+        return usersBulkhead.submit(userService::getAllUsers).<ResponseEntity<?>>thenApply(ResponseEntity::ok);
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<?> getUserById(@PathVariable Long userId) {
-        try {
-            UserResponseDto user = userService.getUserById(userId);
-            return ResponseEntity.ok(user);
-        } catch (EntityNotFoundException e) {
-            logger.warn("Admin attempt to get non-existent user ID {}: {}", userId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (Exception e) {
-            logger.error("Error retrieving user with ID {}: {}", userId, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred.");
-        }
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable Long userId) {
+        return ResponseEntity.ok(userService.getUserById(userId));
     }
 
     @PutMapping("/{userId}/role")
-    public ResponseEntity<?> updateUserRole(@PathVariable Long userId, @RequestBody UserUpdateRequestDto userUpdateRequestDto) {
-        try {
-            UserResponseDto updatedUser = userService.updateUserRole(userId, userUpdateRequestDto);
-            return ResponseEntity.ok(updatedUser);
-        } catch (EntityNotFoundException e) {
-            logger.warn("Admin attempt to update role for non-existent user ID {}: {}", userId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (Exception e) {
-            // Catch more specific exceptions if needed, e.g., for business rule violations
-            logger.error("Error updating role for user ID {}: {}", userId, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred while updating user role.");
-        }
+    public ResponseEntity<UserResponseDto> updateUserRole(@PathVariable Long userId, @RequestBody UserUpdateRequestDto userUpdateRequestDto) {
+        return ResponseEntity.ok(userService.updateUserRole(userId, userUpdateRequestDto));
     }
 
+    // Soft delete; related items and requests are reassigned in the background.
+    // Returns 202 with the cleanup progress, which can be polled at /{userId}/deletion.
     @DeleteMapping("/{userId}")
-    public ResponseEntity<?> deleteUser(@PathVariable Long userId) {
-        // Ensure the admin is not deleting themselves, or handle consequences carefully.
-        // This is a basic implementation.
-        try {
-            userService.deleteUser(userId);
-            return ResponseEntity.ok("User with ID " + userId + " deleted successfully.");
-        } catch (EntityNotFoundException e) {
-            logger.warn("Admin attempt to delete non-existent user ID {}: {}", userId, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        } catch (Exception e) {
-            // Catch more specific exceptions, e.g., if deletion is not allowed due to foreign key constraints not handled
-            logger.error("Error deleting user with ID {}: {}", userId, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred while deleting user.");
-        }
+    public ResponseEntity<UserDeletionStatusDto> deleteUser(@PathVariable Long userId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(userService.deleteUser(userId));
     }
-} 
\ No newline at end of file
+
+    // Signs the user out of every session by rejecting all tokens issued until now.
+    @PostMapping("/{userId}/revoke-tokens")
+    public ResponseEntity<Void> revokeTokens(@PathVariable Long userId) {
+        tokenRevocationService.revokeAllForUser(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{userId}/deletion")
+    public ResponseEntity<UserDeletionStatusDto> getDeletionStatus(@PathVariable Long userId) {
+        return ResponseEntity.ok(userService.getDeletionStatus(userId));
+    }
+}
@@ -0,0 +1,244 @@
+package com.crs.lost_and_found_app.datagen;
+
+import com.crs.lost_and_found_app.entity.ItemDescription;
+import com.crs.lost_and_found_app.index.GeoHash;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills one campus's users, items, item_descriptions and requests tables with a
+ * {@link DatasetGenerator} dataset, for load tests and benchmarks. Off unless
+ * {@code datagen.enabled=true}; see scripts/generate-dataset.sh.
+ * <p>
+ * Runs before the application reports ready, so the startup work that reads items (read model
+ * rebuild, facet counters, duplicate and suggestion indexes) sees the generated rows. Rows are
+ * written with explicit IDs after the highest existing ones, in chunks of {@code datagen.batch-size}
+ * on {@code datagen.threads} threads, one transaction and one JDBC batch per table per chunk.
+ * Users go in first, then items with their descriptions and approved requests, then the other
+ * claims, so foreign keys always point at committed rows.
+ */
+@Component
+@ConditionalOnProperty(name = "datagen.enabled", havingValue = "true")
+public class DataGenerationRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGenerationRunner.class);
+
+    private static final String INSERT_USER = "insert into users (id, username, password, email, role, created_at, updated_at) " +
+            "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ITEM = "insert into items (id, name, description_snippet, category, location_found, " +
+            "date_reported, latitude, longitude, geohash, status, reported_by_user_id, held_by_user_id, claimed_by_user_id, " +
+            "claimed_at, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_DESCRIPTION = "insert into item_descriptions (item_id, text) values (?, ?)";
+    private static final String INSERT_REQUEST = "insert into requests (id, item_id, requester_user_id, status, message, " +
+            "request_date, resolution_date, admin_notes, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TenantRegistry tenantRegistry;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${datagen.tenant:default}")
+    private String tenant;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.users:50000}")
+    private long users;
+
+    @Value("${datagen.items:1000000}")
+    private long items;
+
+    @Value("${datagen.claims-per-item:0.8}")
+    private double claimsPerItem;
+
+    @Value("${datagen.start-date:2021-01-01}")
+    private String startDate;
+
+    @Value("${datagen.end-date:2026-01-01}")
+    private String endDate;
+
+    @Value("${datagen.item-popularity-exponent:0.6}")
+    private double itemPopularityExponent;
+
+    @Value("${datagen.user-activity-exponent:0.8}")
+    private double userActivityExponent;
+
+    @Value("${datagen.center-latitude:6.9022}")
+    private double centerLatitude;
+
+    @Value("${datagen.center-longitude:79.8607}")
+    private double centerLongitude;
+
+    @Value("${datagen.password:password}")
+    private String password;
+
+    @Value("${datagen.threads:8}")
+    private int threads;
+
+    @Value("${datagen.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${datagen.exit-when-done:false}")
+    private boolean exitWhenDone;
+
+    public DataGenerationRunner(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                PasswordEncoder passwordEncoder,
+                                TenantRegistry tenantRegistry,
+                                ConfigurableApplicationContext context) {
+        this.jdbc = new JdbcTemplate(dataSource); // Routes to the current campus's schema
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.tenantRegistry = tenantRegistry;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!tenantRegistry.exists(tenant)) {
+            throw new IllegalArgumentException("Unknown campus: " + tenant);
+        }
+        TenantContext.runAs(tenant, this::generate);
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private void generate() {
+        warnIfBatchesAreNotRewritten();
+        DatasetSpec spec = new DatasetSpec(seed, users, items, Math.round(items * claimsPerItem),
+                LocalDate.parse(startDate), LocalDate.parse(endDate),
+                itemPopularityExponent, userActivityExponent, centerLatitude, centerLongitude);
+        long userOffset = maxId("users");
+        long itemOffset = Math.max(maxId("items"), maxId("items_archive"));
+        long requestOffset = Math.max(maxId("requests"), maxId("requests_archive"));
+        DatasetGenerator generator = new DatasetGenerator(spec, userOffset, itemOffset, requestOffset);
+        String passwordHash = passwordEncoder.encode(password); // Same for every generated user; BCrypt per row would dominate
+        logger.info("Generating campus {} (seed {}): {} users, {} items, {} extra claims, IDs after {}/{}/{}.", tenant, seed,
+                spec.users(), spec.items(), spec.claimRequests(), userOffset, itemOffset, requestOffset);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("datagen-"));
+        try {
+            inChunks(executor, "users", generator.userCount(), (from, to) -> insertUsers(generator, passwordHash, from, to));
+            inChunks(executor, "items", generator.itemCount(), (from, to) -> insertItems(generator, from, to));
+            inChunks(executor, "claims", generator.claimRequestCount(), (from, to) -> insertClaims(generator, from, to));
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Campus {} generated in {} s.", tenant, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    private interface Chunk {
+        long insert(long from, long to);
+    }
+
+    // Runs chunk [from, to) of 0..count on the executor, one transaction each, and waits for all of them
+    private void inChunks(ExecutorService executor, String table, long count, Chunk chunk) {
+        long start = System.nanoTime();
+        AtomicLong done = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+        long logEvery = Math.max(1, count / 10);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long from = 0; from < count; from += batchSize) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(count, from + batchSize);
+            futures.add(CompletableFuture.runAsync(TenantContext.wrap(() -> {
+                rows.addAndGet(transactionTemplate.execute(status -> chunk.insert(chunkFrom, chunkTo)));
+                long before = done.getAndAdd(chunkTo - chunkFrom);
+                if ((before + chunkTo - chunkFrom) / logEvery != before / logEvery) {
+                    logger.info("Generated {}/{} {}.", before + chunkTo - chunkFrom, count, table);
+                }
+            }), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+        logger.info("Inserted {} rows for {} in {} s ({} rows/s).", rows.get(), table, String.format("%.1f", seconds), Math.round(rows.get() / seconds));
+    }
+
+    private long insertUsers(DatasetGenerator generator, String passwordHash, long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from));
+        for (long i = from; i < to; i++) {
+            DatasetGenerator.UserRow user = generator.user(i);
+            rows.add(new Object[] {user.id(), user.username(), passwordHash, user.email(), user.role().name(),
+                    user.createdAt(), user.createdAt()});
+        }
+        jdbc.batchUpdate(INSERT_USER, rows);
+        return rows.size();
+    }
+
+    private long insertItems(DatasetGenerator generator, long from, long to) {
+        List<Object[]> itemRows = new ArrayList<>((int) (to - from));
+        List<Object[]> descriptionRows = new ArrayList<>((int) (to - from));
+        List<Object[]> requestRows = new ArrayList<>();
+        for (long i = from; i < to; i++) {
+            DatasetGenerator.ItemRow item = generator.item(i);
+            String geohash = item.latitude() == null ? null : GeoHash.encode(item.latitude(), item.longitude(), GeoHash.MAX_PRECISION);
+            itemRows.add(new Object[] {item.id(), item.name(), ItemDescription.snippetOf(item.description()), item.category(),
+                    item.location(), item.dateReported(), item.latitude(), item.longitude(), geohash, item.status().name(),
+                    item.reportedById(), item.heldById(), item.claimedById(), item.claimedAt(), item.createdAt(), item.updatedAt()});
+            descriptionRows.add(new Object[] {item.id(), item.description()});
+            DatasetGenerator.RequestRow approved = generator.approvedRequest(i, item);
+            if (approved != null) {
+                requestRows.add(requestArgs(approved));
+            }
+        }
+        jdbc.batchUpdate(INSERT_ITEM, itemRows);
+        jdbc.batchUpdate(INSERT_DESCRIPTION, descriptionRows);
+        jdbc.batchUpdate(INSERT_REQUEST, requestRows);
+        return itemRows.size() + descriptionRows.size() + requestRows.size();
+    }
+
+    private long insertClaims(DatasetGenerator generator, long from, long to) {
+        List<Object[]> rows = new ArrayList<>((int) (to - from));
+        for (long i = from; i < to; i++) {
+            rows.add(requestArgs(generator.claimRequest(i)));
+        }
+        jdbc.batchUpdate(INSERT_REQUEST, rows);
+        return rows.size();
+    }
+
+    private static Object[] requestArgs(DatasetGenerator.RequestRow request) {
+        return new Object[] {request.id(), request.itemId(), request.requesterId(), request.status().name(), request.message(),
+                request.requestDate(), request.resolutionDate(), request.adminNotes(), request.createdAt(), request.updatedAt()};
+    }
+
+    private long maxId(String table) {
+        Long max = jdbc.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    // Without it Connector/J sends a batch as one statement per row, several times slower
+    private void warnIfBatchesAreNotRewritten() {
+        String url = jdbc.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL());
+        if (url != null && url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements=true")) {
+            logger.warn("Add rewriteBatchedStatements=true to the JDBC URL for much faster generation.");
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.crs.lost_and_found_app.datagen;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import com.crs.lost_and_found_app.enums.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Rows of a synthetic campus: users, items and claim requests, described by a {@link DatasetSpec}.
+ * <p>
+ * Every row is a pure function of the seed and its index: each one draws from its own
+ * {@link SplittableRandom} seeded with (seed, table, index). Rows can therefore be produced in any
+ * order, by any number of threads, and still come out identical, and a request can re-derive the
+ * item it points at instead of looking it up.
+ * <p>
+ * Distributions:
+ * <ul>
+ *   <li>Users sign up steadily from a year before {@code startDate}; about 3% are staff, the first is an admin.</li>
+ *   <li>Items are reported evenly over the date range, in ID order. Who reports them is Zipfian
+ *       over the users who existed by then, so a few regulars report many items.</li>
+ *   <li>Categories and locations follow weighted word lists ({@link Vocabulary}); most items have
+ *       coordinates scattered around their location.</li>
+ *   <li>Older items are more likely to be CLAIMED. A claimed item has one APPROVED request.</li>
+ *   <li>Extra claim requests pick their item from a Zipf distribution over a shuffled item order,
+ *       so a few items draw many claims and most draw none. Claims on a claimed item were
+ *       rejected when it was returned; claims on open items are rejected, or still pending near
+ *       {@code endDate}.</li>
+ * </ul>
+ */
+public final class DatasetGenerator {
+
+    public record UserRow(long id, String username, String email, UserRole role, LocalDateTime createdAt) {
+    }
+
+    public record ItemRow(long id, String name, String description, String category, String location,
+                          LocalDate dateReported, Double latitude, Double longitude, ItemStatus status,
+                          long reportedById, Long heldById, Long claimedById, LocalDateTime claimedAt,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    public record RequestRow(long id, long itemId, long requesterId, RequestStatus status, String message,
+                             LocalDateTime requestDate, LocalDateTime resolutionDate, String adminNotes,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private static final long USER_STREAM = 1;
+    private static final long ITEM_STREAM = 2;
+    private static final long APPROVED_STREAM = 3;
+    private static final long CLAIM_STREAM = 4;
+    private static final double STAFF_SHARE = 0.03;
+    private static final long PENDING_WINDOW_DAYS = 14; // Claims this close to endDate are still pending
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH);
+
+    private final DatasetSpec spec;
+    private final long userIdOffset;
+    private final long itemIdOffset;
+    private final long requestIdOffset;
+    private final LocalDateTime userStart;
+    private final long userSpanSeconds;
+    private final long spanDays;
+    private final LocalDateTime end;
+    private final ZipfSampler itemPopularity;
+    private final long[] staffIndexes; // Ascending
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this(spec, 0, 0, 0);
+    }
+
+    // IDs start after the offsets, so a dataset can be added to a schema that already has rows
+    public DatasetGenerator(DatasetSpec spec, long userIdOffset, long itemIdOffset, long requestIdOffset) {
+        this.spec = spec;
+        this.userIdOffset = userIdOffset;
+        this.itemIdOffset = itemIdOffset;
+        this.requestIdOffset = requestIdOffset;
+        this.userStart = spec.startDate().minusYears(1).atStartOfDay();
+        this.end = spec.endDate().atStartOfDay().minusSeconds(1);
+        this.userSpanSeconds = ChronoUnit.SECONDS.between(userStart, end);
+        this.spanDays = ChronoUnit.DAYS.between(spec.startDate(), spec.endDate());
+        this.itemPopularity = new ZipfSampler(spec.items(), spec.itemPopularityExponent());
+        long[] staff = new long[16];
+        int count = 0;
+        for (long i = 1; i < spec.users(); i++) {
+            if (isStaff(random(USER_STREAM, i))) {
+                if (count == staff.length) {
+                    staff = Arrays.copyOf(staff, count * 2);
+                }
+                staff[count++] = i;
+            }
+        }
+        this.staffIndexes = Arrays.copyOf(staff, count);
+    }
+
+    public long userCount() {
+        return spec.users();
+    }
+
+    public long itemCount() {
+        return spec.items();
+    }
+
+    public long claimRequestCount() {
+        return spec.claimRequests();
+    }
+
+    public UserRow user(long index) {
+        SplittableRandom random = random(USER_STREAM, index);
+        UserRole role = index == 0 ? UserRole.ADMIN : isStaff(random) ? UserRole.STAFF : UserRole.USER;
+        String username = "gen" + spec.seed() + "_" + (index + 1);
+        return new UserRow(userIdOffset + index + 1, username, username + "@example.edu", role, userCreatedAt(index, random));
+    }
+
+    public ItemRow item(long index) {
+        SplittableRandom random = random(ITEM_STREAM, index);
+        long dayOffset = Math.min(spanDays - 1, (long) (spanDays * (index + random.nextDouble()) / spec.items()));
+        LocalDate dateReported = spec.startDate().plusDays(dayOffset);
+        LocalDateTime createdAt = min(dateReported.atTime(8 + random.nextInt(11), random.nextInt(60), random.nextInt(60))
+                .plusDays(random.nextDouble() < 0.7 ? 0 : 1 + random.nextInt(3)), end);
+
+        Vocabulary.Category category = Vocabulary.CATEGORIES[Vocabulary.pickWeighted(Vocabulary.CATEGORY_WEIGHTS, random)];
+        String noun = Vocabulary.pick(category.nouns(), random);
+        String brand = category.brands().length > 0 && random.nextDouble() < 0.6 ? Vocabulary.pick(category.brands(), random) : null;
+        String color = random.nextDouble() < 0.7 ? Vocabulary.pick(Vocabulary.COLORS, random) : null;
+        String name = capitalize(join(color, brand, noun));
+        int locationIndex = Vocabulary.pickWeighted(Vocabulary.LOCATION_WEIGHTS, random);
+        String location = Vocabulary.LOCATIONS[locationIndex];
+
+        Double latitude = null;
+        Double longitude = null;
+        if (random.nextDouble() < 0.75) {
+            // Locations sit on a spiral around the campus centre, items within ~30 m of theirs
+            double angle = locationIndex * 2.399963;
+            double radius = 0.0008 + 0.005 * Math.sqrt((double) locationIndex / Vocabulary.LOCATIONS.length);
+            latitude = round6(spec.centerLatitude() + radius * Math.sin(angle) + (random.nextDouble() - 0.5) * 0.0006);
+            longitude = round6(spec.centerLongitude() + radius * Math.cos(angle) + (random.nextDouble() - 0.5) * 0.0006);
+        }
+
+        double age = 1 - (double) dayOffset / spanDays; // 1 for the oldest items
+        boolean reportedLost = random.nextDouble() < 0.4;
+        boolean claimed = random.nextDouble() < (reportedLost ? 0.10 + 0.30 * age : 0.25 + 0.45 * age);
+        ItemStatus status = claimed ? ItemStatus.CLAIMED : reportedLost ? ItemStatus.LOST : ItemStatus.FOUND;
+
+        long existing = usersExistingAt(createdAt);
+        long reporter = scatter(new ZipfSampler(existing, spec.userActivityExponent()).sample(random) - 1, existing);
+        Long heldBy = null;
+        if (!reportedLost && random.nextDouble() < 0.8) {
+            heldBy = staffBefore(existing, random);
+        }
+        Long claimedBy = null;
+        LocalDateTime claimedAt = null;
+        if (claimed) {
+            long claimant = random.nextLong(existing);
+            claimedBy = userId(claimant == reporter && existing > 1 ? (claimant + 1) % existing : claimant);
+            long hours = 1 + (long) (-Math.log(1 - random.nextDouble()) * 6 * 24); // Mean six days
+            claimedAt = min(createdAt.plusHours(hours), end);
+        }
+
+        String description = description(random, color, brand, noun, reportedLost, location, dateReported);
+        return new ItemRow(itemIdOffset + index + 1, name, description, category.name(), location, dateReported,
+                latitude, longitude, status, userId(reporter), heldBy, claimedBy, claimedAt, createdAt,
+                claimedAt != null ? claimedAt : createdAt);
+    }
+
+    // The request that was approved when the item was claimed; null unless the item is CLAIMED
+    public RequestRow approvedRequest(long itemIndex) {
+        return approvedRequest(itemIndex, item(itemIndex));
+    }
+
+    public RequestRow approvedRequest(long itemIndex, ItemRow item) {
+        if (item.status() != ItemStatus.CLAIMED) {
+            return null;
+        }
+        SplittableRandom random = random(APPROVED_STREAM, itemIndex);
+        LocalDateTime requestDate = between(item.createdAt(), item.claimedAt(), random);
+        return new RequestRow(requestIdOffset + itemIndex + 1, item.id(), item.claimedById(), RequestStatus.APPROVED,
+                claimMessage(random, item), requestDate, item.claimedAt(), "Ownership verified.", requestDate, item.claimedAt());
+    }
+
+    public RequestRow claimRequest(long index) {
+        SplittableRandom random = random(CLAIM_STREAM, index);
+        long itemIndex = scatter(itemPopularity.sample(random) - 1, spec.items());
+        ItemRow item = item(itemIndex);
+        long existing = usersExistingAt(item.createdAt());
+        long requesterId = userId(random.nextLong(existing));
+        if (item.claimedById() != null && requesterId == item.claimedById()) {
+            requesterId = userId((requesterId - userIdOffset) % existing); // The next user, wrapping around
+        }
+        long id = requestIdOffset + spec.items() + index + 1;
+        String message = claimMessage(random, item);
+        if (item.status() == ItemStatus.CLAIMED) {
+            // Auto-rejected when another claim was approved
+            LocalDateTime requestDate = between(item.createdAt(), item.claimedAt(), random);
+            return new RequestRow(id, item.id(), requesterId, RequestStatus.REJECTED, message, requestDate, item.claimedAt(),
+                    "Item was already returned to its owner.", requestDate, item.claimedAt());
+        }
+        long hours = (long) (-Math.log(1 - random.nextDouble()) * 5 * 24);
+        LocalDateTime requestDate = min(item.createdAt().plusHours(hours), end);
+        if (!requestDate.isBefore(end.minusDays(PENDING_WINDOW_DAYS))) {
+            return new RequestRow(id, item.id(), requesterId, RequestStatus.PENDING, message, requestDate, null, null, requestDate, requestDate);
+        }
+        LocalDateTime resolved = min(requestDate.plusHours(1 + random.nextInt(7 * 24)), end);
+        return new RequestRow(id, item.id(), requesterId, RequestStatus.REJECTED, message, requestDate, resolved,
+                Vocabulary.pick(Vocabulary.REJECTION_NOTES, random), requestDate, resolved);
+    }
+
+    private LocalDateTime userCreatedAt(long index, SplittableRandom random) {
+        long seconds = (long) (userSpanSeconds * (index + random.nextDouble()) / spec.users());
+        return userStart.plusSeconds(seconds);
+    }
+
+    // Users sign up in index order, so the ones existing at a time are a prefix
+    private long usersExistingAt(LocalDateTime time) {
+        long seconds = ChronoUnit.SECONDS.between(userStart, time);
+        return Math.max(1, Math.min(spec.users(), (long) ((double) seconds / userSpanSeconds * spec.users())));
+    }
+
+    private Long staffBefore(long existing, SplittableRandom random) {
+        int count = Arrays.binarySearch(staffIndexes, existing);
+        count = count >= 0 ? count : -count - 1;
+        return count == 0 ? null : userId(staffIndexes[random.nextInt(count)]);
+    }
+
+    private long userId(long index) {
+        return userIdOffset + index + 1;
+    }
+
+    private String description(SplittableRandom random, String color, String brand, String noun, boolean lost,
+                               String location, LocalDate date) {
+        StringBuilder text = new StringBuilder(capitalize(join(color, brand, noun)))
+                .append(lost ? " lost " : " found ")
+                .append(random.nextBoolean() ? "at " : "near ")
+                .append(location)
+                .append(" on ")
+                .append(date.format(DAY))
+                .append('.');
+        int details = random.nextInt(3);
+        for (int i = 0; i < details; i++) {
+            text.append(' ').append(Vocabulary.pick(Vocabulary.DETAILS, random));
+        }
+        return text.toString();
+    }
+
+    private static String claimMessage(SplittableRandom random, ItemRow item) {
+        return String.format(Vocabulary.pick(Vocabulary.CLAIM_MESSAGES, random),
+                random.nextBoolean() ? item.dateReported().format(DAY) : item.location());
+    }
+
+    private static boolean isStaff(SplittableRandom random) {
+        return random.nextDouble() < STAFF_SHARE; // Must stay the first draw of a user's stream
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        long h = spec.seed() * 0x9E3779B97F4A7C15L + stream * 0xC2B2AE3D27D4EB4FL + index;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return new SplittableRandom(h ^ (h >>> 33));
+    }
+
+    // A bijection of 0..n-1 (2^31 - 1 is prime and larger than n), so Zipf ranks land on unrelated IDs
+    static long scatter(long rank, long n) {
+        return rank * 2_147_483_647L % n;
+    }
+
+    private static LocalDateTime between(LocalDateTime from, LocalDateTime to, SplittableRandom random) {
+        long seconds = ChronoUnit.SECONDS.between(from, to);
+        return seconds <= 0 ? from : from.plusSeconds(random.nextLong(seconds));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static double round6(double value) {
+        return Math.round(value * 1e6) / 1e6;
+    }
+
+    private static String join(String... words) {
+        StringBuilder joined = new StringBuilder();
+        for (String word : words) {
+            if (word != null) {
+                joined.append(joined.isEmpty() ? "" : " ").append(word);
+            }
+        }
+        return joined.toString();
+    }
+
+    private static String capitalize(String text) {
+        return text.isEmpty() ? text : Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.crs.lost_and_found_app.datagen;
+
+import java.time.LocalDate;
+
+// Shape of a generated dataset. The same spec (and the same ID offsets) always produces the same rows.
+public record DatasetSpec(long seed,
+                          long users,
+                          long items,
+                          long claimRequests, // On top of the approved request of every claimed item
+                          LocalDate startDate,
+                          LocalDate endDate,
+                          double itemPopularityExponent, // Zipf exponent of claims per item
+                          double userActivityExponent, // Zipf exponent of reports per user
+                          double centerLatitude,
+                          double centerLongitude) {
+
+    static final long MAX_ROWS = Integer.MAX_VALUE - 1; // Keeps DatasetGenerator.scatter overflow-free
+
+    public DatasetSpec {
+        if (users < 2 || users > MAX_ROWS || items < 1 || items > MAX_ROWS || claimRequests < 0) {
+            throw new IllegalArgumentException("users must be 2.." + MAX_ROWS + ", items 1.." + MAX_ROWS + " and claim requests not negative");
+        }
+        if (!startDate.isBefore(endDate)) {
+            throw new IllegalArgumentException("startDate must be before endDate");
+        }
+    }
+}
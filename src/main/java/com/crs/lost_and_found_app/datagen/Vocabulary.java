@@ -0,0 +1,113 @@
+package com.crs.lost_and_found_app.datagen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Word lists for generated items and requests. Weights are rough shares of a campus lost and
+// found desk's reports: phones, keys, cards and bottles are common, jewellery and laptops rare.
+final class Vocabulary {
+
+    record Category(String name, double weight, String[] nouns, String[] brands) {
+    }
+
+    static final Category[] CATEGORIES = {
+            new Category("Mobile Phones", 10, new String[] {"phone", "smartphone", "phone with case"}, new String[] {"Samsung", "Apple", "Xiaomi", "Huawei", "Oppo", "Nokia"}),
+            new Category("Keys", 12, new String[] {"key", "bunch of keys", "car key", "room key", "locker key"}, new String[] {}),
+            new Category("Wallets & Purses", 9, new String[] {"wallet", "purse", "card holder", "coin pouch"}, new String[] {"Levi's", "Tommy Hilfiger", "Guess"}),
+            new Category("ID Cards", 11, new String[] {"student ID card", "staff ID card", "library card", "national ID card", "driving licence"}, new String[] {}),
+            new Category("Water Bottles", 9, new String[] {"water bottle", "flask", "tumbler"}, new String[] {"Milton", "Tupperware", "Hydro Flask", "Cello"}),
+            new Category("Umbrellas", 7, new String[] {"umbrella", "folding umbrella"}, new String[] {}),
+            new Category("Bags", 6, new String[] {"backpack", "laptop bag", "tote bag", "pencil case", "lunch box"}, new String[] {"Nike", "Adidas", "JanSport", "Samsonite"}),
+            new Category("Clothing", 6, new String[] {"jacket", "hoodie", "cap", "scarf", "sweater", "raincoat"}, new String[] {"Nike", "Adidas", "Puma", "Uniqlo"}),
+            new Category("Books & Notes", 6, new String[] {"textbook", "notebook", "lab record book", "file of notes", "novel"}, new String[] {}),
+            new Category("Headphones", 5, new String[] {"earbuds", "headphones", "earbud case"}, new String[] {"Apple", "Sony", "JBL", "Samsung", "Boat"}),
+            new Category("Chargers & Cables", 5, new String[] {"phone charger", "laptop charger", "USB cable", "power bank"}, new String[] {"Anker", "Samsung", "Apple", "Baseus"}),
+            new Category("Eyewear", 4, new String[] {"spectacles", "sunglasses", "glasses case"}, new String[] {"Ray-Ban", "Oakley"}),
+            new Category("Electronics", 3, new String[] {"USB drive", "smartwatch", "tablet", "mouse", "scientific calculator"}, new String[] {"Casio", "SanDisk", "Logitech", "Apple", "Samsung"}),
+            new Category("Stationery", 3, new String[] {"pen", "geometry box", "drawing board", "stapler"}, new String[] {"Parker", "Faber-Castell", "Staedtler"}),
+            new Category("Sports Equipment", 2, new String[] {"cricket bat", "football", "badminton racket", "swimming goggles", "gym gloves"}, new String[] {"Yonex", "Nike", "Kookaburra", "Speedo"}),
+            new Category("Jewellery", 1.5, new String[] {"ring", "necklace", "bracelet", "earring", "wristwatch"}, new String[] {}),
+            new Category("Laptops", 1, new String[] {"laptop", "notebook computer"}, new String[] {"Dell", "HP", "Lenovo", "Apple", "Asus", "Acer"}),
+            new Category("Documents", 1.5, new String[] {"passport", "bank book", "envelope of certificates", "assignment"}, new String[] {}),
+            new Category("Other", 2, new String[] {"toy", "medicine box", "helmet", "shopping bag", "musical instrument"}, new String[] {}),
+    };
+
+    static final String[] COLORS = {"black", "white", "blue", "red", "grey", "silver", "green", "pink", "brown", "navy", "yellow", "purple", "gold"};
+
+    // Hot spots first; a location's share falls off with its position (see LOCATION_WEIGHTS)
+    static final String[] LOCATIONS = {
+            "Main Library", "Student Centre", "Main Canteen", "Lecture Hall A", "Computer Lab 1",
+            "Gymnasium", "Bus Stop", "Car Park", "Science Faculty", "Engineering Faculty",
+            "Lecture Hall B", "Library - 2nd Floor", "Auditorium", "Arts Faculty", "Cafeteria",
+            "Hostel A", "Hostel B", "Swimming Pool", "Playground", "Admin Building",
+            "Medical Centre", "Computer Lab 2", "Chemistry Lab", "Physics Lab", "Main Gate",
+            "Management Faculty", "Lecture Hall C", "Reading Room", "Bookshop", "Sports Complex",
+            "Staff Room", "Examination Hall", "Hostel C", "Prayer Room", "Open Air Theatre",
+            "Drawing Office", "Language Lab", "Workshop", "Botanical Garden", "Security Office",
+    };
+
+    static final double[] CATEGORY_WEIGHTS = Arrays.stream(CATEGORIES).mapToDouble(Category::weight).toArray();
+    static final double[] LOCATION_WEIGHTS = new double[LOCATIONS.length];
+
+    static {
+        for (int i = 0; i < LOCATIONS.length; i++) {
+            LOCATION_WEIGHTS[i] = 1 / Math.pow(i + 1, 0.8);
+        }
+    }
+
+    static final String[] DETAILS = {
+            "Has a name sticker on the back.",
+            "Slightly scratched.",
+            "Cracked screen protector.",
+            "Initials written inside.",
+            "Found with a keychain attached.",
+            "Looks new.",
+            "Worn and faded.",
+            "Has a small dent on one side.",
+            "Contains some cash and cards.",
+            "Battery was flat when found.",
+            "Left on a chair after a lecture.",
+            "Handed in by a security officer.",
+            "Wrapped in a plastic cover.",
+            "Has a cartoon sticker on it.",
+    };
+
+    static final String[] CLAIM_MESSAGES = {
+            "This is mine, I lost it on %s.",
+            "I think this belongs to me. I can describe the contents.",
+            "I lost a similar one near %s, can I come and check?",
+            "My friend says they saw this at the desk. It is mine.",
+            "I can show a photo of me with it.",
+            "Please hold this for me, I will come with my student ID.",
+    };
+
+    static final String[] REJECTION_NOTES = {
+            "Description did not match the item.",
+            "Could not prove ownership.",
+            "Item was already returned to its owner.",
+            "Claimant did not come to collect it.",
+    };
+
+    private Vocabulary() {
+    }
+
+    static <T> T pick(T[] values, RandomGenerator random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // Index drawn in proportion to weights
+    static int pickWeighted(double[] weights, RandomGenerator random) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveStatusDto {
+    private boolean running;
+    private LocalDateTime lastRunStartedAt;
+    private LocalDateTime lastRunFinishedAt;
+    private long lastRunItemsArchived;
+    private long lastRunRequestsArchived;
+    private long totalItemsArchived; // Since this node started
+    private long totalRequestsArchived;
+    private String lastError;
+}
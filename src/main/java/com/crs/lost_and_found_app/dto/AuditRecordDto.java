@@ -0,0 +1,25 @@
+package com.crs.lost_and_found_app.dto;
+
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRecordDto {
+    private long seq;
+    private LocalDateTime timestamp;
+    private AuditEntityType entityType;
+    private long entityId;
+    private String action;
+    private String fromValue;
+    private String toValue;
+    private String actor;
+    private String hash;
+}
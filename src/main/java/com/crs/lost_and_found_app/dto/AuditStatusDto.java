@@ -0,0 +1,29 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditStatusDto {
+    private int segments;
+    private long bytes;
+    private long records;
+    private long firstSeq; // Older records were removed by retention
+    private long headSeq;
+    private String headHash; // Keep a copy outside this node to detect rewrites
+    private int queued;
+    // Counters since startup
+    private long appended;
+    private long rejected; // Queue was full
+    private long batches;
+    private long fsyncs;
+    private String fsyncPolicy;
+    private LocalDateTime lastFsyncAt;
+}
@@ -0,0 +1,19 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditVerifyDto {
+    private boolean valid;
+    private long recordsChecked;
+    private long brokenAtSeq; // -1 when valid
+    private String problem;
+    private long headSeq; // Last record that checked out
+    private String headHash;
+}
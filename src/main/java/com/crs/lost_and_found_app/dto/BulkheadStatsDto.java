@@ -0,0 +1,25 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkheadStatsDto {
+    private String name;
+    private int threads;
+    private int active;
+    private int queued;
+    private int queueCapacity;
+    private long timeoutMs;
+    // Counters since startup
+    private long accepted;
+    private long rejected; // Pool and queue were full
+    private long timedOut;
+    private long failed;
+    private long succeeded;
+}
@@ -0,0 +1,27 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private long entries;
+    private long maxEntries;
+    private long weight; // Estimated bytes
+    private long maxWeight;
+    // Counters since startup; an expired entry counts as a miss
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long loads;
+    private long loadFailures;
+    private double averageLoadMillis;
+    private long refreshes; // Background reloads of entries close to expiry
+    private long evictions;
+    private long evictedWeight;
+}
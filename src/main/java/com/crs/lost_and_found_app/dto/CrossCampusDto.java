@@ -0,0 +1,19 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// Result of a query fanned out to every campus: the merged view, per-campus results, and campuses that failed.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CrossCampusDto<T> {
+    private T merged;
+    private Map<String, T> campuses;
+    private Map<String, String> errors;
+}
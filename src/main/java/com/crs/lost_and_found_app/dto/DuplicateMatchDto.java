@@ -0,0 +1,26 @@
+package com.crs.lost_and_found_app.dto;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateMatchDto {
+    private Long itemId;
+    private String name;
+    private String category;
+    private String locationFound;
+    private LocalDate dateReported;
+    private ItemStatus status;
+    private Long reportedById;
+    private String reportedByUsername;
+    private int distance; // Differing fingerprint bits out of 64
+    private double similarity; // 1 - distance / 64
+}
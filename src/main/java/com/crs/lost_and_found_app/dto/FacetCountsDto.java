@@ -0,0 +1,22 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountsDto {
+    private Map<String, Long> itemStatus;
+    private Map<String, Long> itemCategory;
+    private Map<String, Long> itemLocation;
+    private Map<String, Long> requestStatus;
+    private LocalDateTime lastReconciledAt;
+    private long lastReconciliationDrift; // Sum of absolute corrections applied by the last reconciliation
+}
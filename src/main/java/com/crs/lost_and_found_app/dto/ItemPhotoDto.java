@@ -0,0 +1,25 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemPhotoDto {
+    private Long id;
+    private Long itemId;
+    private String contentHash;
+    private String contentType;
+    private long sizeBytes;
+    private String originalFilename;
+    private boolean thumbnailReady;
+    private String url;
+    private String thumbnailUrl;
+    private LocalDateTime createdAt;
+}
@@ -18,5 +18,7 @@ public class ItemRequestDto {
     private String category;
     private String locationFound; // Or locationLost, depending on the context
     private LocalDate dateReported;
+    private Double latitude;
+    private Double longitude;
     private ItemStatus status; // Initial status when reporting
 } 
\ No newline at end of file
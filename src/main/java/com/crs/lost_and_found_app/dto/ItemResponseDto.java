@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -16,10 +17,13 @@ import java.time.LocalDateTime;
 public class ItemResponseDto {
     private Long id;
     private String name;
-    private String description;
+    private String description; // Only on single-item and multi-get reads
+    private String descriptionSnippet; // First 160 characters, on every read
     private String category;
     private String locationFound;
     private LocalDate dateReported;
+    private Double latitude;
+    private Double longitude;
     private ItemStatus status;
     private Long reportedById;
     private String reportedByUsername;
@@ -29,4 +33,6 @@ public class ItemResponseDto {
     private String claimedByUsername;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean archived; // True when served from items_archive
+    private List<DuplicateMatchDto> possibleDuplicates; // Only on create: open items that look like the same report
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadModelStatusDto {
+    private boolean available; // item_view and request_view exist in this campus's schema
+    private boolean ready; // List endpoints are served from the views
+    private boolean rebuilding;
+    private int pendingItems;
+    private int pendingRequests;
+    private int pendingUsers;
+    private long lagMs; // Age of the oldest change not yet projected, 0 when caught up
+    private long rowsProjected; // Since this node started
+    private LocalDateTime lastAppliedAt;
+    private LocalDateTime lastRebuildStartedAt;
+    private LocalDateTime lastRebuildFinishedAt;
+    private String lastError;
+}
@@ -23,6 +23,9 @@ public class RequestResponseDto {
     private LocalDateTime requestDate;
     private LocalDateTime resolutionDate;
     private String adminNotes;
+    private Long leasedById; // Reviewer holding the request in the work queue, if any
+    private LocalDateTime leaseExpiresAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private boolean archived; // True when served from requests_archive
 } 
\ No newline at end of file
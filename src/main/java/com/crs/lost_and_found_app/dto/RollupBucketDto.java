@@ -0,0 +1,28 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupBucketDto {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private long itemsReported;
+    private long itemsLost;
+    private long itemsFound;
+    private long claimsRequested;
+    private long claimsApproved; // Items claimed
+    private long claimsRejected;
+    private Double approvalRate; // approved / (approved + rejected), null when nothing was resolved
+    private long timeToClaimSamples;
+    private Double timeToClaimP50Seconds;
+    private Double timeToClaimP90Seconds;
+    private Double timeToClaimP99Seconds;
+}
@@ -0,0 +1,23 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchMatchDto {
+    private Long id;
+    private Long savedSearchId;
+    private Long itemId;
+    private String itemName;
+    private String itemCategory;
+    private String itemLocation;
+    private LocalDateTime matchedAt;
+    private boolean seen;
+}
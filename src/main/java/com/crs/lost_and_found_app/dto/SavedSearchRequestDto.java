@@ -0,0 +1,20 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchRequestDto {
+    private String keywords;
+    private String category;
+    private String location;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+}
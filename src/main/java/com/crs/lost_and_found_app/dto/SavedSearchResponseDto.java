@@ -0,0 +1,23 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedSearchResponseDto {
+    private Long id;
+    private String keywords;
+    private String category;
+    private String location;
+    private LocalDate dateFrom;
+    private LocalDate dateTo;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package com.crs.lost_and_found_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionDto {
+    private String value; // Most common spelling of the value
+    private long count; // Items (live and archived) using it, all spellings together
+    private boolean fuzzy; // Matched the prefix only with one typo corrected
+}
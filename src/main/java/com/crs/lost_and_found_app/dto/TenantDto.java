@@ -0,0 +1,18 @@
+package com.crs.lost_and_found_app.dto;
+
+import com.crs.lost_and_found_app.enums.TenantStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantDto {
+    private String tenantId;
+    private String shard;
+    private String schemaName; // Null for the default campus, which uses the shard's own database
+    private TenantStatus status;
+}
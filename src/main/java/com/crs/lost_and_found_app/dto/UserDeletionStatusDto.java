@@ -0,0 +1,28 @@
+package com.crs.lost_and_found_app.dto;
+
+import com.crs.lost_and_found_app.enums.CleanupStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDeletionStatusDto {
+    private Long userId;
+    private LocalDateTime deletedAt;
+    private CleanupStatus status;
+    private long itemsTotal;
+    private long itemsProcessed;
+    private long requestsTotal;
+    private long requestsProcessed;
+    private long archivedRowsProcessed;
+    private int percentComplete;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
@@ -19,5 +19,6 @@ public class UserResponseDto {
     private UserRole role;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LocalDateTime deletedAt;
     // Do NOT include password here
 } 
\ No newline at end of file
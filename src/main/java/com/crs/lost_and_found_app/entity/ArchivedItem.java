@@ -0,0 +1,72 @@
+package com.crs.lost_and_found_app.entity;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Cold copy of a claimed item moved out of "items" by ArchiveService. The id is kept, and user
+// references are flattened (id + username) so archived rows never join back to users.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "items_archive", indexes = {
+        @Index(name = "idx_items_archive_status", columnList = "status"),
+        @Index(name = "idx_items_archive_reported_by", columnList = "reportedById")
+})
+public class ArchivedItem {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Lob
+    private String description;
+
+    // Precomputed like Item.descriptionSnippet, so listings and sparse reads never touch the @Lob
+    @Column(length = ItemDescription.SNIPPET_LENGTH)
+    private String descriptionSnippet;
+
+    private String category;
+
+    private String locationFound;
+
+    private LocalDate dateReported;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ItemStatus status;
+
+    private Long reportedById;
+
+    private String reportedByUsername;
+
+    private Long heldById;
+
+    private String heldByUsername;
+
+    private Long claimedById;
+
+    private String claimedByUsername;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+}
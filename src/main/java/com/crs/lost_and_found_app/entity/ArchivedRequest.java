@@ -0,0 +1,54 @@
+package com.crs.lost_and_found_app.entity;
+
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Cold copy of a request whose item was archived, see ArchivedItem.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "requests_archive", indexes = {
+        @Index(name = "idx_requests_archive_item", columnList = "itemId"),
+        @Index(name = "idx_requests_archive_requester", columnList = "requesterId"),
+        @Index(name = "idx_requests_archive_status", columnList = "status")
+})
+public class ArchivedRequest {
+
+    @Id
+    private Long id;
+
+    private Long itemId;
+
+    private String itemName;
+
+    private Long requesterId;
+
+    private String requesterUsername;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RequestStatus status;
+
+    private String message;
+
+    private LocalDateTime requestDate;
+
+    private LocalDateTime resolutionDate;
+
+    @Lob
+    private String adminNotes;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime archivedAt;
+}
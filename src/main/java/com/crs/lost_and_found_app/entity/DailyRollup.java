@@ -0,0 +1,42 @@
+package com.crs.lost_and_found_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Pre-aggregated per-day report and claim figures, maintained by RollupService.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "daily_rollups")
+public class DailyRollup {
+
+    @Id
+    private LocalDate day;
+
+    private long itemsReported;
+
+    private long itemsLost;
+
+    private long itemsFound;
+
+    private long claimsRequested;
+
+    private long claimsApproved;
+
+    private long claimsRejected;
+
+    @Lob
+    private byte[] timeToClaimSketch; // LogHistogram of seconds from requestDate to resolutionDate for approved claims
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -17,7 +17,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_geohash", columnList = "geohash"),
+        @Index(name = "idx_items_created_at", columnList = "createdAt"),
+        @Index(name = "idx_items_status_claimed_at", columnList = "status, claimedAt")
+})
 public class Item {
 
     @Id
@@ -27,8 +31,9 @@ public class Item {
     @Column(nullable = false)
     private String name;
 
-    @Lob // For potentially long descriptions
-    private String description;
+    // The full description lives in item_descriptions (ItemDescription) so listings never read it
+    @Column(length = ItemDescription.SNIPPET_LENGTH)
+    private String descriptionSnippet;
 
     private String category;
 
@@ -36,6 +41,14 @@ public class Item {
 
     private LocalDate dateReported; // Date when the item was lost or found
 
+    // Optional coordinates of where the item was lost or found
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(length = 12)
+    private String geohash; // Derived from latitude/longitude, see GeoHash
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ItemStatus status;
@@ -54,6 +67,8 @@ public class Item {
     @JoinColumn(name = "claimed_by_user_id")
     private User claimedBy;
 
+    private LocalDateTime claimedAt; // Set when a claim request is approved
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -0,0 +1,36 @@
+package com.crs.lost_and_found_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Cold half of an item: the full description, read only when a single item is shown.
+// Listings use Item.descriptionSnippet and never touch this table.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_descriptions")
+public class ItemDescription {
+
+    public static final int SNIPPET_LENGTH = 160;
+
+    @Id
+    @Column(name = "item_id")
+    private Long itemId; // Same as Item.id
+
+    @Lob
+    @Column(nullable = false)
+    private String text;
+
+    // First SNIPPET_LENGTH characters, the same as MySQL left(text, 160) used by the backfill
+    public static String snippetOf(String text) {
+        if (text == null || text.length() <= SNIPPET_LENGTH) {
+            return text;
+        }
+        return text.substring(0, SNIPPET_LENGTH);
+    }
+}
@@ -0,0 +1,48 @@
+package com.crs.lost_and_found_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// Photo metadata only, the bytes live on disk under their SHA-256 (see PhotoStorageService).
+// Several rows may point at the same content hash when identical images are uploaded.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_photos", indexes = {
+        @Index(name = "idx_item_photos_item", columnList = "item_id"),
+        @Index(name = "idx_item_photos_hash", columnList = "content_hash")
+})
+public class ItemPhoto {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    private long sizeBytes;
+
+    private String originalFilename;
+
+    private boolean thumbnailReady;
+
+    private Long uploadedById;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package com.crs.lost_and_found_app.entity;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Read model: one flat row per live or archived item with usernames already resolved, kept up to
+// date by ReadModelProjector. Never written by anything else.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "item_view", indexes = {
+        @Index(name = "idx_item_view_archived_status", columnList = "archived, status, id"),
+        @Index(name = "idx_item_view_reported_by", columnList = "reportedById"),
+        @Index(name = "idx_item_view_held_by", columnList = "heldById"),
+        @Index(name = "idx_item_view_claimed_by", columnList = "claimedById")
+})
+public class ItemView {
+
+    @Id
+    private Long id; // Same as Item.id / ArchivedItem.id
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = ItemDescription.SNIPPET_LENGTH)
+    private String descriptionSnippet;
+
+    private String category;
+
+    private String locationFound;
+
+    private LocalDate dateReported;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ItemStatus status;
+
+    private Long reportedById;
+
+    private String reportedByUsername;
+
+    private Long heldById;
+
+    private String heldByUsername;
+
+    private Long claimedById;
+
+    private String claimedByUsername;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private boolean archived;
+
+    private LocalDateTime projectedAt;
+}
@@ -16,7 +16,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "requests")
+@Table(name = "requests", indexes = {
+        @Index(name = "idx_requests_created_at", columnList = "createdAt"),
+        @Index(name = "idx_requests_resolution_date", columnList = "resolutionDate"),
+        @Index(name = "idx_requests_status_lease", columnList = "status, leaseExpiresAt"),
+        @Index(name = "idx_requests_status_date", columnList = "status, requestDate, id")
+})
 public class Request {
 
     @Id
@@ -44,6 +49,11 @@ public class Request {
     @Lob
     private String adminNotes;
 
+    // Work-queue lease: the reviewer currently holding this PENDING request, until leaseExpiresAt
+    private Long leasedById;
+
+    private LocalDateTime leaseExpiresAt;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -0,0 +1,63 @@
+package com.crs.lost_and_found_app.entity;
+
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Read model: one flat row per live or archived claim request with the item name and requester
+// username already resolved, kept up to date by ReadModelProjector.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "request_view", indexes = {
+        @Index(name = "idx_request_view_archived_status", columnList = "archived, status, id"),
+        @Index(name = "idx_request_view_item", columnList = "itemId"),
+        @Index(name = "idx_request_view_requester", columnList = "requesterId")
+})
+public class RequestView {
+
+    @Id
+    private Long id; // Same as Request.id / ArchivedRequest.id
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    private String itemName;
+
+    @Column(nullable = false)
+    private Long requesterId;
+
+    private String requesterUsername;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RequestStatus status;
+
+    private String message;
+
+    private LocalDateTime requestDate;
+
+    private LocalDateTime resolutionDate;
+
+    @Lob
+    private String adminNotes;
+
+    private Long leasedById;
+
+    private LocalDateTime leaseExpiresAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private boolean archived;
+
+    private LocalDateTime projectedAt;
+}
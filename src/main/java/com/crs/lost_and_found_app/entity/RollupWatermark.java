@@ -0,0 +1,25 @@
+package com.crs.lost_and_found_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// How far a scheduled job has processed its source rows; committed together with the job's output.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "job_watermarks")
+public class RollupWatermark {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime processedUpTo;
+}
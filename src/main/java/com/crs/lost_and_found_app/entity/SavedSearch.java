@@ -0,0 +1,41 @@
+package com.crs.lost_and_found_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "saved_searches", indexes = @Index(name = "idx_saved_searches_user", columnList = "user_id"))
+public class SavedSearch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    private String keywords; // Free text, every term must appear in the item
+
+    private String category; // Exact (case-insensitive) category match, optional
+
+    private String location; // Every location term must appear in the item's location, optional
+
+    private LocalDate dateFrom; // Optional window on the item's dateReported
+
+    private LocalDate dateTo;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package com.crs.lost_and_found_app.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One inbox entry per (saved search, matching item). Item details are copied at match time
+// so the inbox can be paged without joining back to items.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "saved_search_matches", indexes = @Index(name = "idx_saved_search_matches_user", columnList = "user_id, matched_at"))
+public class SavedSearchMatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long savedSearchId;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    private String itemName;
+
+    private String itemCategory;
+
+    private String itemLocation;
+
+    @Column(name = "matched_at", nullable = false)
+    private LocalDateTime matchedAt;
+
+    private boolean seen;
+}
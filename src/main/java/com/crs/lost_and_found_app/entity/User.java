@@ -47,6 +47,10 @@ public class User implements UserDetails {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    private LocalDateTime deletedAt; // Soft delete; the account is disabled and cleaned up in the background
+
+    private LocalDateTime tokensValidAfter; // Tokens issued before this are rejected ("sign out everywhere")
+
     // UserDetails methods
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
@@ -80,6 +84,6 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return deletedAt == null;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.crs.lost_and_found_app.entity;
+
+import com.crs.lost_and_found_app.enums.CleanupStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// Background reassignment of a soft-deleted user's items, requests and archived rows.
+// Progress counters are committed with each chunk, so a restarted job resumes where it stopped.
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_cleanup_tasks", indexes = {
+        @Index(name = "idx_user_cleanup_tasks_status", columnList = "status")
+})
+public class UserCleanupTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CleanupStatus status;
+
+    private long itemsTotal; // Counted when the task starts
+    private long itemsProcessed;
+    private long requestsTotal;
+    private long requestsProcessed;
+    private long archivedRowsProcessed;
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    private LocalDateTime requestedAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
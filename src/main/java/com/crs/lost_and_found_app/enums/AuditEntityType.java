@@ -0,0 +1,8 @@
+package com.crs.lost_and_found_app.enums;
+
+public enum AuditEntityType {
+    ITEM,
+    REQUEST,
+    USER,
+    LOG // The audit log itself, e.g. a GAP record for entries it could not queue
+}
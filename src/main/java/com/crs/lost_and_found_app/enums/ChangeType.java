@@ -0,0 +1,8 @@
+package com.crs.lost_and_found_app.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED // Moved to the archive tables; the row still exists logically
+}
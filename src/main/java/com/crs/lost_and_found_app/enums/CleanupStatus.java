@@ -0,0 +1,8 @@
+package com.crs.lost_and_found_app.enums;
+
+public enum CleanupStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.crs.lost_and_found_app.enums;
+
+public enum QueueOrder {
+    OLDEST_FIRST,
+    MOST_CLAIMED_FIRST // Items with the most pending claims first, then oldest
+}
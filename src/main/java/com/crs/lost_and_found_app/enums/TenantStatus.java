@@ -0,0 +1,6 @@
+package com.crs.lost_and_found_app.enums;
+
+public enum TenantStatus {
+    ACTIVE,
+    MOVING // Being copied to another shard; writes are rejected until the move completes
+}
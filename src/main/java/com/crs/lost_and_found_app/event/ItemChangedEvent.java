@@ -0,0 +1,12 @@
+package com.crs.lost_and_found_app.event;
+
+import com.crs.lost_and_found_app.enums.ChangeType;
+
+// Published by ItemService and RequestService whenever an item row changes.
+// before is null for CREATED, after is null for DELETED.
+public record ItemChangedEvent(ChangeType type, ItemSnapshot before, ItemSnapshot after) {
+
+    public Long itemId() {
+        return after != null ? after.id() : before.id();
+    }
+}
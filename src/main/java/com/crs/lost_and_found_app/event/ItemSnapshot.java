@@ -0,0 +1,28 @@
+package com.crs.lost_and_found_app.event;
+
+import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+
+import java.time.LocalDate;
+
+// Immutable copy of the item fields listeners care about, taken inside the transaction
+// so after-commit listeners never touch a detached entity.
+public record ItemSnapshot(Long id, String name, String category, String locationFound, ItemStatus status,
+                           Double latitude, Double longitude, LocalDate dateReported,
+                           Long reportedById, Long heldById, Long claimedById) {
+
+    public static ItemSnapshot of(Item item) {
+        return new ItemSnapshot(
+                item.getId(),
+                item.getName(),
+                item.getCategory(),
+                item.getLocationFound(),
+                item.getStatus(),
+                item.getLatitude(),
+                item.getLongitude(),
+                item.getDateReported(),
+                item.getReportedBy() != null ? item.getReportedBy().getId() : null,
+                item.getHeldBy() != null ? item.getHeldBy().getId() : null,
+                item.getClaimedBy() != null ? item.getClaimedBy().getId() : null);
+    }
+}
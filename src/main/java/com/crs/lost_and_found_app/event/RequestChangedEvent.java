@@ -0,0 +1,12 @@
+package com.crs.lost_and_found_app.event;
+
+import com.crs.lost_and_found_app.enums.ChangeType;
+
+// Published by RequestService whenever a claim request row changes, and by ArchiveService when
+// one moves to requests_archive. before is null for CREATED, after is null for DELETED and ARCHIVED.
+public record RequestChangedEvent(ChangeType type, RequestSnapshot before, RequestSnapshot after) {
+
+    public Long requestId() {
+        return after != null ? after.id() : before.id();
+    }
+}
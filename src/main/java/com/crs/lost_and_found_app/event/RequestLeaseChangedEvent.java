@@ -0,0 +1,6 @@
+package com.crs.lost_and_found_app.event;
+
+// Published by ClaimQueueService when a request is leased, renewed or released. Leases change
+// often and touch nothing but the lease columns, so they do not go through RequestChangedEvent.
+public record RequestLeaseChangedEvent(Long requestId) {
+}
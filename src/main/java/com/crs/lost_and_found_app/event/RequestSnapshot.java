@@ -0,0 +1,20 @@
+package com.crs.lost_and_found_app.event;
+
+import com.crs.lost_and_found_app.entity.Request;
+import com.crs.lost_and_found_app.enums.RequestStatus;
+
+import java.time.LocalDateTime;
+
+public record RequestSnapshot(Long id, Long itemId, Long requesterId, RequestStatus status,
+                              LocalDateTime requestDate, LocalDateTime resolutionDate) {
+
+    public static RequestSnapshot of(Request request) {
+        return new RequestSnapshot(
+                request.getId(),
+                request.getItem().getId(),
+                request.getRequester().getId(),
+                request.getStatus(),
+                request.getRequestDate(),
+                request.getResolutionDate());
+    }
+}
@@ -0,0 +1,6 @@
+package com.crs.lost_and_found_app.event;
+
+// Published when rows that show a user's name may now show a different one, e.g. after
+// UserCleanupService reassigns a chunk of the user's items and requests to the placeholder.
+public record UserChangedEvent(Long userId) {
+}
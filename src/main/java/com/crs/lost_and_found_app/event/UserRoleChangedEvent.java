@@ -0,0 +1,7 @@
+package com.crs.lost_and_found_app.event;
+
+import com.crs.lost_and_found_app.enums.UserRole;
+
+// Published by UserService when an admin changes a user's role; the audit trail records it.
+public record UserRoleChangedEvent(Long userId, UserRole from, UserRole to) {
+}
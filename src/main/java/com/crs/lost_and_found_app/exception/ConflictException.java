@@ -0,0 +1,9 @@
+package com.crs.lost_and_found_app.exception;
+
+// 409 Conflict: valid input that clashes with the current state, e.g. a request that is no longer pending
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.crs.lost_and_found_app.exception;
+
+/**
+ * Base of the expected failures services report: something does not exist, the caller may not do
+ * it, it conflicts with the current state, or the input is invalid. These are answers, not bugs,
+ * so no stack trace is captured (filling it in is most of the cost of a throw) and suppression is
+ * off. {@link com.crs.lost_and_found_app.controller.ApiExceptionHandler} turns each subclass into
+ * a problem response; the message is shown to the client.
+ */
+public abstract class DomainException extends RuntimeException {
+
+    protected DomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,21 @@
+package com.crs.lost_and_found_app.exception;
+
+import com.crs.lost_and_found_app.dto.DuplicateMatchDto;
+
+import java.util.List;
+
+// Thrown by ItemService.createItem when blocking is enabled and an open item is almost certainly
+// the same report. Resubmitting with allowDuplicate=true creates the item anyway.
+public class DuplicateItemException extends ConflictException {
+
+    private final List<DuplicateMatchDto> duplicates;
+
+    public DuplicateItemException(List<DuplicateMatchDto> duplicates) {
+        super("This looks like an item that has already been reported (ID " + duplicates.get(0).getItemId() + ").");
+        this.duplicates = duplicates;
+    }
+
+    public List<DuplicateMatchDto> getDuplicates() {
+        return duplicates;
+    }
+}
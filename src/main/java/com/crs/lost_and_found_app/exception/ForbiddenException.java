@@ -0,0 +1,9 @@
+package com.crs.lost_and_found_app.exception;
+
+// 403 Forbidden: the caller is authenticated but may not do this.
+public class ForbiddenException extends DomainException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
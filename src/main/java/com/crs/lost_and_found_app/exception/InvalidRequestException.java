@@ -0,0 +1,9 @@
+package com.crs.lost_and_found_app.exception;
+
+// 400 Bad Request: the input itself is invalid, whatever the state.
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
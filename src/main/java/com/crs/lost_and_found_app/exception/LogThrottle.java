@@ -0,0 +1,58 @@
+package com.crs.lost_and_found_app.exception;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps how often one kind of log line is written: at most {@code maxPerInterval} per key in each
+ * interval, the rest are only counted. Keys should come from a small fixed set (status and
+ * exception type, say), never from request data, since every key keeps a small window forever.
+ */
+public final class LogThrottle {
+
+    private final int maxPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogThrottle(int maxPerInterval, long intervalNanos) {
+        this(maxPerInterval, intervalNanos, System::nanoTime);
+    }
+
+    LogThrottle(int maxPerInterval, long intervalNanos, LongSupplier clock) {
+        this.maxPerInterval = maxPerInterval;
+        this.intervalNanos = intervalNanos;
+        this.clock = clock;
+    }
+
+    // -1 when this occurrence should not be logged; otherwise the number of occurrences of the key
+    // that were dropped since the last one logged, so the caller can mention them.
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        Window window = windows.computeIfAbsent(key, k -> new Window(now));
+        synchronized (window) {
+            if (now - window.start >= intervalNanos) {
+                window.start = now;
+                window.logged = 0;
+            }
+            if (window.logged < maxPerInterval) {
+                window.logged++;
+                long dropped = window.dropped;
+                window.dropped = 0;
+                return dropped;
+            }
+            window.dropped++;
+            return -1;
+        }
+    }
+
+    private static final class Window {
+        private long start;
+        private int logged;
+        private long dropped;
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.crs.lost_and_found_app.exception;
+
+// 404 Not Found: the entity does not exist, or is not visible in this campus.
+public class NotFoundException extends DomainException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,84 @@
+package com.crs.lost_and_found_app.index;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory grid index of item coordinates.
+ * <p>
+ * Entries are kept in a sorted map keyed by full-precision geohash, so every coarser cell is a
+ * contiguous key range. A radius query picks the finest precision whose cells are at least as
+ * large as the radius, range-scans the 3x3 block of cells around the centre and then filters the
+ * candidates by exact great-circle distance and status.
+ */
+public class GeoGridIndex {
+
+    public record Entry(Long id, double latitude, double longitude, ItemStatus status) {
+    }
+
+    public record Hit(Long id, double distanceMeters) {
+    }
+
+    private final ConcurrentSkipListMap<String, Entry> cells = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+
+    public void put(Entry entry) {
+        String key = GeoHash.encode(entry.latitude(), entry.longitude(), GeoHash.MAX_PRECISION) + ":" + entry.id();
+        String previous = keysById.put(entry.id(), key);
+        if (previous != null && !previous.equals(key)) {
+            cells.remove(previous);
+        }
+        cells.put(key, entry);
+    }
+
+    public void remove(Long id) {
+        String key = keysById.remove(id);
+        if (key != null) {
+            cells.remove(key);
+        }
+    }
+
+    public List<Hit> within(double latitude, double longitude, double radiusMeters, ItemStatus status, int limit) {
+        int precision = GeoHash.precisionForRadius(latitude, radiusMeters);
+        List<Hit> hits = new ArrayList<>();
+        if (precision == 0) {
+            collect(cells, latitude, longitude, radiusMeters, status, hits);
+        } else {
+            for (String cell : GeoHash.coveringCells(latitude, longitude, precision)) {
+                // '~' sorts after ':' and every base-32 character, closing the prefix range
+                collect(cells.subMap(cell, true, cell + "~", false), latitude, longitude, radiusMeters, status, hits);
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    public int size() {
+        return keysById.size();
+    }
+
+    public void clear() {
+        cells.clear();
+        keysById.clear();
+    }
+
+    private void collect(NavigableMap<String, Entry> range, double latitude, double longitude, double radiusMeters,
+                         ItemStatus status, List<Hit> hits) {
+        for (Entry entry : range.values()) {
+            if (status != null && entry.status() != status) {
+                continue;
+            }
+            double distance = GeoHash.distanceMeters(latitude, longitude, entry.latitude(), entry.longitude());
+            if (distance <= radiusMeters) {
+                hits.add(new Hit(entry.id(), distance));
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.crs.lost_and_found_app.index;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Standard base-32 geohash. Longitude takes the first (even) bit of every pair.
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    public static double cellHeightDegrees(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    public static double cellWidthDegrees(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    // Smallest cells whose 3x3 neighbourhood around the centre still contains the whole circle.
+    public static int precisionForRadius(double latitude, double radiusMeters) {
+        double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            double heightMeters = cellHeightDegrees(precision) * METERS_PER_DEGREE;
+            double widthMeters = cellWidthDegrees(precision) * METERS_PER_DEGREE * cosLat;
+            if (heightMeters >= radiusMeters && widthMeters >= radiusMeters) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    // The cell containing the point plus its eight neighbours (fewer near the poles).
+    public static Set<String> coveringCells(double latitude, double longitude, int precision) {
+        double height = cellHeightDegrees(precision);
+        double width = cellWidthDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            double lat = latitude + dLat * height;
+            if (lat > 90 || lat < -90) {
+                continue;
+            }
+            for (int dLon = -1; dLon <= 1; dLon++) {
+                double lon = longitude + dLon * width;
+                if (lon >= 180) {
+                    lon -= 360;
+                } else if (lon < -180) {
+                    lon += 360;
+                }
+                cells.add(encode(lat, lon, precision));
+            }
+        }
+        return cells;
+    }
+
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * 6_371_008.8 * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
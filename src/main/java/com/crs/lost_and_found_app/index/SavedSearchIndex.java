@@ -0,0 +1,167 @@
+package com.crs.lost_and_found_app.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Percolator-style index over standing queries (saved searches).
+ * <p>
+ * Every query is a conjunction, so it can only match documents that contain every one of its
+ * required keys. Each query is therefore registered under a single "anchor" key, the one with
+ * the shortest posting list at registration time. Matching a document looks up the posting list
+ * of each key the document contains and verifies only those candidates, so cost depends on the
+ * document size and the number of plausible queries rather than the total number of queries.
+ * Queries with no required key at all (date window only) are kept in a separate list.
+ */
+public class SavedSearchIndex {
+
+    private static final String KEYWORD_PREFIX = "k:";
+    private static final String CATEGORY_PREFIX = "c:";
+    private static final String LOCATION_PREFIX = "l:";
+
+    public record StandingQuery(Long id, Long userId, Set<String> keywordTerms, String category,
+                                Set<String> locationTerms, LocalDate dateFrom, LocalDate dateTo) {
+
+        public static StandingQuery of(Long id, Long userId, String keywords, String category,
+                                       String location, LocalDate dateFrom, LocalDate dateTo) {
+            return new StandingQuery(id, userId, TextTokenizer.tokenize(keywords), TextTokenizer.normalize(category),
+                    TextTokenizer.tokenize(location), dateFrom, dateTo);
+        }
+
+        // False for a query that would match every item, e.g. keywords made only of one-letter words
+        public boolean hasCriteria() {
+            return !keywordTerms.isEmpty() || category != null || !locationTerms.isEmpty() || dateFrom != null || dateTo != null;
+        }
+
+        boolean matches(Document document) {
+            if (category != null && !category.equals(document.category())) {
+                return false;
+            }
+            if (!document.terms().containsAll(keywordTerms)) {
+                return false;
+            }
+            if (!document.locationTerms().containsAll(locationTerms)) {
+                return false;
+            }
+            if (dateFrom != null || dateTo != null) {
+                LocalDate date = document.date();
+                if (date == null) {
+                    return false;
+                }
+                if (dateFrom != null && date.isBefore(dateFrom)) {
+                    return false;
+                }
+                if (dateTo != null && date.isAfter(dateTo)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    public record Document(Set<String> terms, String category, Set<String> locationTerms, LocalDate date) {
+
+        public static Document of(String name, String description, String category, String location, LocalDate date) {
+            Set<String> terms = new HashSet<>(TextTokenizer.tokenize(name));
+            terms.addAll(TextTokenizer.tokenize(description));
+            terms.addAll(TextTokenizer.tokenize(category));
+            Set<String> locationTerms = TextTokenizer.tokenize(location);
+            terms.addAll(locationTerms);
+            return new Document(terms, TextTokenizer.normalize(category), locationTerms, date);
+        }
+    }
+
+    private record Registration(StandingQuery query, String anchor) {
+    }
+
+    private final ConcurrentHashMap<Long, Registration> registrations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<StandingQuery>> postings = new ConcurrentHashMap<>();
+    private final Set<StandingQuery> unanchored = ConcurrentHashMap.newKeySet();
+
+    public void add(StandingQuery query) {
+        remove(query.id());
+        String anchor = chooseAnchor(query);
+        registrations.put(query.id(), new Registration(query, anchor));
+        if (anchor == null) {
+            unanchored.add(query);
+        } else {
+            postings.computeIfAbsent(anchor, key -> ConcurrentHashMap.newKeySet()).add(query);
+        }
+    }
+
+    public void remove(Long queryId) {
+        Registration registration = registrations.remove(queryId);
+        if (registration == null) {
+            return;
+        }
+        if (registration.anchor() == null) {
+            unanchored.remove(registration.query());
+            return;
+        }
+        postings.computeIfPresent(registration.anchor(), (key, queries) -> {
+            queries.remove(registration.query());
+            return queries.isEmpty() ? null : queries;
+        });
+    }
+
+    public List<StandingQuery> match(Document document) {
+        List<StandingQuery> matches = new ArrayList<>();
+        for (String term : document.terms()) {
+            collect(postings.get(KEYWORD_PREFIX + term), document, matches);
+        }
+        if (document.category() != null) {
+            collect(postings.get(CATEGORY_PREFIX + document.category()), document, matches);
+        }
+        for (String term : document.locationTerms()) {
+            collect(postings.get(LOCATION_PREFIX + term), document, matches);
+        }
+        collect(unanchored, document, matches);
+        return matches;
+    }
+
+    public int size() {
+        return registrations.size();
+    }
+
+    public void clear() {
+        registrations.clear();
+        postings.clear();
+        unanchored.clear();
+    }
+
+    private void collect(Set<StandingQuery> candidates, Document document, List<StandingQuery> matches) {
+        if (candidates == null) {
+            return;
+        }
+        for (StandingQuery candidate : candidates) {
+            if (candidate.matches(document)) {
+                matches.add(candidate);
+            }
+        }
+    }
+
+    // Each query sits in exactly one posting list, so a document never sees the same query twice.
+    private String chooseAnchor(StandingQuery query) {
+        String best = null;
+        int bestSize = Integer.MAX_VALUE;
+        List<String> keys = new ArrayList<>();
+        query.keywordTerms().forEach(term -> keys.add(KEYWORD_PREFIX + term));
+        if (query.category() != null) {
+            keys.add(CATEGORY_PREFIX + query.category());
+        }
+        query.locationTerms().forEach(term -> keys.add(LOCATION_PREFIX + term));
+        for (String key : keys) {
+            Set<StandingQuery> posting = postings.get(key);
+            int size = posting == null ? 0 : posting.size();
+            if (size < bestSize || (size == bestSize && key.length() > best.length())) {
+                best = key;
+                bestSize = size;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,78 @@
+package com.crs.lost_and_found_app.index;
+
+import java.util.Set;
+
+/**
+ * 64-bit SimHash fingerprints of item reports. Similar reports get fingerprints that differ in
+ * only a few bits, so near-duplicates can be found by Hamming distance (see {@link SimHashIndex}).
+ * <p>
+ * Features are the tokens of each field, prefixed by field so "library" as a location and as a
+ * word in the description are different features. The name and the category/location say more
+ * about which object this is than free-text description words, so they weigh more.
+ */
+public final class SimHash {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private SimHash() {
+    }
+
+    // 0 when there is nothing to fingerprint
+    public static long of(String name, String description, String category, String location) {
+        int[] votes = new int[64];
+        boolean any = addFeatures(votes, "n:", TextTokenizer.tokenize(name), NAME_WEIGHT);
+        String normalizedCategory = TextTokenizer.normalize(category);
+        if (normalizedCategory != null) {
+            addFeature(votes, "c:" + normalizedCategory, CATEGORY_WEIGHT);
+            any = true;
+        }
+        any |= addFeatures(votes, "l:", TextTokenizer.tokenize(location), LOCATION_WEIGHT);
+        any |= addFeatures(votes, "d:", TextTokenizer.tokenize(description), DESCRIPTION_WEIGHT);
+        if (!any) {
+            return 0L;
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static boolean addFeatures(int[] votes, String prefix, Set<String> tokens, int weight) {
+        for (String token : tokens) {
+            addFeature(votes, prefix + token, weight);
+        }
+        return !tokens.isEmpty();
+    }
+
+    private static void addFeature(int[] votes, String feature, int weight) {
+        long hash = hash64(feature);
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((hash >>> bit) & 1L) != 0 ? weight : -weight;
+        }
+    }
+
+    // FNV-1a followed by the MurmurHash3 finalizer, so every input bit affects every output bit
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
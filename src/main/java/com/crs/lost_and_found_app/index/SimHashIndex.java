@@ -0,0 +1,109 @@
+package com.crs.lost_and_found_app.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds fingerprints within a Hamming distance of a query without comparing against all of them.
+ * <p>
+ * The 64 bits are cut into {@code maxDistance + 1} blocks. Two fingerprints that differ in at
+ * most {@code maxDistance} bits cannot differ in every block, so they agree exactly on at least
+ * one; each block therefore has its own table from block value to IDs, and a lookup only
+ * verifies the IDs sharing one of the query's block values. With 16-bit blocks a bucket holds
+ * about n / 65536 entries, so a lookup checks a handful of candidates whatever the number of items.
+ * <p>
+ * Lookups do not lock; updates are serialized.
+ */
+public class SimHashIndex {
+
+    public record Match(Long id, int distance) {
+    }
+
+    private final int maxDistance;
+    private final int[] blockShift;
+    private final long[] blockMask;
+    private final Map<Long, Long> fingerprints = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<Long>>> tables = new ArrayList<>();
+
+    public SimHashIndex(int maxDistance) {
+        if (maxDistance < 0 || maxDistance > 7) {
+            throw new IllegalArgumentException("maxDistance must be between 0 and 7");
+        }
+        this.maxDistance = maxDistance;
+        int blocks = maxDistance + 1;
+        this.blockShift = new int[blocks];
+        this.blockMask = new long[blocks];
+        int start = 0;
+        for (int b = 0; b < blocks; b++) {
+            int width = 64 / blocks + (b < 64 % blocks ? 1 : 0);
+            blockShift[b] = start;
+            blockMask[b] = width == 64 ? -1L : (1L << width) - 1;
+            start += width;
+            tables.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    public synchronized void put(Long id, long fingerprint) {
+        remove(id);
+        fingerprints.put(id, fingerprint);
+        for (int b = 0; b < tables.size(); b++) {
+            tables.get(b).computeIfAbsent(block(fingerprint, b), k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public synchronized void remove(Long id) {
+        Long fingerprint = fingerprints.remove(id);
+        if (fingerprint == null) {
+            return;
+        }
+        for (int b = 0; b < tables.size(); b++) {
+            tables.get(b).computeIfPresent(block(fingerprint, b), (k, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        fingerprints.clear();
+        tables.forEach(Map::clear);
+    }
+
+    // Closest first
+    public List<Match> findWithin(long fingerprint, int limit) {
+        Map<Long, Integer> found = new HashMap<>();
+        for (int b = 0; b < tables.size(); b++) {
+            Set<Long> ids = tables.get(b).get(block(fingerprint, b));
+            if (ids == null) {
+                continue;
+            }
+            for (Long id : ids) {
+                Long candidate = fingerprints.get(id);
+                if (candidate != null && !found.containsKey(id)) {
+                    int distance = SimHash.distance(fingerprint, candidate);
+                    if (distance <= maxDistance) {
+                        found.put(id, distance);
+                    }
+                }
+            }
+        }
+        return found.entrySet().stream()
+                .map(entry -> new Match(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(Match::distance).thenComparing(Match::id))
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+
+    private long block(long fingerprint, int b) {
+        return (fingerprint >>> blockShift[b]) & blockMask[b];
+    }
+}
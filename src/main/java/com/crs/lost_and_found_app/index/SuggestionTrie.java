@@ -0,0 +1,270 @@
+package com.crs.lost_and_found_app.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix index over weighted free-text values (item categories, locations) for
+ * autocomplete.
+ * <p>
+ * Values are grouped by their normalized form (lower case, punctuation and repeated spaces
+ * collapsed), so "Library", "library" and "LIBRARY " are one suggestion shown in its most common
+ * spelling with their weights summed. Every value is reachable from the start of each of its
+ * words, so "lib" also finds "Main Library".
+ * <p>
+ * The trie is stored breadth first in flat arrays: the children of node n are the contiguous
+ * nodes {@code firstChild[n] .. firstChild[n + 1] - 1}, sorted by label, so a child lookup is a
+ * binary search and a node costs a char and a few ints. Each node also keeps the highest weight
+ * below it, which lets {@link #suggest} walk best-first and stop after {@code limit} results
+ * instead of visiting the whole subtree.
+ * <p>
+ * Prefixes of at least {@link #FUZZY_MIN_PREFIX} characters also match with one edit (insertion,
+ * deletion or substitution); exact prefix matches always rank before fuzzy ones.
+ */
+public final class SuggestionTrie {
+
+    public static final int FUZZY_MIN_PREFIX = 3;
+    public static final SuggestionTrie EMPTY = build(Map.of());
+
+    public record Suggestion(String value, long weight, int edits) {
+    }
+
+    private final char[] label;
+    private final int[] firstChild; // nodeCount + 1 entries, the last one is a sentinel
+    private final int[] termStart; // Terms ending at node n: termIds[termStart[n] .. termStart[n + 1] - 1]
+    private final int[] termIds;
+    private final long[] maxWeight;
+    private final String[] values;
+    private final long[] weights;
+
+    private SuggestionTrie(char[] label, int[] firstChild, int[] termStart, int[] termIds, long[] maxWeight,
+                           String[] values, long[] weights) {
+        this.label = label;
+        this.firstChild = firstChild;
+        this.termStart = termStart;
+        this.termIds = termIds;
+        this.maxWeight = maxWeight;
+        this.values = values;
+        this.weights = weights;
+    }
+
+    // Values with a weight of zero or less, or nothing left after normalizing, are ignored
+    public static SuggestionTrie build(Map<String, Long> weightedValues) {
+        // Group spellings of the same value; the most frequent one is shown
+        Map<String, Long> weightByKey = new HashMap<>();
+        Map<String, String> displayByKey = new HashMap<>();
+        Map<String, Long> displayWeight = new HashMap<>();
+        weightedValues.forEach((value, weight) -> {
+            String key = normalize(value);
+            if (key.isEmpty() || weight == null || weight <= 0) {
+                return;
+            }
+            weightByKey.merge(key, weight, Long::sum);
+            String display = value.trim();
+            String current = displayByKey.get(key);
+            long currentWeight = displayWeight.getOrDefault(key, 0L);
+            if (current == null || weight > currentWeight || (weight == currentWeight && display.compareTo(current) < 0)) {
+                displayByKey.put(key, display);
+                displayWeight.put(key, weight);
+            }
+        });
+        List<String> keys = new ArrayList<>(weightByKey.keySet());
+        keys.sort(Comparator.naturalOrder());
+        String[] values = new String[keys.size()];
+        long[] weights = new long[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            values[i] = displayByKey.get(keys.get(i));
+            weights[i] = weightByKey.get(keys.get(i));
+        }
+
+        // Temporary pointer trie, one path per word start of every value
+        BuildNode root = new BuildNode();
+        int nodeCount = 1;
+        for (int termId = 0; termId < keys.size(); termId++) {
+            String key = keys.get(termId);
+            for (int start = 0; start < key.length(); start++) {
+                if (start > 0 && key.charAt(start - 1) != ' ') {
+                    continue;
+                }
+                BuildNode node = root;
+                for (int i = start; i < key.length(); i++) {
+                    BuildNode child = node.children.get(key.charAt(i));
+                    if (child == null) {
+                        child = new BuildNode();
+                        node.children.put(key.charAt(i), child);
+                        nodeCount++;
+                    }
+                    node = child;
+                }
+                if (!node.terms.contains(termId)) {
+                    node.terms.add(termId);
+                }
+            }
+        }
+
+        // Flatten breadth first
+        char[] label = new char[nodeCount];
+        int[] firstChild = new int[nodeCount + 1];
+        int[] termStart = new int[nodeCount + 1];
+        List<Integer> termIds = new ArrayList<>();
+        ArrayDeque<BuildNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        int next = 1;
+        for (int n = 0; n < nodeCount; n++) {
+            BuildNode node = queue.poll();
+            firstChild[n] = next;
+            termStart[n] = termIds.size();
+            node.terms.sort(Comparator.comparingLong((Integer id) -> weights[id]).reversed());
+            termIds.addAll(node.terms);
+            for (Map.Entry<Character, BuildNode> child : node.children.entrySet()) {
+                label[next++] = child.getKey();
+                queue.add(child.getValue());
+            }
+        }
+        firstChild[nodeCount] = next;
+        termStart[nodeCount] = termIds.size();
+        int[] packedTermIds = termIds.stream().mapToInt(Integer::intValue).toArray();
+
+        // Children always come after their parent, so one backwards pass fills in subtree maxima
+        long[] maxWeight = new long[nodeCount];
+        for (int n = nodeCount - 1; n >= 0; n--) {
+            long max = 0;
+            for (int t = termStart[n]; t < termStart[n + 1]; t++) {
+                max = Math.max(max, weights[packedTermIds[t]]);
+            }
+            for (int c = firstChild[n]; c < firstChild[n + 1]; c++) {
+                max = Math.max(max, maxWeight[c]);
+            }
+            maxWeight[n] = max;
+        }
+        return new SuggestionTrie(label, firstChild, termStart, packedTermIds, maxWeight, values, weights);
+    }
+
+    // Highest weighted values starting with the prefix (at any word), exact matches first.
+    // An empty prefix returns the most common values overall.
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        List<Suggestion> results = new ArrayList<>();
+        if (limit <= 0 || values.length == 0) {
+            return results;
+        }
+        // Node -> edits needed to reach it from the prefix
+        Map<Integer, Integer> candidates = new HashMap<>();
+        if (key.length() >= FUZZY_MIN_PREFIX) {
+            int[] row = new int[key.length() + 1];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = j;
+            }
+            collectWithinOneEdit(0, key, row, candidates);
+        } else {
+            int node = find(key);
+            if (node >= 0) {
+                candidates.put(node, 0);
+            }
+        }
+
+        // Best first: fewest edits, then highest weight; a node's priority is its subtree maximum
+        PriorityQueue<long[]> queue = new PriorityQueue<>(Comparator.<long[]>comparingLong(e -> e[0])
+                .thenComparing(Comparator.<long[]>comparingLong(e -> e[1]).reversed()));
+        candidates.forEach((node, edits) -> queue.add(new long[] {edits, maxWeight[node], node, 0}));
+        Set<Integer> seen = new HashSet<>();
+        while (!queue.isEmpty() && results.size() < limit) {
+            long[] entry = queue.poll();
+            int index = (int) entry[2];
+            if (entry[3] == 1) {
+                if (seen.add(index)) {
+                    results.add(new Suggestion(values[index], weights[index], (int) entry[0]));
+                }
+                continue;
+            }
+            for (int t = termStart[index]; t < termStart[index + 1]; t++) {
+                queue.add(new long[] {entry[0], weights[termIds[t]], termIds[t], 1});
+            }
+            for (int c = firstChild[index]; c < firstChild[index + 1]; c++) {
+                queue.add(new long[] {entry[0], maxWeight[c], c, 0});
+            }
+        }
+        return results;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int nodeCount() {
+        return label.length;
+    }
+
+    private int find(String key) {
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            node = child(node, key.charAt(i));
+        }
+        return node;
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(label, firstChild[node], firstChild[node + 1], c);
+        return index >= 0 ? index : -1;
+    }
+
+    // Levenshtein rows down the trie: row[j] is the distance between the path so far and the
+    // first j prefix characters. A node whose full-prefix distance is at most one matches, and its
+    // subtree comes along with it; branches where every entry exceeds one are cut.
+    private void collectWithinOneEdit(int node, String key, int[] row, Map<Integer, Integer> candidates) {
+        for (int c = firstChild[node]; c < firstChild[node + 1]; c++) {
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            int min = next[0];
+            for (int j = 1; j < row.length; j++) {
+                int substitution = row[j - 1] + (key.charAt(j - 1) == label[c] ? 0 : 1);
+                next[j] = Math.min(Math.min(next[j - 1] + 1, row[j] + 1), substitution);
+                min = Math.min(min, next[j]);
+            }
+            int distance = next[row.length - 1];
+            if (distance <= 1) {
+                candidates.merge(c, distance, Math::min);
+                if (distance == 0) {
+                    continue;
+                }
+            }
+            if (min <= 1) {
+                collectWithinOneEdit(c, key, next, candidates);
+            }
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            } else if (normalized.length() > 0 && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        int end = normalized.length();
+        if (end > 0 && normalized.charAt(end - 1) == ' ') {
+            normalized.setLength(end - 1);
+        }
+        return normalized.toString();
+    }
+
+    private static final class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final List<Integer> terms = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.crs.lost_and_found_app.index;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+// Lower-cases and splits free text on anything that is not a letter or digit.
+// Single-character tokens are dropped, they match far too much to be useful.
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else {
+                addToken(tokens, current);
+            }
+        }
+        addToken(tokens, current);
+        return tokens;
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static void addToken(Set<String> tokens, StringBuilder current) {
+        if (current.length() > 1) {
+            tokens.add(current.toString());
+        }
+        current.setLength(0);
+    }
+}
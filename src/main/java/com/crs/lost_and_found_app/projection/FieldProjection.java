@@ -0,0 +1,85 @@
+package com.crs.lost_and_found_app.projection;
+
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps the public field names of a response (as used in {@code ?fields=}) to HQL select
+ * expressions, so a sparse request selects only those columns and adds only the joins they need.
+ * <p>
+ * Fields that need another table name their join; it is added once however many selected fields
+ * share it, and left out entirely when none are selected.
+ */
+public final class FieldProjection {
+
+    private record Field(String expression, String join) {
+    }
+
+    private final String entityName;
+    private final String alias;
+    private final Map<String, Field> fields = new LinkedHashMap<>();
+
+    public FieldProjection(String entityName, String alias) {
+        this.entityName = entityName;
+        this.alias = alias;
+    }
+
+    public FieldProjection field(String name, String expression) {
+        return field(name, expression, null);
+    }
+
+    public FieldProjection field(String name, String expression, String join) {
+        fields.put(name, new Field(expression, join));
+        return this;
+    }
+
+    // Comma-separated field names, in the order they should appear in the response. Duplicates are ignored.
+    public List<String> parse(String fieldList) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String raw : fieldList.split(",")) {
+            String name = raw.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!fields.containsKey(name)) {
+                throw new InvalidRequestException("Unknown field '" + name + "'. Available fields: " + String.join(", ", fields.keySet()));
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidRequestException("fields must name at least one of: " + String.join(", ", fields.keySet()));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(selected));
+    }
+
+    // "select <expressions> from <Entity> <alias> <joins>"; the caller appends where/order by.
+    public String selectFrom(List<String> selected) {
+        List<String> expressions = new ArrayList<>();
+        Set<String> joins = new LinkedHashSet<>();
+        for (String name : selected) {
+            Field field = fields.get(name);
+            if (field == null) {
+                throw new InvalidRequestException("Unknown field '" + name + "'");
+            }
+            expressions.add(field.expression());
+            if (field.join() != null) {
+                joins.add(field.join());
+            }
+        }
+        StringBuilder hql = new StringBuilder("select ").append(String.join(", ", expressions))
+                .append(" from ").append(entityName).append(' ').append(alias);
+        joins.forEach(join -> hql.append(' ').append(join));
+        return hql.toString();
+    }
+
+    public String alias() {
+        return alias;
+    }
+}
@@ -0,0 +1,84 @@
+package com.crs.lost_and_found_app.projection;
+
+// Field names match ItemResponseDto and RequestResponseDto, so sparse and full responses line up.
+public final class Projections {
+
+    public static final FieldProjection ITEM = new FieldProjection("Item", "i")
+            .field("id", "i.id")
+            .field("name", "i.name")
+            .field("description", "d.text", "left join ItemDescription d on d.itemId = i.id")
+            .field("descriptionSnippet", "i.descriptionSnippet")
+            .field("category", "i.category")
+            .field("locationFound", "i.locationFound")
+            .field("dateReported", "i.dateReported")
+            .field("latitude", "i.latitude")
+            .field("longitude", "i.longitude")
+            .field("status", "i.status")
+            .field("reportedById", "i.reportedBy.id") // Foreign key column, no join
+            .field("reportedByUsername", "rb.username", "join i.reportedBy rb")
+            .field("heldById", "i.heldBy.id")
+            .field("heldByUsername", "hb.username", "left join i.heldBy hb")
+            .field("claimedById", "i.claimedBy.id")
+            .field("claimedByUsername", "cb.username", "left join i.claimedBy cb")
+            .field("createdAt", "i.createdAt")
+            .field("updatedAt", "i.updatedAt")
+            .field("archived", "false");
+
+    public static final FieldProjection ARCHIVED_ITEM = new FieldProjection("ArchivedItem", "i")
+            .field("id", "i.id")
+            .field("name", "i.name")
+            .field("description", "i.description")
+            .field("descriptionSnippet", "i.descriptionSnippet")
+            .field("category", "i.category")
+            .field("locationFound", "i.locationFound")
+            .field("dateReported", "i.dateReported")
+            .field("latitude", "i.latitude")
+            .field("longitude", "i.longitude")
+            .field("status", "i.status")
+            .field("reportedById", "i.reportedById")
+            .field("reportedByUsername", "i.reportedByUsername")
+            .field("heldById", "i.heldById")
+            .field("heldByUsername", "i.heldByUsername")
+            .field("claimedById", "i.claimedById")
+            .field("claimedByUsername", "i.claimedByUsername")
+            .field("createdAt", "i.createdAt")
+            .field("updatedAt", "i.updatedAt")
+            .field("archived", "true");
+
+    public static final FieldProjection REQUEST = new FieldProjection("Request", "r")
+            .field("id", "r.id")
+            .field("itemId", "r.item.id")
+            .field("itemName", "ri.name", "join r.item ri")
+            .field("requesterId", "r.requester.id")
+            .field("requesterUsername", "ru.username", "join r.requester ru")
+            .field("status", "r.status")
+            .field("message", "r.message")
+            .field("requestDate", "r.requestDate")
+            .field("resolutionDate", "r.resolutionDate")
+            .field("adminNotes", "r.adminNotes")
+            .field("leasedById", "r.leasedById")
+            .field("leaseExpiresAt", "r.leaseExpiresAt")
+            .field("createdAt", "r.createdAt")
+            .field("updatedAt", "r.updatedAt")
+            .field("archived", "false");
+
+    public static final FieldProjection ARCHIVED_REQUEST = new FieldProjection("ArchivedRequest", "r")
+            .field("id", "r.id")
+            .field("itemId", "r.itemId")
+            .field("itemName", "r.itemName")
+            .field("requesterId", "r.requesterId")
+            .field("requesterUsername", "r.requesterUsername")
+            .field("status", "r.status")
+            .field("message", "r.message")
+            .field("requestDate", "r.requestDate")
+            .field("resolutionDate", "r.resolutionDate")
+            .field("adminNotes", "r.adminNotes")
+            .field("leasedById", "cast(null as Long)")
+            .field("leaseExpiresAt", "cast(null as LocalDateTime)")
+            .field("createdAt", "r.createdAt")
+            .field("updatedAt", "r.updatedAt")
+            .field("archived", "true");
+
+    private Projections() {
+    }
+}
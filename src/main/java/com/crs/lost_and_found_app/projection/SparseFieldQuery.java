@@ -0,0 +1,42 @@
+package com.crs.lost_and_found_app.projection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs a {@link FieldProjection} and returns each row as an ordered field-name → value map.
+ * Jackson writes maps directly, so absent fields are simply not there and no DTO is introspected.
+ */
+@Component
+public class SparseFieldQuery {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // where is HQL over the projection's alias, e.g. "i.status = :status"; null for all rows
+    public List<Map<String, Object>> list(FieldProjection projection, List<String> fields, String where, Map<String, Object> parameters) {
+        String hql = projection.selectFrom(fields)
+                + (where != null ? " where " + where : "")
+                + " order by " + projection.alias() + ".id";
+        TypedQuery<Tuple> query = entityManager.createQuery(hql, Tuple.class);
+        parameters.forEach(query::setParameter);
+        List<Tuple> tuples = query.getResultList();
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>(fields.size() * 2);
+            for (int i = 0; i < fields.size(); i++) {
+                row.put(fields.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,50 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.ArchivedItem;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedItemRepository extends JpaRepository<ArchivedItem, Long> {
+    List<ArchivedItem> findByStatus(ItemStatus status);
+
+    @Query("select a from ArchivedItem a where a.id > :afterId and (:status is null or a.status = :status) order by a.id")
+    List<ArchivedItem> findPageAfter(@Param("afterId") Long afterId, @Param("status") ItemStatus status, Pageable pageable);
+
+    @Query("select a.id from ArchivedItem a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select i.status, count(i) from ArchivedItem i group by i.status")
+    List<Object[]> countByStatusGrouped();
+
+    @Query("select i.category, count(i) from ArchivedItem i group by i.category")
+    List<Object[]> countByCategoryGrouped();
+
+    @Query("select i.locationFound, count(i) from ArchivedItem i group by i.locationFound")
+    List<Object[]> countByLocationGrouped();
+
+    @Query("select a.id from ArchivedItem a where a.reportedById = :userId or a.heldById = :userId or a.claimedById = :userId order by a.id")
+    List<Long> findIdsReferencingUser(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("update ArchivedItem a set a.reportedById = :replacementId, a.reportedByUsername = :replacementUsername where a.id in :ids and a.reportedById = :userId")
+    int anonymizeReportedBy(@Param("ids") List<Long> ids, @Param("userId") Long userId,
+                            @Param("replacementId") Long replacementId, @Param("replacementUsername") String replacementUsername);
+
+    @Modifying
+    @Query("update ArchivedItem a set a.heldById = :replacementId, a.heldByUsername = :replacementUsername where a.id in :ids and a.heldById = :userId")
+    int anonymizeHeldBy(@Param("ids") List<Long> ids, @Param("userId") Long userId,
+                        @Param("replacementId") Long replacementId, @Param("replacementUsername") String replacementUsername);
+
+    @Modifying
+    @Query("update ArchivedItem a set a.claimedById = :replacementId, a.claimedByUsername = :replacementUsername where a.id in :ids and a.claimedById = :userId")
+    int anonymizeClaimedBy(@Param("ids") List<Long> ids, @Param("userId") Long userId,
+                           @Param("replacementId") Long replacementId, @Param("replacementUsername") String replacementUsername);
+}
@@ -0,0 +1,33 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.ArchivedRequest;
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ArchivedRequestRepository extends JpaRepository<ArchivedRequest, Long> {
+    List<ArchivedRequest> findByRequesterId(Long userId);
+    List<ArchivedRequest> findByItemId(Long itemId);
+    List<ArchivedRequest> findByStatus(RequestStatus status);
+
+    @Query("select a.id from ArchivedRequest a where a.id > :afterId order by a.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select r.status, count(r) from ArchivedRequest r group by r.status")
+    List<Object[]> countByStatusGrouped();
+
+    @Query("select a.id from ArchivedRequest a where a.requesterId = :userId order by a.id")
+    List<Long> findIdsByRequesterId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("update ArchivedRequest a set a.requesterId = :replacementId, a.requesterUsername = :replacementUsername where a.id in :ids")
+    int anonymizeRequester(@Param("ids") List<Long> ids, @Param("replacementId") Long replacementId,
+                           @Param("replacementUsername") String replacementUsername);
+}
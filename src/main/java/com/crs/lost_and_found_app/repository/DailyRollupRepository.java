@@ -0,0 +1,13 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.DailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, LocalDate> {
+    List<DailyRollup> findByDayBetweenOrderByDayAsc(LocalDate from, LocalDate to);
+}
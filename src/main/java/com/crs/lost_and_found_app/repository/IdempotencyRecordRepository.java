@@ -0,0 +1,35 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // Claims a key across nodes: 1 if this call inserted the row, 0 if it already existed.
+    // save() would merge into an existing row instead of failing, hence the native insert.
+    @Modifying
+    @Transactional
+    @Query(value = "insert ignore into idempotency_keys (scope_key, request_hash, created_at, expires_at) " +
+                   "values (:scopeKey, :requestHash, :createdAt, :expiresAt)", nativeQuery = true)
+    int reserve(@Param("scopeKey") String scopeKey, @Param("requestHash") String requestHash,
+                @Param("createdAt") LocalDateTime createdAt, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Removes the key only if it has lapsed, so a node taking over never deletes a fresh reservation
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecord r where r.scopeKey = :scopeKey and r.expiresAt < :now")
+    int deleteIfExpired(@Param("scopeKey") String scopeKey, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
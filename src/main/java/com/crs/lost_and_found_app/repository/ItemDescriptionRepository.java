@@ -0,0 +1,18 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.ItemDescription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemDescriptionRepository extends JpaRepository<ItemDescription, Long> {
+
+    @Modifying
+    @Query("delete from ItemDescription d where d.itemId in :itemIds")
+    int deleteByItemIdIn(@Param("itemIds") List<Long> itemIds);
+}
@@ -0,0 +1,28 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.ItemPhoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ItemPhotoRepository extends JpaRepository<ItemPhoto, Long> {
+    List<ItemPhoto> findByItemId(Long itemId);
+
+    long countByContentHash(String contentHash);
+
+    @Query("select distinct p.contentHash from ItemPhoto p where p.thumbnailReady = false")
+    List<String> findHashesWithoutThumbnail();
+
+    // Runs in its own transaction, it is called from thumbnail workers and after-commit callbacks
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("update ItemPhoto p set p.thumbnailReady = true where p.contentHash = :contentHash")
+    int markThumbnailReady(@Param("contentHash") String contentHash);
+}
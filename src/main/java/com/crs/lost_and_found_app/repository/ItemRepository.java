@@ -1,15 +1,91 @@
 package com.crs.lost_and_found_app.repository;
 
 import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.entity.User;
 import com.crs.lost_and_found_app.enums.ItemStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ItemRepository extends JpaRepository<Item, Long> {
     List<Item> findByStatus(ItemStatus status);
+
+    // Multi-get: users are eager associations, so fetch them here instead of one select per user
+    @Query("select i from Item i join fetch i.reportedBy left join fetch i.heldBy left join fetch i.claimedBy where i.id in :ids")
+    List<Item> findAllWithUsersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset page for the NDJSON browse stream; a null status means every status
+    @Query("select i from Item i join fetch i.reportedBy left join fetch i.heldBy left join fetch i.claimedBy " +
+           "where i.id > :afterId and (:status is null or i.status = :status) order by i.id")
+    List<Item> findPageAfter(@Param("afterId") Long afterId, @Param("status") ItemStatus status, Pageable pageable);
+
+    @Query("select i.id from Item i where i.id > :afterId order by i.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Fields that go into the duplicate-detection fingerprint: id, name, description, category, location, status
+    @Query("select i.id, i.name, d.text, i.category, i.locationFound, i.status from Item i " +
+           "left join ItemDescription d on d.itemId = i.id where i.status in :statuses and i.id > :afterId order by i.id")
+    List<Object[]> findFingerprintSourcesAfter(@Param("statuses") Collection<ItemStatus> statuses, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select i.id, i.name, d.text, i.category, i.locationFound, i.status from Item i " +
+           "left join ItemDescription d on d.itemId = i.id where i.id in :ids")
+    List<Object[]> findFingerprintSources(@Param("ids") Collection<Long> ids);
     List<Item> findByCategory(String category);
     List<Item> findByReportedById(Long userId);
+
+    @Query("select i.status, count(i) from Item i group by i.status")
+    List<Object[]> countByStatusGrouped();
+
+    @Query("select i.category, count(i) from Item i group by i.category")
+    List<Object[]> countByCategoryGrouped();
+
+    @Query("select i.locationFound, count(i) from Item i group by i.locationFound")
+    List<Object[]> countByLocationGrouped();
+
+    @Query("select min(i.createdAt) from Item i")
+    LocalDateTime findMinCreatedAt();
+
+    // Keyset-paged (id, createdAt, status) rows created in (from, to], for the analytics rollup
+    @Query("select i.id, i.createdAt, i.status from Item i where i.createdAt > :from and i.createdAt <= :to and i.id > :afterId order by i.id")
+    List<Object[]> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                      @Param("afterId") Long afterId, Pageable pageable);
+
+    // Claimed items old enough to archive; rows claimed before claimedAt existed fall back to updatedAt
+    @Query("select i.id from Item i where i.status = com.crs.lost_and_found_app.enums.ItemStatus.CLAIMED and coalesce(i.claimedAt, i.updatedAt) < :cutoff order by i.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Item i where i.id in :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Query("select i.id from Item i left join i.heldBy h left join i.claimedBy c " +
+           "where i.reportedBy.id = :userId or h.id = :userId or c.id = :userId order by i.id")
+    List<Long> findIdsReferencingUser(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select count(i) from Item i left join i.heldBy h left join i.claimedBy c " +
+           "where i.reportedBy.id = :userId or h.id = :userId or c.id = :userId")
+    long countReferencingUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("update Item i set i.reportedBy = :replacement where i.id in :ids and i.reportedBy.id = :userId")
+    int reassignReportedBy(@Param("ids") List<Long> ids, @Param("userId") Long userId, @Param("replacement") User replacement);
+
+    @Modifying
+    @Query("update Item i set i.heldBy = :replacement where i.id in :ids and i.heldBy.id = :userId")
+    int reassignHeldBy(@Param("ids") List<Long> ids, @Param("userId") Long userId, @Param("replacement") User replacement);
+
+    @Modifying
+    @Query("update Item i set i.claimedBy = :replacement where i.id in :ids and i.claimedBy.id = :userId")
+    int reassignClaimedBy(@Param("ids") List<Long> ids, @Param("userId") Long userId, @Param("replacement") User replacement);
+
+    @Query("select i.id, i.latitude, i.longitude, i.status from Item i where i.geohash is not null")
+    List<Object[]> findAllCoordinates();
 } 
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.ItemView;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemViewRepository extends JpaRepository<ItemView, Long> {
+    List<ItemView> findByArchivedFalseOrderById();
+    List<ItemView> findAllByOrderById();
+    List<ItemView> findByArchivedFalseAndStatusOrderById(ItemStatus status);
+    List<ItemView> findByStatusOrderById(ItemStatus status);
+
+    @Query("select v.id from ItemView v where v.reportedById = :userId or v.heldById = :userId or v.claimedById = :userId")
+    List<Long> findIdsReferencingUser(@Param("userId") Long userId);
+
+    // Rows whose item is gone from both the live and the archive table
+    @Modifying
+    @Query("delete from ItemView v where not exists (select 1 from Item i where i.id = v.id) " +
+           "and not exists (select 1 from ArchivedItem a where a.id = v.id)")
+    int deleteOrphans();
+}
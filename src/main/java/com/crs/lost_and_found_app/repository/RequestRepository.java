@@ -1,15 +1,109 @@
 package com.crs.lost_and_found_app.repository;
 
 import com.crs.lost_and_found_app.entity.Request;
+import com.crs.lost_and_found_app.entity.User;
 import com.crs.lost_and_found_app.enums.RequestStatus;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
     List<Request> findByRequesterId(Long userId);
     List<Request> findByItemId(Long itemId);
     List<Request> findByStatus(RequestStatus status);
+
+    List<Request> findByItemIdIn(List<Long> itemIds);
+
+    // For the read-model projector: item and requester in the same select
+    @Query("select r from Request r join fetch r.item join fetch r.requester where r.id in :ids")
+    List<Request> findAllWithItemAndRequesterByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select r.id from Request r where r.id > :afterId order by r.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Blocks until concurrent status updates on the same request have committed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Request r where r.id = :id")
+    Optional<Request> findByIdForUpdate(@Param("id") Long id);
+
+    // Work queue: unleased (or lease-expired) PENDING requests, locked FOR UPDATE SKIP LOCKED (lock
+    // timeout -2) so a reviewer never waits on another's leasing transaction. The scan walks
+    // idx_requests_status_date in order and stops at the limit, so only the rows it returns (plus
+    // leased ones it steps over) are locked; a reviewer racing another may get a shorter batch.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select r from Request r where r.status = com.crs.lost_and_found_app.enums.RequestStatus.PENDING " +
+           "and (r.leaseExpiresAt is null or r.leaseExpiresAt < :now) order by r.requestDate asc, r.id asc")
+    List<Request> findLeasableOldestFirst(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Most-claimed order needs a sort over every PENDING row, which would lock them all if done
+    // under FOR UPDATE; so candidates are picked without locks and then locked by id below.
+    @Query("select r.id from Request r where r.status = com.crs.lost_and_found_app.enums.RequestStatus.PENDING " +
+           "and (r.leaseExpiresAt is null or r.leaseExpiresAt < :now) " +
+           "order by (select count(o) from Request o where o.item = r.item " +
+           "and o.status = com.crs.lost_and_found_app.enums.RequestStatus.PENDING) desc, r.requestDate asc, r.id asc")
+    List<Long> findLeasableIdsMostClaimedFirst(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // Locks the given candidates that are still leasable, skipping any another reviewer holds
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select r from Request r where r.id in :ids and r.status = com.crs.lost_and_found_app.enums.RequestStatus.PENDING " +
+           "and (r.leaseExpiresAt is null or r.leaseExpiresAt < :now)")
+    List<Request> lockLeasableByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("select r from Request r where r.leasedById = :userId and r.leaseExpiresAt > :now " +
+           "and r.status = com.crs.lost_and_found_app.enums.RequestStatus.PENDING order by r.leaseExpiresAt")
+    List<Request> findActiveLeases(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update Request r set r.leaseExpiresAt = :expiresAt where r.id = :id and r.leasedById = :userId " +
+           "and r.leaseExpiresAt > :now and r.status = com.crs.lost_and_found_app.enums.RequestStatus.PENDING")
+    int renewLease(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now,
+                   @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("update Request r set r.leasedById = null, r.leaseExpiresAt = null where r.id = :id and r.leasedById = :userId")
+    int releaseLease(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from Request r where r.item.id in :itemIds")
+    int deleteByItemIdIn(@Param("itemIds") List<Long> itemIds);
+
+    @Query("select r.id from Request r where r.requester.id = :userId order by r.id")
+    List<Long> findIdsByRequesterId(@Param("userId") Long userId, Pageable pageable);
+
+    long countByRequesterId(Long userId);
+
+    @Modifying
+    @Query("update Request r set r.requester = :replacement where r.id in :ids and r.requester.id = :userId")
+    int reassignRequester(@Param("ids") List<Long> ids, @Param("userId") Long userId, @Param("replacement") User replacement);
+
+    @Query("select r.status, count(r) from Request r group by r.status")
+    List<Object[]> countByStatusGrouped();
+
+    @Query("select min(r.createdAt) from Request r")
+    LocalDateTime findMinCreatedAt();
+
+    // Keyset-paged (id, requestDate) rows created in (from, to], for the analytics rollup
+    @Query("select r.id, r.requestDate from Request r where r.createdAt > :from and r.createdAt <= :to and r.id > :afterId order by r.id")
+    List<Object[]> findCreatedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                      @Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset-paged (id, requestDate, resolutionDate, status) rows resolved in (from, to]
+    @Query("select r.id, r.requestDate, r.resolutionDate, r.status from Request r where r.resolutionDate > :from and r.resolutionDate <= :to and r.id > :afterId order by r.id")
+    List<Object[]> findResolvedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                       @Param("afterId") Long afterId, Pageable pageable);
 } 
\ No newline at end of file
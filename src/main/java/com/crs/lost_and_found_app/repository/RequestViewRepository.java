@@ -0,0 +1,35 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.RequestView;
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RequestViewRepository extends JpaRepository<RequestView, Long> {
+    List<RequestView> findByArchivedFalseOrderById();
+    List<RequestView> findAllByOrderById();
+    List<RequestView> findByArchivedFalseAndStatusOrderById(RequestStatus status);
+    List<RequestView> findByStatusOrderById(RequestStatus status);
+    List<RequestView> findByArchivedFalseAndItemIdOrderById(Long itemId);
+    List<RequestView> findByItemIdOrderById(Long itemId);
+    List<RequestView> findByArchivedFalseAndRequesterIdOrderById(Long requesterId);
+    List<RequestView> findByRequesterIdOrderById(Long requesterId);
+
+    @Query("select v.id from RequestView v where v.itemId in :itemIds")
+    List<Long> findIdsByItemIdIn(@Param("itemIds") Collection<Long> itemIds);
+
+    @Query("select v.id from RequestView v where v.requesterId = :userId")
+    List<Long> findIdsByRequesterId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RequestView v where not exists (select 1 from Request r where r.id = v.id) " +
+           "and not exists (select 1 from ArchivedRequest a where a.id = v.id)")
+    int deleteOrphans();
+}
@@ -0,0 +1,23 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.SavedSearchMatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SavedSearchMatchRepository extends JpaRepository<SavedSearchMatch, Long> {
+    Page<SavedSearchMatch> findByUserIdOrderByMatchedAtDesc(Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from SavedSearchMatch m where m.savedSearchId = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+
+    @Modifying
+    @Query("delete from SavedSearchMatch m where m.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,16 @@
+package com.crs.lost_and_found_app.repository;
+
+import com.crs.lost_and_found_app.entity.UserCleanupTask;
+import com.crs.lost_and_found_app.enums.CleanupStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserCleanupTaskRepository extends JpaRepository<UserCleanupTask, Long> {
+    Optional<UserCleanupTask> findByUserId(Long userId);
+    List<UserCleanupTask> findByStatusInOrderByIdAsc(Collection<CleanupStatus> statuses);
+}
@@ -2,12 +2,17 @@ package com.crs.lost_and_found_app.repository;
 
 import com.crs.lost_and_found_app.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
+
+    @Query("select u from User u where u.deletedAt is null")
+    List<User> findAllActive();
 } 
\ No newline at end of file
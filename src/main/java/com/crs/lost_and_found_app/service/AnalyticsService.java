@@ -0,0 +1,94 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.analytics.LogHistogram;
+import com.crs.lost_and_found_app.dto.RollupBucketDto;
+import com.crs.lost_and_found_app.entity.DailyRollup;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.repository.DailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Read side of the analytics rollups; only ever reads daily_rollups, never the live tables.
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    public enum Granularity {
+        DAY,
+        WEEK
+    }
+
+    private static final long MAX_RANGE_DAYS = 3 * 366;
+
+    private final DailyRollupRepository dailyRollupRepository;
+
+    @Transactional(readOnly = true)
+    public List<RollupBucketDto> getClaimAnalytics(LocalDate from, LocalDate to, Granularity granularity) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("Range must not exceed " + MAX_RANGE_DAYS + " days.");
+        }
+        Map<LocalDate, Accumulator> buckets = new TreeMap<>();
+        for (DailyRollup rollup : dailyRollupRepository.findByDayBetweenOrderByDayAsc(from, to)) {
+            LocalDate start = granularity == Granularity.WEEK
+                    ? rollup.getDay().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : rollup.getDay();
+            buckets.computeIfAbsent(start, s -> new Accumulator()).add(rollup);
+        }
+        List<RollupBucketDto> result = new ArrayList<>();
+        buckets.forEach((start, accumulator) -> result.add(accumulator.toDto(start,
+                granularity == Granularity.WEEK ? start.plusDays(6) : start)));
+        return result;
+    }
+
+    private static final class Accumulator {
+        private long itemsReported;
+        private long itemsLost;
+        private long itemsFound;
+        private long claimsRequested;
+        private long claimsApproved;
+        private long claimsRejected;
+        private final LogHistogram timeToClaim = new LogHistogram();
+
+        void add(DailyRollup rollup) {
+            itemsReported += rollup.getItemsReported();
+            itemsLost += rollup.getItemsLost();
+            itemsFound += rollup.getItemsFound();
+            claimsRequested += rollup.getClaimsRequested();
+            claimsApproved += rollup.getClaimsApproved();
+            claimsRejected += rollup.getClaimsRejected();
+            timeToClaim.merge(LogHistogram.fromBytes(rollup.getTimeToClaimSketch()));
+        }
+
+        RollupBucketDto toDto(LocalDate start, LocalDate end) {
+            long resolved = claimsApproved + claimsRejected;
+            return RollupBucketDto.builder()
+                    .periodStart(start)
+                    .periodEnd(end)
+                    .itemsReported(itemsReported)
+                    .itemsLost(itemsLost)
+                    .itemsFound(itemsFound)
+                    .claimsRequested(claimsRequested)
+                    .claimsApproved(claimsApproved)
+                    .claimsRejected(claimsRejected)
+                    .approvalRate(resolved == 0 ? null : (double) claimsApproved / resolved)
+                    .timeToClaimSamples(timeToClaim.count())
+                    .timeToClaimP50Seconds(timeToClaim.quantile(0.50))
+                    .timeToClaimP90Seconds(timeToClaim.quantile(0.90))
+                    .timeToClaimP99Seconds(timeToClaim.quantile(0.99))
+                    .build();
+        }
+    }
+}
@@ -1,21 +1,60 @@
 package com.crs.lost_and_found_app.service;
 
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.InvalidationListener;
+import com.crs.lost_and_found_app.cache.StripedLruCache;
+import com.crs.lost_and_found_app.entity.User;
 import com.crs.lost_and_found_app.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
+// Every authenticated request loads its user, so users are cached per campus and username.
+// Role changes and deletions on any node evict the entry through the invalidation bus.
 @Service
-@RequiredArgsConstructor
 public class ApplicationUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final StripedLruCache<String, User> cache;
+
+    public ApplicationUserDetailsService(UserRepository userRepository,
+                                         InvalidationBus invalidationBus,
+                                         @Value("${users.cache.max-entries:10000}") int maxEntries,
+                                         @Value("${users.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = new StripedLruCache<>(maxEntries, 16, ttlSeconds, TimeUnit.SECONDS);
+        invalidationBus.subscribe(InvalidationBus.USER, new InvalidationListener() {
+            @Override
+            public void invalidate(String username) {
+                cache.remove(cacheKey(username));
+            }
+
+            @Override
+            public void invalidateAll() {
+                cache.clear();
+            }
+        });
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        String key = cacheKey(username);
+        User cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        cache.put(key, user);
+        return user;
+    }
+
+    private static String cacheKey(String username) {
+        return TenantContext.getTenant() + ":" + username;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,237 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.ArchiveStatusDto;
+import com.crs.lost_and_found_app.entity.ArchivedItem;
+import com.crs.lost_and_found_app.entity.ArchivedRequest;
+import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.entity.ItemDescription;
+import com.crs.lost_and_found_app.entity.Request;
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.enums.ChangeType;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.event.RequestChangedEvent;
+import com.crs.lost_and_found_app.event.RequestSnapshot;
+import com.crs.lost_and_found_app.repository.ArchivedItemRepository;
+import com.crs.lost_and_found_app.repository.ArchivedRequestRepository;
+import com.crs.lost_and_found_app.repository.ItemDescriptionRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Moves claimed items older than {@code archive.claimed-after-days}, together with their requests,
+ * into items_archive / requests_archive.
+ * <p>
+ * Work is done in chunks of {@code archive.chunk-size} items. Each chunk copies and deletes in a
+ * single transaction, so the job can stop at any point (crash, shutdown, another node) and the
+ * next run simply picks up the remaining rows; nothing is ever half moved.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final ArchivedItemRepository archivedItemRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final ItemDescriptionRepository itemDescriptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final TenantRegistry tenantRegistry;
+    private final TenantScoped<RunState> states = new TenantScoped<>(RunState::new);
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.claimed-after-days:90}")
+    private long claimedAfterDays;
+
+    @Value("${archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${archive.max-chunks-per-run:1000}")
+    private int maxChunksPerRun;
+
+    public ArchiveService(ItemRepository itemRepository,
+                          RequestRepository requestRepository,
+                          ArchivedItemRepository archivedItemRepository,
+                          ArchivedRequestRepository archivedRequestRepository,
+                          ItemDescriptionRepository itemDescriptionRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          TenantRegistry tenantRegistry) {
+        this.itemRepository = itemRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.requestRepository = requestRepository;
+        this.archivedItemRepository = archivedItemRepository;
+        this.archivedRequestRepository = archivedRequestRepository;
+        this.itemDescriptionRepository = itemDescriptionRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            tenantRegistry.forEachTenant(tenant -> runArchive());
+        }
+    }
+
+    // Archives the current campus
+    public ArchiveStatusDto runArchive() {
+        RunState state = states.get();
+        if (!state.running.compareAndSet(false, true)) {
+            logger.info("Archive job already running for this campus, skipping.");
+            return getStatus();
+        }
+        state.lastRunStartedAt = LocalDateTime.now();
+        state.lastRunItemsArchived = 0;
+        state.lastRunRequestsArchived = 0;
+        state.lastError = null;
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(claimedAfterDays);
+        try {
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                Integer moved = transactionTemplate.execute(status -> archiveChunk(cutoff, state));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+            }
+            logger.info("Archive run finished: {} items and {} requests moved (claimed before {}).",
+                    state.lastRunItemsArchived, state.lastRunRequestsArchived, cutoff);
+        } catch (Exception e) {
+            state.lastError = e.getMessage();
+            logger.error("Archive run failed after {} items; it will resume on the next run: {}", state.lastRunItemsArchived, e.getMessage(), e);
+        } finally {
+            state.lastRunFinishedAt = LocalDateTime.now();
+            state.running.set(false);
+        }
+        return getStatus();
+    }
+
+    public ArchiveStatusDto getStatus() {
+        RunState state = states.get();
+        return ArchiveStatusDto.builder()
+                .running(state.running.get())
+                .lastRunStartedAt(state.lastRunStartedAt)
+                .lastRunFinishedAt(state.lastRunFinishedAt)
+                .lastRunItemsArchived(state.lastRunItemsArchived)
+                .lastRunRequestsArchived(state.lastRunRequestsArchived)
+                .totalItemsArchived(state.totalItemsArchived)
+                .totalRequestsArchived(state.totalRequestsArchived)
+                .lastError(state.lastError)
+                .build();
+    }
+
+    private int archiveChunk(LocalDateTime cutoff, RunState state) {
+        List<Long> ids = itemRepository.findArchivableIds(cutoff, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Item> items = itemRepository.findAllById(ids);
+        List<Request> requests = requestRepository.findByItemIdIn(ids);
+        Map<Long, String> descriptions = itemDescriptionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ItemDescription::getItemId, ItemDescription::getText));
+
+        List<RequestSnapshot> archivedRequests = requests.stream().map(RequestSnapshot::of).collect(Collectors.toList());
+
+        archivedItemRepository.saveAll(items.stream().map(item -> toArchivedItem(item, descriptions.get(item.getId()), now)).collect(Collectors.toList()));
+        archivedRequestRepository.saveAll(requests.stream().map(request -> toArchivedRequest(request, now)).collect(Collectors.toList()));
+        archivedItemRepository.flush();
+        archivedRequestRepository.flush();
+
+        requestRepository.deleteByItemIdIn(ids);
+        itemDescriptionRepository.deleteByItemIdIn(ids);
+        itemRepository.deleteByIdIn(ids);
+        items.forEach(item -> eventPublisher.publishEvent(new ItemChangedEvent(ChangeType.ARCHIVED, ItemSnapshot.of(item), null)));
+        archivedRequests.forEach(request -> eventPublisher.publishEvent(new RequestChangedEvent(ChangeType.ARCHIVED, request, null)));
+
+        state.lastRunItemsArchived += items.size();
+        state.lastRunRequestsArchived += requests.size();
+        state.totalItemsArchived += items.size();
+        state.totalRequestsArchived += requests.size();
+        return items.size();
+    }
+
+    private ArchivedItem toArchivedItem(Item item, String description, LocalDateTime archivedAt) {
+        return ArchivedItem.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(description)
+                .descriptionSnippet(item.getDescriptionSnippet() != null ? item.getDescriptionSnippet() : ItemDescription.snippetOf(description))
+                .category(item.getCategory())
+                .locationFound(item.getLocationFound())
+                .dateReported(item.getDateReported())
+                .latitude(item.getLatitude())
+                .longitude(item.getLongitude())
+                .status(item.getStatus())
+                .reportedById(idOf(item.getReportedBy()))
+                .reportedByUsername(usernameOf(item.getReportedBy()))
+                .heldById(idOf(item.getHeldBy()))
+                .heldByUsername(usernameOf(item.getHeldBy()))
+                .claimedById(idOf(item.getClaimedBy()))
+                .claimedByUsername(usernameOf(item.getClaimedBy()))
+                .claimedAt(item.getClaimedAt())
+                .createdAt(item.getCreatedAt())
+                .updatedAt(item.getUpdatedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    private ArchivedRequest toArchivedRequest(Request request, LocalDateTime archivedAt) {
+        return ArchivedRequest.builder()
+                .id(request.getId())
+                .itemId(request.getItem().getId())
+                .itemName(request.getItem().getName())
+                .requesterId(idOf(request.getRequester()))
+                .requesterUsername(usernameOf(request.getRequester()))
+                .status(request.getStatus())
+                .message(request.getMessage())
+                .requestDate(request.getRequestDate())
+                .resolutionDate(request.getResolutionDate())
+                .adminNotes(request.getAdminNotes())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .archivedAt(archivedAt)
+                .build();
+    }
+
+    private Long idOf(User user) {
+        return user != null ? user.getId() : null;
+    }
+
+    private String usernameOf(User user) {
+        return user != null ? user.getUsername() : null;
+    }
+
+    // Per-campus run statistics, since this node started
+    private static final class RunState {
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile LocalDateTime lastRunStartedAt;
+        private volatile LocalDateTime lastRunFinishedAt;
+        private volatile long lastRunItemsArchived;
+        private volatile long lastRunRequestsArchived;
+        private volatile long totalItemsArchived;
+        private volatile long totalRequestsArchived;
+        private volatile String lastError;
+    }
+}
@@ -0,0 +1,228 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.audit.AuditEntry;
+import com.crs.lost_and_found_app.audit.AuditLog;
+import com.crs.lost_and_found_app.audit.AuditRecord;
+import com.crs.lost_and_found_app.dto.AuditRecordDto;
+import com.crs.lost_and_found_app.dto.AuditStatusDto;
+import com.crs.lost_and_found_app.dto.AuditVerifyDto;
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+import com.crs.lost_and_found_app.enums.ChangeType;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.event.RequestChangedEvent;
+import com.crs.lost_and_found_app.event.RequestSnapshot;
+import com.crs.lost_and_found_app.event.UserRoleChangedEvent;
+import com.crs.lost_and_found_app.exception.LogThrottle;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records status transitions (items, requests) and role changes in the {@link AuditLog} once
+ * their transaction has committed. Appending only queues the entry; when the queue is full the
+ * committing thread waits for room ({@code audit.enqueue-wait-ms=-1}, the default), so nothing
+ * is dropped. With a bounded wait an entry that still finds no room is refused, counted in
+ * {@link #getStatus()} and replaced by a GAP record in the chain, so the loss stays visible.
+ * <p>
+ * The log lives in {@code audit.dir} on this node and records what this node committed. History,
+ * status and verification are per node too: behind a load balancer, query every node (or send
+ * the request to each directly) to see a campus's full history.
+ */
+@Service
+public class AuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
+    public static final int MAX_RESULTS = 500;
+    private static final String SYSTEM_ACTOR = "system";
+
+    @Value("${audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audit.dir:./data/audit}")
+    private String dir;
+
+    @Value("${audit.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${audit.block-bytes:65536}")
+    private int blockBytes;
+
+    @Value("${audit.fsync:INTERVAL}")
+    private AuditLog.FsyncPolicy fsyncPolicy;
+
+    @Value("${audit.fsync-interval-ms:1000}")
+    private long fsyncIntervalMs;
+
+    @Value("${audit.roll-interval-hours:24}")
+    private long rollIntervalHours;
+
+    @Value("${audit.max-batch:256}")
+    private int maxBatch;
+
+    @Value("${audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${audit.enqueue-wait-ms:-1}")
+    private long enqueueWaitMs;
+
+    @Value("${audit.retention-days:0}")
+    private int retentionDays;
+
+    private final LogThrottle dropLogThrottle = new LogThrottle(1, TimeUnit.SECONDS.toNanos(10));
+    private AuditLog log;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        log = new AuditLog(Paths.get(dir).toAbsolutePath().normalize(), segmentBytes, blockBytes, fsyncPolicy,
+                fsyncIntervalMs, TimeUnit.HOURS.toMillis(rollIntervalHours), maxBatch, queueCapacity);
+        logger.info("Audit trail writing to {} (fsync {}).", dir, fsyncPolicy);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemSnapshot before = event.before();
+        ItemSnapshot after = event.after();
+        switch (event.type()) {
+            case CREATED -> record(AuditEntityType.ITEM, event.itemId(), "CREATED", null, after.status().name());
+            case UPDATED -> {
+                if (before.status() != after.status()) {
+                    record(AuditEntityType.ITEM, event.itemId(), "STATUS", before.status().name(), after.status().name());
+                }
+            }
+            case DELETED -> record(AuditEntityType.ITEM, event.itemId(), "DELETED", before.status().name(), null);
+            case ARCHIVED -> record(AuditEntityType.ITEM, event.itemId(), "ARCHIVED", before.status().name(), null);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRequestChanged(RequestChangedEvent event) {
+        RequestSnapshot before = event.before();
+        RequestSnapshot after = event.after();
+        Long requestId = after != null ? after.id() : before.id();
+        if (event.type() == ChangeType.CREATED) {
+            record(AuditEntityType.REQUEST, requestId, "CREATED", null, after.status().name());
+        } else if (event.type() == ChangeType.UPDATED && before.status() != after.status()) {
+            // Approvals and rejections, including the automatic rejection of competing requests
+            record(AuditEntityType.REQUEST, requestId, "STATUS", before.status().name(), after.status().name());
+        } else if (event.type() == ChangeType.DELETED || event.type() == ChangeType.ARCHIVED) {
+            record(AuditEntityType.REQUEST, requestId, event.type().name(), before.status().name(), null);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        record(AuditEntityType.USER, event.userId(), "ROLE", Objects.toString(event.from(), null), Objects.toString(event.to(), null));
+    }
+
+    public List<AuditRecordDto> getHistory(AuditEntityType entityType, long entityId, int limit) {
+        return requireLog().find(TenantContext.getTenant(), entityType, entityId, Math.min(Math.max(limit, 1), MAX_RESULTS)).stream()
+                .map(this::mapToAuditRecordDto)
+                .collect(Collectors.toList());
+    }
+
+    public AuditStatusDto getStatus() {
+        return requireLog().stats();
+    }
+
+    public AuditVerifyDto verify() {
+        AuditVerifyDto result = requireLog().verify();
+        if (!result.isValid()) {
+            logger.error("Audit chain verification failed at record {}: {}", result.getBrokenAtSeq(), result.getProblem());
+        }
+        return result;
+    }
+
+    // Drops segments past audit.retention-days and merges small sealed ones; returns the files removed
+    public int compact() throws IOException {
+        long cutoff = retentionDays > 0 ? System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays) : 0;
+        int removed = requireLog().compact(cutoff);
+        logger.info("Audit compaction removed {} segment file(s).", removed);
+        return removed;
+    }
+
+    @Scheduled(cron = "${audit.compaction-cron:0 45 3 * * *}")
+    public void scheduledCompaction() {
+        if (log == null) {
+            return;
+        }
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.error("Audit compaction failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void record(AuditEntityType entityType, Long entityId, String action, String from, String to) {
+        if (log == null || entityId == null) {
+            return;
+        }
+        AuditEntry entry = new AuditEntry(TenantContext.getTenant(), entityType, entityId, action, from, to, currentActor());
+        log.append(entry, enqueueWaitMs).whenComplete((seq, error) -> {
+            if (error != null) {
+                long dropped = dropLogThrottle.tryAcquire("append");
+                if (dropped >= 0) {
+                    logger.warn("Audit entry for {} {} not recorded, a GAP record marks it: {} ({} more since the last warning)",
+                            entityType, entityId, error.getMessage(), dropped);
+                }
+            }
+        });
+    }
+
+    // The signed-in user on the thread that committed; scheduled jobs and listeners run as "system"
+    private String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : SYSTEM_ACTOR;
+    }
+
+    private AuditLog requireLog() {
+        if (log == null) {
+            throw new NotFoundException("The audit trail is disabled (audit.enabled=false).");
+        }
+        return log;
+    }
+
+    private AuditRecordDto mapToAuditRecordDto(AuditRecord record) {
+        AuditEntry entry = record.entry();
+        return AuditRecordDto.builder()
+                .seq(record.seq())
+                .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestampMillis()), ZoneId.systemDefault()))
+                .entityType(entry.entityType())
+                .entityId(entry.entityId())
+                .action(entry.action())
+                .fromValue(entry.fromValue())
+                .toValue(entry.toValue())
+                .actor(entry.actor())
+                .hash(record.hashHex())
+                .build();
+    }
+}
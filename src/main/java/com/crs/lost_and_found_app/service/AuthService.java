@@ -6,6 +6,7 @@ import com.crs.lost_and_found_app.dto.SignUpRequest;
 import com.crs.lost_and_found_app.entity.User;
 import com.crs.lost_and_found_app.enums.UserRole;
 import com.crs.lost_and_found_app.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,8 +26,12 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenRevocationService tokenRevocationService;
 
     public JwtAuthenticationResponse signUp(SignUpRequest request) {
+        if (UserCleanupService.DELETED_USER_USERNAME.equalsIgnoreCase(request.getUsername())) {
+            throw new IllegalArgumentException("Username is reserved");
+        }
         if (userRepository.findByUsername(request.getUsername()).isPresent()) {
             logger.warn("Attempt to register with existing username: {}", request.getUsername());
             // Consider throwing a custom exception here for better error handling
@@ -75,4 +80,19 @@ public class AuthService {
                 .role(user.getRole().name())
                 .build();
     }
-} 
\ No newline at end of file
+
+    // Revokes just the presented token; other sessions of the user stay signed in.
+    public void logout(String token) {
+        Claims claims = jwtService.extractAllClaims(token);
+        tokenRevocationService.revokeToken(claims.getId(), claims.get("userId", Long.class), claims.getExpiration());
+        logger.info("User signed out: {}", claims.getSubject());
+    }
+
+    // Revokes every token of the signed-in user, including the presented one.
+    public void logoutEverywhere(String token) {
+        String username = jwtService.extractUsername(token);
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+        tokenRevocationService.revokeAllForUser(user.getId());
+    }
+}
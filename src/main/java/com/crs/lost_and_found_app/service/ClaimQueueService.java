@@ -0,0 +1,120 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.RequestResponseDto;
+import com.crs.lost_and_found_app.entity.Request;
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.enums.QueueOrder;
+import com.crs.lost_and_found_app.event.RequestLeaseChangedEvent;
+import com.crs.lost_and_found_app.exception.ConflictException;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Staff work queue over PENDING requests. Leasing locks the rows it hands out with SKIP LOCKED only
+// for the duration of one short transaction; after commit the lease columns keep other reviewers
+// away until the lease expires, is released, or the request is resolved. Two reviewers leasing at
+// the same moment never get the same request, but one of them may get fewer than it asked for.
+@Service
+@RequiredArgsConstructor
+public class ClaimQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClaimQueueService.class);
+    private static final int CANDIDATE_OVERFETCH = 3;
+
+    private final RequestRepository requestRepository;
+    private final UserRepository userRepository;
+    private final RequestService requestService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${queue.lease-duration-seconds:300}")
+    private long leaseDurationSeconds;
+
+    @Value("${queue.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Transactional
+    public List<RequestResponseDto> leaseNext(int count, QueueOrder order) {
+        User reviewer = CurrentUser.require(userRepository);
+        LocalDateTime now = LocalDateTime.now();
+        int batchSize = Math.min(Math.max(count, 1), maxBatchSize);
+        List<Request> requests = order == QueueOrder.MOST_CLAIMED_FIRST
+                ? leaseMostClaimedFirst(now, batchSize)
+                : requestRepository.findLeasableOldestFirst(now, PageRequest.of(0, batchSize));
+
+        LocalDateTime expiresAt = now.plusSeconds(leaseDurationSeconds);
+        for (Request request : requests) {
+            request.setLeasedById(reviewer.getId());
+            request.setLeaseExpiresAt(expiresAt);
+        }
+        requestRepository.saveAll(requests);
+        requests.forEach(request -> eventPublisher.publishEvent(new RequestLeaseChangedEvent(request.getId())));
+        logger.info("User ID: {} leased {} pending requests ({}) until {}", reviewer.getId(), requests.size(), order, expiresAt);
+        return requests.stream()
+                .map(requestService::mapToRequestResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    // Picks candidates without locking, then locks only those; extra candidates make up for ones
+    // another reviewer took in between. Returned in candidate order.
+    private List<Request> leaseMostClaimedFirst(LocalDateTime now, int batchSize) {
+        List<Long> candidates = requestRepository.findLeasableIdsMostClaimedFirst(now,
+                PageRequest.of(0, batchSize * CANDIDATE_OVERFETCH));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Request> locked = requestRepository.lockLeasableByIdIn(candidates, now).stream()
+                .collect(Collectors.toMap(Request::getId, Function.identity()));
+        List<Request> requests = new ArrayList<>(batchSize);
+        for (Long id : candidates) {
+            Request request = locked.get(id);
+            if (request != null && requests.size() < batchSize) {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestResponseDto> getMyLeases() {
+        User reviewer = CurrentUser.require(userRepository);
+        return requestRepository.findActiveLeases(reviewer.getId(), LocalDateTime.now()).stream()
+                .map(requestService::mapToRequestResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public LocalDateTime renewLease(Long requestId) {
+        User reviewer = CurrentUser.require(userRepository);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseDurationSeconds);
+        if (requestRepository.renewLease(requestId, reviewer.getId(), now, expiresAt) == 0) {
+            // Expired, released, resolved, or taken over by someone else after expiry
+            throw new ConflictException("You do not hold an active lease on request ID " + requestId + ".");
+        }
+        eventPublisher.publishEvent(new RequestLeaseChangedEvent(requestId));
+        return expiresAt;
+    }
+
+    @Transactional
+    public void releaseLease(Long requestId) {
+        User reviewer = CurrentUser.require(userRepository);
+        if (requestRepository.releaseLease(requestId, reviewer.getId()) == 0) {
+            throw new ConflictException("You do not hold a lease on request ID " + requestId + ".");
+        }
+        eventPublisher.publishEvent(new RequestLeaseChangedEvent(requestId));
+    }
+}
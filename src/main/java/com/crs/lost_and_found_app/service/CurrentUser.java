@@ -0,0 +1,35 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * The signed-in user of the current request, loaded from the current campus's users table.
+ */
+public final class CurrentUser {
+
+    private static final Logger logger = LoggerFactory.getLogger(CurrentUser.class);
+
+    private CurrentUser() {
+    }
+
+    // Forbidden without an authenticated user; NotFound if the account has gone since the token was issued
+    public static User require(UserRepository userRepository) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
+            throw new ForbiddenException("User not authenticated");
+        }
+        String username = authentication.getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> {
+                    logger.error("Authenticated user not found in database: {}", username);
+                    return new NotFoundException("Authenticated user not found: " + username);
+                });
+    }
+}
@@ -0,0 +1,223 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.InvalidationListener;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.index.SimHash;
+import com.crs.lost_and_found_app.index.SimHashIndex;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Near-duplicate detection for new item reports. Every open (LOST or FOUND) item of a campus has
+ * a SimHash fingerprint of its name, description, category and location in an in-memory
+ * {@link SimHashIndex}, so checking a new report costs a few bucket lookups however many items
+ * there are. LOST and FOUND items live in separate indexes: a found report that matches a lost
+ * one is the match the desk wants, not a duplicate.
+ * <p>
+ * The index is loaded per campus at startup. After that, item changes from any node arrive
+ * through the invalidation bus and are re-read from the database in small batches by a scheduled
+ * refresh; items that were claimed, archived or deleted simply drop out.
+ */
+@Service
+public class DuplicateDetectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateDetectionService.class);
+    private static final Set<ItemStatus> OPEN_STATUSES = EnumSet.of(ItemStatus.LOST, ItemStatus.FOUND);
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final ItemRepository itemRepository;
+    private final TenantRegistry tenantRegistry;
+    private final boolean enabled;
+    private final int blockMaxDistance;
+    private final int maxResults;
+    private final int seedPageSize;
+    private final TenantScoped<DetectorState> states;
+
+    public DuplicateDetectionService(ItemRepository itemRepository,
+                                     TenantRegistry tenantRegistry,
+                                     InvalidationBus invalidationBus,
+                                     @Value("${duplicates.enabled:true}") boolean enabled,
+                                     @Value("${duplicates.max-distance:3}") int maxDistance,
+                                     @Value("${duplicates.block-max-distance:-1}") int blockMaxDistance,
+                                     @Value("${duplicates.max-results:5}") int maxResults,
+                                     @Value("${duplicates.seed-page-size:1000}") int seedPageSize) {
+        this.itemRepository = itemRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.enabled = enabled;
+        this.blockMaxDistance = blockMaxDistance;
+        this.maxResults = maxResults;
+        this.seedPageSize = seedPageSize;
+        this.states = new TenantScoped<>(() -> new DetectorState(maxDistance));
+        invalidationBus.subscribe(InvalidationBus.ITEM, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                states.get().pending.add(Long.valueOf(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                states.get().reseed = true;
+            }
+        });
+    }
+
+    public long fingerprint(String name, String description, String category, String location) {
+        return SimHash.of(name, description, category, location);
+    }
+
+    // Open items of the current campus with this status whose fingerprint is close to this one,
+    // closest first. Empty until the campus's index has been loaded.
+    public List<SimHashIndex.Match> findDuplicates(long fingerprint, ItemStatus status) {
+        DetectorState state = states.get();
+        SimHashIndex index = state.indexes.get(status);
+        if (!enabled || fingerprint == 0L || index == null || !state.seeded) {
+            return List.of();
+        }
+        return index.findWithin(fingerprint, maxResults);
+    }
+
+    // A match this close is treated as the same report; a negative setting never blocks
+    public boolean shouldBlock(int distance) {
+        return enabled && distance <= blockMaxDistance;
+    }
+
+    // Called after commit for items created on this node, so a second report right away is caught
+    public void register(Long itemId, long fingerprint, ItemStatus status) {
+        if (enabled && fingerprint != 0L && OPEN_STATUSES.contains(status)) {
+            states.get().put(itemId, fingerprint, status);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedAllCampuses() {
+        if (enabled) {
+            tenantRegistry.forEachTenant(tenant -> seed(states.get()));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${duplicates.refresh-interval-ms:1000}", fixedDelayString = "${duplicates.refresh-interval-ms:1000}")
+    public void refreshChangedItems() {
+        if (!enabled) {
+            return;
+        }
+        states.all().forEach((tenant, state) -> {
+            if (!state.reseed && state.pending.isEmpty()) {
+                return;
+            }
+            try {
+                TenantContext.runAs(tenant, () -> {
+                    if (state.reseed) {
+                        seed(state);
+                    } else {
+                        refresh(state);
+                    }
+                });
+            } catch (Exception e) {
+                logger.error("Duplicate index refresh failed for campus {}: {}", tenant, e.getMessage(), e);
+            }
+        });
+    }
+
+    private void seed(DetectorState state) {
+        state.reseed = false;
+        state.pending.clear();
+        state.indexes.values().forEach(SimHashIndex::clear);
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = itemRepository.findFingerprintSourcesAfter(OPEN_STATUSES, afterId, PageRequest.of(0, seedPageSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            rows.forEach(row -> apply(state, row));
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        state.seeded = true;
+        logger.info("Duplicate index loaded for campus {}: {} open items.", TenantContext.getTenant(), state.size());
+    }
+
+    private void refresh(DetectorState state) {
+        List<Long> ids = new ArrayList<>();
+        for (Long id : state.pending) {
+            state.pending.remove(id);
+            ids.add(id);
+            if (ids.size() == REFRESH_BATCH_SIZE) {
+                refresh(state, ids);
+                ids = new ArrayList<>();
+            }
+        }
+        if (!ids.isEmpty()) {
+            refresh(state, ids);
+        }
+    }
+
+    private void refresh(DetectorState state, List<Long> ids) {
+        Set<Long> found = new HashSet<>();
+        for (Object[] row : itemRepository.findFingerprintSources(ids)) {
+            apply(state, row);
+            found.add((Long) row[0]);
+        }
+        ids.stream().filter(id -> !found.contains(id)).forEach(state::remove); // Deleted or archived
+    }
+
+    // row: id, name, description, category, location, status
+    private void apply(DetectorState state, Object[] row) {
+        Long id = (Long) row[0];
+        long fingerprint = fingerprint((String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+        ItemStatus status = (ItemStatus) row[5];
+        if (fingerprint != 0L && OPEN_STATUSES.contains(status)) {
+            state.put(id, fingerprint, status);
+        } else {
+            state.remove(id);
+        }
+    }
+
+    private static final class DetectorState {
+        private final Map<ItemStatus, SimHashIndex> indexes = new EnumMap<>(ItemStatus.class); // One per open status, fixed after construction
+        private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+        private volatile boolean seeded;
+        private volatile boolean reseed;
+
+        private DetectorState(int maxDistance) {
+            OPEN_STATUSES.forEach(status -> indexes.put(status, new SimHashIndex(maxDistance)));
+        }
+
+        // An item that went from LOST to FOUND moves to the other index
+        private void put(Long id, long fingerprint, ItemStatus status) {
+            indexes.forEach((indexStatus, index) -> {
+                if (indexStatus == status) {
+                    index.put(id, fingerprint);
+                } else {
+                    index.remove(id);
+                }
+            });
+        }
+
+        private void remove(Long id) {
+            indexes.values().forEach(index -> index.remove(id));
+        }
+
+        private int size() {
+            return indexes.values().stream().mapToInt(SimHashIndex::size).sum();
+        }
+    }
+}
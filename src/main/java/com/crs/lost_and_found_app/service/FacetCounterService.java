@@ -0,0 +1,225 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.FacetCountsDto;
+import com.crs.lost_and_found_app.enums.ChangeType;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.event.RequestChangedEvent;
+import com.crs.lost_and_found_app.repository.ArchivedItemRepository;
+import com.crs.lost_and_found_app.repository.ArchivedRequestRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Dashboard facet counts kept in memory. Seeded from GROUP BY queries, moved incrementally by
+// item/request change events after commit, and periodically reconciled against the database
+// to correct drift (missed events, direct SQL edits, other nodes). Archived rows still count, so
+// moving an item to the cold tables leaves the dashboard totals unchanged.
+// Values are counted under a folded key (trimmed, lower case, accents removed) because MySQL's
+// default collation groups "Keys", "keys " and "kéys" together; each key is shown with the
+// spelling the database last reported for it, or the first one seen in an event.
+@Service
+@RequiredArgsConstructor
+public class FacetCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacetCounterService.class);
+    static final String NONE = "(none)";
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final ArchivedItemRepository archivedItemRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+
+    private final TenantRegistry tenantRegistry;
+    private final TenantScoped<Counters> counters = new TenantScoped<>(Counters::new);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${stats.facets.reconcile-interval-ms:300000}",
+               fixedDelayString = "${stats.facets.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        tenantRegistry.forEachTenant(tenant -> reconcile(counters.get()));
+    }
+
+    private void reconcile(Counters c) {
+        long drift = 0;
+        drift += reconcile(c.itemStatus, concat(itemRepository.countByStatusGrouped(), archivedItemRepository.countByStatusGrouped()));
+        drift += reconcile(c.itemCategory, concat(itemRepository.countByCategoryGrouped(), archivedItemRepository.countByCategoryGrouped()));
+        drift += reconcile(c.itemLocation, concat(itemRepository.countByLocationGrouped(), archivedItemRepository.countByLocationGrouped()));
+        drift += reconcile(c.requestStatus, concat(requestRepository.countByStatusGrouped(), archivedRequestRepository.countByStatusGrouped()));
+        if (c.lastReconciledAt != null && drift > 0) {
+            logger.warn("Facet counters for campus {} drifted from the database by {} and were corrected.", TenantContext.getTenant(), drift);
+        }
+        c.lastReconciliationDrift = drift;
+        c.lastReconciledAt = LocalDateTime.now();
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.type() == ChangeType.ARCHIVED) {
+            return; // Moved to the cold table, still counted
+        }
+        Counters c = counters.get();
+        ItemSnapshot before = event.before();
+        ItemSnapshot after = event.after();
+        if (before != null) {
+            increment(c.itemStatus, before.status() != null ? before.status().name() : null, -1);
+            increment(c.itemCategory, before.category(), -1);
+            increment(c.itemLocation, before.locationFound(), -1);
+        }
+        if (after != null) {
+            increment(c.itemStatus, after.status() != null ? after.status().name() : null, 1);
+            increment(c.itemCategory, after.category(), 1);
+            increment(c.itemLocation, after.locationFound(), 1);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onRequestChanged(RequestChangedEvent event) {
+        if (event.type() == ChangeType.ARCHIVED) {
+            return; // Moved to the cold table, still counted
+        }
+        Counters c = counters.get();
+        if (event.before() != null) {
+            increment(c.requestStatus, event.before().status().name(), -1);
+        }
+        if (event.after() != null) {
+            increment(c.requestStatus, event.after().status().name(), 1);
+        }
+    }
+
+    public FacetCountsDto getFacetCounts(int top) {
+        Counters c = counters.get();
+        return FacetCountsDto.builder()
+                .itemStatus(snapshot(c.itemStatus, Integer.MAX_VALUE))
+                .itemCategory(snapshot(c.itemCategory, top))
+                .itemLocation(snapshot(c.itemLocation, top))
+                .requestStatus(snapshot(c.requestStatus, Integer.MAX_VALUE))
+                .lastReconciledAt(c.lastReconciledAt)
+                .lastReconciliationDrift(c.lastReconciliationDrift)
+                .build();
+    }
+
+    // Current category / location counts for the current campus, without the "(none)" bucket
+    public Map<String, Long> getCategoryCounts() {
+        return withoutNone(snapshot(counters.get().itemCategory, Integer.MAX_VALUE));
+    }
+
+    public Map<String, Long> getLocationCounts() {
+        return withoutNone(snapshot(counters.get().itemLocation, Integer.MAX_VALUE));
+    }
+
+    public LocalDateTime getLastReconciledAt() {
+        return counters.get().lastReconciledAt;
+    }
+
+    private Map<String, Long> withoutNone(Map<String, Long> counts) {
+        counts.remove(NONE);
+        return counts;
+    }
+
+    private long reconcile(Facet facet, List<Object[]> rows) {
+        Map<String, Long> actual = new HashMap<>();
+        for (Object[] row : rows) {
+            String value = row[0] != null ? row[0].toString() : null;
+            String key = key(value);
+            actual.merge(key, (Long) row[1], Long::sum);
+            facet.displayNames.put(key, display(value));
+        }
+        long drift = 0;
+        Set<String> keys = new HashSet<>(facet.counts.keySet());
+        keys.addAll(actual.keySet());
+        for (String key : keys) {
+            LongAdder adder = facet.counts.computeIfAbsent(key, k -> new LongAdder());
+            long delta = actual.getOrDefault(key, 0L) - adder.sum();
+            if (delta != 0) {
+                adder.add(delta);
+                drift += Math.abs(delta);
+            }
+        }
+        facet.counts.entrySet().removeIf(entry -> entry.getValue().sum() == 0 && !actual.containsKey(entry.getKey()));
+        facet.displayNames.keySet().retainAll(facet.counts.keySet());
+        return drift;
+    }
+
+    private List<Object[]> concat(List<Object[]> hot, List<Object[]> cold) {
+        List<Object[]> rows = new ArrayList<>(hot);
+        rows.addAll(cold);
+        return rows;
+    }
+
+    private void increment(Facet facet, String value, long delta) {
+        String key = key(value);
+        facet.counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        if (delta > 0) {
+            facet.displayNames.putIfAbsent(key, display(value));
+        }
+    }
+
+    private Map<String, Long> snapshot(Facet facet, int top) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        facet.counts.entrySet().stream()
+                .map(entry -> Map.entry(facet.displayNames.getOrDefault(entry.getKey(), entry.getKey()), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.max(top, 1))
+                .forEach(entry -> result.merge(entry.getKey(), entry.getValue(), Long::sum));
+        return result;
+    }
+
+    // Folded the way the database groups values, so event updates and reconciliation agree
+    static String key(String value) {
+        if (value == null || value.isBlank()) {
+            return NONE;
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static String display(String value) {
+        return value == null || value.isBlank() ? NONE : value.trim();
+    }
+
+    private static final class Facet {
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, String> displayNames = new ConcurrentHashMap<>(); // Folded key -> spelling shown
+    }
+
+    private static final class Counters {
+        private final Facet itemStatus = new Facet();
+        private final Facet itemCategory = new Facet();
+        private final Facet itemLocation = new Facet();
+        private final Facet requestStatus = new Facet();
+        private volatile LocalDateTime lastReconciledAt;
+        private volatile long lastReconciliationDrift;
+    }
+}
@@ -0,0 +1,140 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.StripedLruCache;
+import com.crs.lost_and_found_app.entity.IdempotencyRecord;
+import com.crs.lost_and_found_app.repository.IdempotencyRecordRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores the first response for each Idempotency-Key so client retries get the same answer.
+ * <p>
+ * Three layers: an in-flight map so concurrent duplicates on this node wait for the first
+ * execution, a striped LRU/TTL cache for recent keys, and the idempotency_keys table for other
+ * nodes and restarts. A row is reserved before the first execution runs, so a duplicate that
+ * lands on another node sees the key as in progress rather than executing again.
+ * <p>
+ * A reservation only holds for {@code idempotency.in-flight-lease-seconds}; the row gets the full
+ * TTL once its response is stored. If the node running the first execution dies, the key is free
+ * again when the lease lapses instead of answering 409 until the TTL ends.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final TenantRegistry tenantRegistry;
+    private final StripedLruCache<String, StoredResponse> cache;
+    private final ConcurrentHashMap<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration inFlightLease;
+
+    public IdempotencyService(IdempotencyRecordRepository repository,
+                              TenantRegistry tenantRegistry,
+                              @Value("${idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${idempotency.in-flight-lease-seconds:120}") long inFlightLeaseSeconds,
+                              @Value("${idempotency.cache.max-entries:10000}") int maxEntries,
+                              @Value("${idempotency.cache.stripes:16}") int stripes) {
+        this.repository = repository;
+        this.tenantRegistry = tenantRegistry;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.inFlightLease = Duration.ofSeconds(inFlightLeaseSeconds);
+        this.cache = new StripedLruCache<>(maxEntries, stripes, ttlHours, TimeUnit.HOURS);
+    }
+
+    public record StoredResponse(String requestHash, int statusCode, String contentType, byte[] body) {
+    }
+
+    // Completed response for the key, from memory or the table; null if unknown or still running.
+    public StoredResponse findCompleted(String scopeKey) {
+        StoredResponse cached = cache.get(scopeKey);
+        if (cached != null) {
+            return cached;
+        }
+        return repository.findById(scopeKey)
+                .filter(record -> record.getStatusCode() != null && record.getExpiresAt().isAfter(LocalDateTime.now()))
+                .map(record -> {
+                    StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                            record.getContentType(), record.getResponseBody());
+                    cache.put(scopeKey, stored);
+                    return stored;
+                })
+                .orElse(null);
+    }
+
+    // Registers this thread as the executor for the key on this node. Returns null if it now owns
+    // the key, or the future of the execution already in flight, which the caller should wait on.
+    public CompletableFuture<StoredResponse> joinInFlight(String scopeKey, CompletableFuture<StoredResponse> mine) {
+        return inFlight.putIfAbsent(scopeKey, mine);
+    }
+
+    // Cross-node reservation. False if another execution (possibly on another node) holds the key.
+    public boolean reserve(String scopeKey, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        if (repository.reserve(scopeKey, requestHash, now, now.plus(inFlightLease)) == 1) {
+            return true;
+        }
+        // An expired response or a lapsed lease (its node died mid-request) is not a real owner.
+        // The conditional delete lets only one node take the key over.
+        if (repository.deleteIfExpired(scopeKey, now) == 1) {
+            return repository.reserve(scopeKey, requestHash, now, now.plus(inFlightLease)) == 1;
+        }
+        return false;
+    }
+
+    public void complete(String scopeKey, CompletableFuture<StoredResponse> mine, StoredResponse response) {
+        try {
+            repository.findById(scopeKey).ifPresent(record -> {
+                record.setStatusCode(response.statusCode());
+                record.setContentType(response.contentType());
+                record.setResponseBody(response.body());
+                record.setExpiresAt(LocalDateTime.now().plus(ttl)); // Lease becomes the full TTL
+                repository.save(record);
+            });
+            cache.put(scopeKey, response);
+        } finally {
+            inFlight.remove(scopeKey, mine);
+            mine.complete(response);
+        }
+    }
+
+    // The first execution failed (exception or 5xx): forget the key so a retry can run again.
+    public void abandon(String scopeKey, CompletableFuture<StoredResponse> mine) {
+        try {
+            repository.deleteById(scopeKey);
+        } catch (Exception e) {
+            logger.warn("Could not release idempotency key {}: {}", scopeKey, e.getMessage());
+        } finally {
+            inFlight.remove(scopeKey, mine);
+            mine.complete(null);
+        }
+    }
+
+    // Only for a key that this thread registered in flight but never reserved in the table
+    public void leaveInFlight(String scopeKey, CompletableFuture<StoredResponse> mine) {
+        inFlight.remove(scopeKey, mine);
+        mine.complete(null);
+    }
+
+    @Scheduled(initialDelayString = "${idempotency.purge-interval-ms:3600000}",
+               fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        tenantRegistry.forEachTenant(tenant -> {
+            int deleted = repository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                logger.info("Purged {} expired idempotency keys for campus {}.", deleted, tenant);
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.RequestChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Turns committed item and request changes into cluster-wide cache invalidations.
+@Component
+@RequiredArgsConstructor
+public class InvalidationPublisher {
+
+    private final InvalidationBus invalidationBus;
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        invalidationBus.publish(InvalidationBus.ITEM, event.itemId());
+    }
+
+    @TransactionalEventListener
+    public void onRequestChanged(RequestChangedEvent event) {
+        invalidationBus.publish(InvalidationBus.REQUEST, event.requestId());
+    }
+}
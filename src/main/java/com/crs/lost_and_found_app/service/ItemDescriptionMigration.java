@@ -0,0 +1,118 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.entity.ItemDescription;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * One-off move of item descriptions out of the items table into item_descriptions, run at
+ * startup for every campus. ddl-auto only updates the default schema and never moves data, so
+ * this creates what is missing, copies descriptions over, fills the snippet column and then
+ * renames items.description to description_legacy. A campus whose items table has no
+ * description column has already been migrated and is skipped.
+ * <p>
+ * It runs while the context starts, before the EntityManagerFactory (and so before ddl-auto,
+ * anything that reads items, and the web server accepting requests). Rows are copied in id
+ * ranges of {@code items.description-migration.batch-size}, one short statement each, so no
+ * single statement locks the whole table; a campus interrupted half-way resumes where it stopped.
+ * <p>
+ * The legacy column is kept, never read, until someone drops it by hand.
+ * <p>
+ * items_archive gets the same treatment for its snippet: when the description_snippet column is
+ * missing it is added and filled from the archived description, in the same batches.
+ */
+@Component
+public class ItemDescriptionMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemDescriptionMigration.class);
+    private final JdbcTemplate jdbc;
+    private final TenantRegistry tenantRegistry;
+    private final int batchSize;
+
+    public ItemDescriptionMigration(DataSource dataSource,
+                                    TenantRegistry tenantRegistry,
+                                    @Value("${items.description-migration.batch-size:5000}") int batchSize) {
+        this.jdbc = new JdbcTemplate(dataSource); // Routes to the current campus's schema
+        this.tenantRegistry = tenantRegistry;
+        this.batchSize = batchSize;
+    }
+
+    // Makes the JPA EntityManagerFactory wait for the migration
+    @Component
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnMigration() {
+            super(ItemDescriptionMigration.class);
+        }
+    }
+
+    @PostConstruct
+    public void migrateAllCampuses() {
+        tenantRegistry.forEachTenant(tenant -> {
+            try {
+                migrateCurrentCampus();
+                addArchiveSnippets();
+            } catch (Exception e) {
+                logger.error("Item description migration failed for campus {}: {}", TenantContext.getTenant(), e.getMessage(), e);
+            }
+        });
+    }
+
+    private void migrateCurrentCampus() {
+        if (!hasColumn("items", "description")) {
+            return;
+        }
+        jdbc.execute("create table if not exists item_descriptions (" +
+                "item_id bigint not null primary key, " +
+                "text longtext not null)");
+        if (!hasColumn("items", "description_snippet")) {
+            jdbc.execute("alter table items add column description_snippet varchar(" + ItemDescription.SNIPPET_LENGTH + ")");
+        }
+        long maxId = jdbc.queryForObject("select coalesce(max(id), 0) from items", Long.class);
+        long copied = 0;
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            long toId = Math.min(maxId, fromId + batchSize);
+            copied += jdbc.update("insert ignore into item_descriptions (item_id, text) " +
+                    "select id, description from items where id > ? and id <= ? and description is not null and description <> ''", fromId, toId);
+            jdbc.update("update items set description_snippet = left(description, " + ItemDescription.SNIPPET_LENGTH + ") " +
+                    "where id > ? and id <= ? and description_snippet is null and description is not null and description <> ''", fromId, toId);
+        }
+        jdbc.execute("alter table items rename column description to description_legacy");
+        logger.info("Moved {} item descriptions to item_descriptions for campus {}.", copied, TenantContext.getTenant());
+    }
+
+    // A new items_archive is created with the column by ddl-auto; an older one needs it added and filled
+    private void addArchiveSnippets() {
+        if (!hasTable("items_archive") || hasColumn("items_archive", "description_snippet")) {
+            return;
+        }
+        jdbc.execute("alter table items_archive add column description_snippet varchar(" + ItemDescription.SNIPPET_LENGTH + ")");
+        long maxId = jdbc.queryForObject("select coalesce(max(id), 0) from items_archive", Long.class);
+        long filled = 0;
+        for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+            filled += jdbc.update("update items_archive set description_snippet = left(description, " + ItemDescription.SNIPPET_LENGTH + ") " +
+                    "where id > ? and id <= ? and description is not null and description <> ''", fromId, Math.min(maxId, fromId + batchSize));
+        }
+        logger.info("Filled {} archived item description snippets for campus {}.", filled, TenantContext.getTenant());
+    }
+
+    private boolean hasTable(String table) {
+        Integer count = jdbc.queryForObject("select count(*) from information_schema.tables " +
+                "where table_schema = database() and table_name = ?", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private boolean hasColumn(String table, String column) {
+        Integer count = jdbc.queryForObject("select count(*) from information_schema.columns " +
+                "where table_schema = database() and table_name = ? and column_name = ?", Integer.class, table, column);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.InvalidationListener;
+import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.index.GeoGridIndex;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Service
+public class ItemGeoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemGeoService.class);
+
+    private final ItemRepository itemRepository;
+    private final TenantRegistry tenantRegistry;
+    private final TenantScoped<GeoGridIndex> indexes = new TenantScoped<>(GeoGridIndex::new);
+
+    public ItemGeoService(ItemRepository itemRepository, TenantRegistry tenantRegistry, InvalidationBus invalidationBus) {
+        this.itemRepository = itemRepository;
+        this.tenantRegistry = tenantRegistry;
+        // Items changed on another node
+        invalidationBus.subscribe(InvalidationBus.ITEM, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                Long id = Long.valueOf(key);
+                itemRepository.findById(id).ifPresentOrElse(ItemGeoService.this::index, () -> indexes.get().remove(id));
+            }
+
+            @Override
+            public void invalidateAll() {
+                loadCurrentTenant();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        tenantRegistry.forEachTenant(tenant -> loadCurrentTenant());
+    }
+
+    private void loadCurrentTenant() {
+        GeoGridIndex geoGridIndex = indexes.get();
+        geoGridIndex.clear();
+        for (Object[] row : itemRepository.findAllCoordinates()) {
+            geoGridIndex.put(new GeoGridIndex.Entry((Long) row[0], (Double) row[1], (Double) row[2], (ItemStatus) row[3]));
+        }
+        logger.info("Loaded {} item locations into the geo grid index for campus {}.", geoGridIndex.size(), TenantContext.getTenant());
+    }
+
+    private void index(Item item) {
+        if (item.getLatitude() == null || item.getLongitude() == null) {
+            indexes.get().remove(item.getId());
+            return;
+        }
+        indexes.get().put(new GeoGridIndex.Entry(item.getId(), item.getLatitude(), item.getLongitude(), item.getStatus()));
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        ItemSnapshot after = event.after();
+        if (after == null || after.latitude() == null || after.longitude() == null) {
+            indexes.get().remove(event.itemId());
+            return;
+        }
+        indexes.get().put(new GeoGridIndex.Entry(after.id(), after.latitude(), after.longitude(), after.status()));
+    }
+
+    public List<GeoGridIndex.Hit> findNearby(double latitude, double longitude, double radiusMeters, ItemStatus status, int limit) {
+        return indexes.get().within(latitude, longitude, radiusMeters, status, limit);
+    }
+}
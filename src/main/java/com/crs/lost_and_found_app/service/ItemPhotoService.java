@@ -0,0 +1,195 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.ItemPhotoDto;
+import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.entity.ItemPhoto;
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.enums.UserRole;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.repository.ItemPhotoRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ItemPhotoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemPhotoService.class);
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp", "image/bmp");
+
+    private final ItemPhotoRepository itemPhotoRepository;
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final PhotoStorageService photoStorageService;
+    private final ThumbnailService thumbnailService;
+
+    public record PhotoFile(Path path, String contentType, String contentHash, long sizeBytes) {
+    }
+
+    @Transactional
+    public ItemPhotoDto uploadPhoto(Long itemId, MultipartFile file) throws IOException {
+        User currentUser = CurrentUser.require(userRepository);
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> {
+                    logger.warn("Item not found with ID: {} for photo upload by User ID: {}", itemId, currentUser.getId());
+                    return new NotFoundException("Item not found with ID: " + itemId);
+                });
+        checkCanModify(item, currentUser);
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Photo file is empty.");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+            throw new InvalidRequestException("Unsupported photo content type: " + contentType);
+        }
+
+        PhotoStorageService.StoredBlob blob;
+        try (InputStream inputStream = file.getInputStream()) {
+            blob = photoStorageService.store(inputStream); // Returns holding the blob's lock
+            // Commit or rollback: either way the row's fate is settled. Runs on the thread that took the lock.
+            TransactionCallbacks.afterCompletion(photoStorageService.lockFor(blob.contentHash())::unlock);
+        }
+
+        ItemPhoto photo = ItemPhoto.builder()
+                .itemId(item.getId())
+                .contentHash(blob.contentHash())
+                .contentType(contentType.toLowerCase())
+                .sizeBytes(blob.sizeBytes())
+                .originalFilename(file.getOriginalFilename())
+                .thumbnailReady(blob.deduplicated() && Files.exists(photoStorageService.thumbnailPath(blob.contentHash())))
+                .uploadedById(currentUser.getId())
+                .build();
+        ItemPhoto saved = itemPhotoRepository.save(photo);
+        if (!saved.isThumbnailReady()) {
+            TransactionCallbacks.afterCommit(() -> thumbnailService.requestThumbnail(blob.contentHash()));
+        }
+        logger.info("Photo ID: {} ({} bytes, hash {}, deduplicated: {}) uploaded for Item ID: {} by User ID: {}",
+                saved.getId(), blob.sizeBytes(), blob.contentHash(), blob.deduplicated(), itemId, currentUser.getId());
+        return mapToItemPhotoDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemPhotoDto> getPhotos(Long itemId) {
+        return itemPhotoRepository.findByItemId(itemId).stream()
+                .map(this::mapToItemPhotoDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public PhotoFile getPhotoFile(Long itemId, Long photoId) {
+        ItemPhoto photo = findPhoto(itemId, photoId);
+        return new PhotoFile(photoStorageService.blobPath(photo.getContentHash()), photo.getContentType(),
+                photo.getContentHash(), photo.getSizeBytes());
+    }
+
+    @Transactional(readOnly = true)
+    public PhotoFile getThumbnailFile(Long itemId, Long photoId) {
+        ItemPhoto photo = findPhoto(itemId, photoId);
+        Path thumbnail = photoStorageService.thumbnailPath(photo.getContentHash());
+        if (!Files.exists(thumbnail)) {
+            thumbnailService.requestThumbnail(photo.getContentHash());
+            throw new NotFoundException("Thumbnail not ready yet for photo ID: " + photoId);
+        }
+        try {
+            return new PhotoFile(thumbnail, "image/jpeg", photo.getContentHash() + "-thumb", Files.size(thumbnail));
+        } catch (IOException e) {
+            throw new NotFoundException("Thumbnail not readable for photo ID: " + photoId);
+        }
+    }
+
+    @Transactional
+    public void deletePhoto(Long itemId, Long photoId) {
+        User currentUser = CurrentUser.require(userRepository);
+        ItemPhoto photo = findPhoto(itemId, photoId);
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new NotFoundException("Item not found with ID: " + itemId));
+        checkCanModify(item, currentUser);
+        itemPhotoRepository.delete(photo);
+        releaseBlobAfterCommit(photo.getContentHash());
+        logger.info("Photo ID: {} deleted from Item ID: {} by User ID: {}", photoId, itemId, currentUser.getId());
+    }
+
+    public void transfer(PhotoFile file, long position, long count, OutputStream outputStream) throws IOException {
+        photoStorageService.transfer(file.path(), position, count, outputStream);
+    }
+
+    // Called by ItemService.deleteItem within its transaction.
+    public void deletePhotosForItem(Long itemId) {
+        List<ItemPhoto> photos = itemPhotoRepository.findByItemId(itemId);
+        if (photos.isEmpty()) {
+            return;
+        }
+        itemPhotoRepository.deleteAll(photos);
+        photos.stream().map(ItemPhoto::getContentHash).distinct().forEach(this::releaseBlobAfterCommit);
+    }
+
+    // The blob is shared by every photo row with the same hash, only remove it once none remain.
+    // The count is taken under the hash's lock, which an upload of the same image holds until its
+    // row is committed, so a deduplicated upload in flight either shows up in the count or finds
+    // the blob gone and stores it again.
+    private void releaseBlobAfterCommit(String contentHash) {
+        TransactionCallbacks.afterCommit(() -> {
+            Lock lock = photoStorageService.lockFor(contentHash);
+            lock.lock();
+            try {
+                if (itemPhotoRepository.countByContentHash(contentHash) == 0) {
+                    photoStorageService.delete(contentHash);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ItemPhoto findPhoto(Long itemId, Long photoId) {
+        return itemPhotoRepository.findById(photoId)
+                .filter(photo -> photo.getItemId().equals(itemId))
+                .orElseThrow(() -> {
+                    logger.warn("Photo not found with ID: {} for Item ID: {}", photoId, itemId);
+                    return new NotFoundException("Photo not found with ID: " + photoId);
+                });
+    }
+
+    private void checkCanModify(Item item, User currentUser) {
+        if (!item.getReportedBy().getId().equals(currentUser.getId()) &&
+            currentUser.getRole() != UserRole.ADMIN &&
+            currentUser.getRole() != UserRole.STAFF) {
+            logger.warn("User ID: {} attempted to modify photos of Item ID: {} without permission.", currentUser.getId(), item.getId());
+            throw new ForbiddenException("You are not authorized to modify photos of this item.");
+        }
+    }
+
+    private ItemPhotoDto mapToItemPhotoDto(ItemPhoto photo) {
+        String url = "/api/v1/items/" + photo.getItemId() + "/photos/" + photo.getId();
+        return ItemPhotoDto.builder()
+                .id(photo.getId())
+                .itemId(photo.getItemId())
+                .contentHash(photo.getContentHash())
+                .contentType(photo.getContentType())
+                .sizeBytes(photo.getSizeBytes())
+                .originalFilename(photo.getOriginalFilename())
+                .thumbnailReady(photo.isThumbnailReady())
+                .url(url)
+                .thumbnailUrl(url + "/thumbnail")
+                .createdAt(photo.getCreatedAt())
+                .build();
+    }
+}
@@ -1,86 +1,443 @@
 package com.crs.lost_and_found_app.service;
 
+import com.crs.lost_and_found_app.cache.CoalescingLoader;
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.InvalidationListener;
+import com.crs.lost_and_found_app.cache.TinyLfuCache;
+import com.crs.lost_and_found_app.dto.CacheStatsDto;
+import com.crs.lost_and_found_app.dto.DuplicateMatchDto;
 import com.crs.lost_and_found_app.dto.ItemRequestDto;
 import com.crs.lost_and_found_app.dto.ItemResponseDto;
+import com.crs.lost_and_found_app.dto.NearbyItemDto;
+import com.crs.lost_and_found_app.entity.ArchivedItem;
 import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.entity.ItemDescription;
+import com.crs.lost_and_found_app.entity.ItemView;
 import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.enums.ChangeType;
 import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.exception.DuplicateItemException;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.index.GeoGridIndex;
+import com.crs.lost_and_found_app.index.GeoHash;
+import com.crs.lost_and_found_app.index.SimHashIndex;
+import com.crs.lost_and_found_app.projection.Projections;
+import com.crs.lost_and_found_app.projection.SparseFieldQuery;
+import com.crs.lost_and_found_app.repository.ArchivedItemRepository;
+import com.crs.lost_and_found_app.repository.ItemDescriptionRepository;
 import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.ItemViewRepository;
 import com.crs.lost_and_found_app.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class ItemService {
 
     private static final Logger logger = LoggerFactory.getLogger(ItemService.class);
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final ArchivedItemRepository archivedItemRepository;
+    private final ItemDescriptionRepository itemDescriptionRepository;
+    private final SavedSearchService savedSearchService;
+    private final ItemPhotoService itemPhotoService;
+    private final ItemGeoService itemGeoService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final ItemViewRepository itemViewRepository;
+    private final ReadModelProjector readModel;
+    private final DuplicateDetectionService duplicateDetectionService;
+
+    private static final double MAX_NEARBY_RADIUS_METERS = 50_000;
+    private static final int MAX_NEARBY_RESULTS = 200;
+    public static final int MAX_IDS_PER_REQUEST = 100;
+
+    // Concurrent GET /items/{id} calls within items.coalesce.window-micros share one IN query.
+    // Deliberately not a Spring bean: a ScheduledExecutorService bean would take over @Scheduled jobs.
+    private final ScheduledThreadPoolExecutor itemLoadExecutor;
+    private final long coalesceWindowNanos;
+    private final TenantScoped<CoalescingLoader<Long, ItemResponseDto>> itemLoaders;
+    // Hot items by ID, in front of the loaders; dropped through the invalidation bus when an item changes
+    private final boolean itemCacheEnabled;
+    private final TenantScoped<TinyLfuCache<Long, ItemResponseDto>> itemCaches;
+
+    public ItemService(ItemRepository itemRepository,
+                       UserRepository userRepository,
+                       ArchivedItemRepository archivedItemRepository,
+                       ItemDescriptionRepository itemDescriptionRepository,
+                       SavedSearchService savedSearchService,
+                       ItemPhotoService itemPhotoService,
+                       ItemGeoService itemGeoService,
+                       ApplicationEventPublisher eventPublisher,
+                       SparseFieldQuery sparseFieldQuery,
+                       ItemViewRepository itemViewRepository,
+                       ReadModelProjector readModel,
+                       DuplicateDetectionService duplicateDetectionService,
+                       @Value("${items.coalesce.window-micros:1000}") long coalesceWindowMicros,
+                       @Value("${items.coalesce.threads:4}") int coalesceThreads,
+                       InvalidationBus invalidationBus,
+                       @Value("${items.cache.max-entries:10000}") long cacheMaxEntries,
+                       @Value("${items.cache.max-weight-bytes:33554432}") long cacheMaxWeightBytes,
+                       @Value("${items.cache.ttl-seconds:300}") long cacheTtlSeconds,
+                       @Value("${items.cache.refresh-after-seconds:240}") long cacheRefreshAfterSeconds) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.archivedItemRepository = archivedItemRepository;
+        this.itemDescriptionRepository = itemDescriptionRepository;
+        this.savedSearchService = savedSearchService;
+        this.itemPhotoService = itemPhotoService;
+        this.itemGeoService = itemGeoService;
+        this.eventPublisher = eventPublisher;
+        this.sparseFieldQuery = sparseFieldQuery;
+        this.itemViewRepository = itemViewRepository;
+        this.readModel = readModel;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.coalesceWindowNanos = TimeUnit.MICROSECONDS.toNanos(coalesceWindowMicros);
+        this.itemLoadExecutor = new ScheduledThreadPoolExecutor(coalesceThreads, new CustomizableThreadFactory("item-load-"));
+        this.itemLoaders = TenantScoped.byTenant(tenant -> new CoalescingLoader<>(
+                ids -> TenantContext.callAs(tenant, () -> findItemsById(ids)),
+                itemLoadExecutor, coalesceWindowNanos, MAX_IDS_PER_REQUEST));
+        this.itemCacheEnabled = cacheMaxEntries > 0;
+        this.itemCaches = TenantScoped.byTenant(tenant -> new TinyLfuCache<>(
+                id -> itemLoaders.get(tenant).load(id), ItemService::estimateWeight,
+                cacheMaxEntries, cacheMaxWeightBytes,
+                TimeUnit.SECONDS.toNanos(cacheTtlSeconds), TimeUnit.SECONDS.toNanos(cacheRefreshAfterSeconds)));
+        // Published after commit for every item change (update, delete, claim, archive) on any node
+        invalidationBus.subscribe(InvalidationBus.ITEM, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                itemCaches.get().invalidate(Long.valueOf(key));
+            }
+
+            @Override
+            public void invalidateAll() {
+                itemCaches.get().invalidateAll();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        itemLoadExecutor.shutdownNow();
+    }
 
     @Transactional
     public ItemResponseDto createItem(ItemRequestDto itemRequestDto) {
-        User currentUser = getCurrentAuthenticatedUser();
+        return createItem(itemRequestDto, false);
+    }
+
+    // Likely duplicates of the new report are returned with it; with blocking configured
+    // (duplicates.block-max-distance) a near-certain duplicate is refused unless allowDuplicate is set.
+    @Transactional
+    public ItemResponseDto createItem(ItemRequestDto itemRequestDto, boolean allowDuplicate) {
+        User currentUser = CurrentUser.require(userRepository);
+        String description = itemRequestDto.getDescription();
+        long fingerprint = duplicateDetectionService.fingerprint(itemRequestDto.getName(), description,
+                itemRequestDto.getCategory(), itemRequestDto.getLocationFound());
+        List<DuplicateMatchDto> duplicates = findOpenDuplicates(fingerprint, itemRequestDto.getStatus());
+        if (!allowDuplicate && !duplicates.isEmpty() && duplicateDetectionService.shouldBlock(duplicates.get(0).getDistance())) {
+            logger.info("User ID: {} reported a probable duplicate of item ID: {}; refused.", currentUser.getId(), duplicates.get(0).getItemId());
+            throw new DuplicateItemException(duplicates);
+        }
 
         Item item = Item.builder()
                 .name(itemRequestDto.getName())
-                .description(itemRequestDto.getDescription())
+                .descriptionSnippet(ItemDescription.snippetOf(description))
                 .category(itemRequestDto.getCategory())
                 .locationFound(itemRequestDto.getLocationFound())
                 .dateReported(itemRequestDto.getDateReported())
                 .status(itemRequestDto.getStatus()) // Should be LOST or FOUND initially
                 .reportedBy(currentUser)
                 .build();
+        applyCoordinates(item, itemRequestDto.getLatitude(), itemRequestDto.getLongitude());
 
         if (item.getStatus() == ItemStatus.FOUND) {
             item.setHeldBy(currentUser); // If a user reports a found item, they are initially holding it.
         }
 
         Item savedItem = itemRepository.save(item);
+        saveDescription(savedItem.getId(), description);
         logger.info("Item created successfully with ID: {} by User ID: {}", savedItem.getId(), currentUser.getId());
-        return mapToItemResponseDto(savedItem);
+        savedSearchService.percolate(savedItem, description);
+        eventPublisher.publishEvent(new ItemChangedEvent(ChangeType.CREATED, null, ItemSnapshot.of(savedItem)));
+        TransactionCallbacks.afterCommit(() -> duplicateDetectionService.register(savedItem.getId(), fingerprint, savedItem.getStatus()));
+        ItemResponseDto response = mapToItemResponseDto(savedItem, description);
+        response.setPossibleDuplicates(duplicates);
+        return response;
+    }
+
+    // Only reports with the same status count: a FOUND report matching a LOST one is not a duplicate.
+    // Index hits are re-read from the database, so an item claimed or moved on since it was indexed is not offered.
+    private List<DuplicateMatchDto> findOpenDuplicates(long fingerprint, ItemStatus status) {
+        List<SimHashIndex.Match> matches = duplicateDetectionService.findDuplicates(fingerprint, status);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Item> items = itemRepository.findAllWithUsersByIdIn(matches.stream().map(SimHashIndex.Match::id).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return matches.stream()
+                .filter(match -> items.containsKey(match.id()))
+                .filter(match -> items.get(match.id()).getStatus() == status)
+                .map(match -> {
+                    Item item = items.get(match.id());
+                    return DuplicateMatchDto.builder()
+                            .itemId(item.getId())
+                            .name(item.getName())
+                            .category(item.getCategory())
+                            .locationFound(item.getLocationFound())
+                            .dateReported(item.getDateReported())
+                            .status(item.getStatus())
+                            .reportedById(item.getReportedBy().getId())
+                            .reportedByUsername(item.getReportedBy().getUsername())
+                            .distance(match.distance())
+                            .similarity(1 - match.distance() / 64.0)
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+    // Single-item lookup for the API: served from the item cache, and misses are merged with
+    // concurrent lookups into one batched query.
+    public ItemResponseDto getItemByIdCoalesced(Long id) {
+        CompletableFuture<ItemResponseDto> loading;
+        if (itemCacheEnabled) {
+            loading = itemCaches.get().get(id);
+        } else if (coalesceWindowNanos > 0) {
+            loading = itemLoaders.get().load(id);
+        } else {
+            return getItemById(id);
+        }
+        ItemResponseDto item;
+        try {
+            item = loading.get(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading item " + id, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Could not load item " + id + ": " + e.getMessage(), e);
+        }
+        if (item == null) {
+            throw new NotFoundException("Item not found with ID: " + id);
+        }
+        return item;
+    }
+
+    // Item cache of the current campus
+    public CacheStatsDto getItemCacheStats() {
+        if (!itemCacheEnabled) {
+            throw new NotFoundException("The item cache is disabled (items.cache.max-entries=0).");
+        }
+        return itemCaches.get().stats();
+    }
+
+    // Multi-get in one IN query per table; unknown IDs are skipped, order follows the request.
+    @Transactional(readOnly = true)
+    public List<ItemResponseDto> getItemsByIds(List<Long> ids) {
+        if (ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new InvalidRequestException("At most " + MAX_IDS_PER_REQUEST + " ids per request.");
+        }
+        Map<Long, ItemResponseDto> found = findItemsById(new LinkedHashSet<>(ids));
+        return ids.stream().distinct().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // Sparse variant of the multi-get, same order and skipping rules. The id is always selected to
+    // put rows in request order and only kept in the output if it was asked for.
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getItemsByIds(List<Long> ids, List<String> fields) {
+        if (ids.size() > MAX_IDS_PER_REQUEST) {
+            throw new InvalidRequestException("At most " + MAX_IDS_PER_REQUEST + " ids per request.");
+        }
+        boolean idRequested = fields.contains("id");
+        List<String> selected = new ArrayList<>(fields);
+        if (!idRequested) {
+            selected.add(0, "id");
+        }
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, Map<String, Object>> found = new HashMap<>();
+        sparseFieldQuery.list(Projections.ITEM, selected, "i.id in :ids", Map.of("ids", distinctIds))
+                .forEach(row -> found.put((Long) row.get("id"), row));
+        if (found.size() < distinctIds.size()) {
+            List<Long> missing = distinctIds.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+            sparseFieldQuery.list(Projections.ARCHIVED_ITEM, selected, "i.id in :ids", Map.of("ids", missing))
+                    .forEach(row -> found.putIfAbsent((Long) row.get("id"), row));
+        }
+        if (!idRequested) {
+            found.values().forEach(row -> row.remove("id"));
+        }
+        return distinctIds.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    // Live items with their users fetched in the same query, then the archive for whatever is missing
+    private Map<Long, ItemResponseDto> findItemsById(Set<Long> ids) {
+        Map<Long, ItemResponseDto> found = new HashMap<>();
+        List<Item> items = itemRepository.findAllWithUsersByIdIn(ids);
+        Map<Long, String> descriptions = new HashMap<>();
+        if (!items.isEmpty()) {
+            itemDescriptionRepository.findAllById(items.stream().map(Item::getId).collect(Collectors.toList()))
+                    .forEach(description -> descriptions.put(description.getItemId(), description.getText()));
+        }
+        items.forEach(item -> found.put(item.getId(), mapToItemResponseDto(item, descriptions.get(item.getId()))));
+        if (found.size() < ids.size()) {
+            List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+            archivedItemRepository.findAllById(missing).forEach(item -> found.put(item.getId(), mapToItemResponseDto(item, item.getDescription())));
+        }
+        return found;
     }
 
     @Transactional(readOnly = true)
     public ItemResponseDto getItemById(Long id) {
-        Item item = itemRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.warn("Item not found with ID: {}", id);
-                    return new EntityNotFoundException("Item not found with ID: " + id);
-                });
-        return mapToItemResponseDto(item);
+        // Archived items keep their IDs, so fall back to the cold table for old links
+        return itemRepository.findById(id)
+                .map(item -> mapToItemResponseDto(item, descriptionOf(item.getId())))
+                .or(() -> archivedItemRepository.findById(id).map(item -> mapToItemResponseDto(item, item.getDescription())))
+                .orElseThrow(() -> new NotFoundException("Item not found with ID: " + id));
     }
 
     @Transactional(readOnly = true)
     public List<ItemResponseDto> getAllItems() {
-        return itemRepository.findAll().stream()
+        return getAllItems(false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemResponseDto> getAllItems(boolean includeArchived) {
+        if (readModel.isReady()) {
+            return (includeArchived ? itemViewRepository.findAllByOrderById() : itemViewRepository.findByArchivedFalseOrderById()).stream()
+                    .map(this::mapToItemResponseDto)
+                    .collect(Collectors.toList());
+        }
+        List<ItemResponseDto> items = itemRepository.findAll().stream()
                 .map(this::mapToItemResponseDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            archivedItemRepository.findAll().forEach(archived -> items.add(mapToItemResponseDto(archived)));
+        }
+        return items;
     }
 
     @Transactional(readOnly = true)
     public List<ItemResponseDto> getItemsByStatus(ItemStatus status) {
-        return itemRepository.findByStatus(status).stream()
+        return getItemsByStatus(status, false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ItemResponseDto> getItemsByStatus(ItemStatus status, boolean includeArchived) {
+        if (readModel.isReady()) {
+            return (includeArchived ? itemViewRepository.findByStatusOrderById(status) : itemViewRepository.findByArchivedFalseAndStatusOrderById(status)).stream()
+                    .map(this::mapToItemResponseDto)
+                    .collect(Collectors.toList());
+        }
+        List<ItemResponseDto> items = itemRepository.findByStatus(status).stream()
+                .map(this::mapToItemResponseDto)
+                .collect(Collectors.toList());
+        if (includeArchived) {
+            archivedItemRepository.findByStatus(status).forEach(archived -> items.add(mapToItemResponseDto(archived)));
+        }
+        return items;
+    }
+
+    // One keyset page of the browse stream. Each page is its own short read, so no connection is
+    // held while the client is still reading the previous one.
+    @Transactional(readOnly = true)
+    public List<ItemResponseDto> getItemsPageAfter(ItemStatus status, boolean archived, long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (archived) {
+            return archivedItemRepository.findPageAfter(afterId, status, page).stream()
+                    .map(this::mapToItemResponseDto)
+                    .collect(Collectors.toList());
+        }
+        return itemRepository.findPageAfter(afterId, status, page).stream()
                 .map(this::mapToItemResponseDto)
                 .collect(Collectors.toList());
     }
 
+    // Sparse variants for ?fields=: only the requested columns (and joins) are selected
+    @Transactional(readOnly = true)
+    public Map<String, Object> getItemById(Long id, List<String> fields) {
+        Map<String, Object> parameters = Map.of("id", id);
+        List<Map<String, Object>> rows = sparseFieldQuery.list(Projections.ITEM, fields, "i.id = :id", parameters);
+        if (rows.isEmpty()) {
+            rows = sparseFieldQuery.list(Projections.ARCHIVED_ITEM, fields, "i.id = :id", parameters);
+        }
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Item not found with ID: " + id);
+        }
+        return rows.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllItems(boolean includeArchived, List<String> fields) {
+        List<Map<String, Object>> items = sparseFieldQuery.list(Projections.ITEM, fields, null, Map.of());
+        if (includeArchived) {
+            items.addAll(sparseFieldQuery.list(Projections.ARCHIVED_ITEM, fields, null, Map.of()));
+        }
+        return items;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getItemsByStatus(ItemStatus status, boolean includeArchived, List<String> fields) {
+        Map<String, Object> parameters = Map.of("status", status);
+        List<Map<String, Object>> items = sparseFieldQuery.list(Projections.ITEM, fields, "i.status = :status", parameters);
+        if (includeArchived) {
+            items.addAll(sparseFieldQuery.list(Projections.ARCHIVED_ITEM, fields, "i.status = :status", parameters));
+        }
+        return items;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearbyItemDto> getItemsNearby(double latitude, double longitude, double radiusMeters, ItemStatus status, int limit) {
+        validateCoordinates(latitude, longitude);
+        if (radiusMeters <= 0 || radiusMeters > MAX_NEARBY_RADIUS_METERS) {
+            throw new InvalidRequestException("Radius must be between 0 and " + (long) MAX_NEARBY_RADIUS_METERS + " meters.");
+        }
+        List<GeoGridIndex.Hit> hits = itemGeoService.findNearby(latitude, longitude, radiusMeters, status,
+                Math.min(Math.max(limit, 1), MAX_NEARBY_RESULTS));
+        Map<Long, Item> itemsById = itemRepository.findAllWithUsersByIdIn(hits.stream().map(GeoGridIndex.Hit::id).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        // Keep the distance ordering of the index, skipping anything deleted since it was indexed
+        return hits.stream()
+                .filter(hit -> itemsById.containsKey(hit.id()))
+                .map(hit -> NearbyItemDto.builder()
+                        .item(mapToItemResponseDto(itemsById.get(hit.id())))
+                        .distanceMeters(Math.round(hit.distanceMeters() * 10) / 10.0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public ItemResponseDto updateItem(Long id, ItemRequestDto itemRequestDto) {
-        User currentUser = getCurrentAuthenticatedUser();
+        User currentUser = CurrentUser.require(userRepository);
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> {
                     logger.warn("Item not found with ID: {} for update attempt by User ID: {}", id, currentUser.getId());
-                    return new EntityNotFoundException("Item not found with ID: " + id);
+                    return new NotFoundException("Item not found with ID: " + id);
                 });
 
         // Basic authorization: Only the user who reported the item or an ADMIN/STAFF can update it (for now).
@@ -89,68 +446,114 @@ public class ItemService {
             !currentUser.getRole().name().equals("ADMIN") &&
             !currentUser.getRole().name().equals("STAFF")) {
             logger.warn("User ID: {} attempted to update Item ID: {} without permission.", currentUser.getId(), id);
-            throw new SecurityException("You are not authorized to update this item.");
+            throw new ForbiddenException("You are not authorized to update this item.");
         }
 
+        ItemSnapshot before = ItemSnapshot.of(item);
         item.setName(itemRequestDto.getName());
-        item.setDescription(itemRequestDto.getDescription());
+        item.setDescriptionSnippet(ItemDescription.snippetOf(itemRequestDto.getDescription()));
         item.setCategory(itemRequestDto.getCategory());
         item.setLocationFound(itemRequestDto.getLocationFound());
         item.setDateReported(itemRequestDto.getDateReported());
+        applyCoordinates(item, itemRequestDto.getLatitude(), itemRequestDto.getLongitude());
         // Status updates might need more complex logic, e.g., if an item is CLAIMED.
         // For now, allow direct status update via DTO, but this should be refined.
         // For example, only ADMIN/STAFF can mark an item as CLAIMED after a request is APPROVED.
         item.setStatus(itemRequestDto.getStatus());
 
         Item updatedItem = itemRepository.save(item);
+        saveDescription(updatedItem.getId(), itemRequestDto.getDescription());
         logger.info("Item with ID: {} updated successfully by User ID: {}", updatedItem.getId(), currentUser.getId());
-        return mapToItemResponseDto(updatedItem);
+        eventPublisher.publishEvent(new ItemChangedEvent(ChangeType.UPDATED, before, ItemSnapshot.of(updatedItem)));
+        return mapToItemResponseDto(updatedItem, itemRequestDto.getDescription());
     }
 
     @Transactional
     public void deleteItem(Long id) {
-        User currentUser = getCurrentAuthenticatedUser();
+        User currentUser = CurrentUser.require(userRepository);
         Item item = itemRepository.findById(id)
                 .orElseThrow(() -> {
                     logger.warn("Item not found with ID: {} for delete attempt by User ID: {}", id, currentUser.getId());
-                    return new EntityNotFoundException("Item not found with ID: " + id);
+                    return new NotFoundException("Item not found with ID: " + id);
                 });
 
         // Basic authorization: Only the user who reported it or an ADMIN can delete.
         if (!item.getReportedBy().getId().equals(currentUser.getId()) &&
             !currentUser.getRole().name().equals("ADMIN")) {
             logger.warn("User ID: {} attempted to delete Item ID: {} without permission.", currentUser.getId(), id);
-            throw new SecurityException("You are not authorized to delete this item.");
+            throw new ForbiddenException("You are not authorized to delete this item.");
         }
 
         // Add logic here to handle related entities, e.g., associated Requests, if necessary before deleting.
+        itemPhotoService.deletePhotosForItem(item.getId());
+        itemDescriptionRepository.deleteById(item.getId());
         itemRepository.delete(item);
         logger.info("Item with ID: {} deleted successfully by User ID: {}", id, currentUser.getId());
+        eventPublisher.publishEvent(new ItemChangedEvent(ChangeType.DELETED, ItemSnapshot.of(item), null));
     }
 
-    // Helper method to get the current authenticated user
-    private User getCurrentAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
-            throw new SecurityException("User not authenticated");
+    // Blank descriptions are not stored; the snippet on Item is kept in step by the caller
+    private void saveDescription(Long itemId, String description) {
+        if (description == null || description.isBlank()) {
+            itemDescriptionRepository.deleteById(itemId);
+            return;
         }
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> {
-                    logger.error("Authenticated user not found in database: {}", username);
-                    return new EntityNotFoundException("Authenticated user not found: " + username);
-                });
+        itemDescriptionRepository.save(ItemDescription.builder().itemId(itemId).text(description).build());
+    }
+
+    private String descriptionOf(Long itemId) {
+        return itemDescriptionRepository.findById(itemId).map(ItemDescription::getText).orElse(null);
+    }
+
+    // Coordinates are optional but must come as a valid pair; the geohash is derived from them.
+    private void applyCoordinates(Item item, Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            item.setLatitude(null);
+            item.setLongitude(null);
+            item.setGeohash(null);
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new InvalidRequestException("Latitude and longitude must be provided together.");
+        }
+        validateCoordinates(latitude, longitude);
+        item.setLatitude(latitude);
+        item.setLongitude(longitude);
+        item.setGeohash(GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION));
+    }
+
+    private void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidRequestException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+
+    // Rough heap size of a cached item: fixed fields plus two bytes per character of its strings
+    private static int estimateWeight(ItemResponseDto item) {
+        int chars = 0;
+        for (String value : new String[] {item.getName(), item.getDescription(), item.getDescriptionSnippet(), item.getCategory(), item.getLocationFound(),
+                item.getReportedByUsername(), item.getHeldByUsername(), item.getClaimedByUsername()}) {
+            chars += value != null ? value.length() : 0;
+        }
+        return 256 + 2 * chars;
     }
 
-    // Helper method to map Item entity to ItemResponseDto
+    // Listing view: the snippet only, the full description is never read for lists
     private ItemResponseDto mapToItemResponseDto(Item item) {
+        return mapToItemResponseDto(item, null);
+    }
+
+    private ItemResponseDto mapToItemResponseDto(Item item, String description) {
         return ItemResponseDto.builder()
                 .id(item.getId())
                 .name(item.getName())
-                .description(item.getDescription())
+                .description(description)
+                .descriptionSnippet(item.getDescriptionSnippet())
                 .category(item.getCategory())
                 .locationFound(item.getLocationFound())
                 .dateReported(item.getDateReported())
+                .latitude(item.getLatitude())
+                .longitude(item.getLongitude())
                 .status(item.getStatus())
                 .reportedById(item.getReportedBy().getId())
                 .reportedByUsername(item.getReportedBy().getUsername())
@@ -162,4 +565,56 @@ public class ItemService {
                 .updatedAt(item.getUpdatedAt())
                 .build();
     }
-} 
\ No newline at end of file
+
+    // Read model row: everything is already flat, no users are loaded
+    private ItemResponseDto mapToItemResponseDto(ItemView item) {
+        return ItemResponseDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .descriptionSnippet(item.getDescriptionSnippet())
+                .category(item.getCategory())
+                .locationFound(item.getLocationFound())
+                .dateReported(item.getDateReported())
+                .latitude(item.getLatitude())
+                .longitude(item.getLongitude())
+                .status(item.getStatus())
+                .reportedById(item.getReportedById())
+                .reportedByUsername(item.getReportedByUsername())
+                .heldById(item.getHeldById())
+                .heldByUsername(item.getHeldByUsername())
+                .claimedById(item.getClaimedById())
+                .claimedByUsername(item.getClaimedByUsername())
+                .createdAt(item.getCreatedAt())
+                .updatedAt(item.getUpdatedAt())
+                .archived(item.isArchived())
+                .build();
+    }
+
+    private ItemResponseDto mapToItemResponseDto(ArchivedItem item) {
+        return mapToItemResponseDto(item, null);
+    }
+
+    private ItemResponseDto mapToItemResponseDto(ArchivedItem item, String description) {
+        return ItemResponseDto.builder()
+                .id(item.getId())
+                .name(item.getName())
+                .description(description)
+                .descriptionSnippet(item.getDescriptionSnippet())
+                .category(item.getCategory())
+                .locationFound(item.getLocationFound())
+                .dateReported(item.getDateReported())
+                .latitude(item.getLatitude())
+                .longitude(item.getLongitude())
+                .status(item.getStatus())
+                .reportedById(item.getReportedById())
+                .reportedByUsername(item.getReportedByUsername())
+                .heldById(item.getHeldById())
+                .heldByUsername(item.getHeldByUsername())
+                .claimedById(item.getClaimedById())
+                .claimedByUsername(item.getClaimedByUsername())
+                .createdAt(item.getCreatedAt())
+                .updatedAt(item.getUpdatedAt())
+                .archived(true)
+                .build();
+    }
+}
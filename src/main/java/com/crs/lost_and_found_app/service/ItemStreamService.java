@@ -0,0 +1,63 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.ItemResponseDto;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes item browse results as NDJSON, one item per line, a keyset page at a time.
+ * <p>
+ * The next page is only read once the previous one has been written and flushed, so a slow client
+ * slows the reads down instead of piling rows up in memory, and a database connection is only held
+ * for the duration of one page query, never while waiting on the socket.
+ */
+@Service
+public class ItemStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemStreamService.class);
+    private final ItemService itemService;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public ItemStreamService(ItemService itemService,
+                             ObjectMapper objectMapper,
+                             @Value("${items.stream.page-size:500}") int pageSize) {
+        this.itemService = itemService;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+    }
+
+    public void writeItems(ItemStatus status, boolean includeArchived, OutputStream out) throws IOException {
+        long written = writeTable(status, false, out);
+        if (includeArchived) {
+            written += writeTable(status, true, out);
+        }
+        logger.debug("Streamed {} items (status: {}, includeArchived: {})", written, status, includeArchived);
+    }
+
+    private long writeTable(ItemStatus status, boolean archived, OutputStream out) throws IOException {
+        long written = 0;
+        long afterId = 0;
+        while (true) {
+            List<ItemResponseDto> page = itemService.getItemsPageAfter(status, archived, afterId, pageSize);
+            for (ItemResponseDto item : page) {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+            }
+            out.flush();
+            written += page.size();
+            if (page.size() < pageSize) {
+                return written;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.SuggestionDto;
+import com.crs.lost_and_found_app.enums.ChangeType;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.index.SuggestionTrie;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Autocomplete for item categories and locations. Each campus has one immutable SuggestionTrie per
+// field, built from the facet counters (so weights are item counts) and replaced as a whole: reads
+// never lock and never see a half-built index. A field is rebuilt in the background only after an
+// item change touched it, or after the counters were reconciled against the database.
+@Service
+public class ItemSuggestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemSuggestService.class);
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private final FacetCounterService facetCounterService;
+    private final TenantRegistry tenantRegistry;
+    private final TenantScoped<Suggesters> suggesters = new TenantScoped<>(Suggesters::new);
+
+    public ItemSuggestService(FacetCounterService facetCounterService, TenantRegistry tenantRegistry) {
+        this.facetCounterService = facetCounterService;
+        this.tenantRegistry = tenantRegistry;
+    }
+
+    public List<SuggestionDto> suggest(String field, String prefix, int limit) {
+        Suggesters s = suggesters.get();
+        SuggestionTrie trie = switch (field == null ? "" : field) {
+            case "category" -> s.category;
+            case "location" -> s.location;
+            default -> throw new InvalidRequestException("field must be 'category' or 'location'.");
+        };
+        return trie.suggest(prefix, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS)).stream()
+                .map(suggestion -> SuggestionDto.builder()
+                        .value(suggestion.value())
+                        .count(suggestion.weight())
+                        .fuzzy(suggestion.edits() > 0)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        if (event.type() == ChangeType.ARCHIVED) {
+            return; // Archived items still count
+        }
+        Suggesters s = suggesters.get();
+        ItemSnapshot before = event.before();
+        ItemSnapshot after = event.after();
+        if (before == null || after == null || !Objects.equals(before.category(), after.category())) {
+            s.categoryDirty = true;
+        }
+        if (before == null || after == null || !Objects.equals(before.locationFound(), after.locationFound())) {
+            s.locationDirty = true;
+        }
+    }
+
+    @Scheduled(initialDelayString = "${suggest.rebuild-interval-ms:2000}", fixedDelayString = "${suggest.rebuild-interval-ms:2000}")
+    public void rebuildChanged() {
+        tenantRegistry.forEachTenant(tenant -> {
+            Suggesters s = suggesters.get();
+            LocalDateTime reconciledAt = facetCounterService.getLastReconciledAt();
+            boolean reconciled = !Objects.equals(reconciledAt, s.reconciledAt);
+            s.reconciledAt = reconciledAt;
+            if (s.categoryDirty || reconciled) {
+                s.categoryDirty = false; // Cleared first, so a change during the build marks it again
+                s.category = build(facetCounterService::getCategoryCounts, "category");
+            }
+            if (s.locationDirty || reconciled) {
+                s.locationDirty = false;
+                s.location = build(facetCounterService::getLocationCounts, "location");
+            }
+        });
+    }
+
+    private SuggestionTrie build(Supplier<Map<String, Long>> counts, String field) {
+        long start = System.nanoTime();
+        SuggestionTrie trie = SuggestionTrie.build(counts.get());
+        logger.debug("Rebuilt {} suggestions for campus {}: {} values, {} nodes in {} us.", field, TenantContext.getTenant(),
+                trie.size(), trie.nodeCount(), (System.nanoTime() - start) / 1000);
+        return trie;
+    }
+
+    private static final class Suggesters {
+        private volatile SuggestionTrie category = SuggestionTrie.EMPTY;
+        private volatile SuggestionTrie location = SuggestionTrie.EMPTY;
+        private volatile boolean categoryDirty = true;
+        private volatile boolean locationDirty = true;
+        private volatile LocalDateTime reconciledAt; // Of the counters the current tries were built from
+    }
+}
@@ -1,11 +1,15 @@
 package com.crs.lost_and_found_app.service;
 
 import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.tenant.TenantContext;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -14,21 +18,46 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    // Request attribute holding the bearer token's verified claims, so the filters parse it once
+    public static final String CLAIMS_ATTRIBUTE = JwtService.class.getName() + ".claims";
+
     @Value("${jwt.secret.key}")
     private String jwtSecretKey;
 
     @Value("${jwt.expiration.ms}")
     private long jwtExpirationMs;
 
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecretKey));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    public String extractCampus(String token) {
+        return extractClaim(token, claims -> claims.get("campus", String.class));
+    }
+
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
+    public Date extractIssuedAt(String token) {
+        return extractClaim(token, Claims::getIssuedAt);
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
@@ -41,6 +70,7 @@ public class JwtService {
             claims.put("role", user.getRole().name());
             claims.put("userId", user.getId());
             claims.put("email", user.getEmail());
+            claims.put("campus", TenantContext.getTenant()); // Routes every later request to this campus's data
         }
         return generateToken(claims, userDetails);
     }
@@ -48,36 +78,38 @@ public class JwtService {
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString()) // jti, so a single token can be revoked
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
-    private Date extractExpiration(String token) {
+    public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public Claims extractAllClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Verifies the token on first use in this request and reuses the claims afterwards.
+    // Throws like extractAllClaims if the token is invalid; nothing is cached then.
+    public Claims extractAllClaims(HttpServletRequest request, String token) {
+        if (request.getAttribute(CLAIMS_ATTRIBUTE) instanceof Claims claims) {
+            return claims;
+        }
+        Claims claims = extractAllClaims(token);
+        request.setAttribute(CLAIMS_ATTRIBUTE, claims);
+        return claims;
     }
 } 
\ No newline at end of file
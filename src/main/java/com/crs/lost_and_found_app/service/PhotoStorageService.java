@@ -0,0 +1,167 @@
+package com.crs.lost_and_found_app.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+// Content-addressed local disk storage: blobs/ab/cd/<sha256> and thumbs/ab/cd/<sha256>.jpg.
+// Identical uploads resolve to the same path, so they are stored once. A blob is shared by every
+// photo row with its hash; the striped per-hash lock keeps a new row for a blob and the removal
+// of that blob's last row from interleaving.
+@Service
+public class PhotoStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoStorageService.class);
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    public record StoredBlob(String contentHash, long sizeBytes, boolean deduplicated) {
+    }
+
+    @Value("${photos.storage.dir:./data/photos}")
+    private String storageDir;
+
+    private final Lock[] hashLocks = new Lock[LOCK_STRIPES];
+
+    private Path root;
+    private Path tmpDir;
+
+    public PhotoStorageService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            hashLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(storageDir).toAbsolutePath().normalize();
+        tmpDir = root.resolve("tmp");
+        Files.createDirectories(tmpDir);
+        logger.info("Photo storage initialised at {}", root);
+    }
+
+    // Streams the upload to a temp file while hashing it, then moves it into place by hash.
+    // Only the copy buffer is held on the heap, whatever the size of the upload.
+    // Returns holding lockFor(contentHash): the caller unlocks it once the row that references the
+    // blob is committed or rolled back, so a concurrent release cannot delete the blob under it.
+    public StoredBlob store(InputStream inputStream) throws IOException {
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tmp, StandardOpenOption.TRUNCATE_EXISTING), digest)) {
+                size = inputStream.transferTo(out);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = blobPath(hash);
+            Lock lock = lockFor(hash);
+            lock.lock();
+            try {
+                return publish(tmp, target, hash, size);
+            } catch (IOException | RuntimeException e) {
+                lock.unlock();
+                throw e;
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private StoredBlob publish(Path tmp, Path target, String hash, long size) throws IOException {
+        if (Files.exists(target)) {
+            return new StoredBlob(hash, size, true);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            return new StoredBlob(hash, size, true); // Lost a race with an identical concurrent upload
+        }
+        return new StoredBlob(hash, size, false);
+    }
+
+    // Held while a photo row for the hash is being added, and while deciding whether the blob is unreferenced
+    public Lock lockFor(String contentHash) {
+        return hashLocks[Math.floorMod(contentHash.hashCode(), LOCK_STRIPES)];
+    }
+
+    public Path blobPath(String contentHash) {
+        return shardedPath("blobs", contentHash, "");
+    }
+
+    public Path thumbnailPath(String contentHash) {
+        return shardedPath("thumbs", contentHash, ".jpg");
+    }
+
+    public Path newTempFile(String prefix) throws IOException {
+        return Files.createTempFile(tmpDir, prefix, ".part");
+    }
+
+    public void delete(String contentHash) {
+        try {
+            Files.deleteIfExists(blobPath(contentHash));
+            Files.deleteIfExists(thumbnailPath(contentHash));
+        } catch (IOException e) {
+            logger.warn("Could not delete stored photo {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    // Buffered copy of count bytes from position, for responses the connector cannot sendfile
+    // (small files, or a container without sendfile support).
+    public void transfer(Path file, long position, long count, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(COPY_BUFFER_SIZE, Math.max(count, 1))];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            InputStream in = Channels.newInputStream(channel.position(position));
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                outputStream.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        outputStream.flush();
+    }
+
+    private Path shardedPath(String area, String contentHash, String suffix) {
+        if (contentHash == null || !HASH_PATTERN.matcher(contentHash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash: " + contentHash);
+        }
+        return root.resolve(area)
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash + suffix);
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
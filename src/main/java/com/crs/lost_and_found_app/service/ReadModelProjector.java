@@ -0,0 +1,505 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.ReadModelStatusDto;
+import com.crs.lost_and_found_app.entity.ArchivedItem;
+import com.crs.lost_and_found_app.entity.ArchivedRequest;
+import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.entity.ItemView;
+import com.crs.lost_and_found_app.entity.Request;
+import com.crs.lost_and_found_app.entity.RequestView;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.RequestChangedEvent;
+import com.crs.lost_and_found_app.event.RequestLeaseChangedEvent;
+import com.crs.lost_and_found_app.event.UserChangedEvent;
+import com.crs.lost_and_found_app.exception.ConflictException;
+import com.crs.lost_and_found_app.repository.ArchivedItemRepository;
+import com.crs.lost_and_found_app.repository.ArchivedRequestRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.ItemViewRepository;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.repository.RequestViewRepository;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the item_view and request_view read model in step with the items, requests and users
+ * tables. List endpoints read those flat tables instead of joining items to users up to three
+ * times, once the campus's views are known to be complete.
+ * <p>
+ * Committed item, request, lease and user changes only mark IDs as dirty; a scheduled drain then
+ * re-projects each dirty row from the source tables in batches of {@code views.projector.batch-size}.
+ * Rows are always rebuilt from the current source state rather than from event contents, so a
+ * missed, repeated or reordered event can never leave a wrong row behind, only a late one.
+ * A changed item also re-projects its requests (item name, archival), and a changed user
+ * re-projects every view row that still shows the old name.
+ * <p>
+ * The dirty sets are in memory on the node that made the change. If a node dies with changes
+ * still pending, {@link #requestRebuild()} re-projects everything and removes orphaned rows.
+ */
+@Service
+public class ReadModelProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadModelProjector.class);
+
+    private final ItemRepository itemRepository;
+    private final ArchivedItemRepository archivedItemRepository;
+    private final RequestRepository requestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final ItemViewRepository itemViewRepository;
+    private final RequestViewRepository requestViewRepository;
+    private final TenantRegistry tenantRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbc;
+    private final TenantScoped<ProjectionState> states = new TenantScoped<>(ProjectionState::new);
+    // Rebuilds run one at a time, off the request thread. Not a bean, see ItemService.
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("read-model-rebuild-"));
+
+    @Value("${views.enabled:true}")
+    private boolean enabled;
+
+    @Value("${views.projector.batch-size:200}")
+    private int batchSize;
+
+    @Value("${views.rebuild.page-size:1000}")
+    private int rebuildPageSize;
+
+    public ReadModelProjector(ItemRepository itemRepository,
+                              ArchivedItemRepository archivedItemRepository,
+                              RequestRepository requestRepository,
+                              ArchivedRequestRepository archivedRequestRepository,
+                              ItemViewRepository itemViewRepository,
+                              RequestViewRepository requestViewRepository,
+                              TenantRegistry tenantRegistry,
+                              PlatformTransactionManager transactionManager,
+                              DataSource dataSource) {
+        this.itemRepository = itemRepository;
+        this.archivedItemRepository = archivedItemRepository;
+        this.requestRepository = requestRepository;
+        this.archivedRequestRepository = archivedRequestRepository;
+        this.itemViewRepository = itemViewRepository;
+        this.requestViewRepository = requestViewRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbc = new JdbcTemplate(dataSource); // Routes to the current campus's schema
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // True when list reads for the current campus may be served from the views
+    public boolean isReady() {
+        ProjectionState state = states.get();
+        return enabled && state.available && state.ready;
+    }
+
+    // Decides per campus whether the views can be trusted as they are or must be rebuilt first.
+    // Campuses whose schema predates the views stay on the joined reads until the tables are added.
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkAllCampuses() {
+        if (!enabled) {
+            return;
+        }
+        tenantRegistry.forEachTenant(tenant -> {
+            ProjectionState state = states.get();
+            state.available = hasTable("item_view") && hasTable("request_view");
+            if (!state.available) {
+                logger.warn("Campus {} has no item_view/request_view tables; list reads keep using the joined queries.", tenant);
+                return;
+            }
+            long items = itemRepository.count() + archivedItemRepository.count();
+            long requests = requestRepository.count() + archivedRequestRepository.count();
+            if (itemViewRepository.count() == items && requestViewRepository.count() == requests) {
+                state.ready = true;
+            } else {
+                logger.info("Read model for campus {} is incomplete, rebuilding it.", tenant);
+                requestRebuild();
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onItemChanged(ItemChangedEvent event) {
+        markDirty(states.get().dirtyItems, event.itemId());
+    }
+
+    @TransactionalEventListener
+    public void onRequestChanged(RequestChangedEvent event) {
+        markDirty(states.get().dirtyRequests, event.requestId());
+    }
+
+    @TransactionalEventListener
+    public void onRequestLeaseChanged(RequestLeaseChangedEvent event) {
+        markDirty(states.get().dirtyRequests, event.requestId());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        markDirty(states.get().dirtyUsers, event.userId());
+    }
+
+    @Scheduled(initialDelayString = "${views.projector.interval-ms:200}", fixedDelayString = "${views.projector.interval-ms:200}")
+    public void drainAllCampuses() {
+        if (!enabled) {
+            return;
+        }
+        states.all().forEach((tenant, state) -> {
+            if (state.available && state.hasPending()) {
+                try {
+                    TenantContext.runAs(tenant, () -> drain(state));
+                } catch (Exception e) {
+                    state.lastError = e.getMessage();
+                    logger.error("Read model projection failed for campus {}; retrying on the next run: {}", tenant, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    // Starts a full rebuild of the current campus's views; list reads fall back to the joined
+    // queries until it completes.
+    public ReadModelStatusDto requestRebuild() {
+        if (!enabled) {
+            throw new ConflictException("The read model is disabled (views.enabled=false).");
+        }
+        ProjectionState state = states.get();
+        if (!state.available) {
+            throw new ConflictException("This campus has no item_view/request_view tables.");
+        }
+        if (state.rebuilding.compareAndSet(false, true)) {
+            state.ready = false;
+            state.lastRebuildStartedAt = LocalDateTime.now();
+            state.lastError = null;
+            rebuildExecutor.execute(TenantContext.wrap(() -> rebuild(state)));
+        }
+        return getStatus();
+    }
+
+    public ReadModelStatusDto getStatus() {
+        ProjectionState state = states.get();
+        return ReadModelStatusDto.builder()
+                .available(state.available)
+                .ready(enabled && state.available && state.ready)
+                .rebuilding(state.rebuilding.get())
+                .pendingItems(state.dirtyItems.size())
+                .pendingRequests(state.dirtyRequests.size())
+                .pendingUsers(state.dirtyUsers.size())
+                .lagMs(state.lagMillis())
+                .rowsProjected(state.rowsProjected.get())
+                .lastAppliedAt(state.lastAppliedAt)
+                .lastRebuildStartedAt(state.lastRebuildStartedAt)
+                .lastRebuildFinishedAt(state.lastRebuildFinishedAt)
+                .lastError(state.lastError)
+                .build();
+    }
+
+    private static void markDirty(Map<Long, Mark> dirty, Long id) {
+        if (id != null) {
+            markDirty(dirty, id, System.currentTimeMillis());
+        }
+    }
+
+    // Always stores a new Mark, so a drain that started before this call cannot remove it
+    private static void markDirty(Map<Long, Mark> dirty, Long id, long since) {
+        dirty.merge(id, new Mark(since), (old, mark) -> new Mark(Math.min(old.since, since)));
+    }
+
+    private void drain(ProjectionState state) {
+        // Users first: they only expand into the item and request rows that still show them
+        for (Map.Entry<Long, Mark> user : new ArrayList<>(state.dirtyUsers.entrySet())) {
+            long since = user.getValue().since;
+            itemViewRepository.findIdsReferencingUser(user.getKey()).forEach(id -> markDirty(state.dirtyItems, id, since));
+            requestViewRepository.findIdsByRequesterId(user.getKey()).forEach(id -> markDirty(state.dirtyRequests, id, since));
+            state.dirtyUsers.remove(user.getKey(), user.getValue());
+        }
+        drainBatches(state, state.dirtyItems, ids -> projectItems(ids, state));
+        drainBatches(state, state.dirtyRequests, this::projectRequests);
+    }
+
+    private void drainBatches(ProjectionState state, ConcurrentHashMap<Long, Mark> dirty, Function<List<Long>, Integer> project) {
+        while (!dirty.isEmpty()) {
+            Map<Long, Mark> batch = dirty.entrySet().stream()
+                    .limit(batchSize)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            List<Long> ids = new ArrayList<>(batch.keySet());
+            Integer projected = locked(state, () -> transactionTemplate.execute(status -> project.apply(ids)));
+            // An ID marked again while it was being projected holds a new Mark now and goes round again
+            batch.forEach(dirty::remove);
+            state.rowsProjected.addAndGet(projected != null ? projected : 0);
+            state.lastAppliedAt = LocalDateTime.now();
+        }
+    }
+
+    // Drain batches and rebuild pages for one campus never overlap, so a rebuild page read before
+    // a change can never be written after that change's projection.
+    private static <T> T locked(ProjectionState state, Supplier<T> action) {
+        state.writeLock.lock();
+        try {
+            return action.get();
+        } finally {
+            state.writeLock.unlock();
+        }
+    }
+
+    // With a state, the requests of the projected items are marked dirty too
+    private int projectItems(Collection<Long> ids, ProjectionState cascadeTo) {
+        Map<Long, ItemView> existing = itemViewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(ItemView::getId, Function.identity()));
+        List<ItemView> views = new ArrayList<>();
+        Set<Long> found = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Item item : itemRepository.findAllWithUsersByIdIn(ids)) {
+            views.add(toView(item, existing.get(item.getId()), now));
+            found.add(item.getId());
+        }
+        List<Long> notLive = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (!notLive.isEmpty()) {
+            for (ArchivedItem item : archivedItemRepository.findAllById(notLive)) {
+                views.add(toView(item, existing.get(item.getId()), now));
+                found.add(item.getId());
+            }
+        }
+        itemViewRepository.saveAll(views);
+        List<Long> gone = ids.stream().filter(id -> !found.contains(id) && existing.containsKey(id)).toList();
+        if (!gone.isEmpty()) {
+            itemViewRepository.deleteAllByIdInBatch(gone);
+        }
+        if (cascadeTo != null) {
+            // Item name and archival show up on the item's requests as well
+            requestViewRepository.findIdsByItemIdIn(ids).forEach(id -> markDirty(cascadeTo.dirtyRequests, id));
+        }
+        return views.size() + gone.size();
+    }
+
+    private int projectRequests(Collection<Long> ids) {
+        Map<Long, RequestView> existing = requestViewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(RequestView::getId, Function.identity()));
+        List<RequestView> views = new ArrayList<>();
+        Set<Long> found = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Request request : requestRepository.findAllWithItemAndRequesterByIdIn(ids)) {
+            views.add(toView(request, existing.get(request.getId()), now));
+            found.add(request.getId());
+        }
+        List<Long> notLive = ids.stream().filter(id -> !found.contains(id)).toList();
+        if (!notLive.isEmpty()) {
+            for (ArchivedRequest request : archivedRequestRepository.findAllById(notLive)) {
+                views.add(toView(request, existing.get(request.getId()), now));
+                found.add(request.getId());
+            }
+        }
+        requestViewRepository.saveAll(views);
+        List<Long> gone = ids.stream().filter(id -> !found.contains(id) && existing.containsKey(id)).toList();
+        if (!gone.isEmpty()) {
+            requestViewRepository.deleteAllByIdInBatch(gone);
+        }
+        return views.size() + gone.size();
+    }
+
+    private void rebuild(ProjectionState state) {
+        long started = System.currentTimeMillis();
+        try {
+            // Requests are walked on their own below, so items do not cascade to them here
+            long rows = rebuildPages(state, after -> itemRepository.findIdsAfter(after, PageRequest.of(0, rebuildPageSize)),
+                    ids -> projectItems(ids, null));
+            rows += rebuildPages(state, after -> archivedItemRepository.findIdsAfter(after, PageRequest.of(0, rebuildPageSize)),
+                    ids -> projectItems(ids, null));
+            rows += rebuildPages(state, after -> requestRepository.findIdsAfter(after, PageRequest.of(0, rebuildPageSize)),
+                    this::projectRequests);
+            rows += rebuildPages(state, after -> archivedRequestRepository.findIdsAfter(after, PageRequest.of(0, rebuildPageSize)),
+                    this::projectRequests);
+            Integer orphans = locked(state, () -> transactionTemplate.execute(status ->
+                    itemViewRepository.deleteOrphans() + requestViewRepository.deleteOrphans()));
+            state.ready = true;
+            logger.info("Read model rebuilt for campus {}: {} rows projected, {} orphans removed in {} ms.",
+                    TenantContext.getTenant(), rows, orphans, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            state.lastError = e.getMessage();
+            logger.error("Read model rebuild failed for campus {}; list reads stay on the joined queries: {}",
+                    TenantContext.getTenant(), e.getMessage(), e);
+        } finally {
+            state.lastRebuildFinishedAt = LocalDateTime.now();
+            state.rebuilding.set(false);
+        }
+    }
+
+    // Walks one source table by ID; each page is projected in its own short transaction
+    private long rebuildPages(ProjectionState state, Function<Long, List<Long>> nextIds, Function<List<Long>, Integer> project) {
+        long rows = 0;
+        long after = 0;
+        while (true) {
+            long from = after;
+            List<Long> ids = nextIds.apply(from);
+            if (ids == null || ids.isEmpty()) {
+                return rows;
+            }
+            Integer projected = locked(state, () -> transactionTemplate.execute(status -> project.apply(ids)));
+            rows += projected != null ? projected : 0;
+            state.rowsProjected.addAndGet(projected != null ? projected : 0);
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    private boolean hasTable(String table) {
+        Integer count = jdbc.queryForObject("select count(*) from information_schema.tables " +
+                "where table_schema = database() and table_name = ?", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    private static ItemView toView(Item item, ItemView view, LocalDateTime now) {
+        view = view != null ? view : ItemView.builder().id(item.getId()).build();
+        view.setName(item.getName());
+        view.setDescriptionSnippet(item.getDescriptionSnippet());
+        view.setCategory(item.getCategory());
+        view.setLocationFound(item.getLocationFound());
+        view.setDateReported(item.getDateReported());
+        view.setLatitude(item.getLatitude());
+        view.setLongitude(item.getLongitude());
+        view.setStatus(item.getStatus());
+        view.setReportedById(item.getReportedBy().getId());
+        view.setReportedByUsername(item.getReportedBy().getUsername());
+        view.setHeldById(item.getHeldBy() != null ? item.getHeldBy().getId() : null);
+        view.setHeldByUsername(item.getHeldBy() != null ? item.getHeldBy().getUsername() : null);
+        view.setClaimedById(item.getClaimedBy() != null ? item.getClaimedBy().getId() : null);
+        view.setClaimedByUsername(item.getClaimedBy() != null ? item.getClaimedBy().getUsername() : null);
+        view.setCreatedAt(item.getCreatedAt());
+        view.setUpdatedAt(item.getUpdatedAt());
+        view.setArchived(false);
+        view.setProjectedAt(now);
+        return view;
+    }
+
+    private static ItemView toView(ArchivedItem item, ItemView view, LocalDateTime now) {
+        view = view != null ? view : ItemView.builder().id(item.getId()).build();
+        view.setName(item.getName());
+        view.setDescriptionSnippet(item.getDescriptionSnippet());
+        view.setCategory(item.getCategory());
+        view.setLocationFound(item.getLocationFound());
+        view.setDateReported(item.getDateReported());
+        view.setLatitude(item.getLatitude());
+        view.setLongitude(item.getLongitude());
+        view.setStatus(item.getStatus());
+        view.setReportedById(item.getReportedById());
+        view.setReportedByUsername(item.getReportedByUsername());
+        view.setHeldById(item.getHeldById());
+        view.setHeldByUsername(item.getHeldByUsername());
+        view.setClaimedById(item.getClaimedById());
+        view.setClaimedByUsername(item.getClaimedByUsername());
+        view.setCreatedAt(item.getCreatedAt());
+        view.setUpdatedAt(item.getUpdatedAt());
+        view.setArchived(true);
+        view.setProjectedAt(now);
+        return view;
+    }
+
+    private static RequestView toView(Request request, RequestView view, LocalDateTime now) {
+        view = view != null ? view : RequestView.builder().id(request.getId()).build();
+        view.setItemId(request.getItem().getId());
+        view.setItemName(request.getItem().getName());
+        view.setRequesterId(request.getRequester().getId());
+        view.setRequesterUsername(request.getRequester().getUsername());
+        view.setStatus(request.getStatus());
+        view.setMessage(request.getMessage());
+        view.setRequestDate(request.getRequestDate());
+        view.setResolutionDate(request.getResolutionDate());
+        view.setAdminNotes(request.getAdminNotes());
+        view.setLeasedById(request.getLeasedById());
+        view.setLeaseExpiresAt(request.getLeaseExpiresAt());
+        view.setCreatedAt(request.getCreatedAt());
+        view.setUpdatedAt(request.getUpdatedAt());
+        view.setArchived(false);
+        view.setProjectedAt(now);
+        return view;
+    }
+
+    private static RequestView toView(ArchivedRequest request, RequestView view, LocalDateTime now) {
+        view = view != null ? view : RequestView.builder().id(request.getId()).build();
+        view.setItemId(request.getItemId());
+        view.setItemName(request.getItemName());
+        view.setRequesterId(request.getRequesterId());
+        view.setRequesterUsername(request.getRequesterUsername());
+        view.setStatus(request.getStatus());
+        view.setMessage(request.getMessage());
+        view.setRequestDate(request.getRequestDate());
+        view.setResolutionDate(request.getResolutionDate());
+        view.setAdminNotes(request.getAdminNotes());
+        view.setLeasedById(null);
+        view.setLeaseExpiresAt(null);
+        view.setCreatedAt(request.getCreatedAt());
+        view.setUpdatedAt(request.getUpdatedAt());
+        view.setArchived(true);
+        view.setProjectedAt(now);
+        return view;
+    }
+
+    // A pending ID; compared by identity. since = when it was first marked (epoch ms), for the lag gauge.
+    private static final class Mark {
+        final long since;
+
+        Mark(long since) {
+            this.since = since;
+        }
+    }
+
+    private static final class ProjectionState {
+        final ConcurrentHashMap<Long, Mark> dirtyItems = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, Mark> dirtyRequests = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, Mark> dirtyUsers = new ConcurrentHashMap<>();
+        final ReentrantLock writeLock = new ReentrantLock();
+        final AtomicBoolean rebuilding = new AtomicBoolean();
+        final AtomicLong rowsProjected = new AtomicLong();
+        volatile boolean available = true;
+        volatile boolean ready;
+        volatile LocalDateTime lastAppliedAt;
+        volatile LocalDateTime lastRebuildStartedAt;
+        volatile LocalDateTime lastRebuildFinishedAt;
+        volatile String lastError;
+
+        boolean hasPending() {
+            return !dirtyItems.isEmpty() || !dirtyRequests.isEmpty() || !dirtyUsers.isEmpty();
+        }
+
+        long lagMillis() {
+            long oldest = Long.MAX_VALUE;
+            for (Map<Long, Mark> dirty : List.of(dirtyItems, dirtyRequests, dirtyUsers)) {
+                for (Mark mark : dirty.values()) {
+                    oldest = Math.min(oldest, mark.since);
+                }
+            }
+            return oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest;
+        }
+    }
+}
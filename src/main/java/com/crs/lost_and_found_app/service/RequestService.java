@@ -3,25 +3,38 @@ package com.crs.lost_and_found_app.service;
 import com.crs.lost_and_found_app.dto.RequestCreateDto;
 import com.crs.lost_and_found_app.dto.RequestResponseDto;
 import com.crs.lost_and_found_app.dto.RequestUpdateDto;
+import com.crs.lost_and_found_app.entity.ArchivedRequest;
 import com.crs.lost_and_found_app.entity.Item;
 import com.crs.lost_and_found_app.entity.Request;
+import com.crs.lost_and_found_app.entity.RequestView;
 import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.enums.ChangeType;
 import com.crs.lost_and_found_app.enums.ItemStatus;
 import com.crs.lost_and_found_app.enums.RequestStatus;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.event.RequestChangedEvent;
+import com.crs.lost_and_found_app.event.RequestSnapshot;
+import com.crs.lost_and_found_app.exception.ConflictException;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.projection.Projections;
+import com.crs.lost_and_found_app.projection.SparseFieldQuery;
+import com.crs.lost_and_found_app.repository.ArchivedRequestRepository;
 import com.crs.lost_and_found_app.repository.ItemRepository;
 import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.repository.RequestViewRepository;
 import com.crs.lost_and_found_app.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,19 +45,24 @@ public class RequestService {
     private final RequestRepository requestRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SparseFieldQuery sparseFieldQuery;
+    private final RequestViewRepository requestViewRepository;
+    private final ReadModelProjector readModel;
 
     @Transactional
     public RequestResponseDto createRequest(RequestCreateDto requestCreateDto) {
-        User currentUser = getCurrentAuthenticatedUser();
+        User currentUser = CurrentUser.require(userRepository);
         Item item = itemRepository.findById(requestCreateDto.getItemId())
                 .orElseThrow(() -> {
                     logger.warn("Item not found with ID: {} for claim request by User ID: {}", requestCreateDto.getItemId(), currentUser.getId());
-                    return new EntityNotFoundException("Item not found with ID: " + requestCreateDto.getItemId());
+                    return new NotFoundException("Item not found with ID: " + requestCreateDto.getItemId());
                 });
 
         if (item.getStatus() != ItemStatus.FOUND) {
             logger.warn("User ID: {} attempted to claim item ID: {} which is not in FOUND status (current status: {}).", currentUser.getId(), item.getId(), item.getStatus());
-            throw new IllegalStateException("Item cannot be claimed as it is not currently in FOUND status.");
+            throw new ConflictException("Item cannot be claimed as it is not currently in FOUND status.");
         }
 
         // Prevent user from claiming their own reported item if it was lost by them
@@ -59,7 +77,7 @@ public class RequestService {
                 .anyMatch(req -> req.getRequester().getId().equals(currentUser.getId()) && req.getStatus() == RequestStatus.PENDING);
         if (existingPendingRequest) {
             logger.warn("User ID: {} already has a PENDING request for item ID: {}.", currentUser.getId(), item.getId());
-            throw new IllegalStateException("You already have a pending request for this item.");
+            throw new ConflictException("You already have a pending request for this item.");
         }
 
 
@@ -73,34 +91,46 @@ public class RequestService {
 
         Request savedRequest = requestRepository.save(request);
         logger.info("Claim request created successfully with ID: {} for Item ID: {} by User ID: {}", savedRequest.getId(), item.getId(), currentUser.getId());
+        eventPublisher.publishEvent(new RequestChangedEvent(ChangeType.CREATED, null, RequestSnapshot.of(savedRequest)));
         return mapToRequestResponseDto(savedRequest);
     }
 
     @Transactional
     public RequestResponseDto updateRequestStatus(Long requestId, RequestUpdateDto requestUpdateDto) {
-        User adminOrStaffUser = getCurrentAuthenticatedUser(); // Ensure this user is ADMIN or STAFF via @PreAuthorize
-        Request request = requestRepository.findById(requestId)
+        User adminOrStaffUser = CurrentUser.require(userRepository); // Ensure this user is ADMIN or STAFF via @PreAuthorize
+        Request request = requestRepository.findByIdForUpdate(requestId)
                 .orElseThrow(() -> {
                     logger.warn("Request not found with ID: {} for status update attempt by User ID: {}", requestId, adminOrStaffUser.getId());
-                    return new EntityNotFoundException("Request not found with ID: " + requestId);
+                    return new NotFoundException("Request not found with ID: " + requestId);
                 });
 
         if (request.getStatus() != RequestStatus.PENDING) {
             logger.warn("Attempt to update non-pending request ID: {}. Current status: {}. Attempted by User ID: {}", requestId, request.getStatus(), adminOrStaffUser.getId());
-            throw new IllegalStateException("Only PENDING requests can be updated.");
+            throw new ConflictException("Only PENDING requests can be updated.");
+        }
+        if (request.getLeasedById() != null && !request.getLeasedById().equals(adminOrStaffUser.getId())
+                && request.getLeaseExpiresAt() != null && request.getLeaseExpiresAt().isAfter(LocalDateTime.now())) {
+            logger.warn("User ID: {} attempted to update request ID: {} leased by User ID: {}", adminOrStaffUser.getId(), requestId, request.getLeasedById());
+            throw new ConflictException("Request is leased by another reviewer until " + request.getLeaseExpiresAt() + ".");
         }
 
+        RequestSnapshot before = RequestSnapshot.of(request);
         request.setStatus(requestUpdateDto.getStatus());
         request.setAdminNotes(requestUpdateDto.getAdminNotes());
         request.setResolutionDate(LocalDateTime.now());
+        request.setLeasedById(null);
+        request.setLeaseExpiresAt(null);
 
         if (requestUpdateDto.getStatus() == RequestStatus.APPROVED) {
             Item item = request.getItem();
+            ItemSnapshot itemBefore = ItemSnapshot.of(item);
             item.setStatus(ItemStatus.CLAIMED);
             item.setClaimedBy(request.getRequester());
+            item.setClaimedAt(LocalDateTime.now());
             item.setHeldBy(null); // No longer held by the finder/staff
             itemRepository.save(item);
             logger.info("Item ID: {} marked as CLAIMED for Request ID: {}. Processed by User ID: {}", item.getId(), requestId, adminOrStaffUser.getId());
+            eventPublisher.publishEvent(new ItemChangedEvent(ChangeType.UPDATED, itemBefore, ItemSnapshot.of(item)));
 
             // Optionally, reject other PENDING requests for the same item
             rejectOtherPendingRequests(item.getId(), requestId);
@@ -108,6 +138,7 @@ public class RequestService {
 
         Request updatedRequest = requestRepository.save(request);
         logger.info("Request ID: {} status updated to {} by User ID: {}", requestId, updatedRequest.getStatus(), adminOrStaffUser.getId());
+        eventPublisher.publishEvent(new RequestChangedEvent(ChangeType.UPDATED, before, RequestSnapshot.of(updatedRequest)));
         return mapToRequestResponseDto(updatedRequest);
     }
 
@@ -117,72 +148,159 @@ public class RequestService {
                 .collect(Collectors.toList());
 
         for (Request req : otherPendingRequests) {
+            RequestSnapshot before = RequestSnapshot.of(req);
             req.setStatus(RequestStatus.REJECTED);
             req.setAdminNotes("Item claimed by another user.");
             req.setResolutionDate(LocalDateTime.now());
+            req.setLeasedById(null);
+            req.setLeaseExpiresAt(null);
             requestRepository.save(req);
+            eventPublisher.publishEvent(new RequestChangedEvent(ChangeType.UPDATED, before, RequestSnapshot.of(req)));
             logger.info("Automatically rejected Request ID: {} for Item ID: {} as item was claimed.", req.getId(), itemId);
         }
     }
 
     @Transactional(readOnly = true)
     public RequestResponseDto getRequestById(Long id) {
-        Request request = requestRepository.findById(id)
-                .orElseThrow(() -> {
-                    logger.warn("Request not found with ID: {}", id);
-                    return new EntityNotFoundException("Request not found with ID: " + id);
-                });
+        // Requests of archived items keep their IDs, so fall back to the cold table
+        RequestResponseDto request = requestRepository.findById(id)
+                .map(this::mapToRequestResponseDto)
+                .or(() -> archivedRequestRepository.findById(id).map(this::mapToRequestResponseDto))
+                .orElseThrow(() -> new NotFoundException("Request not found with ID: " + id));
         // Add authorization: only requester or admin/staff can view?
-        return mapToRequestResponseDto(request);
+        return request;
     }
 
     @Transactional(readOnly = true)
     public List<RequestResponseDto> getAllRequests() {
+        return getAllRequests(false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestResponseDto> getAllRequests(boolean includeArchived) {
         // Typically only for ADMIN/STAFF
-        return requestRepository.findAll().stream()
+        if (readModel.isReady()) {
+            return fromViews(includeArchived ? requestViewRepository.findAllByOrderById() : requestViewRepository.findByArchivedFalseOrderById());
+        }
+        List<RequestResponseDto> requests = requestRepository.findAll().stream()
                 .map(this::mapToRequestResponseDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            archivedRequestRepository.findAll().forEach(archived -> requests.add(mapToRequestResponseDto(archived)));
+        }
+        return requests;
     }
 
     @Transactional(readOnly = true)
     public List<RequestResponseDto> getRequestsByUserId(Long userId) {
+        return getRequestsByUserId(userId, false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestResponseDto> getRequestsByUserId(Long userId, boolean includeArchived) {
         // User can see their own requests, or ADMIN/STAFF can see for a user
-        if (!getCurrentAuthenticatedUser().getId().equals(userId) && !isAdminOrStaff(getCurrentAuthenticatedUser())) {
-             throw new SecurityException("You are not authorized to view requests for this user.");
+        User currentUser = CurrentUser.require(userRepository);
+        if (!currentUser.getId().equals(userId) && !isAdminOrStaff(currentUser)) {
+             throw new ForbiddenException("You are not authorized to view requests for this user.");
+        }
+        if (readModel.isReady()) {
+            return fromViews(includeArchived ? requestViewRepository.findByRequesterIdOrderById(userId) : requestViewRepository.findByArchivedFalseAndRequesterIdOrderById(userId));
         }
-        return requestRepository.findByRequesterId(userId).stream()
+        List<RequestResponseDto> requests = requestRepository.findByRequesterId(userId).stream()
                 .map(this::mapToRequestResponseDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            archivedRequestRepository.findByRequesterId(userId).forEach(archived -> requests.add(mapToRequestResponseDto(archived)));
+        }
+        return requests;
     }
 
-     @Transactional(readOnly = true)
+    @Transactional(readOnly = true)
     public List<RequestResponseDto> getRequestsByItemId(Long itemId) {
+        return getRequestsByItemId(itemId, false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestResponseDto> getRequestsByItemId(Long itemId, boolean includeArchived) {
         // Staff/Admin might want to see all requests for an item.
-        return requestRepository.findByItemId(itemId).stream()
+        if (readModel.isReady()) {
+            return fromViews(includeArchived ? requestViewRepository.findByItemIdOrderById(itemId) : requestViewRepository.findByArchivedFalseAndItemIdOrderById(itemId));
+        }
+        List<RequestResponseDto> requests = requestRepository.findByItemId(itemId).stream()
                 .map(this::mapToRequestResponseDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            archivedRequestRepository.findByItemId(itemId).forEach(archived -> requests.add(mapToRequestResponseDto(archived)));
+        }
+        return requests;
     }
 
     @Transactional(readOnly = true)
     public List<RequestResponseDto> getRequestsByStatus(RequestStatus status) {
+        return getRequestsByStatus(status, false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestResponseDto> getRequestsByStatus(RequestStatus status, boolean includeArchived) {
         // Typically for ADMIN/STAFF to filter requests
-        return requestRepository.findByStatus(status).stream()
+        if (readModel.isReady()) {
+            return fromViews(includeArchived ? requestViewRepository.findByStatusOrderById(status) : requestViewRepository.findByArchivedFalseAndStatusOrderById(status));
+        }
+        List<RequestResponseDto> requests = requestRepository.findByStatus(status).stream()
                 .map(this::mapToRequestResponseDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            archivedRequestRepository.findByStatus(status).forEach(archived -> requests.add(mapToRequestResponseDto(archived)));
+        }
+        return requests;
     }
 
-    private User getCurrentAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
-            logger.warn("Attempt to access service method without authentication.");
-            throw new SecurityException("User not authenticated");
+    // Sparse variants for ?fields=: only the requested columns (and joins) are selected
+    @Transactional(readOnly = true)
+    public Map<String, Object> getRequestById(Long id, List<String> fields) {
+        Map<String, Object> parameters = Map.of("id", id);
+        List<Map<String, Object>> rows = sparseFieldQuery.list(Projections.REQUEST, fields, "r.id = :id", parameters);
+        if (rows.isEmpty()) {
+            rows = sparseFieldQuery.list(Projections.ARCHIVED_REQUEST, fields, "r.id = :id", parameters);
         }
-        String username = authentication.getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> {
-                    logger.error("Authenticated user {} not found in database.", username);
-                    return new EntityNotFoundException("Authenticated user not found: " + username);
-                });
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Request not found with ID: " + id);
+        }
+        return rows.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllRequests(boolean includeArchived, List<String> fields) {
+        return listSparse(null, null, Map.of(), includeArchived, fields);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getRequestsByUserId(Long userId, boolean includeArchived, List<String> fields) {
+        User currentUser = CurrentUser.require(userRepository);
+        if (!currentUser.getId().equals(userId) && !isAdminOrStaff(currentUser)) {
+            throw new ForbiddenException("You are not authorized to view requests for this user.");
+        }
+        return listSparse("r.requester.id = :userId", "r.requesterId = :userId", Map.of("userId", userId), includeArchived, fields);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getRequestsByItemId(Long itemId, boolean includeArchived, List<String> fields) {
+        return listSparse("r.item.id = :itemId", "r.itemId = :itemId", Map.of("itemId", itemId), includeArchived, fields);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getRequestsByStatus(RequestStatus status, boolean includeArchived, List<String> fields) {
+        return listSparse("r.status = :status", "r.status = :status", Map.of("status", status), includeArchived, fields);
+    }
+
+    // Live and archived rows name the same filter differently (r.requester.id vs r.requesterId)
+    private List<Map<String, Object>> listSparse(String where, String archivedWhere, Map<String, Object> parameters,
+                                                 boolean includeArchived, List<String> fields) {
+        List<Map<String, Object>> requests = sparseFieldQuery.list(Projections.REQUEST, fields, where, parameters);
+        if (includeArchived) {
+            requests.addAll(sparseFieldQuery.list(Projections.ARCHIVED_REQUEST, fields, archivedWhere, parameters));
+        }
+        return requests;
     }
 
     private boolean isAdminOrStaff(User user) {
@@ -190,7 +308,7 @@ public class RequestService {
                user.getRole() == com.crs.lost_and_found_app.enums.UserRole.STAFF;
     }
 
-    private RequestResponseDto mapToRequestResponseDto(Request request) {
+    RequestResponseDto mapToRequestResponseDto(Request request) {
         return RequestResponseDto.builder()
                 .id(request.getId())
                 .itemId(request.getItem().getId())
@@ -202,25 +320,72 @@ public class RequestService {
                 .requestDate(request.getRequestDate())
                 .resolutionDate(request.getResolutionDate())
                 .adminNotes(request.getAdminNotes())
+                .leasedById(request.getLeasedById())
+                .leaseExpiresAt(request.getLeaseExpiresAt())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .build();
+    }
+
+    private List<RequestResponseDto> fromViews(List<RequestView> views) {
+        return views.stream()
+                .map(this::mapToRequestResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    // Read model row: item name and requester username are already on it
+    private RequestResponseDto mapToRequestResponseDto(RequestView request) {
+        return RequestResponseDto.builder()
+                .id(request.getId())
+                .itemId(request.getItemId())
+                .itemName(request.getItemName())
+                .requesterId(request.getRequesterId())
+                .requesterUsername(request.getRequesterUsername())
+                .status(request.getStatus())
+                .message(request.getMessage())
+                .requestDate(request.getRequestDate())
+                .resolutionDate(request.getResolutionDate())
+                .adminNotes(request.getAdminNotes())
+                .leasedById(request.getLeasedById())
+                .leaseExpiresAt(request.getLeaseExpiresAt())
+                .createdAt(request.getCreatedAt())
+                .updatedAt(request.getUpdatedAt())
+                .archived(request.isArchived())
+                .build();
+    }
+
+    private RequestResponseDto mapToRequestResponseDto(ArchivedRequest request) {
+        return RequestResponseDto.builder()
+                .id(request.getId())
+                .itemId(request.getItemId())
+                .itemName(request.getItemName())
+                .requesterId(request.getRequesterId())
+                .requesterUsername(request.getRequesterUsername())
+                .status(request.getStatus())
+                .message(request.getMessage())
+                .requestDate(request.getRequestDate())
+                .resolutionDate(request.getResolutionDate())
+                .adminNotes(request.getAdminNotes())
                 .createdAt(request.getCreatedAt())
                 .updatedAt(request.getUpdatedAt())
+                .archived(true)
                 .build();
     }
 
     @Transactional
     public void deleteRequest(Long requestId) {
-        User currentUser = getCurrentAuthenticatedUser();
+        User currentUser = CurrentUser.require(userRepository);
         Request request = requestRepository.findById(requestId)
                 .orElseThrow(() -> {
                     logger.warn("Request not found with ID: {} for delete attempt by User ID: {}", requestId, currentUser.getId());
-                    return new EntityNotFoundException("Request not found with ID: " + requestId);
+                    return new NotFoundException("Request not found with ID: " + requestId);
                 });
 
         // Check if the user is the requester or an admin/staff
         if (!request.getRequester().getId().equals(currentUser.getId()) && !isAdminOrStaff(currentUser)) {
             logger.warn("User ID: {} attempted to delete request ID: {} owned by User ID: {}. Unauthorized.",
                     currentUser.getId(), requestId, request.getRequester().getId());
-            throw new SecurityException("You are not authorized to delete this request.");
+            throw new ForbiddenException("You are not authorized to delete this request.");
         }
 
         // Prevent deletion of approved requests where the item is already claimed, as this could lead to inconsistencies.
@@ -228,10 +393,11 @@ public class RequestService {
         if (request.getStatus() == RequestStatus.APPROVED && request.getItem().getStatus() == ItemStatus.CLAIMED) {
             logger.warn("Attempt to delete an APPROVED request (ID: {}) where the item (ID: {}) is already CLAIMED. User ID: {}. Operation denied.",
                     requestId, request.getItem().getId(), currentUser.getId());
-            throw new IllegalStateException("Cannot delete a request that has been approved and the item claimed. Please reject or cancel if necessary.");
+            throw new ConflictException("Cannot delete a request that has been approved and the item claimed. Please reject or cancel if necessary.");
         }
 
         requestRepository.delete(request);
+        eventPublisher.publishEvent(new RequestChangedEvent(ChangeType.DELETED, RequestSnapshot.of(request), null));
         logger.info("Request with ID: {} successfully deleted by User ID: {}. Request was made by User ID: {}",
                 requestId, currentUser.getId(), request.getRequester().getId());
     }
@@ -0,0 +1,201 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.analytics.LogHistogram;
+import com.crs.lost_and_found_app.entity.DailyRollup;
+import com.crs.lost_and_found_app.entity.RollupWatermark;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import com.crs.lost_and_found_app.repository.DailyRollupRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.repository.RollupWatermarkRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Maintains daily_rollups incrementally.
+ * <p>
+ * Each run processes the events that happened in (watermark, now - safety lag]: items created,
+ * claims requested and claims resolved, each counted on the day of its own timestamp. The window
+ * is split into slices of at most {@code analytics.rollup.max-slice-hours}; every slice updates the
+ * affected day rows and advances the watermark in one transaction, so a crash never double counts
+ * and a run after downtime catches up without one huge transaction. The safety lag leaves time for
+ * transactions that stamped a row just before the cut-off to commit.
+ * <p>
+ * Rollups record facts as they happened; later edits or deletions of source rows are not replayed.
+ */
+@Service
+public class RollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupService.class);
+    static final String WATERMARK_NAME = "daily-rollup";
+
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final DailyRollupRepository dailyRollupRepository;
+    private final RollupWatermarkRepository rollupWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantRegistry tenantRegistry;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    @Value("${analytics.rollup.chunk-size:2000}")
+    private int chunkSize;
+
+    @Value("${analytics.rollup.safety-lag-seconds:60}")
+    private long safetyLagSeconds;
+
+    @Value("${analytics.rollup.max-slice-hours:24}")
+    private long maxSliceHours;
+
+    public RollupService(ItemRepository itemRepository,
+                         RequestRepository requestRepository,
+                         DailyRollupRepository dailyRollupRepository,
+                         RollupWatermarkRepository rollupWatermarkRepository,
+                         PlatformTransactionManager transactionManager,
+                         TenantRegistry tenantRegistry) {
+        this.tenantRegistry = tenantRegistry;
+        this.itemRepository = itemRepository;
+        this.requestRepository = requestRepository;
+        this.dailyRollupRepository = dailyRollupRepository;
+        this.rollupWatermarkRepository = rollupWatermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${analytics.rollup.initial-delay-ms:60000}",
+               fixedDelayString = "${analytics.rollup.interval-ms:600000}")
+    public void scheduledRun() {
+        tenantRegistry.forEachTenant(tenant -> runRollup());
+    }
+
+    // Returns the number of slices processed
+    public int runRollup() {
+        if (!runLock.tryLock()) {
+            logger.info("Analytics rollup already running, skipping.");
+            return 0;
+        }
+        try {
+            LocalDateTime upTo = LocalDateTime.now().minusSeconds(safetyLagSeconds);
+            LocalDateTime watermark = currentWatermark();
+            if (watermark == null) {
+                return 0; // Nothing has ever been written
+            }
+            int slices = 0;
+            while (watermark.isBefore(upTo)) {
+                LocalDateTime from = watermark;
+                LocalDateTime to = min(from.plus(Duration.ofHours(maxSliceHours)), upTo);
+                transactionTemplate.executeWithoutResult(status -> processSlice(from, to));
+                watermark = to;
+                slices++;
+            }
+            if (slices > 0) {
+                logger.info("Analytics rollup processed {} slice(s) up to {}.", slices, watermark);
+            }
+            return slices;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private LocalDateTime currentWatermark() {
+        return rollupWatermarkRepository.findById(WATERMARK_NAME)
+                .map(RollupWatermark::getProcessedUpTo)
+                .orElseGet(() -> {
+                    // First run: start just before the oldest row so the initial backfill has no empty prefix
+                    LocalDateTime oldestItem = itemRepository.findMinCreatedAt();
+                    LocalDateTime oldestRequest = requestRepository.findMinCreatedAt();
+                    LocalDateTime oldest = oldestItem == null ? oldestRequest
+                            : oldestRequest == null ? oldestItem : min(oldestItem, oldestRequest);
+                    return oldest == null ? null : oldest.minusSeconds(1);
+                });
+    }
+
+    private void processSlice(LocalDateTime from, LocalDateTime to) {
+        Map<LocalDate, DailyRollup> touched = new HashMap<>();
+        Map<LocalDate, LogHistogram> sketches = new HashMap<>();
+
+        forEachChunk((afterId, page) -> itemRepository.findCreatedBetween(from, to, afterId, page), row -> {
+            DailyRollup rollup = rollupFor(touched, ((LocalDateTime) row[1]).toLocalDate());
+            rollup.setItemsReported(rollup.getItemsReported() + 1);
+            if (row[2] == ItemStatus.LOST) {
+                rollup.setItemsLost(rollup.getItemsLost() + 1);
+            } else {
+                rollup.setItemsFound(rollup.getItemsFound() + 1); // CLAIMED items were reported as FOUND
+            }
+        });
+
+        forEachChunk((afterId, page) -> requestRepository.findCreatedBetween(from, to, afterId, page), row -> {
+            LocalDateTime requestDate = (LocalDateTime) row[1];
+            DailyRollup rollup = rollupFor(touched, (requestDate != null ? requestDate : to).toLocalDate());
+            rollup.setClaimsRequested(rollup.getClaimsRequested() + 1);
+        });
+
+        forEachChunk((afterId, page) -> requestRepository.findResolvedBetween(from, to, afterId, page), row -> {
+            LocalDateTime requestDate = (LocalDateTime) row[1];
+            LocalDateTime resolutionDate = (LocalDateTime) row[2];
+            LocalDate day = resolutionDate.toLocalDate();
+            DailyRollup rollup = rollupFor(touched, day);
+            if (row[3] == RequestStatus.APPROVED) {
+                rollup.setClaimsApproved(rollup.getClaimsApproved() + 1);
+                if (requestDate != null) {
+                    LogHistogram sketch = sketches.computeIfAbsent(day, d -> LogHistogram.fromBytes(rollup.getTimeToClaimSketch()));
+                    sketch.add(Duration.between(requestDate, resolutionDate).toSeconds());
+                }
+            } else if (row[3] == RequestStatus.REJECTED) {
+                rollup.setClaimsRejected(rollup.getClaimsRejected() + 1);
+            }
+        });
+
+        sketches.forEach((day, sketch) -> touched.get(day).setTimeToClaimSketch(sketch.toBytes()));
+        dailyRollupRepository.saveAll(touched.values());
+        rollupWatermarkRepository.save(RollupWatermark.builder().name(WATERMARK_NAME).processedUpTo(to).build());
+    }
+
+    private DailyRollup rollupFor(Map<LocalDate, DailyRollup> touched, LocalDate day) {
+        return touched.computeIfAbsent(day, d -> dailyRollupRepository.findById(d)
+                .orElseGet(() -> DailyRollup.builder().day(d).build()));
+    }
+
+    private interface ChunkQuery {
+        List<Object[]> fetch(Long afterId, Pageable page);
+    }
+
+    private interface RowHandler {
+        void handle(Object[] row);
+    }
+
+    // Rows are read in id order in bounded chunks so a large backfill never materialises at once
+    private void forEachChunk(ChunkQuery query, RowHandler handler) {
+        Pageable page = PageRequest.of(0, chunkSize);
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = query.fetch(afterId, page);
+            for (Object[] row : rows) {
+                handler.handle(row);
+            }
+            if (rows.size() < chunkSize) {
+                return;
+            }
+            afterId = (Long) rows.get(rows.size() - 1)[0];
+        }
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
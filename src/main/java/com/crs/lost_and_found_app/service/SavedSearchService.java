@@ -0,0 +1,257 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.InvalidationListener;
+import com.crs.lost_and_found_app.dto.PagedResponseDto;
+import com.crs.lost_and_found_app.dto.SavedSearchMatchDto;
+import com.crs.lost_and_found_app.dto.SavedSearchRequestDto;
+import com.crs.lost_and_found_app.dto.SavedSearchResponseDto;
+import com.crs.lost_and_found_app.entity.Item;
+import com.crs.lost_and_found_app.entity.SavedSearch;
+import com.crs.lost_and_found_app.entity.SavedSearchMatch;
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.index.SavedSearchIndex;
+import com.crs.lost_and_found_app.repository.SavedSearchMatchRepository;
+import com.crs.lost_and_found_app.repository.SavedSearchRepository;
+import com.crs.lost_and_found_app.repository.UserRepository;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import com.crs.lost_and_found_app.tenant.TenantScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class SavedSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchService.class);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMatchRepository savedSearchMatchRepository;
+    private final UserRepository userRepository;
+    private final TenantRegistry tenantRegistry;
+    private final InvalidationBus invalidationBus;
+    private final TenantScoped<SavedSearchIndex> indexes = new TenantScoped<>(SavedSearchIndex::new);
+
+    public SavedSearchService(SavedSearchRepository savedSearchRepository,
+                              SavedSearchMatchRepository savedSearchMatchRepository,
+                              UserRepository userRepository,
+                              TenantRegistry tenantRegistry,
+                              InvalidationBus invalidationBus) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMatchRepository = savedSearchMatchRepository;
+        this.userRepository = userRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.invalidationBus = invalidationBus;
+        // Saved searches created or deleted on another node
+        invalidationBus.subscribe(InvalidationBus.SAVED_SEARCH, new InvalidationListener() {
+            @Override
+            public void invalidate(String key) {
+                Long id = Long.valueOf(key);
+                savedSearchRepository.findById(id).ifPresentOrElse(
+                        search -> indexes.get().add(toStandingQuery(search)),
+                        () -> indexes.get().remove(id));
+            }
+
+            @Override
+            public void invalidateAll() {
+                loadCurrentTenant();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        tenantRegistry.forEachTenant(tenant -> loadCurrentTenant());
+    }
+
+    private void loadCurrentTenant() {
+        SavedSearchIndex savedSearchIndex = indexes.get();
+        savedSearchIndex.clear();
+        savedSearchRepository.findAll().forEach(search -> savedSearchIndex.add(toStandingQuery(search)));
+        logger.info("Loaded {} saved searches into the standing-query index for campus {}.", savedSearchIndex.size(), TenantContext.getTenant());
+    }
+
+    @Transactional
+    public SavedSearchResponseDto createSavedSearch(SavedSearchRequestDto requestDto) {
+        User currentUser = CurrentUser.require(userRepository);
+        // Validated as the index will see it: the tokenizer drops one-letter words and punctuation
+        SavedSearchIndex.StandingQuery normalized = SavedSearchIndex.StandingQuery.of(null, currentUser.getId(), requestDto.getKeywords(),
+                requestDto.getCategory(), requestDto.getLocation(), requestDto.getDateFrom(), requestDto.getDateTo());
+        if (!normalized.hasCriteria()) {
+            throw new InvalidRequestException("A saved search needs at least one of keywords, category, location or date window.");
+        }
+        if (!isBlank(requestDto.getKeywords()) && normalized.keywordTerms().isEmpty()) {
+            throw new InvalidRequestException("Keywords must contain at least one word of two or more letters or digits.");
+        }
+        if (!isBlank(requestDto.getLocation()) && normalized.locationTerms().isEmpty()) {
+            throw new InvalidRequestException("Location must contain at least one word of two or more letters or digits.");
+        }
+        if (requestDto.getDateFrom() != null && requestDto.getDateTo() != null && requestDto.getDateFrom().isAfter(requestDto.getDateTo())) {
+            throw new InvalidRequestException("dateFrom must not be after dateTo.");
+        }
+
+        SavedSearch savedSearch = SavedSearch.builder()
+                .user(currentUser)
+                .keywords(requestDto.getKeywords())
+                .category(requestDto.getCategory())
+                .location(requestDto.getLocation())
+                .dateFrom(requestDto.getDateFrom())
+                .dateTo(requestDto.getDateTo())
+                .build();
+        SavedSearch saved = savedSearchRepository.save(savedSearch);
+        SavedSearchIndex.StandingQuery query = toStandingQuery(saved);
+        SavedSearchIndex savedSearchIndex = indexes.get();
+        TransactionCallbacks.afterCommit(() -> {
+            savedSearchIndex.add(query);
+            invalidationBus.publish(InvalidationBus.SAVED_SEARCH, query.id());
+        });
+        logger.info("Saved search ID: {} created by User ID: {}", saved.getId(), currentUser.getId());
+        return mapToSavedSearchResponseDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SavedSearchResponseDto> getMySavedSearches() {
+        User currentUser = CurrentUser.require(userRepository);
+        return savedSearchRepository.findByUserId(currentUser.getId()).stream()
+                .map(this::mapToSavedSearchResponseDto)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional
+    public void deleteSavedSearch(Long id) {
+        User currentUser = CurrentUser.require(userRepository);
+        SavedSearch savedSearch = savedSearchRepository.findById(id)
+                .orElseThrow(() -> {
+                    logger.warn("Saved search not found with ID: {} for delete attempt by User ID: {}", id, currentUser.getId());
+                    return new NotFoundException("Saved search not found with ID: " + id);
+                });
+        if (!savedSearch.getUser().getId().equals(currentUser.getId())) {
+            logger.warn("User ID: {} attempted to delete saved search ID: {} owned by User ID: {}.", currentUser.getId(), id, savedSearch.getUser().getId());
+            throw new ForbiddenException("You are not authorized to delete this saved search.");
+        }
+        savedSearchMatchRepository.deleteBySavedSearchId(id);
+        savedSearchRepository.delete(savedSearch);
+        SavedSearchIndex savedSearchIndex = indexes.get();
+        TransactionCallbacks.afterCommit(() -> {
+            savedSearchIndex.remove(id);
+            invalidationBus.publish(InvalidationBus.SAVED_SEARCH, id);
+        });
+        logger.info("Saved search ID: {} deleted by User ID: {}", id, currentUser.getId());
+    }
+
+    // Used by the user cleanup job; runs inside the caller's transaction
+    public int deleteSavedSearchesForUser(Long userId) {
+        List<SavedSearch> searches = savedSearchRepository.findByUserId(userId);
+        savedSearchMatchRepository.deleteByUserId(userId);
+        savedSearchRepository.deleteAll(searches);
+        List<Long> ids = searches.stream().map(SavedSearch::getId).collect(Collectors.toList());
+        SavedSearchIndex savedSearchIndex = indexes.get();
+        TransactionCallbacks.afterCommit(() -> ids.forEach(id -> {
+            savedSearchIndex.remove(id);
+            invalidationBus.publish(InvalidationBus.SAVED_SEARCH, id);
+        }));
+        return searches.size();
+    }
+
+    @Transactional(readOnly = true)
+    public PagedResponseDto<SavedSearchMatchDto> getInbox(int page, int size) {
+        User currentUser = CurrentUser.require(userRepository);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Page<SavedSearchMatch> matches = savedSearchMatchRepository.findByUserIdOrderByMatchedAtDesc(currentUser.getId(), pageRequest);
+        return PagedResponseDto.<SavedSearchMatchDto>builder()
+                .content(matches.getContent().stream().map(this::mapToSavedSearchMatchDto).collect(Collectors.toList()))
+                .page(matches.getNumber())
+                .size(matches.getSize())
+                .totalElements(matches.getTotalElements())
+                .totalPages(matches.getTotalPages())
+                .build();
+    }
+
+    @Transactional
+    public void markSeen(Long matchId) {
+        User currentUser = CurrentUser.require(userRepository);
+        SavedSearchMatch match = savedSearchMatchRepository.findById(matchId)
+                .filter(m -> m.getUserId().equals(currentUser.getId()))
+                .orElseThrow(() -> new NotFoundException("Inbox entry not found with ID: " + matchId));
+        match.setSeen(true);
+        savedSearchMatchRepository.save(match);
+    }
+
+    // Called from ItemService.createItem inside its transaction, so inbox rows commit with the item.
+    public void percolate(Item item, String description) {
+        if (item.getStatus() != ItemStatus.FOUND) {
+            return;
+        }
+        SavedSearchIndex.Document document = SavedSearchIndex.Document.of(item.getName(), description,
+                item.getCategory(), item.getLocationFound(),
+                item.getDateReported() != null ? item.getDateReported() : LocalDateTime.now().toLocalDate());
+        List<SavedSearchIndex.StandingQuery> matches = indexes.get().match(document);
+        if (matches.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<SavedSearchMatch> inboxEntries = matches.stream()
+                .filter(query -> !query.userId().equals(item.getReportedBy().getId())) // Don't alert the finder about their own report
+                .map(query -> SavedSearchMatch.builder()
+                        .userId(query.userId())
+                        .savedSearchId(query.id())
+                        .itemId(item.getId())
+                        .itemName(item.getName())
+                        .itemCategory(item.getCategory())
+                        .itemLocation(item.getLocationFound())
+                        .matchedAt(now)
+                        .build())
+                .collect(Collectors.toList());
+        savedSearchMatchRepository.saveAll(inboxEntries);
+        logger.info("Item ID: {} matched {} saved searches.", item.getId(), inboxEntries.size());
+    }
+
+    private SavedSearchIndex.StandingQuery toStandingQuery(SavedSearch search) {
+        return SavedSearchIndex.StandingQuery.of(search.getId(), search.getUser().getId(), search.getKeywords(),
+                search.getCategory(), search.getLocation(), search.getDateFrom(), search.getDateTo());
+    }
+
+    private boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private SavedSearchResponseDto mapToSavedSearchResponseDto(SavedSearch search) {
+        return SavedSearchResponseDto.builder()
+                .id(search.getId())
+                .keywords(search.getKeywords())
+                .category(search.getCategory())
+                .location(search.getLocation())
+                .dateFrom(search.getDateFrom())
+                .dateTo(search.getDateTo())
+                .createdAt(search.getCreatedAt())
+                .build();
+    }
+
+    private SavedSearchMatchDto mapToSavedSearchMatchDto(SavedSearchMatch match) {
+        return SavedSearchMatchDto.builder()
+                .id(match.getId())
+                .savedSearchId(match.getSavedSearchId())
+                .itemId(match.getItemId())
+                .itemName(match.getItemName())
+                .itemCategory(match.getItemCategory())
+                .itemLocation(match.getItemLocation())
+                .matchedAt(match.getMatchedAt())
+                .seen(match.isSeen())
+                .build();
+    }
+}
@@ -0,0 +1,305 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.CampusItemDto;
+import com.crs.lost_and_found_app.dto.CrossCampusDto;
+import com.crs.lost_and_found_app.dto.FacetCountsDto;
+import com.crs.lost_and_found_app.dto.TenantDto;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.enums.TenantStatus;
+import com.crs.lost_and_found_app.exception.ConflictException;
+import com.crs.lost_and_found_app.exception.ForbiddenException;
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import com.crs.lost_and_found_app.tenant.ShardDataSources;
+import com.crs.lost_and_found_app.tenant.TenancyProperties;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantFanOut;
+import com.crs.lost_and_found_app.tenant.TenantInfo;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Campus administration: provisioning, moving a campus to another shard, and read-only queries
+ * fanned out over every campus. Only administrators of the default campus may use it.
+ * <p>
+ * New campuses get a schema cloned (structure only) from the default campus, then brought up to
+ * the entity model by {@link TenantSchemaMigration}, which also updates every campus at startup.
+ * A move pauses writes by marking the campus MOVING, waits {@code tenancy.move-drain-ms} for every
+ * node to notice and in-flight writes to finish, copies the schema and rows to the target shard,
+ * then repoints the registry. The source copy is left in place for the operator to drop once the move is verified.
+ */
+@Service
+public class TenantAdminService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantAdminService.class);
+    private static final String SCHEMA_PREFIX = "laf_";
+    private static final int MAX_CROSS_CAMPUS_ITEMS = 1000;
+
+    private final TenantRegistry tenantRegistry;
+    private final ShardDataSources shards;
+    private final TenantFanOut tenantFanOut;
+    private final TenancyProperties tenancyProperties;
+    private final FacetCounterService facetCounterService;
+    private final ItemService itemService;
+    private final ThreadPoolTaskExecutor tenantMoveExecutor;
+    private final TenantSchemaMigration tenantSchemaMigration;
+
+    public TenantAdminService(TenantRegistry tenantRegistry,
+                              ShardDataSources shards,
+                              TenantFanOut tenantFanOut,
+                              TenancyProperties tenancyProperties,
+                              FacetCounterService facetCounterService,
+                              ItemService itemService,
+                              @Qualifier("tenantMoveExecutor") ThreadPoolTaskExecutor tenantMoveExecutor,
+                              TenantSchemaMigration tenantSchemaMigration) {
+        this.tenantRegistry = tenantRegistry;
+        this.shards = shards;
+        this.tenantFanOut = tenantFanOut;
+        this.tenancyProperties = tenancyProperties;
+        this.facetCounterService = facetCounterService;
+        this.itemService = itemService;
+        this.tenantMoveExecutor = tenantMoveExecutor;
+        this.tenantSchemaMigration = tenantSchemaMigration;
+    }
+
+    public List<TenantDto> listTenants() {
+        requireControlCampus();
+        return tenantRegistry.all().stream().map(this::mapToTenantDto).collect(Collectors.toList());
+    }
+
+    public TenantDto createTenant(String tenantId, String shard) {
+        requireControlCampus();
+        TenantRegistry.validateTenantId(tenantId);
+        String targetShard = shard != null && !shard.isBlank() ? shard : ShardDataSources.DEFAULT_SHARD;
+        if (!shards.names().contains(targetShard)) {
+            throw new InvalidRequestException("Unknown shard: " + targetShard);
+        }
+        if (tenantRegistry.exists(tenantId)) {
+            throw new ConflictException("Campus already exists: " + tenantId);
+        }
+        String schema = SCHEMA_PREFIX + tenantId;
+        try {
+            copySchema(ShardDataSources.DEFAULT_SHARD, shards.defaultCatalog(ShardDataSources.DEFAULT_SHARD), targetShard, schema, false);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not create schema " + schema + " on shard " + targetShard + ": " + e.getMessage(), e);
+        }
+        // The clone carries the default schema's layout; bring it up to the entity model before anyone routes to it
+        tenantSchemaMigration.migrate(new TenantInfo(tenantId, targetShard, schema, TenantStatus.ACTIVE));
+        tenantRegistry.register(tenantId, targetShard, schema);
+        logger.info("Campus {} provisioned in schema {} on shard {}", tenantId, schema, targetShard);
+        return mapToTenantDto(tenantRegistry.resolve(tenantId));
+    }
+
+    public TenantDto moveTenant(String tenantId, String targetShard) {
+        requireControlCampus();
+        TenantInfo tenant = tenantRegistry.resolve(tenantId);
+        if (tenant.schema() == null) {
+            throw new InvalidRequestException("The default campus holds the tenant registry and cannot be moved.");
+        }
+        if (!shards.names().contains(targetShard)) {
+            throw new InvalidRequestException("Unknown shard: " + targetShard);
+        }
+        if (tenant.shard().equals(targetShard)) {
+            throw new InvalidRequestException("Campus " + tenantId + " is already on shard " + targetShard);
+        }
+        if (tenant.status() != TenantStatus.ACTIVE) {
+            throw new ConflictException("Campus " + tenantId + " is already being moved.");
+        }
+        tenantRegistry.update(tenantId, tenant.shard(), TenantStatus.MOVING);
+        tenantMoveExecutor.execute(() -> runMove(tenant, targetShard));
+        return mapToTenantDto(tenantRegistry.resolve(tenantId));
+    }
+
+    public CrossCampusDto<FacetCountsDto> getFacetCountsAcrossCampuses(int top) {
+        requireControlCampus();
+        TenantFanOut.Result<FacetCountsDto> result = tenantFanOut.query(() -> facetCounterService.getFacetCounts(Integer.MAX_VALUE));
+        Map<String, Long> itemStatus = new LinkedHashMap<>();
+        Map<String, Long> itemCategory = new LinkedHashMap<>();
+        Map<String, Long> itemLocation = new LinkedHashMap<>();
+        Map<String, Long> requestStatus = new LinkedHashMap<>();
+        for (FacetCountsDto counts : result.results().values()) {
+            counts.getItemStatus().forEach((key, value) -> itemStatus.merge(key, value, Long::sum));
+            counts.getItemCategory().forEach((key, value) -> itemCategory.merge(key, value, Long::sum));
+            counts.getItemLocation().forEach((key, value) -> itemLocation.merge(key, value, Long::sum));
+            counts.getRequestStatus().forEach((key, value) -> requestStatus.merge(key, value, Long::sum));
+        }
+        FacetCountsDto merged = FacetCountsDto.builder()
+                .itemStatus(top(itemStatus, Integer.MAX_VALUE))
+                .itemCategory(top(itemCategory, top))
+                .itemLocation(top(itemLocation, top))
+                .requestStatus(top(requestStatus, Integer.MAX_VALUE))
+                .build();
+        return CrossCampusDto.<FacetCountsDto>builder()
+                .merged(merged)
+                .campuses(result.results())
+                .errors(result.errors())
+                .build();
+    }
+
+    public CrossCampusDto<List<CampusItemDto>> getItemsAcrossCampuses(ItemStatus status, int limit) {
+        requireControlCampus();
+        TenantFanOut.Result<List<CampusItemDto>> result = tenantFanOut.query(() -> {
+            String campus = TenantContext.getTenant();
+            return itemService.getItemsByStatus(status).stream()
+                    .map(item -> CampusItemDto.builder().campus(campus).item(item).build())
+                    .collect(Collectors.toList());
+        });
+        Comparator<CampusItemDto> newestFirst = Comparator.comparing((CampusItemDto dto) -> dto.getItem().getCreatedAt(),
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        List<CampusItemDto> merged = result.results().values().stream()
+                .flatMap(List::stream)
+                .sorted(newestFirst.thenComparing(dto -> dto.getCampus()))
+                .limit(Math.min(Math.max(limit, 1), MAX_CROSS_CAMPUS_ITEMS))
+                .collect(Collectors.toList());
+        return CrossCampusDto.<List<CampusItemDto>>builder()
+                .merged(merged)
+                .errors(result.errors())
+                .build();
+    }
+
+    private void runMove(TenantInfo tenant, String targetShard) {
+        String tenantId = tenant.tenantId();
+        try {
+            Thread.sleep(tenancyProperties.getMoveDrainMs());
+            long started = System.currentTimeMillis();
+            copySchema(tenant.shard(), tenant.schema(), targetShard, tenant.schema(), true);
+            tenantRegistry.update(tenantId, targetShard, TenantStatus.ACTIVE);
+            logger.info("Campus {} moved from shard {} to {} in {} ms; the copy on {} can be dropped once verified.",
+                    tenantId, tenant.shard(), targetShard, System.currentTimeMillis() - started, tenant.shard());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            logger.error("Moving campus {} to shard {} failed; it stays on {}: {}", tenantId, targetShard, tenant.shard(), e.getMessage(), e);
+            tenantRegistry.update(tenantId, tenant.shard(), TenantStatus.ACTIVE);
+        }
+    }
+
+    // Recreates every table of the source schema on the target (dropping any leftovers from an
+    // earlier attempt) and optionally copies the rows, streaming the source and batching inserts.
+    private void copySchema(String sourceShard, String sourceSchema, String targetShard, String targetSchema, boolean copyRows) throws SQLException {
+        boolean sourceIsControl = ShardDataSources.DEFAULT_SHARD.equals(sourceShard)
+                && sourceSchema.equals(shards.defaultCatalog(ShardDataSources.DEFAULT_SHARD));
+        try (Connection source = shards.pinnedTo(sourceShard, sourceSchema).getConnection();
+             Connection target = shards.pinnedTo(targetShard, null).getConnection()) {
+            try (Statement statement = target.createStatement()) {
+                statement.execute("create database if not exists `" + targetSchema + "`");
+            }
+            target.setCatalog(targetSchema);
+            List<String> tables = new ArrayList<>();
+            try (Statement statement = source.createStatement(); ResultSet rs = statement.executeQuery("show tables")) {
+                while (rs.next()) {
+                    String table = rs.getString(1);
+                    if (!(sourceIsControl && "tenants".equals(table))) {
+                        tables.add(table);
+                    }
+                }
+            }
+            try (Statement statement = target.createStatement()) {
+                statement.execute("set foreign_key_checks = 0");
+                for (String table : tables) {
+                    statement.execute("drop table if exists `" + table + "`");
+                    statement.execute(showCreateTable(source, table));
+                }
+            }
+            if (copyRows) {
+                for (String table : tables) {
+                    long rows = copyRows(source, target, table);
+                    logger.info("Copied {} rows of {}.{} to shard {}", rows, targetSchema, table, targetShard);
+                }
+            }
+            try (Statement statement = target.createStatement()) {
+                statement.execute("set foreign_key_checks = 1");
+            }
+        }
+    }
+
+    private String showCreateTable(Connection source, String table) throws SQLException {
+        try (Statement statement = source.createStatement(); ResultSet rs = statement.executeQuery("show create table `" + table + "`")) {
+            if (!rs.next()) {
+                throw new SQLException("No definition for table " + table);
+            }
+            return rs.getString(2);
+        }
+    }
+
+    private long copyRows(Connection source, Connection target, String table) throws SQLException {
+        boolean autoCommit = target.getAutoCommit();
+        target.setAutoCommit(false);
+        long rows = 0;
+        try (Statement statement = source.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(Integer.MIN_VALUE); // MySQL: stream rows instead of buffering the table
+            try (ResultSet rs = statement.executeQuery("select * from `" + table + "`")) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                StringBuilder names = new StringBuilder();
+                StringBuilder placeholders = new StringBuilder();
+                for (int i = 1; i <= columns; i++) {
+                    names.append(i > 1 ? ", " : "").append('`').append(meta.getColumnName(i)).append('`');
+                    placeholders.append(i > 1 ? ", ?" : "?");
+                }
+                try (PreparedStatement insert = target.prepareStatement(
+                        "insert into `" + table + "` (" + names + ") values (" + placeholders + ")")) {
+                    while (rs.next()) {
+                        for (int i = 1; i <= columns; i++) {
+                            insert.setObject(i, rs.getObject(i));
+                        }
+                        insert.addBatch();
+                        if (++rows % tenancyProperties.getMoveBatchSize() == 0) {
+                            insert.executeBatch();
+                            target.commit();
+                        }
+                    }
+                    insert.executeBatch();
+                    target.commit();
+                }
+            }
+        } catch (SQLException e) {
+            target.rollback();
+            throw e;
+        } finally {
+            target.setAutoCommit(autoCommit);
+        }
+        return rows;
+    }
+
+    private Map<String, Long> top(Map<String, Long> counts, int top) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.max(top, 1))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private void requireControlCampus() {
+        if (!TenantContext.DEFAULT_TENANT.equals(TenantContext.getTenant())) {
+            throw new ForbiddenException("Campus administration is only available to administrators of the default campus.");
+        }
+    }
+
+    private TenantDto mapToTenantDto(TenantInfo info) {
+        return TenantDto.builder()
+                .tenantId(info.tenantId())
+                .shard(info.shard())
+                .schemaName(info.schema())
+                .status(info.status())
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.tenant.ShardDataSources;
+import com.crs.lost_and_found_app.tenant.TenantInfo;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.ManagedType;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.tool.schema.TargetType;
+import org.hibernate.tool.schema.internal.ExceptionHandlerCollectingImpl;
+import org.hibernate.tool.schema.spi.ContributableMatcher;
+import org.hibernate.tool.schema.spi.ExecutionOptions;
+import org.hibernate.tool.schema.spi.SchemaManagementTool;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.hibernate.tool.schema.spi.ScriptTargetOutput;
+import org.hibernate.tool.schema.spi.TargetDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps every campus schema in step with the entity model. ddl-auto only updates the schema the
+ * EntityManagerFactory itself connects to (the default campus); a campus in its own schema or on
+ * another shard was cloned from it when provisioned and would otherwise never get a column or
+ * table added since. This runs Hibernate's schema update against each of those schemas, with the
+ * same naming strategies and dialect as the EntityManagerFactory.
+ * <p>
+ * It runs once the EntityManagerFactory exists (so after ddl-auto on the default schema) and
+ * before the web server accepts requests or the ApplicationReadyEvent warm-ups read anything, and
+ * again for a campus right after it is provisioned. Like ddl-auto=update it only adds: columns
+ * are never dropped or altered. A campus that fails is logged and the others still run.
+ */
+@Component
+public class TenantSchemaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantSchemaMigration.class);
+
+    private static final TargetDescriptor DATABASE_ONLY = new TargetDescriptor() {
+        @Override
+        public EnumSet<TargetType> getTargetTypes() {
+            return EnumSet.of(TargetType.DATABASE);
+        }
+
+        @Override
+        public ScriptTargetOutput getScriptTargetOutput() {
+            return null;
+        }
+    };
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TenantRegistry tenantRegistry;
+    private final ShardDataSources shards;
+    private final Map<String, Object> hibernateSettings;
+
+    public TenantSchemaMigration(EntityManagerFactory entityManagerFactory,
+                                 TenantRegistry tenantRegistry,
+                                 ShardDataSources shards,
+                                 JpaProperties jpaProperties,
+                                 HibernateProperties hibernateProperties) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.tenantRegistry = tenantRegistry;
+        this.shards = shards;
+        this.hibernateSettings = new HashMap<>(
+                hibernateProperties.determineHibernateProperties(jpaProperties.getProperties(), new HibernateSettings()));
+        this.hibernateSettings.remove(AvailableSettings.HBM2DDL_AUTO);
+    }
+
+    @PostConstruct
+    public void migrateAllCampuses() {
+        for (TenantInfo tenant : tenantRegistry.all()) {
+            if (isDefaultSchema(tenant)) {
+                continue; // Already updated by ddl-auto
+            }
+            try {
+                migrate(tenant);
+            } catch (RuntimeException e) {
+                logger.error("Schema update failed for campus {}: {}", tenant.tenantId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    // Adds whatever the entity model has and the campus's schema lacks
+    public void migrate(TenantInfo tenant) {
+        Map<String, Object> settings = new HashMap<>(hibernateSettings);
+        settings.put(AvailableSettings.DATASOURCE, shards.pinnedTo(tenant.shard(), tenant.schema()));
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        try {
+            MetadataSources sources = new MetadataSources(registry);
+            entityManagerFactory.getMetamodel().getManagedTypes().stream()
+                    .map(ManagedType::getJavaType)
+                    .filter(Objects::nonNull)
+                    .forEach(sources::addAnnotatedClass);
+            ExceptionHandlerCollectingImpl errorHandler = new ExceptionHandlerCollectingImpl();
+            ExecutionOptions options = SchemaManagementToolCoordinator.buildExecutionOptions(settings, errorHandler);
+            registry.getService(SchemaManagementTool.class).getSchemaMigrator(settings)
+                    .doMigration(sources.buildMetadata(), options, ContributableMatcher.ALL, DATABASE_ONLY);
+            List<?> errors = errorHandler.getExceptions();
+            if (errors.isEmpty()) {
+                logger.info("Schema of campus {} is up to date ({} on shard {})", tenant.tenantId(), tenant.schema(), tenant.shard());
+            } else {
+                errors.forEach(e -> logger.warn("Schema update of campus {}: {}", tenant.tenantId(), e));
+            }
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private boolean isDefaultSchema(TenantInfo tenant) {
+        if (!ShardDataSources.DEFAULT_SHARD.equals(tenant.shard())) {
+            return false;
+        }
+        return tenant.schema() == null || tenant.schema().equals(shards.defaultCatalog(ShardDataSources.DEFAULT_SHARD));
+    }
+}
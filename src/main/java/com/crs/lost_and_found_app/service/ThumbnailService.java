@@ -0,0 +1,141 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.repository.ItemPhotoRepository;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailService.class);
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L; // Refuse to decode decompression bombs
+
+    private final PhotoStorageService photoStorageService;
+    private final ItemPhotoRepository itemPhotoRepository;
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+    private final TenantRegistry tenantRegistry;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${photos.thumbnail.max-dimension:320}")
+    private int maxDimension;
+
+    public ThumbnailService(PhotoStorageService photoStorageService,
+                            ItemPhotoRepository itemPhotoRepository,
+                            @Qualifier("thumbnailExecutor") ThreadPoolTaskExecutor thumbnailExecutor,
+                            TenantRegistry tenantRegistry) {
+        this.photoStorageService = photoStorageService;
+        this.tenantRegistry = tenantRegistry;
+        this.itemPhotoRepository = itemPhotoRepository;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePendingThumbnails() {
+        tenantRegistry.forEachTenant(tenant -> itemPhotoRepository.findHashesWithoutThumbnail().forEach(this::requestThumbnail));
+    }
+
+    // Thumbnails are keyed by content hash, so a duplicate upload never renders a second one.
+    public void requestThumbnail(String contentHash) {
+        if (Files.exists(photoStorageService.thumbnailPath(contentHash))) {
+            itemPhotoRepository.markThumbnailReady(contentHash);
+            return;
+        }
+        // Photo rows are per campus, so each campus marks its own rows once the shared file exists
+        String key = TenantContext.getTenant() + ":" + contentHash;
+        if (!inFlight.add(key)) {
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    generate(contentHash);
+                    itemPhotoRepository.markThumbnailReady(contentHash);
+                } catch (Exception e) {
+                    logger.warn("Thumbnail generation failed for {}: {}", contentHash, e.getMessage());
+                } finally {
+                    inFlight.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key);
+            logger.warn("Thumbnail queue rejected {}: {}", contentHash, e.getMessage());
+        }
+    }
+
+    private void generate(String contentHash) throws IOException {
+        Path source = photoStorageService.blobPath(contentHash);
+        BufferedImage image = readBounded(source);
+        if (image == null) {
+            throw new IOException("Unsupported image format");
+        }
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        // Draw onto an RGB canvas so PNGs with alpha can be written as JPEG
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, java.awt.Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Path target = photoStorageService.thumbnailPath(contentHash);
+        Files.createDirectories(target.getParent());
+        Path tmp = photoStorageService.newTempFile("thumb-");
+        try {
+            ImageIO.write(thumbnail, "jpg", tmp.toFile());
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        logger.debug("Thumbnail generated for {}", contentHash);
+    }
+
+    private BufferedImage readBounded(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Image too large to thumbnail");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
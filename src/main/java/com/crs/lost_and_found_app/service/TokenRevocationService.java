@@ -0,0 +1,154 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.BloomFilter;
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.cache.InvalidationListener;
+import com.crs.lost_and_found_app.entity.RevokedToken;
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.repository.RevokedTokenRepository;
+import com.crs.lost_and_found_app.repository.UserRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Two ways to invalidate JWTs before they expire:
+ * <ul>
+ *     <li>a per-user watermark, {@link User#getTokensValidAfter()}, which rejects every token issued
+ *     before it ("sign out everywhere", fired staff). It is read from the already-loaded user, so it
+ *     costs nothing extra per request;</li>
+ *     <li>a deny-list of individual token IDs (logout). The {@code revoked_tokens} table is mirrored in
+ *     memory behind a Bloom filter, so a token that was never revoked - nearly every request -
+ *     is cleared by a single filter probe.</li>
+ * </ul>
+ * Deny-list rows are kept only until the token's own expiry and the filter is rebuilt without them
+ * every {@code jwt.revocation.purge-ms}. Revocations reach other nodes through the invalidation bus.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final TenantRegistry tenantRegistry;
+    private final InvalidationBus invalidationBus;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final ConcurrentHashMap<String, LocalDateTime> denied = new ConcurrentHashMap<>(); // jti -> token expiry
+    private volatile BloomFilter filter;
+    private int filterCapacity;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  UserRepository userRepository,
+                                  TenantRegistry tenantRegistry,
+                                  InvalidationBus invalidationBus,
+                                  @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+                                  @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.invalidationBus = invalidationBus;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filterCapacity = expectedEntries;
+        this.filter = new BloomFilter(expectedEntries, falsePositiveRate);
+        // Tokens revoked on another node
+        invalidationBus.subscribe(InvalidationBus.TOKEN, new InvalidationListener() {
+            @Override
+            public void invalidate(String jti) {
+                revokedTokenRepository.findById(jti).ifPresent(token -> add(token.getJti(), token.getExpiresAt()));
+            }
+
+            @Override
+            public void invalidateAll() {
+                loadCurrentTenant();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadDenyList() {
+        tenantRegistry.forEachTenant(tenant -> loadCurrentTenant());
+        logger.info("Loaded {} revoked tokens into the deny-list.", denied.size());
+    }
+
+    // True if the token was revoked individually or issued before the user's watermark.
+    public boolean isRevoked(String jti, Date issuedAt, User user) {
+        if (user.getTokensValidAfter() != null
+                && (issuedAt == null || issuedAt.toInstant().isBefore(user.getTokensValidAfter().atZone(ZoneId.systemDefault()).toInstant()))) {
+            return true;
+        }
+        return jti != null && filter.mightContain(jti) && denied.containsKey(jti);
+    }
+
+    @Transactional
+    public void revokeToken(String jti, Long userId, Date expiresAt) {
+        if (jti == null) {
+            throw new IllegalArgumentException("Token has no ID and cannot be revoked individually.");
+        }
+        LocalDateTime expiry = LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault());
+        if (expiry.isBefore(LocalDateTime.now()) || revokedTokenRepository.existsById(jti)) {
+            return; // Already unusable
+        }
+        revokedTokenRepository.save(RevokedToken.builder().jti(jti).userId(userId).expiresAt(expiry).build());
+        TransactionCallbacks.afterCommit(() -> {
+            add(jti, expiry);
+            invalidationBus.publish(InvalidationBus.TOKEN, jti);
+        });
+    }
+
+    // Rejects every token the user holds now. Rounded up to the next second because JWT iat has
+    // second precision; a token issued in the same second as the revocation is rejected too.
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId));
+        user.setTokensValidAfter(LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1));
+        userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> invalidationBus.publish(InvalidationBus.USER, user.getUsername()));
+        logger.info("All tokens of User ID: {} issued before {} revoked.", userId, user.getTokensValidAfter());
+    }
+
+    @Scheduled(initialDelayString = "${jwt.revocation.purge-ms:3600000}", fixedDelayString = "${jwt.revocation.purge-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        tenantRegistry.forEachTenant(tenant -> revokedTokenRepository.deleteExpired(now));
+        denied.values().removeIf(expiry -> expiry.isBefore(now));
+        rebuildFilter();
+    }
+
+    private void loadCurrentTenant() {
+        revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now())
+                .forEach(token -> add(token.getJti(), token.getExpiresAt()));
+    }
+
+    // Synchronized with rebuildFilter so an add can't land in a filter that is about to be replaced.
+    private synchronized void add(String jti, LocalDateTime expiresAt) {
+        denied.put(jti, expiresAt);
+        filter.put(jti);
+        if (denied.size() > filterCapacity) {
+            rebuildFilter(); // Past capacity the false-positive rate climbs quickly
+        }
+    }
+
+    private synchronized void rebuildFilter() {
+        filterCapacity = Math.max(expectedEntries, denied.size() * 2);
+        BloomFilter rebuilt = new BloomFilter(filterCapacity, falsePositiveRate);
+        denied.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+}
@@ -0,0 +1,234 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.entity.UserCleanupTask;
+import com.crs.lost_and_found_app.enums.CleanupStatus;
+import com.crs.lost_and_found_app.enums.UserRole;
+import com.crs.lost_and_found_app.event.UserChangedEvent;
+import com.crs.lost_and_found_app.repository.ArchivedItemRepository;
+import com.crs.lost_and_found_app.repository.ArchivedRequestRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.repository.UserCleanupTaskRepository;
+import com.crs.lost_and_found_app.repository.UserRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Background half of soft-deleting a user. The account is disabled immediately by
+ * {@link UserService#deleteUser(Long)}; this job then moves every item, request and archived row
+ * that references the user over to a shared "deleted user" placeholder.
+ * <p>
+ * Each chunk of {@code users.cleanup.chunk-size} rows is reassigned and its progress recorded in a
+ * short transaction of its own, so a user with tens of thousands of records never holds long locks
+ * and a crash simply resumes from the last committed chunk. All updates are conditional on the old
+ * user ID, so re-running a chunk is harmless.
+ */
+@Service
+public class UserCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserCleanupService.class);
+    public static final String DELETED_USER_USERNAME = "deleted-user";
+    private static final String DELETED_USER_EMAIL = "deleted-user@users.invalid";
+
+    private final UserRepository userRepository;
+    private final ItemRepository itemRepository;
+    private final RequestRepository requestRepository;
+    private final ArchivedItemRepository archivedItemRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final UserCleanupTaskRepository cleanupTaskRepository;
+    private final SavedSearchService savedSearchService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantRegistry tenantRegistry;
+    private final InvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    @Value("${users.cleanup.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${users.cleanup.max-attempts:5}")
+    private int maxAttempts;
+
+    public UserCleanupService(UserRepository userRepository,
+                              ItemRepository itemRepository,
+                              RequestRepository requestRepository,
+                              ArchivedItemRepository archivedItemRepository,
+                              ArchivedRequestRepository archivedRequestRepository,
+                              UserCleanupTaskRepository cleanupTaskRepository,
+                              SavedSearchService savedSearchService,
+                              PasswordEncoder passwordEncoder,
+                              PlatformTransactionManager transactionManager,
+                              TenantRegistry tenantRegistry,
+                              InvalidationBus invalidationBus,
+                              ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.tenantRegistry = tenantRegistry;
+        this.invalidationBus = invalidationBus;
+        this.eventPublisher = eventPublisher;
+        this.itemRepository = itemRepository;
+        this.requestRepository = requestRepository;
+        this.archivedItemRepository = archivedItemRepository;
+        this.archivedRequestRepository = archivedRequestRepository;
+        this.cleanupTaskRepository = cleanupTaskRepository;
+        this.savedSearchService = savedSearchService;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${users.cleanup.poll-interval-ms:10000}",
+               fixedDelayString = "${users.cleanup.poll-interval-ms:10000}")
+    public void processPendingTasks() {
+        if (!runLock.tryLock()) {
+            return;
+        }
+        try {
+            tenantRegistry.forEachTenant(tenant -> {
+                List<UserCleanupTask> tasks = cleanupTaskRepository.findByStatusInOrderByIdAsc(EnumSet.of(CleanupStatus.PENDING, CleanupStatus.RUNNING));
+                for (UserCleanupTask task : tasks) {
+                    processTask(task.getId());
+                }
+            });
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    public boolean isReservedUsername(String username) {
+        return username != null && username.equalsIgnoreCase(DELETED_USER_USERNAME);
+    }
+
+    private void processTask(Long taskId) {
+        try {
+            User placeholder = transactionTemplate.execute(status -> getOrCreatePlaceholder());
+            transactionTemplate.executeWithoutResult(status -> start(taskId));
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(taskId, placeholder)));
+            }
+        } catch (Exception e) {
+            logger.error("User cleanup task ID: {} failed: {}", taskId, e.getMessage(), e);
+            transactionTemplate.executeWithoutResult(status -> recordFailure(taskId, e));
+        }
+    }
+
+    private void start(Long taskId) {
+        UserCleanupTask task = cleanupTaskRepository.findById(taskId).orElseThrow();
+        task.setAttempts(task.getAttempts() + 1);
+        if (task.getStatus() == CleanupStatus.PENDING) {
+            task.setStatus(CleanupStatus.RUNNING);
+            task.setStartedAt(LocalDateTime.now());
+            task.setItemsTotal(itemRepository.countReferencingUser(task.getUserId()));
+            task.setRequestsTotal(requestRepository.countByRequesterId(task.getUserId()));
+            logger.info("Starting cleanup for deleted User ID: {} ({} items, {} requests).",
+                    task.getUserId(), task.getItemsTotal(), task.getRequestsTotal());
+        }
+        cleanupTaskRepository.save(task);
+    }
+
+    // One short transaction: reassign up to chunkSize rows of the first phase that still has work.
+    // Returns false once the task is complete.
+    private boolean processChunk(Long taskId, User placeholder) {
+        UserCleanupTask task = cleanupTaskRepository.findById(taskId).orElseThrow();
+        Long userId = task.getUserId();
+        Pageable chunk = PageRequest.of(0, chunkSize);
+
+        List<Long> itemIds = itemRepository.findIdsReferencingUser(userId, chunk);
+        if (!itemIds.isEmpty()) {
+            itemRepository.reassignReportedBy(itemIds, userId, placeholder);
+            itemRepository.reassignHeldBy(itemIds, userId, placeholder);
+            itemRepository.reassignClaimedBy(itemIds, userId, placeholder);
+            TransactionCallbacks.afterCommit(() -> itemIds.forEach(id -> invalidationBus.publish(InvalidationBus.ITEM, id)));
+            task.setItemsProcessed(task.getItemsProcessed() + itemIds.size());
+            cleanupTaskRepository.save(task);
+            eventPublisher.publishEvent(new UserChangedEvent(userId)); // Read model rows still show the old user
+            return true;
+        }
+
+        List<Long> requestIds = requestRepository.findIdsByRequesterId(userId, chunk);
+        if (!requestIds.isEmpty()) {
+            requestRepository.reassignRequester(requestIds, userId, placeholder);
+            task.setRequestsProcessed(task.getRequestsProcessed() + requestIds.size());
+            cleanupTaskRepository.save(task);
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+            return true;
+        }
+
+        List<Long> archivedItemIds = archivedItemRepository.findIdsReferencingUser(userId, chunk);
+        if (!archivedItemIds.isEmpty()) {
+            archivedItemRepository.anonymizeReportedBy(archivedItemIds, userId, placeholder.getId(), placeholder.getUsername());
+            archivedItemRepository.anonymizeHeldBy(archivedItemIds, userId, placeholder.getId(), placeholder.getUsername());
+            archivedItemRepository.anonymizeClaimedBy(archivedItemIds, userId, placeholder.getId(), placeholder.getUsername());
+            TransactionCallbacks.afterCommit(() -> archivedItemIds.forEach(id -> invalidationBus.publish(InvalidationBus.ITEM, id)));
+            task.setArchivedRowsProcessed(task.getArchivedRowsProcessed() + archivedItemIds.size());
+            cleanupTaskRepository.save(task);
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+            return true;
+        }
+
+        List<Long> archivedRequestIds = archivedRequestRepository.findIdsByRequesterId(userId, chunk);
+        if (!archivedRequestIds.isEmpty()) {
+            archivedRequestRepository.anonymizeRequester(archivedRequestIds, placeholder.getId(), placeholder.getUsername());
+            task.setArchivedRowsProcessed(task.getArchivedRowsProcessed() + archivedRequestIds.size());
+            cleanupTaskRepository.save(task);
+            eventPublisher.publishEvent(new UserChangedEvent(userId));
+            return true;
+        }
+
+        // Nothing references the user any more: drop personal data and finish.
+        savedSearchService.deleteSavedSearchesForUser(userId);
+        userRepository.findById(userId).ifPresent(user -> {
+            user.setEmail("deleted-" + user.getId() + "@users.invalid");
+            user.setPassword(passwordEncoder.encode(UUID.randomUUID().toString()));
+            userRepository.save(user);
+        });
+        task.setStatus(CleanupStatus.COMPLETED);
+        task.setCompletedAt(LocalDateTime.now());
+        task.setLastError(null);
+        cleanupTaskRepository.save(task);
+        logger.info("Cleanup for deleted User ID: {} completed ({} items, {} requests, {} archived rows reassigned).",
+                userId, task.getItemsProcessed(), task.getRequestsProcessed(), task.getArchivedRowsProcessed());
+        return false;
+    }
+
+    private void recordFailure(Long taskId, Exception e) {
+        cleanupTaskRepository.findById(taskId).ifPresent(task -> {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            task.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+            if (task.getAttempts() >= maxAttempts) {
+                task.setStatus(CleanupStatus.FAILED); // Left for an admin to look at; retried only if reset
+            }
+            cleanupTaskRepository.save(task);
+        });
+    }
+
+    // Shared owner for everything a deleted user leaves behind. Disabled, so it can never sign in.
+    private User getOrCreatePlaceholder() {
+        return userRepository.findByUsername(DELETED_USER_USERNAME)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .username(DELETED_USER_USERNAME)
+                        .email(DELETED_USER_EMAIL)
+                        .password(passwordEncoder.encode(UUID.randomUUID().toString()))
+                        .role(UserRole.USER)
+                        .deletedAt(LocalDateTime.now())
+                        .build()));
+    }
+}
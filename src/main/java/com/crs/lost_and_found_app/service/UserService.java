@@ -1,16 +1,28 @@
 package com.crs.lost_and_found_app.service;
 
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.dto.UserDeletionStatusDto;
 import com.crs.lost_and_found_app.dto.UserResponseDto;
 import com.crs.lost_and_found_app.dto.UserUpdateRequestDto;
 import com.crs.lost_and_found_app.entity.User;
+import com.crs.lost_and_found_app.entity.UserCleanupTask;
+import com.crs.lost_and_found_app.enums.CleanupStatus;
+import com.crs.lost_and_found_app.enums.UserRole;
+import com.crs.lost_and_found_app.event.UserRoleChangedEvent;
+import com.crs.lost_and_found_app.exception.ConflictException;
+import com.crs.lost_and_found_app.exception.NotFoundException;
+import com.crs.lost_and_found_app.repository.UserCleanupTaskRepository;
 import com.crs.lost_and_found_app.repository.UserRepository;
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,12 +32,16 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
+    private final UserCleanupTaskRepository cleanupTaskRepository;
+    private final UserCleanupService userCleanupService;
+    private final InvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
     // We might need PasswordEncoder if we allow admins to reset passwords, but not for just role changes.
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUsers() {
         // This is an admin-only operation, to be enforced by @PreAuthorize in controller
-        return userRepository.findAll().stream()
+        return userRepository.findAllActive().stream()
                 .map(this::mapToUserResponseDto)
                 .collect(Collectors.toList());
     }
@@ -36,7 +52,7 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
                     logger.warn("User not found with ID: {} for admin retrieval.", userId);
-                    return new EntityNotFoundException("User not found with ID: " + userId);
+                    return new NotFoundException("User not found with ID: " + userId);
                 });
         return mapToUserResponseDto(user);
     }
@@ -47,47 +63,87 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
                     logger.warn("User not found with ID: {} for role update.", userId);
-                    return new EntityNotFoundException("User not found with ID: " + userId);
+                    return new NotFoundException("User not found with ID: " + userId);
                 });
 
         // Prevent admin from accidentally changing their own role to something lower if they are the only admin?
         // This kind of business rule can be added if necessary.
+        if (user.getDeletedAt() != null) {
+            throw new ConflictException("Cannot change the role of a deleted user.");
+        }
 
+        UserRole previousRole = user.getRole();
         user.setRole(userUpdateRequestDto.getRole());
         User updatedUser = userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> invalidationBus.publish(InvalidationBus.USER, updatedUser.getUsername()));
+        if (previousRole != updatedUser.getRole()) {
+            eventPublisher.publishEvent(new UserRoleChangedEvent(userId, previousRole, updatedUser.getRole()));
+        }
         logger.info("User ID: {} role updated to {} by an admin.", userId, updatedUser.getRole());
         return mapToUserResponseDto(updatedUser);
     }
 
-    // Deleting users can be complex due to relationships (items reported, requests made).
-    // A soft delete (marking as inactive) is often preferred.
-    // For now, a hard delete is implemented but should be used with caution.
+    // Soft delete: the account is disabled at once (sign-in and existing tokens are rejected) and
+    // a UserCleanupTask reassigns the user's items and requests in the background, see UserCleanupService.
     @Transactional
-    public void deleteUser(Long userId) {
+    public UserDeletionStatusDto deleteUser(Long userId) {
         // Admin-only operation
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> {
                     logger.warn("User not found with ID: {} for deletion.", userId);
-                    return new EntityNotFoundException("User not found with ID: " + userId);
+                    return new NotFoundException("User not found with ID: " + userId);
                 });
+        if (userCleanupService.isReservedUsername(user.getUsername())) {
+            throw new ConflictException("The deleted-user placeholder cannot be deleted.");
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && user.getUsername().equals(authentication.getName())) {
+            throw new ConflictException("Admins cannot delete their own account.");
+        }
+        if (user.getDeletedAt() != null) {
+            return getDeletionStatus(userId); // Already deleted; report progress instead
+        }
 
-        // Add checks here: e.g., don't allow an admin to delete themselves if they are the last admin.
-        // Add logic to handle/reassign/anonymize related Items and Requests before deleting a user.
-        // This is a placeholder and needs careful consideration in a real app.
-        logger.warn("Attempting to hard delete User ID: {}. Ensure cascading effects are handled (Items, Requests).", userId);
-        
-        // Before deleting user, you might want to nullify their references in Items and Requests
-        // or reassign them to a generic "deleted_user" if your schema supports it to maintain data integrity.
-        // This is a simplified example.
-        // itemRepository.findByReportedById(userId).forEach(item -> item.setReportedBy(null));
-        // itemRepository.findByClaimedById(userId).forEach(item -> item.setClaimedBy(null));
-        // itemRepository.findByHeldById(userId).forEach(item -> item.setHeldBy(null));
-        // requestRepository.findByRequesterId(userId).forEach(request -> request.setRequester(null));
+        user.setDeletedAt(LocalDateTime.now());
+        userRepository.save(user);
+        TransactionCallbacks.afterCommit(() -> invalidationBus.publish(InvalidationBus.USER, user.getUsername()));
+        UserCleanupTask task = cleanupTaskRepository.save(UserCleanupTask.builder()
+                .userId(userId)
+                .status(CleanupStatus.PENDING)
+                .build());
+        logger.info("User ID: {} soft-deleted by an admin; cleanup task ID: {} queued.", userId, task.getId());
+        return mapToUserDeletionStatusDto(user, task);
+    }
 
-        userRepository.delete(user);
-        logger.info("User ID: {} deleted successfully by an admin.", userId);
+    @Transactional(readOnly = true)
+    public UserDeletionStatusDto getDeletionStatus(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("User not found with ID: " + userId));
+        UserCleanupTask task = cleanupTaskRepository.findByUserId(userId)
+                .orElseThrow(() -> new NotFoundException("User ID " + userId + " has not been deleted."));
+        return mapToUserDeletionStatusDto(user, task);
     }
 
+    private UserDeletionStatusDto mapToUserDeletionStatusDto(User user, UserCleanupTask task) {
+        long total = task.getItemsTotal() + task.getRequestsTotal();
+        long processed = Math.min(task.getItemsProcessed() + task.getRequestsProcessed(), total);
+        int percent = task.getStatus() == CleanupStatus.COMPLETED ? 100
+                : total == 0 ? 0 : (int) (processed * 100 / total);
+        return UserDeletionStatusDto.builder()
+                .userId(user.getId())
+                .deletedAt(user.getDeletedAt())
+                .status(task.getStatus())
+                .itemsTotal(task.getItemsTotal())
+                .itemsProcessed(task.getItemsProcessed())
+                .requestsTotal(task.getRequestsTotal())
+                .requestsProcessed(task.getRequestsProcessed())
+                .archivedRowsProcessed(task.getArchivedRowsProcessed())
+                .percentComplete(percent)
+                .lastError(task.getLastError())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .build();
+    }
 
     private UserResponseDto mapToUserResponseDto(User user) {
         return UserResponseDto.builder()
@@ -97,6 +153,7 @@ public class UserService {
                 .role(user.getRole())
                 .createdAt(user.getCreatedAt())
                 .updatedAt(user.getUpdatedAt())
+                .deletedAt(user.getDeletedAt())
                 .build();
     }
 } 
\ No newline at end of file
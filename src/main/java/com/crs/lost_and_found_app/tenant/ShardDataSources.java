@@ -0,0 +1,106 @@
+package com.crs.lost_and_found_app.tenant;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Connection pools, one per shard. "default" is built from spring.datasource.* and also holds the tenant registry.
+public class ShardDataSources implements DisposableBean {
+
+    public static final String DEFAULT_SHARD = "default";
+
+    private final Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+    private final Map<String, String> defaultCatalogs = new LinkedHashMap<>();
+
+    public ShardDataSources(DataSourceProperties defaultProperties, TenancyProperties tenancyProperties) {
+        HikariDataSource defaultShard = defaultProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        defaultShard.setPoolName("shard-" + DEFAULT_SHARD);
+        add(DEFAULT_SHARD, defaultShard);
+        tenancyProperties.getShards().forEach((name, shard) -> {
+            if (DEFAULT_SHARD.equals(name)) {
+                throw new IllegalStateException("tenancy.shards.default is reserved; the default shard is spring.datasource");
+            }
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + name);
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            dataSource.setMaximumPoolSize(shard.getMaxPoolSize());
+            add(name, dataSource);
+        });
+    }
+
+    private void add(String name, HikariDataSource dataSource) {
+        dataSources.put(name, dataSource);
+        defaultCatalogs.put(name, databaseFromUrl(dataSource.getJdbcUrl()));
+    }
+
+    public DataSource get(String shard) {
+        DataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        return dataSource;
+    }
+
+    // Database named in the shard's JDBC URL; pooled connections are switched back to it for
+    // tenants without their own schema, since another tenant may have changed the catalog.
+    public String defaultCatalog(String shard) {
+        return defaultCatalogs.get(shard);
+    }
+
+    // A view of the shard pool whose connections are always switched to the given catalog
+    // (null = the shard's default), for code that talks to a shard outside the routing DataSource.
+    public DataSource pinnedTo(String shard, String catalog) {
+        String target = catalog != null ? catalog : defaultCatalog(shard);
+        return new DelegatingDataSource(get(shard)) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                if (target != null && !target.equals(connection.getCatalog())) {
+                    connection.setCatalog(target);
+                }
+                return connection;
+            }
+        };
+    }
+
+    public Set<String> names() {
+        return Collections.unmodifiableSet(dataSources.keySet());
+    }
+
+    public Map<Object, Object> asTargetDataSources() {
+        return new LinkedHashMap<>(dataSources);
+    }
+
+    static String databaseFromUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        int hostStart = url.indexOf("//");
+        if (hostStart < 0) {
+            return null;
+        }
+        int pathStart = url.indexOf('/', hostStart + 2);
+        if (pathStart < 0) {
+            return null;
+        }
+        int end = url.indexOf('?', pathStart);
+        String database = end < 0 ? url.substring(pathStart + 1) : url.substring(pathStart + 1, end);
+        return database.isEmpty() ? null : database;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
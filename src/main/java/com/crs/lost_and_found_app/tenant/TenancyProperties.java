@@ -0,0 +1,29 @@
+package com.crs.lost_and_found_app.tenant;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// tenancy.* settings. The "default" shard is always spring.datasource; extra shards are declared as
+// tenancy.shards.<name>.url / username / password. Which tenant lives where is kept in the tenants table.
+@Data
+@ConfigurationProperties(prefix = "tenancy")
+public class TenancyProperties {
+
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+    private long registryRefreshMs = 5000;
+    private long moveDrainMs = 15000; // Longer than registryRefreshMs, so every node sees MOVING before copying
+    private int moveBatchSize = 1000;
+    private int fanOutThreads = 8;
+    private long fanOutTimeoutMs = 30000;
+
+    @Data
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private int maxPoolSize = 10;
+    }
+}
@@ -0,0 +1,58 @@
+package com.crs.lost_and_found_app.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * The campus (tenant) the current thread is working for. Set per request by TenantFilter and
+ * per tenant by scheduled jobs; everything that touches the database or a per-tenant in-memory
+ * structure reads it from here. Threads without a tenant act for {@link #DEFAULT_TENANT}, which
+ * keeps a single-campus deployment working exactly as before.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getTenant() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    public static void setTenant(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T callAs(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAs(String tenant, Runnable action) {
+        callAs(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // Carries the submitting thread's tenant over to an executor thread (usable as a TaskDecorator)
+    public static Runnable wrap(Runnable task) {
+        String tenant = getTenant();
+        return () -> runAs(tenant, task);
+    }
+}
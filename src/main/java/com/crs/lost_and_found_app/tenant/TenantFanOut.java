@@ -0,0 +1,63 @@
+package com.crs.lost_and_found_app.tenant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Runs a query once per tenant in parallel and collects the per-tenant results; tenants that fail
+// or time out are reported in errors instead of failing the whole call.
+@Component
+public class TenantFanOut {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantFanOut.class);
+
+    private final TenantRegistry registry;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMs;
+
+    public TenantFanOut(TenantRegistry registry,
+                        @Qualifier("tenantFanOutExecutor") ThreadPoolTaskExecutor executor,
+                        TenancyProperties properties) {
+        this.registry = registry;
+        this.executor = executor;
+        this.timeoutMs = properties.getFanOutTimeoutMs();
+    }
+
+    public record Result<T>(Map<String, T> results, Map<String, String> errors) {
+    }
+
+    public <T> Result<T> query(Supplier<T> perTenant) {
+        List<String> tenantIds = registry.tenantIds();
+        Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        for (String tenantId : tenantIds) {
+            futures.put(tenantId, CompletableFuture.supplyAsync(() -> TenantContext.callAs(tenantId, perTenant), executor));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Map<String, T> results = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+        futures.forEach((tenantId, future) -> {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.put(tenantId, future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                errors.put(tenantId, "interrupted");
+            } catch (Exception e) {
+                future.cancel(true);
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.warn("Fan-out query failed for campus {}: {}", tenantId, cause.toString());
+                errors.put(tenantId, cause.getClass().getSimpleName() + (cause.getMessage() != null ? ": " + cause.getMessage() : ""));
+            }
+        });
+        return new Result<>(results, errors);
+    }
+}
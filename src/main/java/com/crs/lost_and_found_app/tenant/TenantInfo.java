@@ -0,0 +1,8 @@
+package com.crs.lost_and_found_app.tenant;
+
+import com.crs.lost_and_found_app.enums.TenantStatus;
+
+// Where a tenant's data lives: a shard (data source) and, optionally, a schema on it.
+// A null schema means the shard's own default database.
+public record TenantInfo(String tenantId, String shard, String schema, TenantStatus status) {
+}
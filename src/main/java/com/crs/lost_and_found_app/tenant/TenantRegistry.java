@@ -0,0 +1,122 @@
+package com.crs.lost_and_found_app.tenant;
+
+import com.crs.lost_and_found_app.enums.TenantStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant → shard/schema directory, stored in the {@code tenants} table of the default shard and
+ * cached in memory. Every node re-reads the table every {@code tenancy.registry-refresh-ms}, which
+ * is how a move to another shard or a new campus reaches the whole deployment.
+ * <p>
+ * The default tenant needs no row: it lives in the default shard's own database.
+ */
+public class TenantRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantRegistry.class);
+    private static final Pattern TENANT_ID = Pattern.compile("[a-z0-9_]{1,32}");
+    private static final TenantInfo DEFAULT =
+            new TenantInfo(TenantContext.DEFAULT_TENANT, ShardDataSources.DEFAULT_SHARD, null, TenantStatus.ACTIVE);
+
+    private final JdbcTemplate controlJdbc;
+    private final ShardDataSources shards;
+    private volatile Map<String, TenantInfo> tenants = Map.of(TenantContext.DEFAULT_TENANT, DEFAULT);
+
+    public TenantRegistry(ShardDataSources shards) {
+        this.shards = shards;
+        // Pinned, because the routing DataSource may hand pooled default-shard connections to other schemas
+        this.controlJdbc = new JdbcTemplate(shards.pinnedTo(ShardDataSources.DEFAULT_SHARD, null));
+        try {
+            controlJdbc.execute("create table if not exists tenants (" +
+                    "tenant_id varchar(32) primary key, " +
+                    "shard varchar(64) not null, " +
+                    "schema_name varchar(64), " +
+                    "status varchar(16) not null, " +
+                    "created_at datetime(6) not null default current_timestamp(6), " +
+                    "updated_at datetime(6) not null default current_timestamp(6) on update current_timestamp(6))");
+            refresh();
+        } catch (Exception e) {
+            logger.warn("Tenant registry unavailable, serving the default tenant only: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${tenancy.registry-refresh-ms:5000}", fixedDelayString = "${tenancy.registry-refresh-ms:5000}")
+    public void refresh() {
+        Map<String, TenantInfo> loaded = new HashMap<>();
+        loaded.put(TenantContext.DEFAULT_TENANT, DEFAULT);
+        controlJdbc.query("select tenant_id, shard, schema_name, status from tenants", rs -> {
+            TenantInfo info = new TenantInfo(rs.getString(1), rs.getString(2), rs.getString(3), TenantStatus.valueOf(rs.getString(4)));
+            if (!shards.names().contains(info.shard())) {
+                logger.error("Tenant {} is mapped to unknown shard {}; ignoring it.", info.tenantId(), info.shard());
+                return;
+            }
+            loaded.put(info.tenantId(), info);
+        });
+        tenants = Map.copyOf(loaded);
+    }
+
+    public TenantInfo resolve(String tenantId) {
+        TenantInfo info = tenants.get(tenantId);
+        if (info == null) {
+            throw new IllegalArgumentException("Unknown campus: " + tenantId);
+        }
+        return info;
+    }
+
+    public boolean exists(String tenantId) {
+        return tenants.containsKey(tenantId);
+    }
+
+    public List<TenantInfo> all() {
+        List<TenantInfo> list = new ArrayList<>(tenants.values());
+        list.sort((a, b) -> a.tenantId().compareTo(b.tenantId()));
+        return Collections.unmodifiableList(list);
+    }
+
+    public List<String> tenantIds() {
+        return all().stream().map(TenantInfo::tenantId).toList();
+    }
+
+    // Runs the action once per tenant with TenantContext set; one failing tenant does not stop the rest.
+    public void forEachTenant(Consumer<String> action) {
+        for (String tenantId : tenantIds()) {
+            try {
+                TenantContext.runAs(tenantId, () -> action.accept(tenantId));
+            } catch (Exception e) {
+                logger.error("Task failed for campus {}: {}", tenantId, e.getMessage(), e);
+            }
+        }
+    }
+
+    public void register(String tenantId, String shard, String schema) {
+        validateTenantId(tenantId);
+        controlJdbc.update("insert into tenants (tenant_id, shard, schema_name, status) values (?, ?, ?, ?)",
+                tenantId, shard, schema, TenantStatus.ACTIVE.name());
+        refresh();
+    }
+
+    public void update(String tenantId, String shard, TenantStatus status) {
+        controlJdbc.update("update tenants set shard = ?, status = ? where tenant_id = ?", shard, status.name(), tenantId);
+        refresh();
+    }
+
+    public static void validateTenantId(String tenantId) {
+        if (tenantId == null || !TENANT_ID.matcher(tenantId).matches()) {
+            throw new IllegalArgumentException("Campus IDs are 1-32 characters of a-z, 0-9 and _.");
+        }
+    }
+
+    public JdbcTemplate controlJdbc() {
+        return controlJdbc;
+    }
+}
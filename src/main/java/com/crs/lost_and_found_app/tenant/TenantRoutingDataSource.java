@@ -0,0 +1,51 @@
+package com.crs.lost_and_found_app.tenant;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// The application's DataSource: picks the current tenant's shard pool and switches the connection
+// to the tenant's schema. Hibernate and Spring transactions see a single ordinary DataSource.
+public class TenantRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ShardDataSources shards;
+    private final TenantRegistry registry;
+
+    public TenantRoutingDataSource(ShardDataSources shards, TenantRegistry registry) {
+        this.shards = shards;
+        this.registry = registry;
+        setTargetDataSources(shards.asTargetDataSources());
+        setDefaultTargetDataSource(shards.get(ShardDataSources.DEFAULT_SHARD));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return registry.resolve(TenantContext.getTenant()).shard();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return useTenantSchema(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return useTenantSchema(super.getConnection(username, password));
+    }
+
+    private Connection useTenantSchema(Connection connection) throws SQLException {
+        TenantInfo tenant = registry.resolve(TenantContext.getTenant());
+        String catalog = tenant.schema() != null ? tenant.schema() : shards.defaultCatalog(tenant.shard());
+        try {
+            if (catalog != null && !catalog.equals(connection.getCatalog())) {
+                connection.setCatalog(catalog);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        return connection;
+    }
+}
@@ -0,0 +1,38 @@
+package com.crs.lost_and_found_app.tenant;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// One instance of an in-memory structure (index, counters, job state) per tenant, created on first use.
+public final class TenantScoped<T> {
+
+    private final ConcurrentHashMap<String, T> values = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+
+    public TenantScoped(Supplier<T> factory) {
+        this.factory = tenant -> factory.get();
+    }
+
+    private TenantScoped(Function<String, T> factory) {
+        this.factory = factory;
+    }
+
+    // For values that need to know their tenant, e.g. to run work for it on other threads
+    public static <T> TenantScoped<T> byTenant(Function<String, T> factory) {
+        return new TenantScoped<>(factory);
+    }
+
+    public T get() {
+        return get(TenantContext.getTenant());
+    }
+
+    public T get(String tenant) {
+        return values.computeIfAbsent(tenant, factory);
+    }
+
+    public Map<String, T> all() {
+        return Map.copyOf(values);
+    }
+}
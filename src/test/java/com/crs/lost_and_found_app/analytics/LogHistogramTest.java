@@ -0,0 +1,81 @@
+package com.crs.lost_and_found_app.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LogHistogramTest {
+
+    private static final double[] QUANTILES = {0, 0.1, 0.25, 0.5, 0.75, 0.9, 0.95, 0.99, 1};
+
+    @Test
+    void survivesARoundTripWithNegativeIndexesAndZeros() {
+        LogHistogram histogram = new LogHistogram();
+        histogram.add(0);
+        histogram.add(-3, 2); // Counted as zero
+        histogram.add(0.0005); // Values below 1 land in negative buckets
+        histogram.add(0.2, 3);
+        histogram.add(1);
+        histogram.add(42.5);
+        histogram.add(86_400, 4);
+
+        LogHistogram copy = LogHistogram.fromBytes(histogram.toBytes());
+
+        assertThat(copy.count()).isEqualTo(13);
+        assertThat(copy.toBytes()).isEqualTo(histogram.toBytes());
+        assertThat(copy.quantile(0)).isEqualTo(0.0);
+        for (double q : QUANTILES) {
+            assertThat(copy.quantile(q)).isEqualTo(histogram.quantile(q));
+        }
+    }
+
+    @Test
+    void emptyHistogramRoundTrips() {
+        LogHistogram copy = LogHistogram.fromBytes(new LogHistogram().toBytes());
+
+        assertThat(copy.count()).isZero();
+        assertThat(copy.quantile(0.5)).isNull();
+        assertThat(LogHistogram.fromBytes(null).count()).isZero();
+    }
+
+    @Test
+    void mergingEqualsAddingEverythingToOneHistogram() {
+        Random random = new Random(7);
+        LogHistogram all = new LogHistogram();
+        LogHistogram merged = new LogHistogram();
+        for (int part = 0; part < 3; part++) {
+            LogHistogram daily = new LogHistogram();
+            for (int i = 0; i < 500; i++) {
+                double value = i % 50 == 0 ? 0 : Math.exp(random.nextGaussian() * 4);
+                daily.add(value);
+                all.add(value);
+            }
+            merged.merge(LogHistogram.fromBytes(daily.toBytes())); // As the rollups are stored
+        }
+        merged.merge(null);
+
+        assertThat(merged.count()).isEqualTo(all.count());
+        assertThat(merged.toBytes()).isEqualTo(all.toBytes());
+    }
+
+    @Test
+    void quantilesStayWithinTheRelativeAccuracy() {
+        Random random = new Random(42);
+        double[] values = new double[10_000];
+        LogHistogram histogram = new LogHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 3); // Log-normal: seconds to weeks, and fractions of a second
+            histogram.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            double expected = values[(int) Math.floor(q * (values.length - 1))];
+            assertThat(histogram.quantile(q)).isCloseTo(expected, within(expected * LogHistogram.RELATIVE_ACCURACY * 1.000001));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.crs.lost_and_found_app.audit;
+
+import com.crs.lost_and_found_app.dto.AuditVerifyDto;
+import com.crs.lost_and_found_app.enums.AuditEntityType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditLogTest {
+
+    private static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void findsAnEntitysHistoryNewestFirst() throws Exception {
+        try (AuditLog log = open(0)) {
+            append(log, "main", 1, "CREATED", null, "FOUND");
+            append(log, "main", 2, "CREATED", null, "LOST");
+            append(log, "north", 1, "CREATED", null, "LOST"); // Same ID, other campus
+            append(log, "main", 1, "STATUS", "FOUND", "CLAIMED");
+
+            List<AuditRecord> history = log.find("main", AuditEntityType.ITEM, 1, 10);
+            assertThat(history).extracting(record -> record.entry().action()).containsExactly("STATUS", "CREATED");
+            assertThat(history.get(0).seq()).isEqualTo(4);
+            assertThat(log.find("main", AuditEntityType.ITEM, 1, 1)).hasSize(1);
+            assertThat(log.find("main", AuditEntityType.REQUEST, 1, 10)).isEmpty();
+        }
+    }
+
+    @Test
+    void continuesTheChainAfterReopening() throws Exception {
+        try (AuditLog log = open(0)) {
+            append(log, "main", 1, "CREATED", null, "FOUND");
+            append(log, "main", 1, "STATUS", "FOUND", "CLAIMED");
+        }
+        try (AuditLog log = open(0)) {
+            assertThat(append(log, "main", 1, "DELETED", "CLAIMED", null)).isEqualTo(3);
+            assertThat(log.find("main", AuditEntityType.ITEM, 1, 10)).hasSize(3);
+            AuditVerifyDto result = log.verify();
+            assertThat(result.isValid()).isTrue();
+            assertThat(result.getRecordsChecked()).isEqualTo(3);
+            assertThat(result.getHeadHash()).isEqualTo(log.stats().getHeadHash());
+        }
+    }
+
+    @Test
+    void dropsATornRecordAtTheTail() throws Exception {
+        try (AuditLog log = open(0)) {
+            for (int i = 1; i <= 3; i++) {
+                append(log, "main", i, "CREATED", null, "FOUND");
+            }
+        }
+        corruptLastRecord(onlySegment());
+        try (AuditLog log = open(0)) {
+            assertThat(log.stats().getHeadSeq()).isEqualTo(2);
+            assertThat(log.verify().isValid()).isTrue();
+            assertThat(append(log, "main", 4, "CREATED", null, "LOST")).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void verifyDetectsAChangedRecord() throws Exception {
+        try (AuditLog log = open(0)) {
+            for (int i = 1; i <= 3; i++) {
+                append(log, "main", i, "CREATED", null, "FOUND");
+            }
+            assertThat(log.verify().isValid()).isTrue();
+
+            corruptLastRecord(onlySegment());
+
+            AuditVerifyDto result = log.verify();
+            assertThat(result.isValid()).isFalse();
+            assertThat(result.getBrokenAtSeq()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void compactionMergesSmallSegmentsAndAppliesRetention() throws Exception {
+        try (AuditLog log = open(1)) {
+            for (int i = 1; i <= 5; i++) {
+                append(log, "main", i % 2, "STATUS", "LOST", "FOUND");
+                Thread.sleep(5); // Past the roll interval, so every record starts a new segment
+            }
+            assertThat(log.stats().getSegments()).isEqualTo(5);
+
+            assertThat(log.compact(0)).isEqualTo(3); // The four sealed segments become one
+            assertThat(log.stats().getSegments()).isEqualTo(2);
+            assertThat(segmentFiles()).hasSize(2);
+            assertThat(log.find("main", AuditEntityType.ITEM, 1, 10)).extracting(AuditRecord::seq).containsExactly(5L, 3L, 1L);
+            assertThat(log.verify().isValid()).isTrue();
+
+            assertThat(log.compact(System.currentTimeMillis() + 1)).isEqualTo(1); // The open segment is kept
+            assertThat(log.stats().getFirstSeq()).isEqualTo(5);
+            assertThat(log.find("main", AuditEntityType.ITEM, 1, 10)).extracting(AuditRecord::seq).containsExactly(5L);
+            assertThat(log.verify().isValid()).isTrue();
+        }
+        try (AuditLog log = open(0)) {
+            assertThat(log.stats().getHeadSeq()).isEqualTo(5);
+            assertThat(log.verify().isValid()).isTrue();
+        }
+    }
+
+    @Test
+    void entriesThatCannotBeQueuedLeaveAGapRecord() throws Exception {
+        int total = 2000;
+        try (AuditLog log = new AuditLog(dir, SEGMENT_BYTES * 4, 1024, AuditLog.FsyncPolicy.NEVER, 1000, 0, 64, 1)) {
+            for (int i = 1; i <= total; i++) {
+                log.append(new AuditEntry("main", AuditEntityType.ITEM, i, "CREATED", null, "FOUND", "admin"), 0);
+            }
+        }
+        try (AuditLog log = open(0)) {
+            long recorded = 0;
+            long missing = 0;
+            for (int i = 1; i <= total; i++) {
+                recorded += log.find("main", AuditEntityType.ITEM, i, 1).size();
+            }
+            for (AuditRecord gap : log.find(null, AuditEntityType.LOG, 0, Integer.MAX_VALUE)) {
+                assertThat(gap.entry().action()).isEqualTo(AuditLog.GAP_ACTION);
+                missing += Long.parseLong(gap.entry().toValue());
+            }
+            assertThat(recorded + missing).isEqualTo(total);
+            assertThat(missing).isPositive();
+            assertThat(log.verify().isValid()).isTrue();
+        }
+    }
+
+    private AuditLog open(long rollIntervalMillis) throws IOException {
+        return new AuditLog(dir, SEGMENT_BYTES, 1024, AuditLog.FsyncPolicy.ALWAYS, 1000, rollIntervalMillis, 64, 100);
+    }
+
+    private static long append(AuditLog log, String tenant, long itemId, String action, String from, String to) {
+        return log.append(new AuditEntry(tenant, AuditEntityType.ITEM, itemId, action, from, to, "admin"), 100).join();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.toString().endsWith(".audit")).toList();
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        List<Path> files = segmentFiles();
+        assertThat(files).hasSize(1);
+        return files.get(0);
+    }
+
+    // Flips the last non-zero byte of the file, which belongs to the newest record's hash
+    private static void corruptLastRecord(Path file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            long position = raf.length() - 1;
+            while (position > 0) {
+                raf.seek(position);
+                int b = raf.read();
+                if (b != 0) {
+                    raf.seek(position);
+                    raf.write(b ^ 0xFF);
+                    return;
+                }
+                position--;
+            }
+        }
+    }
+}
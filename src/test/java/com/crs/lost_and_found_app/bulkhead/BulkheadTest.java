@@ -0,0 +1,71 @@
+package com.crs.lost_and_found_app.bulkhead;
+
+import com.crs.lost_and_found_app.dto.BulkheadStatsDto;
+import com.crs.lost_and_found_app.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private Bulkhead bulkhead;
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        bulkhead.shutdown();
+    }
+
+    private String blockUntilReleased() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "done";
+    }
+
+    @Test
+    void refusesCallsOnceThreadsAndQueueAreFull() throws Exception {
+        bulkhead = new Bulkhead("test", 1, 1, 5_000);
+        CompletableFuture<String> running = bulkhead.submit(this::blockUntilReleased);
+        CompletableFuture<String> queued = bulkhead.submit(this::blockUntilReleased);
+        CompletableFuture<String> refused = bulkhead.submit(this::blockUntilReleased);
+
+        assertThatThrownBy(refused::get).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(BulkheadFullException.class);
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("done");
+
+        BulkheadStatsDto stats = bulkhead.stats();
+        assertThat(stats.getAccepted()).isEqualTo(2);
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getSucceeded()).isEqualTo(2);
+    }
+
+    @Test
+    void failsCallsThatRunPastTheTimeout() {
+        bulkhead = new Bulkhead("test", 1, 1, 50);
+        CompletableFuture<String> slow = bulkhead.submit(this::blockUntilReleased);
+
+        assertThatThrownBy(() -> slow.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(bulkhead.stats().getTimedOut()).isEqualTo(1);
+    }
+
+    @Test
+    void runsCallsForTheSubmittingCampus() throws Exception {
+        bulkhead = new Bulkhead("test", 1, 1, 5_000);
+        CompletableFuture<String> tenant = TenantContext.callAs("north", () -> bulkhead.submit(TenantContext::getTenant));
+
+        assertThat(tenant.get(1, TimeUnit.SECONDS)).isEqualTo("north");
+    }
+}
@@ -0,0 +1,44 @@
+package com.crs.lost_and_found_app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void addedKeysAreAlwaysFound() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("token-" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("token-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(2_000); // 1% expected; allow 2x
+    }
+
+    @Test
+    void sizedFromExpectedEntriesAndRate() {
+        BloomFilter filter = new BloomFilter(100_000, 0.001);
+
+        assertThat(filter.bitCount()).isBetween(1_430_000L, 1_440_000L); // ~14.4 bits per entry
+        assertThat(filter.hashCount()).isEqualTo(10);
+    }
+}
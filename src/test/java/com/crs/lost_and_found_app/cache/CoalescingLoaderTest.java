@@ -0,0 +1,106 @@
+package com.crs.lost_and_found_app.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoalescingLoaderTest {
+
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2);
+    private final List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Function<Set<Long>, Map<Long, String>> recordingLoader() {
+        return ids -> {
+            batches.add(ids);
+            return ids.stream().filter(id -> id > 0).collect(Collectors.toMap(id -> id, id -> "item-" + id));
+        };
+    }
+
+    @Test
+    void keysRequestedWithinTheWindowShareOneBatch() throws Exception {
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>(recordingLoader(), executor, TimeUnit.MILLISECONDS.toNanos(50), 100);
+
+        CompletableFuture<String> first = loader.load(1L);
+        CompletableFuture<String> second = loader.load(2L);
+        CompletableFuture<String> missing = loader.load(-3L);
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("item-1");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("item-2");
+        assertThat(missing.get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(batches).containsExactly(Set.of(1L, 2L, -3L));
+        assertThat(loader.inFlightCount()).isZero();
+    }
+
+    @Test
+    void concurrentCallersForAHotKeyTriggerOneLoad() throws Exception {
+        CountDownLatch allCallersIn = new CountDownLatch(1);
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>(ids -> {
+            try {
+                allCallersIn.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return recordingLoader().apply(ids);
+        }, executor, TimeUnit.MILLISECONDS.toNanos(1), 100);
+        List<Thread> threads = new ArrayList<>();
+        List<CompletableFuture<String>> results = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Thread thread = new Thread(() -> results.add(loader.load(42L)));
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        allCallersIn.countDown();
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("item-42");
+        }
+        assertThat(batches).containsExactly(Set.of(42L));
+    }
+
+    @Test
+    void fullBatchIsDispatchedWithoutWaitingForTheWindow() throws Exception {
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>(recordingLoader(), executor, TimeUnit.SECONDS.toNanos(30), 2);
+
+        CompletableFuture<String> first = loader.load(1L);
+        CompletableFuture<String> second = loader.load(2L);
+
+        assertThat(first.get(1, TimeUnit.SECONDS)).isEqualTo("item-1");
+        assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("item-2");
+    }
+
+    @Test
+    void batchFailureFailsEveryWaiterAndIsNotRemembered() throws Exception {
+        List<Integer> calls = new CopyOnWriteArrayList<>();
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>(ids -> {
+            calls.add(ids.size());
+            if (calls.size() == 1) {
+                throw new IllegalStateException("database down");
+            }
+            return Map.of(1L, "item-1");
+        }, executor, TimeUnit.MILLISECONDS.toNanos(5), 100);
+
+        assertThatThrownBy(() -> loader.load(1L).get(1, TimeUnit.SECONDS)).hasMessageContaining("database down");
+        assertThat(loader.load(1L).get(1, TimeUnit.SECONDS)).isEqualTo("item-1");
+    }
+}
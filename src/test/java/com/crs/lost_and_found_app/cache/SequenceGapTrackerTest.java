@@ -0,0 +1,53 @@
+package com.crs.lost_and_found_app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SequenceGapTrackerTest {
+
+    @Test
+    void lateCommitsInsideAGapAreAcceptedOnce() {
+        SequenceGapTracker tracker = new SequenceGapTracker(10, 1000, 100);
+
+        assertThat(tracker.accept(13, 0)).isTrue();
+        assertThat(tracker.cursor()).isEqualTo(13);
+        assertThat(tracker.gaps()).containsExactly(11L, 12L);
+
+        assertThat(tracker.accept(12, 50)).isTrue();
+        assertThat(tracker.accept(12, 60)).isFalse();
+        assertThat(tracker.gaps()).containsExactly(11L);
+    }
+
+    @Test
+    void alreadyConsumedSequencesAreRejected() {
+        SequenceGapTracker tracker = new SequenceGapTracker(10, 1000, 100);
+
+        assertThat(tracker.accept(11, 0)).isTrue();
+        assertThat(tracker.accept(11, 0)).isFalse();
+        assertThat(tracker.accept(5, 0)).isFalse();
+        assertThat(tracker.hasGaps()).isFalse();
+    }
+
+    @Test
+    void gapsExpireAfterTimeout() {
+        SequenceGapTracker tracker = new SequenceGapTracker(0, 1000, 100);
+        tracker.accept(3, 0);     // Gaps 1 and 2 noticed at t=0
+        tracker.accept(6, 800);   // Gaps 4 and 5 noticed at t=800
+
+        tracker.expireGaps(1500);
+
+        assertThat(tracker.gaps()).containsExactly(4L, 5L);
+        assertThat(tracker.accept(1, 1500)).isFalse();
+    }
+
+    @Test
+    void gapCountIsBounded() {
+        SequenceGapTracker tracker = new SequenceGapTracker(0, 1000, 3);
+        tracker.accept(2, 0);     // Gap 1
+        tracker.accept(10, 0);    // Gaps 7..9 only; oldest dropped to stay within 3
+
+        assertThat(tracker.gapCount()).isEqualTo(3);
+        assertThat(tracker.gaps()).containsExactly(7L, 8L, 9L);
+    }
+}
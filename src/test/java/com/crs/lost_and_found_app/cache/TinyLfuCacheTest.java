@@ -0,0 +1,110 @@
+package com.crs.lost_and_found_app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TinyLfuCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Function<Long, CompletableFuture<String>> countingLoader() {
+        return id -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(id > 0 ? "item-" + id : null);
+        };
+    }
+
+    private static TinyLfuCache<Long, String> cache(Function<Long, CompletableFuture<String>> loader, long maxEntries, long maxWeight) {
+        return new TinyLfuCache<>(loader, String::length, maxEntries, maxWeight, TimeUnit.MINUTES.toNanos(5), 0);
+    }
+
+    @Test
+    void servesRepeatReadsWithoutLoading() {
+        TinyLfuCache<Long, String> cache = cache(countingLoader(), 100, 10_000);
+
+        assertThat(cache.get(1L).join()).isEqualTo("item-1");
+        assertThat(cache.get(1L).join()).isEqualTo("item-1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().getHits()).isEqualTo(1);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheMissingKeys() {
+        TinyLfuCache<Long, String> cache = cache(countingLoader(), 100, 10_000);
+
+        assertThat(cache.get(-1L).join()).isNull();
+        assertThat(cache.get(-1L).join()).isNull();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void keepsPopularEntriesThroughAScan() {
+        TinyLfuCache<Long, String> cache = cache(countingLoader(), 100, 1_000_000);
+        for (int round = 0; round < 20; round++) {
+            for (long hot = 1; hot <= 50; hot++) {
+                cache.get(hot).join();
+            }
+        }
+        for (long cold = 1_000; cold < 11_000; cold++) {
+            cache.get(cold).join();
+        }
+
+        long hotStillCached = 0;
+        int loadsBefore = loads.get();
+        for (long hot = 1; hot <= 50; hot++) {
+            cache.get(hot).join();
+        }
+        hotStillCached = 50 - (loads.get() - loadsBefore);
+        assertThat(hotStillCached).isGreaterThanOrEqualTo(45);
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    void staysWithinItsWeightBudget() {
+        TinyLfuCache<Long, String> cache = cache(countingLoader(), 10_000, 500);
+        for (long id = 1; id <= 1_000; id++) {
+            cache.get(id).join();
+        }
+
+        assertThat(cache.stats().getWeight()).isLessThanOrEqualTo(500);
+        assertThat(cache.stats().getEvictions()).isPositive();
+    }
+
+    @Test
+    void loadOverlappingAnInvalidationIsNotCached() {
+        CompletableFuture<String> slowLoad = new CompletableFuture<>();
+        TinyLfuCache<Long, String> cache = cache(id -> {
+            loads.incrementAndGet();
+            return loads.get() == 1 ? slowLoad : CompletableFuture.completedFuture("fresh");
+        }, 100, 10_000);
+
+        CompletableFuture<String> first = cache.get(1L);
+        cache.invalidate(1L);
+        slowLoad.complete("stale");
+
+        assertThat(first.join()).isEqualTo("stale");
+        assertThat(cache.get(1L).join()).isEqualTo("fresh");
+    }
+
+    @Test
+    void refreshesEntriesPastRefreshAfterInTheBackground() throws Exception {
+        AtomicInteger version = new AtomicInteger();
+        TinyLfuCache<Long, String> cache = new TinyLfuCache<>(id -> CompletableFuture.completedFuture("v" + version.incrementAndGet()),
+                String::length, 100, 10_000, TimeUnit.MINUTES.toNanos(5), TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(cache.get(1L).join()).isEqualTo("v1");
+        Thread.sleep(20);
+        assertThat(cache.get(1L).join()).isEqualTo("v1"); // Served while the reload runs
+        assertThat(cache.get(1L).join()).isEqualTo("v2");
+        assertThat(cache.stats().getRefreshes()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,199 @@
+package com.crs.lost_and_found_app.config;
+
+import com.crs.lost_and_found_app.entity.IdempotencyRecord;
+import com.crs.lost_and_found_app.repository.IdempotencyRecordRepository;
+import com.crs.lost_and_found_app.service.IdempotencyService;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"name\":\"Umbrella\"}";
+
+    // Stands in for the idempotency_keys table
+    private final Map<String, IdempotencyRecord> table = new ConcurrentHashMap<>();
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        when(repository.reserve(any(), any(), any(), any())).thenAnswer(call -> {
+            IdempotencyRecord record = IdempotencyRecord.builder().scopeKey(call.getArgument(0)).requestHash(call.getArgument(1))
+                    .createdAt(call.getArgument(2)).expiresAt(call.getArgument(3)).build();
+            return table.putIfAbsent(record.getScopeKey(), record) == null ? 1 : 0;
+        });
+        when(repository.findById(any())).thenAnswer(call -> Optional.ofNullable(table.get(call.<String>getArgument(0))));
+        when(repository.save(any())).thenAnswer(call -> {
+            IdempotencyRecord record = call.getArgument(0);
+            table.put(record.getScopeKey(), record);
+            return record;
+        });
+        when(repository.deleteIfExpired(any(), any())).thenAnswer(call -> {
+            IdempotencyRecord record = table.get(call.<String>getArgument(0));
+            LocalDateTime now = call.getArgument(1);
+            return record != null && record.getExpiresAt().isBefore(now) && table.remove(record.getScopeKey(), record) ? 1 : 0;
+        });
+        doAnswer(call -> table.remove(call.<String>getArgument(0))).when(repository).deleteById(any());
+
+        IdempotencyService service = new IdempotencyService(repository, null, 24, 120, 100, 4);
+        filter = new IdempotencyFilter(service);
+        ReflectionTestUtils.setField(filter, "maxBodyBytes", 1024);
+        ReflectionTestUtils.setField(filter, "waitTimeoutMs", 1000L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse post(String key, String body, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/items");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> {
+            executions.incrementAndGet();
+            String received = new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"received\":" + received + "}");
+        });
+        return response;
+    }
+
+    @Test
+    void storesTheFirstResponseAndReplaysItOnRetry() throws Exception {
+        MockHttpServletResponse first = post("key-1", BODY, 201);
+        MockHttpServletResponse retry = post("key-1", BODY, 201);
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getContentAsString()).contains("Umbrella");
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(table.get(table.keySet().iterator().next()).getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+    }
+
+    @Test
+    void rejectsTheSameKeyWithADifferentBody() throws Exception {
+        post("key-1", BODY, 201);
+        MockHttpServletResponse other = post("key-1", "{\"name\":\"Wallet\"}", 201);
+
+        assertThat(executions).hasValue(1);
+        assertThat(other.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void forgetsTheKeyAfterAServerErrorSoARetryRunsAgain() throws Exception {
+        MockHttpServletResponse failed = post("key-1", BODY, 503);
+
+        assertThat(failed.getStatus()).isEqualTo(503);
+        assertThat(table).isEmpty();
+
+        MockHttpServletResponse retry = post("key-1", BODY, 201);
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    void answersConflictWhileAnotherNodeHoldsTheKey() throws Exception {
+        post("key-1", BODY, 201);
+        IdempotencyRecord record = table.values().iterator().next();
+        // Same key reserved elsewhere and still running: no stored response, lease not lapsed
+        table.clear();
+        table.put(record.getScopeKey(), IdempotencyRecord.builder().scopeKey(record.getScopeKey()).requestHash(record.getRequestHash())
+                .createdAt(LocalDateTime.now()).expiresAt(LocalDateTime.now().plusSeconds(60)).build());
+        filterWithEmptyCache();
+
+        MockHttpServletResponse response = post("key-1", BODY, 201);
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void takesOverAKeyWhoseLeaseHasLapsed() throws Exception {
+        post("key-1", BODY, 201);
+        IdempotencyRecord record = table.values().iterator().next();
+        // The node that reserved the key died before storing a response
+        table.clear();
+        table.put(record.getScopeKey(), IdempotencyRecord.builder().scopeKey(record.getScopeKey()).requestHash(record.getRequestHash())
+                .createdAt(LocalDateTime.now().minusMinutes(5)).expiresAt(LocalDateTime.now().minusSeconds(1)).build());
+        filterWithEmptyCache();
+
+        MockHttpServletResponse response = post("key-1", BODY, 201);
+
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(executions).hasValue(2);
+        assertThat(table.get(record.getScopeKey()).getStatusCode()).isEqualTo(201);
+    }
+
+    @Test
+    void notifiesAReadListenerAtOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/items");
+        request.addHeader(IdempotencyFilter.HEADER, "key-1");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        List<String> calls = new ArrayList<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    calls.add("data:" + new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    calls.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    calls.add("error");
+                }
+            });
+        });
+
+        assertThat(calls).containsExactly("data:" + BODY, "done");
+    }
+
+    // A fresh node: same table, nothing cached in memory
+    private void filterWithEmptyCache() {
+        IdempotencyService current = (IdempotencyService) ReflectionTestUtils.getField(filter, "idempotencyService");
+        IdempotencyRecordRepository repository = (IdempotencyRecordRepository) ReflectionTestUtils.getField(current, "repository");
+        filter = new IdempotencyFilter(new IdempotencyService(repository, null, 24, 120, 100, 4));
+        ReflectionTestUtils.setField(filter, "maxBodyBytes", 1024);
+        ReflectionTestUtils.setField(filter, "waitTimeoutMs", 1000L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.crs.lost_and_found_app.datagen;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.enums.RequestStatus;
+import com.crs.lost_and_found_app.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatasetGeneratorTest {
+
+    private static DatasetSpec spec(long seed) {
+        return new DatasetSpec(seed, 1_000, 10_000, 20_000, LocalDate.of(2021, 1, 1), LocalDate.of(2025, 1, 1),
+                0.6, 0.8, 6.9022, 79.8607);
+    }
+
+    @Test
+    void rowsDependOnlyOnSeedAndIndex() {
+        DatasetGenerator first = new DatasetGenerator(spec(42));
+        DatasetGenerator second = new DatasetGenerator(spec(42));
+        for (long i = 9_999; i >= 0; i -= 997) { // Different order, same rows
+            assertThat(second.item(i)).isEqualTo(first.item(i));
+            assertThat(second.claimRequest(i)).isEqualTo(first.claimRequest(i));
+        }
+        assertThat(second.user(500)).isEqualTo(first.user(500));
+        assertThat(new DatasetGenerator(spec(43)).item(5)).isNotEqualTo(first.item(5));
+    }
+
+    @Test
+    void rowsAreConsistentWithEachOther() {
+        DatasetSpec spec = spec(42);
+        DatasetGenerator generator = new DatasetGenerator(spec, 100, 200, 300);
+        assertThat(generator.user(0).role()).isEqualTo(UserRole.ADMIN);
+        assertThat(generator.user(0).id()).isEqualTo(101);
+        for (long i = 0; i < generator.itemCount(); i++) {
+            DatasetGenerator.ItemRow item = generator.item(i);
+            assertThat(item.id()).isEqualTo(201 + i);
+            assertThat(item.dateReported()).isBetween(spec.startDate(), spec.endDate().minusDays(1));
+            assertThat(item.reportedById()).isBetween(101L, 1_100L);
+            DatasetGenerator.RequestRow approved = generator.approvedRequest(i);
+            if (item.status() == ItemStatus.CLAIMED) {
+                assertThat(item.claimedAt()).isAfterOrEqualTo(item.createdAt());
+                assertThat(approved.requesterId()).isEqualTo(item.claimedById());
+                assertThat(approved.status()).isEqualTo(RequestStatus.APPROVED);
+                assertThat(approved.requestDate()).isBetween(item.createdAt(), item.claimedAt());
+            } else {
+                assertThat(item.claimedById()).isNull();
+                assertThat(approved).isNull();
+            }
+        }
+        for (long j = 0; j < 2_000; j++) {
+            DatasetGenerator.RequestRow claim = generator.claimRequest(j);
+            assertThat(claim.id()).isEqualTo(300 + generator.itemCount() + j + 1);
+            assertThat(claim.status()).isNotEqualTo(RequestStatus.APPROVED);
+            assertThat(claim.resolutionDate() == null).isEqualTo(claim.status() == RequestStatus.PENDING);
+        }
+    }
+
+    @Test
+    void claimsConcentrateOnFewItems() {
+        DatasetGenerator generator = new DatasetGenerator(spec(42));
+        Map<Long, Integer> claimsPerItem = new HashMap<>();
+        for (long j = 0; j < generator.claimRequestCount(); j++) {
+            claimsPerItem.merge(generator.claimRequest(j).itemId(), 1, Integer::sum);
+        }
+        int[] counts = claimsPerItem.values().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int topOnePercent = Arrays.stream(counts, counts.length - 100, counts.length).sum();
+        // Uniform claims would put about 1% of them on any 100 items and touch 86% of the items
+        assertThat(topOnePercent).isGreaterThan(2_000); // About 14% with exponent 0.6
+        assertThat(claimsPerItem).hasSizeLessThan(8_000);
+    }
+
+    @Test
+    void scatterIsABijection() {
+        long n = 1_003;
+        boolean[] seen = new boolean[(int) n];
+        for (long rank = 0; rank < n; rank++) {
+            seen[(int) DatasetGenerator.scatter(rank, n)] = true;
+        }
+        assertThat(seen).doesNotContain(false);
+    }
+}
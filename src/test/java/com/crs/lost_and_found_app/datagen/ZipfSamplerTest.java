@@ -0,0 +1,41 @@
+package com.crs.lost_and_found_app.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ZipfSamplerTest {
+
+    @Test
+    void frequenciesFollowThePowerLaw() {
+        ZipfSampler sampler = new ZipfSampler(10, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+        long[] counts = new long[11];
+        int samples = 200_000;
+        for (int i = 0; i < samples; i++) {
+            counts[(int) sampler.sample(random)]++;
+        }
+        double harmonic = 0;
+        for (int k = 1; k <= 10; k++) {
+            harmonic += 1.0 / k;
+        }
+        for (int k = 1; k <= 10; k++) {
+            assertThat((double) counts[k] / samples).isCloseTo(1.0 / k / harmonic, within(0.005));
+        }
+    }
+
+    @Test
+    void staysInRangeForLargeNAndSmallExponents() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (double exponent : new double[] {0.3, 1.0, 2.5}) {
+            ZipfSampler sampler = new ZipfSampler(10_000_000, exponent);
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(sampler.sample(random)).isBetween(1L, 10_000_000L);
+            }
+        }
+        assertThat(new ZipfSampler(1, 0.8).sample(random)).isEqualTo(1);
+    }
+}
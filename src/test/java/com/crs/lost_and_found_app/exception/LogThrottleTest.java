@@ -0,0 +1,44 @@
+package com.crs.lost_and_found_app.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogThrottleTest {
+
+    @Test
+    void logsUpToTheLimitPerInterval() {
+        AtomicLong now = new AtomicLong();
+        LogThrottle throttle = new LogThrottle(2, 1_000, now::get);
+        assertThat(throttle.tryAcquire("404")).isZero();
+        assertThat(throttle.tryAcquire("404")).isZero();
+        assertThat(throttle.tryAcquire("404")).isEqualTo(-1);
+        assertThat(throttle.tryAcquire("404")).isEqualTo(-1);
+    }
+
+    @Test
+    void reportsDroppedCountWhenTheNextIntervalStarts() {
+        AtomicLong now = new AtomicLong();
+        LogThrottle throttle = new LogThrottle(1, 1_000, now::get);
+        throttle.tryAcquire("404");
+        for (int i = 0; i < 5; i++) {
+            assertThat(throttle.tryAcquire("404")).isEqualTo(-1);
+        }
+        now.addAndGet(999);
+        assertThat(throttle.tryAcquire("404")).isEqualTo(-1);
+        now.addAndGet(1);
+        assertThat(throttle.tryAcquire("404")).isEqualTo(6);
+        assertThat(throttle.tryAcquire("404")).isEqualTo(-1);
+    }
+
+    @Test
+    void keysAreThrottledIndependently() {
+        AtomicLong now = new AtomicLong();
+        LogThrottle throttle = new LogThrottle(1, 1_000, now::get);
+        assertThat(throttle.tryAcquire("404")).isZero();
+        assertThat(throttle.tryAcquire("404")).isEqualTo(-1);
+        assertThat(throttle.tryAcquire("409")).isZero();
+    }
+}
@@ -0,0 +1,49 @@
+package com.crs.lost_and_found_app.index;
+
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoGridIndexTest {
+
+    private static final double LAT = 6.9022;
+    private static final double LON = 79.8612;
+
+    @Test
+    void returnsItemsWithinRadiusOrderedByDistance() {
+        GeoGridIndex index = new GeoGridIndex();
+        index.put(new GeoGridIndex.Entry(1L, LAT + 0.0018, LON, ItemStatus.FOUND));   // ~200 m north
+        index.put(new GeoGridIndex.Entry(2L, LAT, LON + 0.0009, ItemStatus.FOUND));   // ~100 m east
+        index.put(new GeoGridIndex.Entry(3L, LAT + 0.0100, LON, ItemStatus.FOUND));   // ~1.1 km north
+        index.put(new GeoGridIndex.Entry(4L, LAT - 0.0009, LON, ItemStatus.LOST));    // ~100 m south
+
+        List<GeoGridIndex.Hit> hits = index.within(LAT, LON, 300, ItemStatus.FOUND, 10);
+
+        assertThat(hits).extracting(GeoGridIndex.Hit::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void findsPointsAcrossCellBoundaries() {
+        GeoGridIndex index = new GeoGridIndex();
+        // Straddles the prime meridian, where neighbouring cells have unrelated hashes
+        index.put(new GeoGridIndex.Entry(1L, 51.4779, -0.0005, ItemStatus.FOUND));
+        index.put(new GeoGridIndex.Entry(2L, 51.4779, 0.0005, ItemStatus.FOUND));
+
+        assertThat(index.within(51.4779, 0.0, 100, null, 10)).hasSize(2);
+    }
+
+    @Test
+    void movedAndRemovedEntriesAreNotReturned() {
+        GeoGridIndex index = new GeoGridIndex();
+        index.put(new GeoGridIndex.Entry(1L, LAT, LON, ItemStatus.FOUND));
+        index.put(new GeoGridIndex.Entry(1L, LAT + 1, LON, ItemStatus.FOUND));
+        index.put(new GeoGridIndex.Entry(2L, LAT, LON, ItemStatus.FOUND));
+        index.remove(2L);
+
+        assertThat(index.within(LAT, LON, 1_000, null, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,59 @@
+package com.crs.lost_and_found_app.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SavedSearchIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 14);
+
+    @Test
+    void matchesOnlyQueriesWhoseConditionsAllHold() {
+        SavedSearchIndex index = new SavedSearchIndex();
+        index.add(SavedSearchIndex.StandingQuery.of(1L, 10L, "black iphone", null, null, null, null));
+        index.add(SavedSearchIndex.StandingQuery.of(2L, 11L, "iphone", "Electronics", "library", null, null));
+        index.add(SavedSearchIndex.StandingQuery.of(3L, 12L, "wallet", null, null, null, null));
+        index.add(SavedSearchIndex.StandingQuery.of(4L, 13L, null, null, null, TODAY.minusDays(1), TODAY.plusDays(1)));
+        index.add(SavedSearchIndex.StandingQuery.of(5L, 14L, "iphone", null, null, TODAY.plusDays(1), null));
+
+        List<SavedSearchIndex.StandingQuery> matches = index.match(SavedSearchIndex.Document.of(
+                "Black iPhone 13", "Cracked screen", "electronics", "Main Library, 2F", TODAY));
+
+        assertThat(matches).extracting(SavedSearchIndex.StandingQuery::id).containsExactlyInAnyOrder(1L, 2L, 4L);
+    }
+
+    @Test
+    void queriesOfOnlyDroppedTokensHaveNoCriteria() {
+        assertThat(SavedSearchIndex.StandingQuery.of(1L, 10L, "a", null, " ", null, null).hasCriteria()).isFalse();
+        assertThat(SavedSearchIndex.StandingQuery.of(2L, 10L, "a - !", null, "B", null, null).hasCriteria()).isFalse();
+        assertThat(SavedSearchIndex.StandingQuery.of(3L, 10L, "a", "Keys", null, null, null).hasCriteria()).isTrue();
+        assertThat(SavedSearchIndex.StandingQuery.of(4L, 10L, "id card", null, null, null, null).hasCriteria()).isTrue();
+    }
+
+    @Test
+    void removedQueriesNoLongerMatch() {
+        SavedSearchIndex index = new SavedSearchIndex();
+        index.add(SavedSearchIndex.StandingQuery.of(1L, 10L, "umbrella", null, null, null, null));
+        index.remove(1L);
+
+        assertThat(index.match(SavedSearchIndex.Document.of("Umbrella", null, null, null, TODAY))).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void queriesAreAnchoredOnTheirMostSelectiveKey() {
+        SavedSearchIndex index = new SavedSearchIndex();
+        for (long id = 0; id < 100_000; id++) {
+            index.add(SavedSearchIndex.StandingQuery.of(id, id, "keys " + "term" + id, null, null, null, null));
+        }
+
+        List<SavedSearchIndex.StandingQuery> matches = index.match(SavedSearchIndex.Document.of(
+                "Keys", "found with term42 on the ring", null, null, TODAY));
+
+        assertThat(matches).extracting(SavedSearchIndex.StandingQuery::id).containsExactly(42L);
+    }
+}
@@ -0,0 +1,52 @@
+package com.crs.lost_and_found_app.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashIndexTest {
+
+    @Test
+    void similarReportsHaveCloseFingerprints() {
+        long phone = SimHash.of("Black iPhone 13", "Cracked screen, blue case with a sticker", "Electronics", "Main Library 2F");
+        long samePhone = SimHash.of("black iphone 13", "cracked screen, blue case with sticker", "electronics", "Main Library");
+        long umbrella = SimHash.of("Red umbrella", "Folding, wooden handle", "Accessories", "Cafeteria");
+
+        assertThat(SimHash.distance(phone, samePhone)).isLessThan(SimHash.distance(phone, umbrella));
+        assertThat(SimHash.of(null, "  ", null, "")).isZero();
+    }
+
+    @Test
+    void findsEveryFingerprintWithinTheDistanceAndNothingFurther() {
+        SimHashIndex index = new SimHashIndex(3);
+        Random random = new Random(42);
+        long query = random.nextLong();
+        for (long id = 1; id <= 20_000; id++) {
+            index.put(id, random.nextLong());
+        }
+        index.put(100_001L, query);
+        index.put(100_002L, query ^ 0b101L); // 2 bits
+        index.put(100_003L, query ^ (1L << 63) ^ (1L << 31) ^ 1L); // 3 bits in different blocks
+        index.put(100_004L, query ^ 0b1111L); // 4 bits
+
+        assertThat(index.findWithin(query, 10))
+                .extracting(SimHashIndex.Match::id)
+                .containsExactly(100_001L, 100_002L, 100_003L);
+        assertThat(index.findWithin(query, 10).get(2).distance()).isEqualTo(3);
+    }
+
+    @Test
+    void updatedAndRemovedEntriesAreNotFoundUnderTheirOldFingerprint() {
+        SimHashIndex index = new SimHashIndex(3);
+        index.put(1L, 0xABCDL);
+        index.put(1L, ~0xABCDL);
+        index.put(2L, 0xABCEL);
+        index.remove(2L);
+
+        assertThat(index.findWithin(0xABCDL, 5)).isEmpty();
+        assertThat(index.findWithin(~0xABCDL, 5)).extracting(SimHashIndex.Match::id).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,58 @@
+package com.crs.lost_and_found_app.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+
+    private static final SuggestionTrie LOCATIONS = SuggestionTrie.build(Map.of(
+            "Library", 40L,
+            "library", 5L,
+            "Library 2F", 12L,
+            "Main Library", 20L,
+            "Lecture Hall B", 8L,
+            "Cafeteria", 30L,
+            "Gym", 3L));
+
+    @Test
+    void completesPrefixesByWeightAndMergesSpellings() {
+        List<SuggestionTrie.Suggestion> suggestions = LOCATIONS.suggest("li", 10);
+
+        assertThat(suggestions).extracting(SuggestionTrie.Suggestion::value)
+                .containsExactly("Library", "Main Library", "Library 2F");
+        assertThat(suggestions.get(0).weight()).isEqualTo(45L);
+        assertThat(suggestions).allMatch(suggestion -> suggestion.edits() == 0);
+    }
+
+    @Test
+    void matchesFromTheStartOfAnyWord() {
+        assertThat(LOCATIONS.suggest("hall", 10)).extracting(SuggestionTrie.Suggestion::value)
+                .containsExactly("Lecture Hall B");
+    }
+
+    @Test
+    void toleratesOneTypoAfterExactMatches() {
+        List<SuggestionTrie.Suggestion> suggestions = LOCATIONS.suggest("libr", 10);
+        assertThat(suggestions).extracting(SuggestionTrie.Suggestion::edits).containsOnly(0);
+
+        List<SuggestionTrie.Suggestion> typo = LOCATIONS.suggest("lirb", 10);
+        assertThat(typo).extracting(SuggestionTrie.Suggestion::value).contains("Library", "Main Library");
+        assertThat(typo).extracting(SuggestionTrie.Suggestion::edits).containsOnly(1);
+
+        assertThat(LOCATIONS.suggest("cafteria", 10)).extracting(SuggestionTrie.Suggestion::value)
+                .containsExactly("Cafeteria");
+        assertThat(LOCATIONS.suggest("xyzzy", 10)).isEmpty();
+    }
+
+    @Test
+    void shortPrefixesMatchExactlyAndLimitIsRespected() {
+        assertThat(LOCATIONS.suggest("gx", 10)).isEmpty();
+        assertThat(LOCATIONS.suggest("", 2)).extracting(SuggestionTrie.Suggestion::value)
+                .containsExactly("Library", "Cafeteria");
+        assertThat(SuggestionTrie.EMPTY.suggest("lib", 5)).isEmpty();
+    }
+}
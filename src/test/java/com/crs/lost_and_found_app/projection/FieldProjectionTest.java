@@ -0,0 +1,38 @@
+package com.crs.lost_and_found_app.projection;
+
+import com.crs.lost_and_found_app.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldProjectionTest {
+
+    @Test
+    void selectsOnlyRequestedColumnsWithoutJoins() {
+        List<String> fields = Projections.ITEM.parse("id, name,status,locationFound");
+
+        assertThat(Projections.ITEM.selectFrom(fields))
+                .isEqualTo("select i.id, i.name, i.status, i.locationFound from Item i");
+    }
+
+    @Test
+    void addsEachJoinOnceAndOnlyWhenNeeded() {
+        List<String> fields = Projections.REQUEST.parse("itemName,requesterUsername,itemName,itemId");
+
+        assertThat(fields).containsExactly("itemName", "requesterUsername", "itemId");
+        assertThat(Projections.REQUEST.selectFrom(fields))
+                .isEqualTo("select ri.name, ru.username, r.item.id from Request r join r.item ri join r.requester ru");
+    }
+
+    @Test
+    void rejectsUnknownAndEmptyFieldLists() {
+        assertThatThrownBy(() -> Projections.ITEM.parse("id,password"))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("password");
+        assertThatThrownBy(() -> Projections.ITEM.parse(" , "))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.cache.InvalidationBus;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.index.SimHashIndex;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DuplicateDetectionServiceTest {
+
+    private static final String NAME = "Black umbrella";
+    private static final String DESCRIPTION = "Folding umbrella with a wooden handle, left on a chair after a lecture";
+
+    private DuplicateDetectionService service;
+    private long fingerprint;
+
+    @BeforeEach
+    void setUp() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        TenantRegistry tenantRegistry = mock(TenantRegistry.class);
+        doAnswer(call -> {
+            call.<Consumer<String>>getArgument(0).accept("default");
+            return null;
+        }).when(tenantRegistry).forEachTenant(any());
+        List<Object[]> openItems = List.<Object[]>of(new Object[] {1L, NAME, DESCRIPTION, "Umbrellas", "Main Library", ItemStatus.LOST});
+        when(itemRepository.findFingerprintSourcesAfter(any(), any(), any())).thenReturn(openItems, List.of());
+
+        service = new DuplicateDetectionService(itemRepository, tenantRegistry, mock(InvalidationBus.class), true, 3, -1, 5, 1000);
+        service.seedAllCampuses();
+        fingerprint = service.fingerprint(NAME, DESCRIPTION, "Umbrellas", "Main Library");
+    }
+
+    @Test
+    void flagsASecondReportWithTheSameStatus() {
+        assertThat(service.findDuplicates(fingerprint, ItemStatus.LOST)).extracting(SimHashIndex.Match::id).containsExactly(1L);
+    }
+
+    @Test
+    void doesNotFlagAFoundReportOfALostItem() {
+        assertThat(service.findDuplicates(fingerprint, ItemStatus.FOUND)).isEmpty();
+    }
+
+    @Test
+    void movesAnItemBetweenIndexesWhenItsStatusChanges() {
+        service.register(1L, fingerprint, ItemStatus.FOUND);
+
+        assertThat(service.findDuplicates(fingerprint, ItemStatus.LOST)).isEmpty();
+        assertThat(service.findDuplicates(fingerprint, ItemStatus.FOUND)).extracting(SimHashIndex.Match::id).containsExactly(1L);
+        assertThat(service.findDuplicates(fingerprint, ItemStatus.CLAIMED)).isEmpty();
+    }
+}
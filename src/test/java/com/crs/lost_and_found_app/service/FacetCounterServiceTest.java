@@ -0,0 +1,80 @@
+package com.crs.lost_and_found_app.service;
+
+import com.crs.lost_and_found_app.dto.FacetCountsDto;
+import com.crs.lost_and_found_app.enums.ChangeType;
+import com.crs.lost_and_found_app.enums.ItemStatus;
+import com.crs.lost_and_found_app.event.ItemChangedEvent;
+import com.crs.lost_and_found_app.event.ItemSnapshot;
+import com.crs.lost_and_found_app.repository.ArchivedItemRepository;
+import com.crs.lost_and_found_app.repository.ArchivedRequestRepository;
+import com.crs.lost_and_found_app.repository.ItemRepository;
+import com.crs.lost_and_found_app.repository.RequestRepository;
+import com.crs.lost_and_found_app.tenant.TenantRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FacetCounterServiceTest {
+
+    private ItemRepository itemRepository;
+    private FacetCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        TenantRegistry tenantRegistry = mock(TenantRegistry.class);
+        doAnswer(call -> {
+            call.<Consumer<String>>getArgument(0).accept("default");
+            return null;
+        }).when(tenantRegistry).forEachTenant(any());
+        service = new FacetCounterService(itemRepository, mock(RequestRepository.class), mock(ArchivedItemRepository.class),
+                mock(ArchivedRequestRepository.class), tenantRegistry);
+    }
+
+    // GROUP BY result with a single group
+    private static List<Object[]> group(Object value, long count) {
+        return List.<Object[]>of(new Object[] {value, count});
+    }
+
+    private void report(String category, String location) {
+        service.onItemChanged(new ItemChangedEvent(ChangeType.CREATED, null,
+                new ItemSnapshot(1L, "Item", category, location, ItemStatus.FOUND, null, null, null, 1L, null, null)));
+    }
+
+    @Test
+    void eventsInAnotherSpellingDoNotDriftFromTheDatabaseGrouping() {
+        when(itemRepository.countByStatusGrouped()).thenReturn(group(ItemStatus.FOUND, 2));
+        when(itemRepository.countByCategoryGrouped()).thenReturn(group("Keys", 2));
+        when(itemRepository.countByLocationGrouped()).thenReturn(group("Café", 2));
+        service.reconcile();
+
+        report("keys ", "CAFE");
+        when(itemRepository.countByStatusGrouped()).thenReturn(group(ItemStatus.FOUND, 3));
+        when(itemRepository.countByCategoryGrouped()).thenReturn(group("Keys", 3));
+        when(itemRepository.countByLocationGrouped()).thenReturn(group("Café", 3));
+        service.reconcile();
+
+        FacetCountsDto counts = service.getFacetCounts(10);
+        assertThat(counts.getLastReconciliationDrift()).isZero();
+        assertThat(counts.getItemCategory()).isEqualTo(Map.of("Keys", 3L));
+        assertThat(counts.getItemLocation()).isEqualTo(Map.of("Café", 3L));
+    }
+
+    @Test
+    void newValuesKeepTheirFirstSpellingUntilReconciled() {
+        report(" Umbrellas", null);
+        report("UMBRELLAS", null);
+
+        assertThat(service.getCategoryCounts()).isEqualTo(Map.of("Umbrellas", 2L));
+        assertThat(service.getFacetCounts(10).getItemLocation()).isEqualTo(Map.of(FacetCounterService.NONE, 2L));
+    }
+}